@@ -0,0 +1,69 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/jballerina.java;
+import ballerina/sql;
+
+# A writer returned from the `newBufferedWriter` method of the client, which buffers `INSERT` statements per target
+# table and flushes the statements of a table as one batch, run by Redshift as a single transaction. The statements
+# of a table are flushed once they reach `maxStatements` or `maxBatchSqlSize`, once the first of them has been
+# buffered for `maxLinger`, or on `flush`. While `maxPendingFlushes` flushed batches have not completed, the writes
+# that fill a buffer wait. A batch that does not finish fails the next `write`, `flush` or `close` of the writer.
+public isolated class BufferedWriter {
+
+    # Buffers an `INSERT` statement.
+    # ```ballerina
+    # check writer.write(`INSERT INTO Users (id, name) VALUES (${id}, ${name})`);
+    # ```
+    #
+    # + statement - The `INSERT INTO` statement to be buffered
+    # + return - A `redshiftdata:Error` if the statement is not an `INSERT INTO` statement, the writer is closed,
+    # or a batch flushed earlier did not finish
+    public isolated function write(sql:ParameterizedQuery statement) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.BufferedStatementWriter"
+    } external;
+
+    # Flushes the buffered statements of all the tables and waits for all the flushed batches to complete.
+    # ```ballerina
+    # check writer.flush();
+    # ```
+    #
+    # + return - A `redshiftdata:Error` if the writer is closed or a flushed batch did not finish
+    public isolated function flush() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.BufferedStatementWriter"
+    } external;
+
+    # Flushes the buffered statements, waits for all the flushed batches to complete and closes the writer. The
+    # writer is to be closed before the client it was created from.
+    # ```ballerina
+    # check writer.close();
+    # ```
+    #
+    # + return - A `redshiftdata:Error` if a flushed batch did not finish
+    public isolated function close() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.BufferedStatementWriter"
+    } external;
+
+    # Retrieves the occupancy and the counters of the writer.
+    # ```ballerina
+    # redshiftdata:BufferedWriterStats stats = writer.getStats();
+    # ```
+    #
+    # + return - The `redshiftdata:BufferedWriterStats` of the writer
+    public isolated function getStats() returns BufferedWriterStats = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.BufferedStatementWriter"
+    } external;
+}
@@ -48,6 +48,83 @@ public isolated client class Client {
                 return error Error(validationResult.message(), validationResult.cause());
             }
         }
+        ResultConfig|constraint:Error resultConfigValidation = constraint:validate(connectionConfig.resultConfig);
+        if resultConfigValidation is constraint:Error {
+            return error Error(resultConfigValidation.message(), resultConfigValidation.cause());
+        }
+        StatusTrackerConfig? statusTracker = connectionConfig.statusTracker;
+        if statusTracker !is () {
+            StatusTrackerConfig|constraint:Error statusTrackerValidation = constraint:validate(statusTracker);
+            if statusTrackerValidation is constraint:Error {
+                return error Error(statusTrackerValidation.message(), statusTrackerValidation.cause());
+            }
+        }
+        UnloadConfig? unloadConfig = connectionConfig.unloadConfig;
+        if unloadConfig !is () {
+            UnloadConfig|constraint:Error unloadConfigValidation = constraint:validate(unloadConfig);
+            if unloadConfigValidation is constraint:Error {
+                return error Error(unloadConfigValidation.message(), unloadConfigValidation.cause());
+            }
+        }
+        ResultCacheConfig? resultCache = connectionConfig.resultCache;
+        if resultCache !is () {
+            ResultCacheConfig|constraint:Error resultCacheValidation = constraint:validate(resultCache);
+            if resultCacheValidation is constraint:Error {
+                return error Error(resultCacheValidation.message(), resultCacheValidation.cause());
+            }
+        }
+        SessionPoolConfig? sessionPool = connectionConfig.sessionPool;
+        if sessionPool !is () {
+            SessionPoolConfig|constraint:Error sessionPoolValidation = constraint:validate(sessionPool);
+            if sessionPoolValidation is constraint:Error {
+                return error Error(sessionPoolValidation.message(), sessionPoolValidation.cause());
+            }
+            if sessionPool.refreshMargin >= <decimal>sessionPool.sessionKeepAliveSeconds {
+                return error Error("The refreshMargin should be less than the sessionKeepAliveSeconds.");
+            }
+            if connectionConfig.dbAccessConfig is () {
+                return error Error("The sessionPool requires the dbAccessConfig of the client.");
+            }
+        }
+        RateLimitConfig? rateLimit = connectionConfig.rateLimit;
+        if rateLimit !is () {
+            RateLimitConfig|constraint:Error rateLimitValidation = constraint:validate(rateLimit);
+            if rateLimitValidation is constraint:Error {
+                return error Error(rateLimitValidation.message(), rateLimitValidation.cause());
+            }
+        }
+        RetryConfig? retryConfig = connectionConfig.retryConfig;
+        if retryConfig !is () {
+            RetryConfig|constraint:Error retryConfigValidation = constraint:validate(retryConfig);
+            if retryConfigValidation is constraint:Error {
+                return error Error(retryConfigValidation.message(), retryConfigValidation.cause());
+            }
+        }
+        HttpClientConfig? httpClientConfig = connectionConfig.httpClientConfig;
+        if httpClientConfig !is () {
+            HttpClientConfig|constraint:Error httpClientConfigValidation = constraint:validate(httpClientConfig);
+            if httpClientConfigValidation is constraint:Error {
+                return error Error(httpClientConfigValidation.message(), httpClientConfigValidation.cause());
+            }
+            HttpTransport transport = httpClientConfig.transport ?: (connectionConfig.nonBlocking ? NETTY : APACHE);
+            if connectionConfig.nonBlocking != (transport == NETTY) {
+                string clientKind = connectionConfig.nonBlocking ? "non-blocking" : "blocking";
+                return error Error(string `The ${transport} transport cannot be used by a ${clientKind} client.`);
+            }
+            if httpClientConfig.tlsSession !is () && transport != APACHE {
+                return error Error("The tlsSession is supported only by the APACHE transport.");
+            }
+        }
+        ExecutorConfig? executorConfig = connectionConfig.executorConfig;
+        if executorConfig !is () {
+            ExecutorConfig|constraint:Error executorConfigValidation = constraint:validate(executorConfig);
+            if executorConfigValidation is constraint:Error {
+                return error Error(executorConfigValidation.message(), executorConfigValidation.cause());
+            }
+            if connectionConfig.nonBlocking {
+                return error Error("The executorConfig cannot be used by a non-blocking client.");
+            }
+        }
         return self.externInit(connectionConfig);
     }
 
@@ -81,6 +158,140 @@ public isolated client class Client {
         'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
     } external;
 
+    # Prepares an SQL statement to be executed multiple times with different parameter values. Each insertion of the
+    # statement is a parameter, and the values of the insertions are not used.
+    # ```ballerina
+    # redshiftdata:PreparedStatement statement = check redshift->prepare(`SELECT * FROM Users WHERE id = ${0}`);
+    # ```
+    #
+    # + statement - The SQL statement to be prepared
+    # + executionConfig - The configurations related to each execution of the statement
+    # + return - The `redshiftdata:PreparedStatement` or a `redshiftdata:Error` if the preparation fails
+    remote isolated function prepare(sql:ParameterizedQuery statement, *ExecutionConfig executionConfig)
+    returns PreparedStatement|Error {
+        _ = check self.validateExecutionConfig(executionConfig);
+        if statement.strings.length() == 0 {
+            return error Error("SQL statement cannot be empty.");
+        }
+        if executionConfig.clientToken !is () {
+            return error Error("A prepared statement cannot have a clientToken, as each of its executions is a new " +
+                "request.");
+        }
+        return self.externPrepare(statement, executionConfig);
+    }
+
+    isolated function externPrepare(sql:ParameterizedQuery statement, ExecutionConfig executionConfig)
+    returns PreparedStatement|Error = @java:Method {
+        name: "prepare",
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Runs a prepared SQL statement with the given values bound to its parameters.
+    # ```ballerina
+    # redshiftdata:ExecutionResponse response = check redshift->executePrepared(statement, 42);
+    # ```
+    #
+    # + statement - The prepared SQL statement to be executed
+    # + values - The values of the parameters, in the order of the insertions of the statement
+    # + return - The `redshiftdata:ExecutionResponse` or a `redshiftdata:Error` if the execution fails
+    remote isolated function executePrepared(PreparedStatement statement, sql:Value... values)
+    returns ExecutionResponse|Error = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Runs an SQL statement and waits for it to complete.
+    # ```ballerina
+    # redshiftdata:DescriptionResponse response = check redshift->executeAndWait(`CREATE TABLE Users (id INT)`);
+    # ```
+    #
+    # + statement - The SQL statement to be executed
+    # + executionConfig - The configurations related to the execution of the statement
+    # + waitConfig - The configurations related to waiting for the statement to complete
+    # + return - The `redshiftdata:DescriptionResponse` of the completed statement or a `redshiftdata:Error` if the
+    # execution fails or the statement does not complete within the timeout
+    remote isolated function executeAndWait(sql:ParameterizedQuery statement, *ExecutionConfig executionConfig,
+            WaitConfig waitConfig = {})
+    returns DescriptionResponse|Error {
+        _ = check self.validateExecutionConfig(executionConfig);
+        _ = check self.validateWaitConfig(waitConfig);
+        if statement.strings.length() == 0 {
+            return error Error("SQL statement cannot be empty.");
+        }
+        return self.externExecuteAndWait(statement, executionConfig, waitConfig);
+    }
+
+    isolated function externExecuteAndWait(sql:ParameterizedQuery statement,
+            ExecutionConfig executionConfig, WaitConfig waitConfig)
+    returns DescriptionResponse|Error = @java:Method {
+        name: "executeAndWait",
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Runs an SQL query, waits for it to complete and retrieves its results.
+    # ```ballerina
+    # stream<User, Error?> response = check redshift->query(`SELECT * FROM Users`);
+    # ```
+    #
+    # + statement - The SQL query to be executed
+    # + executionConfig - The configurations related to the execution of the query
+    # + waitConfig - The configurations related to waiting for the query to complete
+    # + bypassCache - Whether to run the query and read its result even if the result cache of the client holds
+    # it. The result read is then not cached either
+    # + rowTypes - The typedesc of the record to which the result needs to be returned
+    # + return - Stream of records in the type of rowTypes or a `redshiftdata:Error` if the execution fails, the
+    # query does not finish successfully within the timeout or the retrieval fails
+    remote isolated function query(sql:ParameterizedQuery statement, *ExecutionConfig executionConfig,
+            WaitConfig waitConfig = {}, boolean bypassCache = false, typedesc<record {}> rowTypes = <>)
+    returns stream<rowTypes, Error?>|Error = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Runs an SQL query as one statement per partition of a column and merges their results into a single stream.
+    # The partitions are either ranges of the column or a number of hash buckets of it. Up to `maxConcurrency`
+    # partitions run and are fetched at a time, through the session pool and the rate limits of the client when they
+    # are configured. The rows follow the order of the partitions or, if not `ordered`, the order in which their
+    # pages arrive.
+    # ```ballerina
+    # stream<User, Error?> response = check redshift->queryPartitioned(`SELECT * FROM Users`, "user_id", 8,
+    #     ordered = false);
+    # ```
+    #
+    # + statement - The SQL query to be partitioned, which is run as a subquery of each partition
+    # + column - The column the query is partitioned by, which is used in the statements as given
+    # + partitions - The ranges of the column, or the number of hash buckets of it. A `NULL` value of the column falls
+    # into the first hash bucket and into no range
+    # + executionConfig - The configurations related to the execution of the statements of the partitions
+    # + fanOutConfig - The configurations related to running and fetching the partitions concurrently
+    # + waitConfig - The configurations related to waiting for each statement to complete
+    # + rowTypes - The typedesc of the record to which the result needs to be returned
+    # + return - Stream of records in the type of rowTypes or a `redshiftdata:Error` if the partitions or the
+    # configurations are invalid. A partition that does not finish successfully fails the stream
+    remote isolated function queryPartitioned(sql:ParameterizedQuery statement, string column,
+            PartitionRange[]|int partitions, *ExecutionConfig executionConfig, *FanOutConfig fanOutConfig,
+            WaitConfig waitConfig = {}, typedesc<record {}> rowTypes = <>)
+    returns stream<rowTypes, Error?>|Error = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Runs an SQL query through `UNLOAD`, which writes its result to Amazon S3 in parallel, and reads the unloaded
+    # result. The parts of the result are downloaded concurrently and returned as a single stream. This requires
+    # the `unloadConfig` of the client.
+    # ```ballerina
+    # stream<User, Error?> response = check redshift->unloadAsStream(`SELECT * FROM Users`);
+    # ```
+    #
+    # + statement - The SQL query to be unloaded
+    # + executionConfig - The configurations related to the execution of the `UNLOAD` statement
+    # + waitConfig - The configurations related to waiting for the `UNLOAD` statement to complete
+    # + rowTypes - The typedesc of the record to which the result needs to be returned
+    # + return - Stream of records in the type of rowTypes or a `redshiftdata:Error` if the client is not
+    # configured to unload results, the unload fails or the unloaded result cannot be read
+    remote isolated function unloadAsStream(sql:ParameterizedQuery statement, *ExecutionConfig executionConfig,
+            WaitConfig waitConfig = {}, typedesc<record {}> rowTypes = <>)
+    returns stream<rowTypes, Error?>|Error = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
     # Runs one or more SQL statements, which can be data manipulation language (DML) or data definition language (DDL).
     # The batch size should not exceed 40.
     # ```ballerina
@@ -114,6 +325,156 @@ public isolated client class Client {
         'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
     } external;
 
+    # Runs any number of SQL statements as batches and waits for them to complete. The statements are split into
+    # batches within the limits of `batchExecute`, and the batches run concurrently up to a parallelism. Once a batch
+    # does not finish or fails, no more batches are submitted.
+    # ```ballerina
+    # redshiftdata:ExecuteManyResponse response = check redshift->executeMany(statements, parallelism = 8);
+    # ```
+    #
+    # + statements - The SQL statements to be executed
+    # + executionConfig - The configurations related to the execution of the batches
+    # + executeManyConfig - The configurations related to splitting the statements into batches and running them
+    # + waitConfig - The configurations related to waiting for each batch to complete
+    # + return - The `redshiftdata:ExecuteManyResponse`, which reports the batches that could not be submitted or did
+    # not complete within the timeout, or a `redshiftdata:Error` if the statements cannot be run
+    remote isolated function executeMany(sql:ParameterizedQuery[] statements, *ExecutionConfig executionConfig,
+            *ExecuteManyConfig executeManyConfig, WaitConfig waitConfig = {})
+    returns ExecuteManyResponse|Error {
+        _ = check self.validateExecutionConfig(executionConfig);
+        _ = check self.validateWaitConfig(waitConfig);
+        ExecuteManyConfig|constraint:Error configValidationResult = constraint:validate(executeManyConfig);
+        if configValidationResult is constraint:Error {
+            return error Error(configValidationResult.message(), configValidationResult.cause());
+        }
+        if statements.length() == 0 {
+            return error Error("SQL statements cannot be empty.");
+        }
+        if statements.some(statement => statement.strings.length() == 0) {
+            return error Error("SQL statements cannot have empty strings.");
+        }
+        if executionConfig.clientToken !is () {
+            return error Error("The statements of executeMany cannot have a clientToken, as each of their batches is " +
+                "a new request.");
+        }
+        return self.externExecuteMany(statements, executionConfig, executeManyConfig, waitConfig);
+    }
+
+    isolated function externExecuteMany(sql:ParameterizedQuery[] statements, ExecutionConfig executionConfig,
+            ExecuteManyConfig executeManyConfig, WaitConfig waitConfig)
+    returns ExecuteManyResponse|Error = @java:Method {
+        name: "executeMany",
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Inserts rows into a table through multi-row `INSERT` statements and waits for them to complete. The columns
+    # are the fields of the record type of the rows, in their order, and the values are inserted as escaped SQL
+    # literals. Each statement is filled with rows up to `maxStatementSize`, and up to `parallelism` statements run
+    # at a time. Each statement is a transaction of its own, and once one does not finish, or a row cannot be read
+    # or inserted, no more are submitted. The statements already submitted are still waited for, and the failure is
+    # reported in the response.
+    # ```ballerina
+    # redshiftdata:InsertResponse response = check redshift->insertAll("Users", users);
+    # ```
+    #
+    # + 'table - The name of the table, which is used in the statements as given
+    # + rows - The rows to be inserted, as an array or a stream of records
+    # + executionConfig - The configurations related to the execution of the statements
+    # + insertConfig - The configurations related to building the statements and running them
+    # + waitConfig - The configurations related to waiting for each statement to complete
+    # + return - The `redshiftdata:InsertResponse`, or a `redshiftdata:Error` if the configurations are invalid
+    remote isolated function insertAll(string 'table, record {}[]|stream<record {}, error?> rows,
+            *ExecutionConfig executionConfig, *InsertConfig insertConfig, WaitConfig waitConfig = {})
+    returns InsertResponse|Error {
+        _ = check self.validateExecutionConfig(executionConfig);
+        _ = check self.validateWaitConfig(waitConfig);
+        InsertConfig|constraint:Error configValidationResult = constraint:validate(insertConfig);
+        if configValidationResult is constraint:Error {
+            return error Error(configValidationResult.message(), configValidationResult.cause());
+        }
+        if 'table.trim().length() == 0 {
+            return error Error("The table name cannot be empty.");
+        }
+        if executionConfig.clientToken !is () {
+            return error Error("The statements of insertAll cannot have a clientToken, as each of them is a new " +
+                "request.");
+        }
+        RowInserter rowInserter = check self.externInsertAll('table, executionConfig, insertConfig, waitConfig);
+        if rows is record {}[] {
+            _ = rowInserter.add(rows);
+            return rowInserter.finish();
+        }
+        record {}[] chunk = [];
+        boolean accepting = true;
+        boolean exhausted = false;
+        while accepting {
+            record {|record {} value;|}|error? next = rows.next();
+            if next is error {
+                // The rows read so far are not submitted, as the rows after them are not known
+                rowInserter.fail(string `Error occurred while reading the rows: ${next.message()}`);
+                break;
+            }
+            if next is () {
+                exhausted = true;
+                break;
+            }
+            chunk.push(next.value);
+            if chunk.length() == STREAM_CHUNK_SIZE {
+                accepting = rowInserter.add(chunk);
+                chunk = [];
+            }
+        }
+        if exhausted {
+            _ = rowInserter.add(chunk);
+        } else {
+            error? closeResult = rows.close();
+            if closeResult is error {
+                rowInserter.fail(string `Error occurred while closing the rows: ${closeResult.message()}`);
+            }
+        }
+        return rowInserter.finish();
+    }
+
+    isolated function externInsertAll(string 'table, ExecutionConfig executionConfig, InsertConfig insertConfig,
+            WaitConfig waitConfig)
+    returns RowInserter|Error = @java:Method {
+        name: "insertAll",
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Creates a writer that buffers `INSERT` statements per target table and flushes the statements of a table as
+    # one batch, run by Redshift as a single transaction.
+    # ```ballerina
+    # redshiftdata:BufferedWriter writer = check redshift.newBufferedWriter(maxLinger = 0.5);
+    # ```
+    #
+    # + executionConfig - The configurations related to the execution of the flushed batches
+    # + bufferedWriterConfig - The configurations related to when the buffered statements are flushed
+    # + waitConfig - The configurations related to waiting for each flushed batch to complete
+    # + return - The `redshiftdata:BufferedWriter` or a `redshiftdata:Error` if the configurations are invalid
+    public isolated function newBufferedWriter(*ExecutionConfig executionConfig,
+            *BufferedWriterConfig bufferedWriterConfig, WaitConfig waitConfig = {})
+    returns BufferedWriter|Error {
+        _ = check self.validateExecutionConfig(executionConfig);
+        _ = check self.validateWaitConfig(waitConfig);
+        BufferedWriterConfig|constraint:Error configValidationResult = constraint:validate(bufferedWriterConfig);
+        if configValidationResult is constraint:Error {
+            return error Error(configValidationResult.message(), configValidationResult.cause());
+        }
+        if executionConfig.clientToken !is () {
+            return error Error("The batches of a buffered writer cannot have a clientToken, as each of them is a new " +
+                "request.");
+        }
+        return self.externNewBufferedWriter(executionConfig, bufferedWriterConfig, waitConfig);
+    }
+
+    isolated function externNewBufferedWriter(ExecutionConfig executionConfig,
+            BufferedWriterConfig bufferedWriterConfig, WaitConfig waitConfig)
+    returns BufferedWriter|Error = @java:Method {
+        name: "newBufferedWriter",
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
     # Retrieves the results for a previously executed SQL statement.
     # ```ballerina
     # stream<User, Error?> response = check redshift->getResultAsStream("<statement-id>");
@@ -127,6 +488,128 @@ public isolated client class Client {
         'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
     } external;
 
+    # Retrieves the results for a previously executed SQL statement in batches of rows. Each batch is mapped in a
+    # single call, which makes this cheaper than `getResultAsStream` for large results.
+    # ```ballerina
+    # stream<User[], Error?> response = check redshift->getResultAsBatchStream("<statement-id>", 1000);
+    # ```
+    #
+    # + statementId - The identifier of the SQL statement
+    # + batchSize - The maximum number of rows in a batch. With `0`, each batch holds a whole result page
+    # + rowTypes - The typedesc of the record to which the result rows need to be returned
+    # + return - Stream of record arrays in the type of rowTypes or a `redshiftdata:Error` if the retrieval fails
+    remote isolated function getResultAsBatchStream(StatementId statementId, int batchSize = 0,
+            typedesc<record {}> rowTypes = <>)
+    returns stream<rowTypes[], Error?>|Error = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Retrieves the results for a previously executed SQL statement by column. Each result page is returned as a
+    # batch of column vectors, which hold the values of a column in an array of its type, with no record per row.
+    # ```ballerina
+    # stream<redshiftdata:ColumnBatch, Error?> response = check redshift->getResultAsColumnStream("<statement-id>");
+    # ```
+    #
+    # + statementId - The identifier of the SQL statement
+    # + return - Stream of column batches or a `redshiftdata:Error` if the retrieval fails
+    remote isolated function getResultAsColumnStream(StatementId statementId)
+    returns stream<ColumnBatch, Error?>|Error {
+        ColumnBatchIterator iterator = check self.externGetResultAsColumnStream(statementId);
+        return new stream<ColumnBatch, Error?>(iterator);
+    }
+
+    isolated function externGetResultAsColumnStream(StatementId statementId)
+    returns ColumnBatchIterator|Error = @java:Method {
+        name: "getResultAsColumnStream",
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Retrieves the results for a previously executed SQL statement as a result that can be read any number of
+    # times. The result is teed into a local spill file as it is read, so that each page is fetched only once
+    # however many streams, at once or one after another, read it. The spill file is deleted once the result and
+    # all of its streams are closed. Only results in the JSON format can be replayed.
+    # ```ballerina
+    # redshiftdata:ReplayableResult result = check redshift->getResultAsReplayable("<statement-id>");
+    # stream<User, redshiftdata:Error?> users = check result.replay();
+    # ```
+    #
+    # + statementId - The identifier of the SQL statement
+    # + spillConfig - The configurations related to the spill file
+    # + return - The `redshiftdata:ReplayableResult` or a `redshiftdata:Error` if the configurations are invalid or
+    # the retrieval fails
+    remote isolated function getResultAsReplayable(StatementId statementId, *SpillConfig spillConfig)
+    returns ReplayableResult|Error {
+        SpillConfig|constraint:Error configValidationResult = constraint:validate(spillConfig);
+        if configValidationResult is constraint:Error {
+            return error Error(configValidationResult.message(), configValidationResult.cause());
+        }
+        return self.externGetResultAsReplayable(statementId, spillConfig);
+    }
+
+    isolated function externGetResultAsReplayable(StatementId statementId, SpillConfig spillConfig)
+    returns ReplayableResult|Error = @java:Method {
+        name: "getResultAsReplayable",
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Retrieves the results of the sub-statements of a batch that have a result set, as one stream. The results are
+    # fetched concurrently, and their rows follow the order of the sub-statements or, if not `ordered`, the order in
+    # which their pages arrive.
+    # ```ballerina
+    # stream<User, Error?> response = check redshift->getSubStatementResultsAsStream("<statement-id>");
+    # ```
+    #
+    # + statementId - The identifier of the batch, which should have finished successfully
+    # + fanOutConfig - The configurations related to fetching the results concurrently
+    # + rowTypes - The typedesc of the record to which the result rows need to be returned
+    # + return - Stream of records in the type of rowTypes or a `redshiftdata:Error` if the statement is not a
+    # finished batch or the retrieval fails
+    remote isolated function getSubStatementResultsAsStream(StatementId statementId, *FanOutConfig fanOutConfig,
+            typedesc<record {}> rowTypes = <>)
+    returns stream<rowTypes, Error?>|Error = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Retrieves the results of the sub-statements of a batch that have a result set, as a stream per sub-statement.
+    # The results are fetched concurrently, and a stream can be read regardless of the others. Closing a stream stops
+    # fetching its result.
+    # ```ballerina
+    # map<stream<User, Error?>> response = check redshift->getSubStatementResultsAsStreams("<statement-id>");
+    # ```
+    #
+    # + statementId - The identifier of the batch, which should have finished successfully
+    # + fanOutConfig - The configurations related to fetching the results concurrently. The `ordered` field does not
+    # apply
+    # + rowTypes - The typedesc of the record to which the result rows need to be returned
+    # + return - The streams of records in the type of rowTypes keyed by the identifiers of the sub-statements, or a
+    # `redshiftdata:Error` if the statement is not a finished batch or the retrieval fails
+    remote isolated function getSubStatementResultsAsStreams(StatementId statementId, *FanOutConfig fanOutConfig,
+            typedesc<record {}> rowTypes = <>)
+    returns map<stream<rowTypes, Error?>>|Error = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Waits for a previously executed SQL statement to complete.
+    # ```ballerina
+    # redshiftdata:DescriptionResponse response = check redshift->waitForCompletion("<statement-id>");
+    # ```
+    #
+    # + statementId - The identifier of the SQL statement
+    # + waitConfig - The configurations related to waiting for the statement to complete
+    # + return - The `redshiftdata:DescriptionResponse` of the completed statement or a `redshiftdata:Error` if the
+    # status retrieval fails or the statement does not complete within the timeout
+    remote isolated function waitForCompletion(StatementId statementId, *WaitConfig waitConfig)
+    returns DescriptionResponse|Error {
+        _ = check self.validateWaitConfig(waitConfig);
+        return self.externWaitForCompletion(statementId, waitConfig);
+    }
+
+    isolated function externWaitForCompletion(StatementId statementId, WaitConfig waitConfig)
+    returns DescriptionResponse|Error = @java:Method {
+        name: "waitForCompletion",
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
     # Retrieves the execution status for a previously executed SQL statement.
     # ```ballerina
     # redshiftdata:DescriptionResponse response = check redshift->describe("<statement-id>");
@@ -149,6 +632,47 @@ public isolated client class Client {
         'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
     } external;
 
+    # Retrieves the counters of the result cache of the client.
+    # ```ballerina
+    # redshiftdata:ResultCacheStats? stats = redshift.getResultCacheStats();
+    # ```
+    #
+    # + return - The `redshiftdata:ResultCacheStats` of the client, or nil if the client has no result cache
+    public isolated function getResultCacheStats() returns ResultCacheStats? = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Retrieves the current limits and queues of the rate limiter of the client.
+    # ```ballerina
+    # redshiftdata:RateLimiterStats? stats = redshift.getRateLimiterStats();
+    # ```
+    #
+    # + return - The `redshiftdata:RateLimiterStats` of the client, or nil if the client has no rate limiter
+    public isolated function getRateLimiterStats() returns RateLimiterStats? = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Retrieves the occupancy and the counters of the session pool of the client.
+    # ```ballerina
+    # redshiftdata:SessionPoolStats? stats = redshift.getSessionPoolStats();
+    # ```
+    #
+    # + return - The `redshiftdata:SessionPoolStats` of the client, or nil if the client has no session pool
+    public isolated function getSessionPoolStats() returns SessionPoolStats? = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Retrieves the occupancy and the counters of the executor the blocking AWS SDK calls of the client run on. The
+    # executor is shared by the clients that share the AWS SDK client.
+    # ```ballerina
+    # redshiftdata:ExecutorStats? stats = redshift.getExecutorStats();
+    # ```
+    #
+    # + return - The `redshiftdata:ExecutorStats` of the client, or nil if the client is non-blocking
+    public isolated function getExecutorStats() returns ExecutorStats? = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
     # Gracefully closes AWS Redshift Data API client resources.
     # ```ballerina
     # check redshift.close();
@@ -159,6 +683,16 @@ public isolated client class Client {
         'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
     } external;
 
+    private isolated function validateWaitConfig(WaitConfig waitConfig) returns Error? {
+        WaitConfig|constraint:Error validationResult = constraint:validate(waitConfig);
+        if validationResult is constraint:Error {
+            return error Error(validationResult.message(), validationResult.cause());
+        }
+        if waitConfig.maxInterval < waitConfig.initialInterval {
+            return error Error("The maxInterval should not be less than the initialInterval.");
+        }
+    }
+
     private isolated function validateExecutionConfig(ExecutionConfig executionConfig)
     returns Error? {
         ExecutionConfig|constraint:Error configValidationResult = constraint:validate(executionConfig);
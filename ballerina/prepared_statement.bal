@@ -0,0 +1,33 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/jballerina.java;
+
+# A prepared SQL statement returned from the `prepare` method of the client. The SQL of the statement, the names of
+# its parameters and the execution configurations are resolved once when preparing, and each execution only binds
+# new values to the parameters.
+public isolated class PreparedStatement {
+
+    # Retrieves the number of parameters of the statement, which is the number of values each execution binds.
+    # ```ballerina
+    # int count = statement.parameterCount();
+    # ```
+    #
+    # + return - The number of parameters of the statement
+    public isolated function parameterCount() returns int = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.StatementTemplate"
+    } external;
+}
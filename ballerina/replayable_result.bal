@@ -0,0 +1,47 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/jballerina.java;
+
+# A result returned from the `getResultAsReplayable` method of the client, which can be read any number of times.
+# Each stream of the result reads it from its first row, independently of the others, and the pages of the result
+# are fetched only once, as the first stream reaches them, into a local spill file the streams read from.
+public isolated class ReplayableResult {
+
+    # Opens a stream that reads the result from its first row.
+    # ```ballerina
+    # stream<User, redshiftdata:Error?> users = check result.replay();
+    # ```
+    #
+    # + rowTypes - The typedesc of the record to which the result rows need to be returned
+    # + return - Stream of records in the type of rowTypes or a `redshiftdata:Error` if the result is closed or the
+    # record type does not match the result
+    public isolated function replay(typedesc<record {}> rowTypes = <>)
+    returns stream<rowTypes, Error?>|Error = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.SpilledResult"
+    } external;
+
+    # Closes the result, so that no more streams of it are opened. The streams that are open read on, and the spill
+    # file is deleted once the last of them is read to the end or closed.
+    # ```ballerina
+    # check result.close();
+    # ```
+    #
+    # + return - A `redshiftdata:Error` if the spill file could not be deleted
+    public isolated function close() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.SpilledResult"
+    } external;
+}
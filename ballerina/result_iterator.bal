@@ -64,3 +64,101 @@ isolated class ResultIterator {
         'class: "io.ballerina.lib.aws.redshiftdata.QueryResultProcessor"
     } external;
 }
+
+# The result iterator used to iterate results in stream returned from `getResultAsBatchStream` method.
+isolated class BatchResultIterator {
+    private boolean isClosed = false;
+
+    public isolated function next() returns record {|record {}[] value;|}|Error? {
+        boolean closed;
+        lock {
+            closed = self.isClosed;
+        }
+        if closed {
+            return error Error("Stream is closed. Therefore, no operations are allowed further on the stream.");
+        }
+        record {}[]|Error? result = self.externNextBatch(self);
+        if result is Error? {
+            lock {
+                self.isClosed = true;
+            }
+            return result;
+        }
+        return {value: result};
+    }
+
+    isolated function externNextBatch(BatchResultIterator iterator) returns record {}[]|Error? = @java:Method {
+        name: "nextBatch",
+        'class: "io.ballerina.lib.aws.redshiftdata.QueryResultProcessor"
+    } external;
+
+    public isolated function close() returns Error? {
+        boolean closed;
+        lock {
+            closed = self.isClosed;
+        }
+        if !closed {
+            Error? e = self.externCloseResult(self);
+            if e is () {
+                lock {
+                    self.isClosed = true;
+                }
+            }
+            return e;
+        }
+    }
+
+    isolated function externCloseResult(BatchResultIterator iterator) returns Error? = @java:Method {
+        name: "closeResult",
+        'class: "io.ballerina.lib.aws.redshiftdata.QueryResultProcessor"
+    } external;
+}
+
+# The result iterator used to iterate results in stream returned from `getResultAsColumnStream` method.
+isolated class ColumnBatchIterator {
+    private boolean isClosed = false;
+
+    public isolated function next() returns record {|ColumnBatch value;|}|Error? {
+        boolean closed;
+        lock {
+            closed = self.isClosed;
+        }
+        if closed {
+            return error Error("Stream is closed. Therefore, no operations are allowed further on the stream.");
+        }
+        ColumnBatch|Error? result = self.externNextColumnBatch(self);
+        if result is Error? {
+            lock {
+                self.isClosed = true;
+            }
+            return result;
+        }
+        return {value: result};
+    }
+
+    isolated function externNextColumnBatch(ColumnBatchIterator iterator) returns ColumnBatch|Error? = @java:Method {
+        name: "nextColumnBatch",
+        'class: "io.ballerina.lib.aws.redshiftdata.QueryResultProcessor"
+    } external;
+
+    public isolated function close() returns Error? {
+        boolean closed;
+        lock {
+            closed = self.isClosed;
+        }
+        if !closed {
+            Error? e = self.externCloseResult(self);
+            if e is () {
+                lock {
+                    self.isClosed = true;
+                }
+            }
+            return e;
+        }
+    }
+
+    isolated function externCloseResult(ColumnBatchIterator iterator) returns Error? = @java:Method {
+        name: "closeResult",
+        'class: "io.ballerina.lib.aws.redshiftdata.QueryResultProcessor"
+    } external;
+}
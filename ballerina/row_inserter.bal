@@ -0,0 +1,36 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/jballerina.java;
+
+# The number of rows of a stream passed to the row inserter at a time.
+const int STREAM_CHUNK_SIZE = 1000;
+
+# The row inserter used to insert the rows given to the `insertAll` method through multi-row `INSERT` statements.
+isolated class RowInserter {
+
+    isolated function add(record {}[] rows) returns boolean = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.RowInserter"
+    } external;
+
+    isolated function fail(string message) = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.RowInserter"
+    } external;
+
+    isolated function finish() returns InsertResponse|Error = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.RowInserter"
+    } external;
+}
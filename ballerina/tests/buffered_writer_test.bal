@@ -0,0 +1,139 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+@test:Config {
+    groups: ["bufferedWriter"]
+}
+isolated function testBufferedWriterFlushesFullBatches() returns error? {
+    BufferedWriter writer = check redshiftData.newBufferedWriter(maxLinger = 60);
+    foreach int id in 0 ..< 100 {
+        check writer.write(`INSERT INTO Users (id, name) VALUES (${id}, ${"user"})`);
+    }
+    BufferedWriterStats stats = writer.getStats();
+    test:assertEquals(stats.bufferedStatements, 20);
+    check writer.close();
+
+    stats = writer.getStats();
+    test:assertEquals(stats.bufferedStatements, 0);
+    test:assertEquals(stats.pendingFlushes, 0);
+    test:assertEquals(stats.flushes, 3);
+    test:assertEquals(stats.flushedStatements, 100);
+    test:assertEquals(stats.failedFlushes, 0);
+}
+
+@test:Config {
+    groups: ["bufferedWriter"]
+}
+isolated function testBufferedWriterFlushesPerTable() returns error? {
+    BufferedWriter writer = check redshiftData.newBufferedWriter(maxLinger = 60);
+    check writer.write(`INSERT INTO Users (id) VALUES (${1})`);
+    check writer.write(`INSERT INTO Orders (id) VALUES (${1})`);
+    check writer.write(`insert into Users (id) values (${2})`);
+    check writer.flush();
+    BufferedWriterStats stats = writer.getStats();
+    test:assertEquals(stats.flushes, 2);
+    test:assertEquals(stats.flushedStatements, 3);
+    check writer.close();
+}
+
+@test:Config {
+    groups: ["bufferedWriter"]
+}
+isolated function testBufferedWriterFlushesAfterLinger() returns error? {
+    BufferedWriter writer = check redshiftData.newBufferedWriter(maxLinger = 0.1);
+    check writer.write(`INSERT INTO Users (id) VALUES (${1})`);
+    runtime:sleep(1);
+    BufferedWriterStats stats = writer.getStats();
+    test:assertEquals(stats.bufferedStatements, 0);
+    test:assertEquals(stats.flushedStatements, 1);
+    check writer.close();
+}
+
+@test:Config {
+    groups: ["bufferedWriter"]
+}
+isolated function testBufferedWriterFlushesBySize() returns error? {
+    // Each statement is 35 bytes, so a batch of at most 100 bytes holds 2 of them.
+    BufferedWriter writer = check redshiftData.newBufferedWriter(maxBatchSqlSize = 100, maxLinger = 60);
+    foreach int id in 0 ..< 5 {
+        check writer.write(`INSERT INTO Users (id) VALUES (${id})`);
+    }
+    check writer.close();
+    BufferedWriterStats stats = writer.getStats();
+    test:assertEquals(stats.flushes, 3);
+    test:assertEquals(stats.flushedStatements, 5);
+}
+
+@test:Config {
+    groups: ["bufferedWriter"]
+}
+isolated function testBufferedWriterBackPressure() returns error? {
+    BufferedWriter writer = check redshiftData.newBufferedWriter(maxStatements = 1, maxPendingFlushes = 1);
+    foreach int id in 0 ..< 10 {
+        check writer.write(`INSERT INTO Users (id) VALUES (${id})`);
+    }
+    check writer.close();
+    BufferedWriterStats stats = writer.getStats();
+    test:assertEquals(stats.flushes, 10);
+    test:assertTrue(stats.backPressureWaits > 0);
+}
+
+@test:Config {
+    groups: ["bufferedWriter"]
+}
+isolated function testBufferedWriterRejectsOtherStatements() returns error? {
+    BufferedWriter writer = check redshiftData.newBufferedWriter();
+    Error? res = writer.write(`SELECT * FROM Users`);
+    test:assertTrue(res is Error);
+    if res is Error {
+        test:assertEquals(res.message(), "Error occurred while executing the write of the buffered writer: " +
+            "The buffered writer accepts only INSERT INTO statements.");
+    }
+    check writer.close();
+}
+
+@test:Config {
+    groups: ["bufferedWriter"]
+}
+isolated function testBufferedWriterAfterClose() returns error? {
+    BufferedWriter writer = check redshiftData.newBufferedWriter();
+    check writer.close();
+    Error? res = writer.write(`INSERT INTO Users (id) VALUES (${1})`);
+    test:assertTrue(res is Error);
+    if res is Error {
+        test:assertEquals(res.message(), "Error occurred while executing the write of the buffered writer: " +
+            "The buffered writer is closed.");
+    }
+}
+
+@test:Config {
+    groups: ["bufferedWriter"]
+}
+isolated function testBufferedWriterWithInvalidConfig() returns error? {
+    BufferedWriter|Error writer = redshiftData.newBufferedWriter(maxStatements = 41);
+    test:assertTrue(writer is Error);
+    if writer is Error {
+        test:assertEquals(writer.message(), "The maxStatements should be less than or equal to 40.");
+    }
+    writer = redshiftData.newBufferedWriter(maxPendingFlushes = 2147483648);
+    test:assertTrue(writer is Error);
+    if writer is Error {
+        test:assertEquals(writer.message(), "The maxPendingFlushes should be less than or equal to 2147483647.");
+    }
+}
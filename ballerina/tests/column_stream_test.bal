@@ -0,0 +1,92 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["columnStream"]
+}
+isolated function testGetResultAsColumnStream() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users;`);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+
+    stream<ColumnBatch, Error?> resultStream = check redshiftData->getResultAsColumnStream(res.statementId);
+    ColumnBatch[] batches = check from ColumnBatch batch in resultStream
+        select batch;
+    test:assertEquals(batches.length(), 1);
+    ColumnBatch batch = batches[0];
+    test:assertEquals(batch.rowCount, 3);
+    test:assertEquals(batch.columns.map(column => column.name), ["user_id", "username", "email", "age"]);
+    test:assertEquals(batch.columns[0].values, [1, 2, 3]);
+    test:assertEquals(batch.columns[0].nulls, [0]);
+    test:assertEquals(batch.columns[1].values, {
+        dictionary: ["JohnDoe", "JaneSmith", "BobJohnson"],
+        codes: [0, 1, 2]
+    });
+    test:assertEquals(batch.columns[3].values, [25, 30, 22]);
+}
+
+@test:Config {
+    groups: ["columnStream"]
+}
+isolated function testGetResultAsColumnStreamOfSupportedTypes() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM SupportedTypes;`);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+
+    stream<ColumnBatch, Error?> resultStream = check redshiftData->getResultAsColumnStream(res.statementId);
+    ColumnBatch[] batches = check from ColumnBatch batch in resultStream
+        select batch;
+    ColumnVector[] columns = batches[0].columns;
+    test:assertEquals(columns[0].values, [12]);
+    test:assertEquals(columns[1].values, [9223372036854774807]);
+    test:assertEquals(columns[2].values, [123.34]);
+    test:assertEquals(columns[3].values, [true]);
+    test:assertEquals(columns[4].values, {dictionary: ["test"], codes: [0]});
+    // The value of `nil_type` is NULL
+    test:assertEquals(columns[5].nulls, [1]);
+    test:assertEquals(columns[5].values, {dictionary: [], codes: [-1]});
+}
+
+@test:Config {
+    groups: ["columnStream", "csvResult"]
+}
+isolated function testGetResultAsColumnStreamOfCsvResult() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM TypedValues;`, resultFormat = CSV);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+
+    stream<ColumnBatch, Error?> resultStream = check redshiftData->getResultAsColumnStream(res.statementId);
+    ColumnBatch[] batches = check from ColumnBatch batch in resultStream
+        select batch;
+    ColumnVector[] columns = batches[0].columns;
+    test:assertEquals(columns[0].values, [1234.5678d]);
+    test:assertEquals(columns[1].values, {dictionary: ["2024-03-15 10:20:30.25+05:30"], codes: [0]});
+    byte[][] payload = [[10, 255]];
+    test:assertEquals(columns[5].values, payload);
+    test:assertEquals(columns[6].nulls, [1]);
+}
+
+@test:Config {
+    groups: ["columnStream"]
+}
+isolated function testGetResultAsColumnStreamOfEmptyResult() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users WHERE user_id = 0;`);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+
+    stream<ColumnBatch, Error?> resultStream = check redshiftData->getResultAsColumnStream(res.statementId);
+    ColumnBatch[] batches = check from ColumnBatch batch in resultStream
+        select batch;
+    test:assertEquals(batches.length(), 0);
+}
@@ -0,0 +1,123 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/sql;
+import ballerina/test;
+
+@test:Config {
+    groups: ["executeMany"]
+}
+isolated function testExecuteMany() returns error? {
+    sql:ParameterizedQuery[] statements = [];
+    foreach int i in 0 ..< 100 {
+        statements.push(`INSERT INTO Users (id) VALUES (${i})`);
+    }
+    ExecuteManyResponse res = check redshiftData->executeMany(statements);
+    test:assertEquals(res.status, FINISHED);
+    test:assertEquals(res.statementIds.length(), 3);
+    test:assertEquals(res.skippedStatements, 0);
+    test:assertEquals(res.descriptions.map(description => (description.subStatements ?: []).length()), [40, 40, 20]);
+    test:assertEquals(res.descriptions.map(description => description.statementId), res.statementIds);
+}
+
+@test:Config {
+    groups: ["executeMany"]
+}
+isolated function testExecuteManyWithSqlSizeLimit() returns error? {
+    sql:ParameterizedQuery[] statements = [];
+    foreach int _ in 0 ..< 5 {
+        statements.push(`SELECT * FROM Users`);
+    }
+    ExecuteManyResponse res = check redshiftData->executeMany(statements, maxBatchSqlSize = 40, parallelism = 2);
+    test:assertEquals(res.status, FINISHED);
+    test:assertEquals(res.descriptions.map(description => (description.subStatements ?: []).length()), [2, 2, 1]);
+}
+
+@test:Config {
+    groups: ["executeMany"]
+}
+isolated function testOrderedExecuteManyStopsAtFailedBatch() returns error? {
+    sql:ParameterizedQuery[] statements = [
+        `SELECT * FROM Users`,
+        `SELECT * FROM NON_EXISTENT_TABLE`,
+        `SELECT * FROM Users`,
+        `SELECT * FROM Users`
+    ];
+    ExecuteManyResponse res = check redshiftData->executeMany(statements, maxBatchSize = 1, ordered = true);
+    test:assertEquals(res.status, FAILED);
+    test:assertEquals(res.statementIds.length(), 2);
+    test:assertEquals(res.descriptions.map(description => description.status), [FINISHED, FAILED]);
+    test:assertEquals(res.skippedStatements, 2);
+    test:assertEquals(res.failures, []);
+}
+
+@test:Config {
+    groups: ["executeMany"]
+}
+isolated function testExecuteManyReportsFailedBatch() returns error? {
+    sql:ParameterizedQuery[] statements = [`SELECT * FROM Users`, `SELECT * FROM Users`, `SELECT * FROM Users`];
+    throttleRequests("BatchExecuteStatement", 1, "ValidationException");
+    ExecuteManyResponse res = check redshiftData->executeMany(statements, maxBatchSize = 1, ordered = true);
+    test:assertEquals(res.status, FAILED);
+    test:assertEquals(res.statementIds, []);
+    test:assertEquals(res.skippedStatements, 2);
+    test:assertEquals(res.failures.length(), 1);
+    test:assertEquals(res.failures[0].batch, 0);
+    test:assertEquals(res.failures[0]?.statementId, ());
+    test:assertTrue(res.failures[0].message.includes("Rate exceeded"));
+}
+
+@test:Config {
+    groups: ["executeMany"]
+}
+isolated function testExecuteManyWithEmptyStatements() returns error? {
+    ExecuteManyResponse|Error res = redshiftData->executeMany([]);
+    test:assertTrue(res is Error && res.message() == "SQL statements cannot be empty.");
+}
+
+@test:Config {
+    groups: ["executeMany"]
+}
+isolated function testExecuteManyWithClientToken() returns error? {
+    ExecuteManyResponse|Error res = redshiftData->executeMany([`SELECT * FROM Users`], clientToken = "token");
+    test:assertTrue(res is Error);
+    if res is Error {
+        test:assertEquals(res.message(),
+            "The statements of executeMany cannot have a clientToken, as each of their batches is a new request.");
+    }
+}
+
+@test:Config {
+    groups: ["executeMany"]
+}
+isolated function testExecuteManyWithInvalidBatchSize() returns error? {
+    ExecuteManyResponse|Error res = redshiftData->executeMany([`SELECT * FROM Users`], maxBatchSize = 41);
+    test:assertTrue(res is Error);
+    if res is Error {
+        test:assertEquals(res.message(), "The maxBatchSize should be less than or equal to 40.");
+    }
+}
+
+@test:Config {
+    groups: ["executeMany"]
+}
+isolated function testExecuteManyWithOutOfRangeParallelism() returns error? {
+    ExecuteManyResponse|Error res = redshiftData->executeMany([`SELECT * FROM Users`], parallelism = 2147483648);
+    test:assertTrue(res is Error);
+    if res is Error {
+        test:assertEquals(res.message(), "The parallelism should be less than or equal to 2147483647.");
+    }
+}
@@ -0,0 +1,133 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/test;
+
+const EXECUTOR_CALLS = 8;
+
+@test:Config {
+    groups: ["executor"]
+}
+isolated function testExecutorQueuesCalls() returns error? {
+    Client boundedClient = check newTestClient(executorConfig = {mode: PLATFORM, maxConcurrency: 2});
+    delayResponses("ExecuteStatement", 0.2);
+    ExecutionResponse[] responses = check runConcurrently(boundedClient);
+    delayResponses("ExecuteStatement", 0);
+    test:assertEquals(responses.length(), EXECUTOR_CALLS);
+
+    ExecutorStats? stats = boundedClient.getExecutorStats();
+    if stats is () {
+        test:assertFail("Expected a blocking client to have an executor");
+    }
+    test:assertTrue(stats.maxQueued > 0);
+    test:assertTrue(stats.saturations > 0);
+    test:assertEquals(stats.rejected, 0);
+    test:assertTrue(stats.completed >= EXECUTOR_CALLS);
+    check boundedClient.close();
+}
+
+@test:Config {
+    groups: ["executor"]
+}
+isolated function testExecutorRejectsCalls() returns error? {
+    Client boundedClient = check newTestClient(executorConfig = {maxConcurrency: 1, maxQueueDepth: 0});
+    delayResponses("ExecuteStatement", 0.2);
+    ExecutionResponse[]|error responses = runConcurrently(boundedClient);
+    delayResponses("ExecuteStatement", 0);
+    if responses is ExecutionResponse[] {
+        test:assertFail("Expected the calls made while the executor is saturated to fail");
+    }
+    test:assertTrue(responses.message().includes("The executor of the client is saturated"));
+
+    ExecutorStats? stats = boundedClient.getExecutorStats();
+    test:assertTrue((stats?.rejected ?: 0) > 0);
+    check boundedClient.close();
+}
+
+@test:Config {
+    groups: ["executor"]
+}
+isolated function testExecutorBlock() returns error? {
+    Client boundedClient =
+        check newTestClient(executorConfig = {maxConcurrency: 1, maxQueueDepth: 0, rejectionPolicy: BLOCK});
+    delayResponses("ExecuteStatement", 0.2);
+    ExecutionResponse[]|error responses = runConcurrently(boundedClient);
+    delayResponses("ExecuteStatement", 0);
+    if responses is error {
+        test:assertFail(string `Expected the saturated calls to wait for room: ${responses.message()}`);
+    }
+    ExecutorStats? stats = boundedClient.getExecutorStats();
+    test:assertTrue((stats?.saturations ?: 0) > 0);
+    test:assertEquals(stats?.rejected, 0);
+    check boundedClient.close();
+}
+
+@test:Config {
+    groups: ["executor"]
+}
+isolated function testExecutorStatsOfNonBlockingClient() returns error? {
+    Client nonBlockingClient = check new ({
+        region: awsRegion,
+        auth: authConfig,
+        endpoint: endpointConfig,
+        dbAccessConfig,
+        nonBlocking: true
+    });
+    test:assertEquals(nonBlockingClient.getExecutorStats(), ());
+    check nonBlockingClient.close();
+}
+
+@test:Config {
+    groups: ["executor"]
+}
+isolated function testExecutorInvalidConfig() returns error? {
+    Client|Error boundedClient = newTestClient(executorConfig = {maxConcurrency: 0});
+    if boundedClient is Client {
+        test:assertFail("Expected an error for maxConcurrency of 0");
+    }
+    test:assertEquals(boundedClient.message(), "The maxConcurrency should be greater than 0.");
+
+    boundedClient = newTestClient(executorConfig = {maxQueueDepth: 2147483648});
+    if boundedClient is Client {
+        test:assertFail("Expected an error for a maxQueueDepth out of the range of an int");
+    }
+    test:assertEquals(boundedClient.message(), "The maxQueueDepth should be less than or equal to 2147483647.");
+
+    boundedClient = newTestClient(nonBlocking = true, executorConfig = {});
+    if boundedClient is Client {
+        test:assertFail("Expected an error for the executorConfig of a non-blocking client");
+    }
+    test:assertEquals(boundedClient.message(), "The executorConfig cannot be used by a non-blocking client.");
+}
+
+isolated function runConcurrently(Client boundedClient) returns ExecutionResponse[]|error {
+    future<ExecutionResponse|Error>[] executions = [];
+    foreach int _ in 0 ..< EXECUTOR_CALLS {
+        future<ExecutionResponse|Error> execution = start boundedClient->execute(`SELECT * FROM Users;`);
+        executions.push(execution);
+    }
+    ExecutionResponse[] responses = [];
+    error? failure = ();
+    foreach future<ExecutionResponse|Error> execution in executions {
+        ExecutionResponse|Error response = wait execution;
+        if response is Error {
+            failure = response;
+        } else {
+            responses.push(response);
+        }
+    }
+    return failure ?: responses;
+}
@@ -16,6 +16,7 @@
 
 import ballerina/sql;
 import ballerina/test;
+import ballerina/time;
 
 type User record {|
     @sql:Column {name: "user_id"}
@@ -91,6 +92,20 @@ isolated function testParameterizedQueryResult() returns error? {
     test:assertEquals(resultArray[0].username, "JohnDoe");
 }
 
+type TypedValues record {|
+    decimal amount;
+    @sql:Column {name: "created_at"}
+    time:Utc createdAt;
+    @sql:Column {name: "updated_at"}
+    time:Civil updatedAt;
+    @sql:Column {name: "birth_date"}
+    time:Date birthDate;
+    @sql:Column {name: "start_time"}
+    time:TimeOfDay startTime;
+    byte[] payload;
+    string? note;
+|};
+
 @test:Config {
     groups: ["getResultAsStream"]
 }
@@ -126,6 +141,49 @@ isolated function testSupportedTypes() returns error? {
     test:assertEquals(resultArray[0], data);
 }
 
+@test:Config {
+    groups: ["getResultAsStream"]
+}
+isolated function testTypedColumnDecoding() returns error? {
+    sql:ParameterizedQuery selectQuery = `SELECT * FROM TypedValues;`;
+    ExecutionResponse res = check redshiftData->execute(selectQuery);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+    stream<TypedValues, Error?> queryResult = check redshiftData->getResultAsStream(res.statementId);
+    TypedValues[] resultArray = check from TypedValues item in queryResult
+        select item;
+
+    TypedValues expected = {
+        amount: 1234.5678d,
+        createdAt: check time:utcFromString("2024-03-15T04:50:30.250Z"),
+        updatedAt: {year: 2024, month: 3, day: 15, hour: 10, minute: 20, second: 30.5d},
+        birthDate: {year: 2024, month: 3, day: 15},
+        startTime: {hour: 8, minute: 15, second: 0d},
+        payload: [10, 255],
+        note: ()
+    };
+    test:assertEquals(resultArray.length(), 1);
+    test:assertEquals(resultArray[0], expected);
+}
+
+@test:Config {
+    groups: ["getResultAsStream"]
+}
+isolated function testTypedColumnDecodingIntoOpenRecord() returns error? {
+    sql:ParameterizedQuery selectQuery = `SELECT * FROM TypedValues;`;
+    ExecutionResponse res = check redshiftData->execute(selectQuery);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+    stream<record {}, Error?> queryResult = check redshiftData->getResultAsStream(res.statementId);
+    record {}[] resultArray = check from record {} item in queryResult
+        select item;
+
+    test:assertEquals(resultArray.length(), 1);
+    // Without a field type to go by, values are decoded by their column type
+    test:assertEquals(resultArray[0]["amount"], 1234.5678d);
+    test:assertEquals(resultArray[0]["payload"], <byte[]>[10, 255]);
+    test:assertEquals(resultArray[0]["birth_date"], "2024-03-15");
+    test:assertEquals(resultArray[0]["note"], ());
+}
+
 @test:Config {
     groups: ["getResultAsStream"]
 }
@@ -247,3 +305,270 @@ isolated function testResultPagination() returns error? {
 
     test:assertEquals(resultArray.length(), totalRows);
 }
+
+@test:Config {
+    groups: ["queryResult"]
+}
+isolated function testResultPaginationWithReadAhead() returns error? {
+    Client readAheadClient = check new ({
+        region: awsRegion,
+        auth: authConfig,
+        endpoint: endpointConfig,
+        dbAccessConfig,
+        resultConfig: {readAhead: 2}
+    });
+    ExecutionResponse res = check readAheadClient->execute(`SELECT num, large_column FROM large_column_table;`);
+    DescriptionResponse descriptionResponse = check waitForCompletion(readAheadClient, res.statementId);
+    test:assertEquals(descriptionResponse.status, FINISHED);
+
+    stream<record {int num;}, Error?> resultStream = check readAheadClient->getResultAsStream(res.statementId);
+    int[] numbers = check from var item in resultStream
+        select item.num;
+
+    test:assertEquals(numbers.length(), descriptionResponse.resultRows);
+    foreach int i in 0 ..< numbers.length() {
+        test:assertEquals(numbers[i], i);
+    }
+    check readAheadClient.close();
+}
+
+@test:Config {
+    groups: ["queryResult"]
+}
+isolated function testCloseResultWhileReadingAhead() returns error? {
+    Client readAheadClient = check new ({
+        region: awsRegion,
+        auth: authConfig,
+        endpoint: endpointConfig,
+        dbAccessConfig,
+        resultConfig: {readAhead: 3, readAheadBufferSize: 1024}
+    });
+    ExecutionResponse res = check readAheadClient->execute(`SELECT num, large_column FROM large_column_table;`);
+    _ = check waitForCompletion(readAheadClient, res.statementId);
+
+    stream<record {int num;}, Error?> resultStream = check readAheadClient->getResultAsStream(res.statementId);
+    record {|record {int num;} value;|}? first = check resultStream.next();
+    test:assertEquals(first?.value?.num, 0);
+    check resultStream.close();
+
+    record {|record {int num;} value;|}|Error? afterClose = resultStream.next();
+    test:assertTrue(afterClose is Error);
+    check readAheadClient.close();
+}
+
+@test:Config {
+    groups: ["getResultAsBatchStream"]
+}
+isolated function testBatchStreamOfPages() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT num, large_column FROM large_column_table;`);
+    DescriptionResponse descriptionResponse = check waitForCompletion(redshiftData, res.statementId);
+    test:assertEquals(descriptionResponse.status, FINISHED);
+
+    stream<record {int num;}[], Error?> resultStream = check redshiftData->getResultAsBatchStream(res.statementId);
+    int[] batchSizes = [];
+    int expected = 0;
+    check from record {int num;}[] batch in resultStream
+        do {
+            batchSizes.push(batch.length());
+            foreach var item in batch {
+                test:assertEquals(item.num, expected);
+                expected += 1;
+            }
+        };
+    // One batch for each result page
+    test:assertEquals(batchSizes, [500, 500, 500, 101]);
+    test:assertEquals(expected, descriptionResponse.resultRows);
+}
+
+@test:Config {
+    groups: ["getResultAsBatchStream"]
+}
+isolated function testBatchStreamWithBatchSize() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT num, large_column FROM large_column_table;`);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+
+    stream<record {int num;}[], Error?> resultStream =
+        check redshiftData->getResultAsBatchStream(res.statementId, 200);
+    int[] batchSizes = check from record {int num;}[] batch in resultStream
+        select batch.length();
+    // Batches do not span result pages
+    test:assertEquals(batchSizes, [200, 200, 100, 200, 200, 100, 200, 200, 100, 101]);
+}
+
+@test:Config {
+    groups: ["getResultAsBatchStream"]
+}
+isolated function testBatchStreamOfUsers() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users;`);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+
+    stream<User[], Error?> resultStream = check redshiftData->getResultAsBatchStream(res.statementId, 2);
+    User[][] batches = check from User[] batch in resultStream
+        select batch;
+    test:assertEquals(batches.length(), 2);
+    test:assertEquals(batches[0].length(), 2);
+    test:assertEquals(batches[1][0].userId, 3);
+}
+
+@test:Config {
+    groups: ["getResultAsBatchStream"]
+}
+isolated function testBatchStreamWithNegativeBatchSize() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users;`);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+
+    stream<User[], Error?>|Error resultStream = redshiftData->getResultAsBatchStream(res.statementId, -1);
+    test:assertTrue(resultStream is Error);
+    if resultStream is Error {
+        test:assertEquals(resultStream.message(), "Batch size cannot be negative.");
+    }
+}
+
+@test:Config {
+    groups: ["csvResult"]
+}
+isolated function testCsvResult() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users;`, resultFormat = CSV);
+    DescriptionResponse descriptionResponse = check waitForCompletion(redshiftData, res.statementId);
+    test:assertEquals(descriptionResponse.status, FINISHED);
+
+    stream<User, Error?> resultStream = check redshiftData->getResultAsStream(res.statementId);
+    User[] resultArray = check from User user in resultStream
+        select user;
+    test:assertEquals(resultArray, [
+        {userId: 1, username: "JohnDoe", email: "john.doe@example.com", age: 25},
+        {userId: 2, username: "JaneSmith", email: "jane.smith@example.com", age: 30},
+        {userId: 3, username: "BobJohnson", email: "bob.johnson@example.com", age: 22}
+    ]);
+}
+
+@test:Config {
+    groups: ["csvResult"]
+}
+isolated function testCsvResultOfSupportedTypes() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM SupportedTypes;`, resultFormat = CSV);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+
+    stream<SupportedTypes, Error?> resultStream = check redshiftData->getResultAsStream(res.statementId);
+    SupportedTypes[] resultArray = check from SupportedTypes item in resultStream
+        select item;
+    test:assertEquals(resultArray, [
+        {
+            intType: 12,
+            bigintType: 9223372036854774807,
+            doubleType: 123.34,
+            booleanType: true,
+            stringType: "test",
+            nilType: ()
+        }
+    ]);
+}
+
+@test:Config {
+    groups: ["csvResult"]
+}
+isolated function testCsvResultTypedColumnDecoding() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM TypedValues;`, resultFormat = CSV);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+
+    stream<TypedValues, Error?> resultStream = check redshiftData->getResultAsStream(res.statementId);
+    TypedValues[] resultArray = check from TypedValues item in resultStream
+        select item;
+    TypedValues expected = {
+        amount: 1234.5678d,
+        createdAt: check time:utcFromString("2024-03-15T04:50:30.250Z"),
+        updatedAt: {year: 2024, month: 3, day: 15, hour: 10, minute: 20, second: 30.5d},
+        birthDate: {year: 2024, month: 3, day: 15},
+        startTime: {hour: 8, minute: 15, second: 0d},
+        payload: [10, 255],
+        note: ()
+    };
+    test:assertEquals(resultArray, [expected]);
+}
+
+@test:Config {
+    groups: ["csvResult"]
+}
+isolated function testCsvResultPagination() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT num, large_column FROM large_column_table;`,
+        resultFormat = CSV);
+    DescriptionResponse descriptionResponse = check waitForCompletion(redshiftData, res.statementId);
+
+    stream<record {int num;}[], Error?> resultStream = check redshiftData->getResultAsBatchStream(res.statementId);
+    int[] batchSizes = [];
+    int expected = 0;
+    check from record {int num;}[] batch in resultStream
+        do {
+            batchSizes.push(batch.length());
+            foreach var item in batch {
+                test:assertEquals(item.num, expected);
+                expected += 1;
+            }
+        };
+    test:assertEquals(batchSizes, [500, 500, 500, 101]);
+    test:assertEquals(expected, descriptionResponse.resultRows);
+}
+
+@test:Config {
+    groups: ["csvResult"]
+}
+isolated function testQueryCsvResult() returns error? {
+    stream<User, Error?> resultStream = check redshiftData->query(`SELECT * FROM Users WHERE user_id = 1;`,
+        resultFormat = CSV);
+    User[] resultArray = check from User user in resultStream
+        select user;
+    test:assertEquals(resultArray, [{userId: 1, username: "JohnDoe", email: "john.doe@example.com", age: 25}]);
+}
+
+@test:Config {
+    groups: ["queryResult"]
+}
+isolated function testResultWithOffHeapPages() returns error? {
+    Client offHeapClient = check new ({
+        region: awsRegion,
+        auth: authConfig,
+        endpoint: endpointConfig,
+        dbAccessConfig,
+        resultConfig: {offHeapPages: true}
+    });
+    foreach sql:ParameterizedQuery query in [`SELECT * FROM SupportedTypes;`, `SELECT * FROM TypedValues;`] {
+        ExecutionResponse res = check redshiftData->execute(query);
+        _ = check waitForCompletion(redshiftData, res.statementId);
+
+        stream<record {}, Error?> packedStream = check offHeapClient->getResultAsStream(res.statementId);
+        record {}[] packedRows = check from record {} item in packedStream
+            select item;
+        stream<record {}, Error?> onHeapStream = check redshiftData->getResultAsStream(res.statementId);
+        record {}[] onHeapRows = check from record {} item in onHeapStream
+            select item;
+        test:assertEquals(packedRows, onHeapRows);
+    }
+    check offHeapClient.close();
+}
+
+@test:Config {
+    groups: ["queryResult"]
+}
+isolated function testResultPaginationWithOffHeapPages() returns error? {
+    Client offHeapClient = check new ({
+        region: awsRegion,
+        auth: authConfig,
+        endpoint: endpointConfig,
+        dbAccessConfig,
+        resultConfig: {offHeapPages: true}
+    });
+    ExecutionResponse res = check offHeapClient->execute(`SELECT num, large_column FROM large_column_table;`);
+    DescriptionResponse descriptionResponse = check waitForCompletion(offHeapClient, res.statementId);
+
+    stream<record {int num; string large_column;}, Error?> resultStream =
+        check offHeapClient->getResultAsStream(res.statementId);
+    int count = 0;
+    check from var item in resultStream
+        do {
+            test:assertEquals(item.num, count);
+            test:assertEquals(item.large_column, "X");
+            count += 1;
+        };
+    test:assertEquals(count, descriptionResponse.resultRows);
+    check offHeapClient.close();
+}
@@ -0,0 +1,114 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/log;
+import ballerina/test;
+import ballerina/time;
+
+// The statements each benchmark run submits, split evenly between its callers
+const BENCHMARK_STATEMENTS = 256;
+
+@test:Config {
+    groups: ["httpClient"]
+}
+isolated function testHttpClientTransports() returns error? {
+    foreach HttpClientConfig httpClientConfig in [
+        {maxConnections: 8, connectionTimeToLive: 30},
+        {transport: URL_CONNECTION},
+        {tlsSession: {sessionCacheSize: 16, sessionTimeout: 600}}
+    ] {
+        Client tunedClient = check newTestClient(httpClientConfig = httpClientConfig);
+        ExecutionResponse response = check tunedClient->execute(`SELECT * FROM Users;`);
+        test:assertTrue(response.statementId != "");
+        check tunedClient.close();
+    }
+    Client nonBlockingClient =
+        check newTestClient(httpClientConfig = {maxConnections: 8, tcpKeepAlive: true}, nonBlocking = true);
+    ExecutionResponse response = check nonBlockingClient->execute(`SELECT * FROM Users;`);
+    test:assertTrue(response.statementId != "");
+    check nonBlockingClient.close();
+}
+
+@test:Config {
+    groups: ["httpClient"]
+}
+isolated function testHttpClientInvalidConfig() returns error? {
+    Client|Error tunedClient = newTestClient(httpClientConfig = {maxConnections: 0});
+    if tunedClient is Client {
+        test:assertFail("Expected an error for maxConnections of 0");
+    }
+    test:assertEquals(tunedClient.message(), "The maxConnections should be greater than 0.");
+
+    tunedClient = newTestClient(httpClientConfig = {transport: NETTY});
+    if tunedClient is Client {
+        test:assertFail("Expected an error for the NETTY transport of a blocking client");
+    }
+    test:assertEquals(tunedClient.message(), "The NETTY transport cannot be used by a blocking client.");
+
+    tunedClient = newTestClient(httpClientConfig = {transport: APACHE}, nonBlocking = true);
+    if tunedClient is Client {
+        test:assertFail("Expected an error for the APACHE transport of a non-blocking client");
+    }
+    test:assertEquals(tunedClient.message(), "The APACHE transport cannot be used by a non-blocking client.");
+
+    tunedClient = newTestClient(httpClientConfig = {transport: URL_CONNECTION, tlsSession: {}});
+    if tunedClient is Client {
+        test:assertFail("Expected an error for the tlsSession of the URL_CONNECTION transport");
+    }
+    test:assertEquals(tunedClient.message(), "The tlsSession is supported only by the APACHE transport.");
+}
+
+// Measures the throughput of `execute` against the mock service with 1, 16 and 256 concurrent callers, with the
+// default connection pool and with one sized for the callers. Run it on its own with
+// `--groups httpClientBenchmark` to compare the logged throughput.
+@test:Config {
+    groups: ["httpClient", "httpClientBenchmark"]
+}
+isolated function benchmarkHttpClientThroughput() returns error? {
+    foreach [string, HttpClientConfig, boolean] [name, httpClientConfig, nonBlocking] in [
+        ["APACHE, default pool", {}, false],
+        ["APACHE, 256 connections", {maxConnections: 256}, false],
+        ["URL_CONNECTION", {transport: URL_CONNECTION}, false],
+        ["NETTY, 256 connections", {maxConnections: 256}, true]
+    ] {
+        Client tunedClient = check newTestClient(httpClientConfig = httpClientConfig, nonBlocking = nonBlocking);
+        foreach int callers in [1, 16, 256] {
+            decimal elapsed = check runCallers(tunedClient, callers);
+            log:printInfo("HTTP client throughput", transport = name, callers = callers,
+                    statementsPerSecond = <decimal>BENCHMARK_STATEMENTS / elapsed);
+        }
+        check tunedClient.close();
+    }
+}
+
+isolated function runCallers(Client tunedClient, int callers) returns decimal|error {
+    decimal startedAt = time:monotonicNow();
+    future<error?>[] runs = [];
+    foreach int _ in 0 ..< callers {
+        future<error?> run = start runStatements(tunedClient, BENCHMARK_STATEMENTS / callers);
+        runs.push(run);
+    }
+    foreach future<error?> run in runs {
+        check wait run;
+    }
+    return time:monotonicNow() - startedAt;
+}
+
+isolated function runStatements(Client tunedClient, int count) returns error? {
+    foreach int _ in 0 ..< count {
+        _ = check tunedClient->execute(`SELECT * FROM Users;`);
+    }
+}
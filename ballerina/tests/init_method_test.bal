@@ -42,3 +42,37 @@ isolated function testNilDbAccessConfig() returns error? {
     Client redshiftData = check new (connectionConfig);
     check redshiftData.close();
 }
+
+@test:Config {
+    groups: ["init"]
+}
+isolated function testInvalidResultConfig() returns error? {
+    Client|Error redshiftData = new ({
+        region: awsRegion,
+        auth: authConfig,
+        endpoint: endpointConfig,
+        dbAccessConfig,
+        resultConfig: {readAhead: -1}
+    });
+    test:assertTrue(redshiftData is Error);
+    if redshiftData is Error {
+        test:assertEquals(redshiftData.message(), "The readAhead should be greater than or equal to 0.");
+    }
+}
+
+@test:Config {
+    groups: ["init"]
+}
+isolated function testInvalidStatusTrackerConfig() returns error? {
+    Client|Error redshiftData = new ({
+        region: awsRegion,
+        auth: authConfig,
+        endpoint: endpointConfig,
+        dbAccessConfig,
+        statusTracker: {maxListPages: 0}
+    });
+    test:assertTrue(redshiftData is Error);
+    if redshiftData is Error {
+        test:assertEquals(redshiftData.message(), "The maxListPages should be greater than 0.");
+    }
+}
@@ -0,0 +1,200 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/log;
+import ballerina/test;
+import ballerina/time;
+
+const BENCHMARK_ROWS = 100000;
+
+type InsertedUser record {|
+    int id;
+    string name;
+    boolean active;
+    decimal? score;
+|};
+
+@test:Config {
+    groups: ["insertAll"]
+}
+isolated function testInsertAll() returns error? {
+    InsertedUser[] users = [
+        {id: 1, name: "O'Brien", active: true, score: 9.5},
+        {id: 2, name: "back\\slash", active: false, score: ()}
+    ];
+    InsertResponse res = check redshiftData->insertAll("Users", users);
+    test:assertEquals(res.status, FINISHED);
+    test:assertEquals(res.insertedRows, 2);
+    test:assertEquals(res.statementIds.length(), 1);
+    DescriptionResponse descRes = check redshiftData->describe(res.statementIds[0]);
+    test:assertEquals(descRes.queryString, "INSERT INTO Users (\"id\", \"name\", \"active\", \"score\") VALUES " +
+        "(1, 'O''Brien', TRUE, 9.5),(2, 'back\\\\slash', FALSE, NULL)");
+}
+
+@test:Config {
+    groups: ["insertAll"]
+}
+isolated function testInsertAllPacksStatementsUpToSizeLimit() returns error? {
+    InsertedUser[] users = from int id in 0 ..< 10
+        select {id, name: "user", active: true, score: 1};
+    // The prefix is 59 bytes and each row 20 bytes and a comma, so a statement of 125 bytes holds 3 rows.
+    InsertResponse res = check redshiftData->insertAll("Users", users, maxStatementSize = 125, parallelism = 2);
+    test:assertEquals(res.status, FINISHED);
+    test:assertEquals(res.insertedRows, 10);
+    test:assertEquals(res.statementIds.length(), 4);
+}
+
+@test:Config {
+    groups: ["insertAll"]
+}
+isolated function testInsertAllFromStream() returns error? {
+    stream<InsertedUser, error?> users = (from int id in 0 ..< 2500
+        select {id, name: string `user${id}`, active: id % 2 == 0, score: ()}).toStream();
+    InsertResponse res = check redshiftData->insertAll("Users", users);
+    test:assertEquals(res.status, FINISHED);
+    test:assertEquals(res.insertedRows, 2500);
+}
+
+@test:Config {
+    groups: ["insertAll"]
+}
+isolated function testInsertAllWithNoRows() returns error? {
+    InsertResponse res = check redshiftData->insertAll("Users", <InsertedUser[]>[]);
+    test:assertEquals(res, {statementIds: [], status: FINISHED, insertedRows: 0});
+}
+
+@test:Config {
+    groups: ["insertAll"]
+}
+isolated function testInsertAllWithUnsupportedValue() returns error? {
+    record {|int id; int[] tags;|}[] rows = [{id: 1, tags: [1, 2]}];
+    InsertResponse res = check redshiftData->insertAll("Users", rows);
+    test:assertEquals(res.status, FAILED);
+    test:assertEquals(res.statementIds, []);
+    test:assertEquals(res.insertedRows, 0);
+    test:assertTrue((res.failure ?: "").startsWith("The value of the column 'tags' is of an unsupported type"));
+}
+
+@test:Config {
+    groups: ["insertAll"]
+}
+isolated function testInsertAllWithUnsupportedValueAfterStatements() returns error? {
+    record {|int id; int|int[] tags;|}[] rows = [
+        {id: 1, tags: 1},
+        {id: 2, tags: 2},
+        {id: 3, tags: 3},
+        {id: 4, tags: [4]}
+    ];
+    // Each statement holds one row, so the first two are submitted and the third is dropped when the fourth fails
+    InsertResponse res = check redshiftData->insertAll("Users", rows, maxStatementSize = 50);
+    test:assertEquals(res.status, FAILED);
+    test:assertEquals(res.statementIds.length(), 2);
+    test:assertEquals(res.insertedRows, 2);
+    test:assertTrue((res.failure ?: "").startsWith("The value of the column 'tags' is of an unsupported type"));
+}
+
+@test:Config {
+    groups: ["insertAll"]
+}
+isolated function testInsertAllWithOversizedRow() returns error? {
+    InsertedUser[] users = [
+        {id: 1, name: "user", active: true, score: 1},
+        {id: 2, name: "a user whose name alone takes the row over the size of a statement", active: true, score: 1}
+    ];
+    // The prefix is 59 bytes, so the second row does not fit in a statement of 100 bytes even on its own
+    InsertResponse res = check redshiftData->insertAll("Users", users, maxStatementSize = 100);
+    test:assertEquals(res.status, FAILED);
+    test:assertEquals(res.statementIds, []);
+    test:assertEquals(res.insertedRows, 0);
+    string failure = res.failure ?: "";
+    test:assertTrue(failure.startsWith("A row takes an INSERT statement of"));
+    test:assertTrue(failure.endsWith("which is larger than the maxStatementSize of 100 bytes."));
+}
+
+@test:Config {
+    groups: ["insertAll"]
+}
+isolated function testInsertAllWithStreamError() returns error? {
+    FailingRows source = new (3);
+    stream<InsertedUser, error?> users = new (source);
+    InsertResponse res = check redshiftData->insertAll("Users", users);
+    // The rows read before the error are not inserted
+    test:assertEquals(res, {
+        statementIds: [],
+        status: FAILED,
+        insertedRows: 0,
+        failure: "Error occurred while reading the rows: Connection reset"
+    });
+    test:assertTrue(source.isClosed());
+}
+
+// A stream implementor that produces a number of rows and then fails.
+isolated class FailingRows {
+    private final int rows;
+    private int produced = 0;
+    private boolean closed = false;
+
+    isolated function init(int rows) {
+        self.rows = rows;
+    }
+
+    public isolated function next() returns record {|InsertedUser value;|}|error? {
+        lock {
+            if self.produced == self.rows {
+                return error("Connection reset");
+            }
+            self.produced += 1;
+            return {value: {id: self.produced, name: "user", active: true, score: ()}};
+        }
+    }
+
+    public isolated function close() returns error? {
+        lock {
+            self.closed = true;
+        }
+    }
+
+    isolated function isClosed() returns boolean {
+        lock {
+            return self.closed;
+        }
+    }
+}
+
+@test:Config {
+    groups: ["insertAll"]
+}
+isolated function testInsertAllWithEmptyTable() returns error? {
+    InsertResponse|Error res = redshiftData->insertAll(" ", <InsertedUser[]>[]);
+    test:assertTrue(res is Error && res.message() == "The table name cannot be empty.");
+}
+
+// Logs the rows inserted per second through the mock service. Run with `--groups insertAllBenchmark`.
+@test:Config {
+    groups: ["insertAll", "insertAllBenchmark"]
+}
+isolated function benchmarkInsertAllThroughput() returns error? {
+    InsertedUser[] users = from int id in 0 ..< BENCHMARK_ROWS
+        select {id, name: string `user${id}`, active: true, score: 1.5};
+    foreach int parallelism in [1, 4, 16] {
+        decimal startedAt = time:monotonicNow();
+        InsertResponse res = check redshiftData->insertAll("Users", users, parallelism = parallelism);
+        decimal elapsed = time:monotonicNow() - startedAt;
+        test:assertEquals(res.insertedRows, BENCHMARK_ROWS);
+        log:printInfo("insertAll throughput", parallelism = parallelism, statements = res.statementIds.length(),
+                rowsPerSecond = <decimal>BENCHMARK_ROWS / elapsed);
+    }
+}
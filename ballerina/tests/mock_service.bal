@@ -16,6 +16,7 @@
 
 // A mock of the Amazon Redshift Data API operations used by this connector.
 import ballerina/http;
+import ballerina/lang.runtime;
 import ballerina/time;
 
 const MOCK_SERVICE_PORT = 9090;
@@ -24,6 +25,14 @@ const TARGET_PREFIX = "RedshiftData.";
 // The endpoint the tests point their clients at, through `endpointConfig`.
 final string mockServiceUrl = string `http://localhost:${MOCK_SERVICE_PORT}`;
 
+// An S3-compatible store that serves the results `UNLOAD` statements write.
+const MOCK_S3_PORT = 9091;
+final string mockS3Url = string `http://localhost:${MOCK_S3_PORT}`;
+
+// The number of rows written to a single unloaded part, so that larger results
+// span several parts, as a parallel unload does.
+const UNLOAD_PART_ROWS = 400;
+
 // The number of records in a single `GetStatementResult` page; the rest is served
 // through `NextToken`, the way the service paginates.
 const RESULT_PAGE_SIZE = 500;
@@ -47,7 +56,16 @@ service on new http:Listener(MOCK_SERVICE_PORT) {
         if !target.startsWith(TARGET_PREFIX) {
             return awsError("UnknownOperationException", string `Unsupported operation: ${target}`);
         }
-        match target.substring(TARGET_PREFIX.length()) {
+        string operation = target.substring(TARGET_PREFIX.length());
+        decimal? responseDelay = responseDelayOf(operation);
+        if responseDelay is decimal {
+            runtime:sleep(responseDelay);
+        }
+        string? throttlingError = takeThrottledRequest(operation);
+        if throttlingError is string {
+            return awsError(throttlingError, "Rate exceeded");
+        }
+        match operation {
             "ExecuteStatement" => {
                 return executeStatement(payload);
             }
@@ -58,7 +76,13 @@ service on new http:Listener(MOCK_SERVICE_PORT) {
                 return describeStatement(payload);
             }
             "GetStatementResult" => {
-                return getStatementResult(payload);
+                return getStatementResult(payload, JSON);
+            }
+            "GetStatementResultV2" => {
+                return getStatementResult(payload, CSV);
+            }
+            "ListStatements" => {
+                return listStatements(payload);
             }
         }
         return awsError("UnknownOperationException", string `Unsupported operation: ${target}`);
@@ -72,8 +96,13 @@ isolated function executeStatement(map<json> payload) returns json|http:BadReque
     if accessError is http:BadRequest {
         return accessError;
     }
+    string?|http:BadRequest sessionId = sessionFor(payload);
+    if sessionId is http:BadRequest {
+        return sessionId;
+    }
     string sql = stringValue(payload, "Sql") ?: "";
-    return executionResponse(newStatement(nextStatementId(), sql, statementKindOf(sql), sessionFor(payload)));
+    StatementKind kind = sql.trim().toUpperAscii().startsWith("UNLOAD") ? unload(sql) : statementKindOf(sql);
+    return executionResponse(newStatement(nextStatementId(), sql, kind, sessionId, resultFormatOf(payload)));
 }
 
 isolated function batchExecuteStatement(map<json> payload) returns json|http:BadRequest {
@@ -85,17 +114,23 @@ isolated function batchExecuteStatement(map<json> payload) returns json|http:Bad
     if sqls !is json[] || sqls.length() == 0 {
         return validationError("Sqls must have at least 1 item.");
     }
+    string?|http:BadRequest sessionId = sessionFor(payload);
+    if sessionId is http:BadRequest {
+        return sessionId;
+    }
 
     // The sub-statement identifiers are derived from the batch identifier, as the
     // service does.
     string batchId = nextStatementId();
+    ResultFormat resultFormat = resultFormatOf(payload);
     MockStatement[] subStatements = [];
     foreach int index in 0 ..< sqls.length() {
         json sql = sqls[index];
         string sqlText = sql is string ? sql : "";
-        subStatements.push(newStatement(string `${batchId}:${index + 1}`, sqlText, statementKindOf(sqlText), ()));
+        subStatements.push(newStatement(string `${batchId}:${index + 1}`, sqlText, statementKindOf(sqlText), (),
+                resultFormat));
     }
-    return executionResponse(newStatement(batchId, "", BATCH, sessionFor(payload), subStatements));
+    return executionResponse(newStatement(batchId, "", BATCH, sessionId, resultFormat, subStatements));
 }
 
 isolated function describeStatement(map<json> payload) returns json|http:BadRequest {
@@ -121,7 +156,9 @@ isolated function describeStatement(map<json> payload) returns json|http:BadRequ
     return response;
 }
 
-isolated function getStatementResult(map<json> payload) returns json|http:BadRequest {
+// `GetStatementResult` serves the results of statements run in the JSON format, and
+// `GetStatementResultV2` those of statements run in the CSV format.
+isolated function getStatementResult(map<json> payload, ResultFormat resultFormat) returns json|http:BadRequest {
     string statementId = stringValue(payload, "Id") ?: "";
     if !STATEMENT_ID_PATTERN.isFullMatch(statementId) {
         return invalidStatementIdError();
@@ -135,6 +172,11 @@ isolated function getStatementResult(map<json> payload) returns json|http:BadReq
         return validationError("Query does not have result. " +
                 "Please check query status with DescribeStatement.");
     }
+    if statement.resultFormat != resultFormat {
+        return validationError(resultFormat == JSON ?
+            "Query result is in CSV format. Please use GetStatementResultV2 to fetch the result." :
+            "Query result is in JSON format. Please use GetStatementResult to fetch the result.");
+    }
 
     int totalRows = result.rows.length();
     int offset = 0;
@@ -151,17 +193,238 @@ isolated function getStatementResult(map<json> payload) returns json|http:BadReq
     map<json> response = {
         "ColumnMetadata": from MockColumn column in result.columns
             select {"name": column.name, "label": column.name, "typeName": column.typeName, "nullable": 1},
-        "Records": from int rowIndex in offset ..< pageEnd
-            select from MockValue value in result.rows[rowIndex]
-                select toFieldValue(value),
         "TotalNumRows": totalRows
     };
+    if resultFormat == CSV {
+        // The service writes a header row ahead of the records of the first page
+        string[] lines = [];
+        if offset == 0 {
+            string[] header = from MockColumn column in result.columns
+                select column.name;
+            lines.push(string:'join(",", ...header));
+        }
+        foreach int rowIndex in offset ..< pageEnd {
+            string[] values = from MockValue value in result.rows[rowIndex]
+                select toCsvValue(value);
+            lines.push(string:'join(",", ...values));
+        }
+        response["Records"] = [{"CSVRecords": string:'join("\n", ...lines) + "\n"}];
+        response["ResultFormat"] = CSV;
+    } else {
+        response["Records"] = from int rowIndex in offset ..< pageEnd
+            select from MockValue value in result.rows[rowIndex]
+                select toFieldValue(value);
+    }
     if pageEnd < totalRows {
         response["NextToken"] = pageEnd.toString();
     }
     return response;
 }
 
+isolated function listStatements(map<json> payload) returns json|http:BadRequest {
+    json maxResults = payload["MaxResults"];
+    int pageSize = maxResults is int && maxResults > 0 ? maxResults : 100;
+    string status = stringValue(payload, "Status") ?: ALL;
+
+    // Batch sub-statements are not listed, and the most recent statements come first
+    readonly & MockStatement[] recorded;
+    lock {
+        recorded = statements.toArray().cloneReadOnly();
+    }
+    MockStatement[] listed = from MockStatement statement in recorded
+        where !statement.id.includes(":")
+        let json statementStatus = buildStatementData(statement)["Status"]
+        where status == ALL || statementStatus == status
+        order by statement.id descending
+        select statement;
+    int offset = 0;
+    string? nextToken = stringValue(payload, "NextToken");
+    if nextToken is string {
+        int|error pageStart = int:fromString(nextToken);
+        if pageStart is error || pageStart < 0 || pageStart > listed.length() {
+            return validationError("Invalid pagination token.");
+        }
+        offset = pageStart;
+    }
+    int pageEnd = int:min(offset + pageSize, listed.length());
+
+    map<json> response = {
+        "Statements": from int index in offset ..< pageEnd
+            let map<json> statementData = buildStatementData(listed[index])
+            select {
+                "Id": statementData["Id"],
+                "Status": statementData["Status"],
+                "CreatedAt": statementData["CreatedAt"],
+                "UpdatedAt": statementData["UpdatedAt"],
+                "IsBatchStatement": listed[index].kind == BATCH
+            }
+    };
+    if pageEnd < listed.length() {
+        response["NextToken"] = pageEnd.toString();
+    }
+    return response;
+}
+
+// Writes the result of the query of an `UNLOAD` statement to the S3 store, as CSV
+// parts and a verbose manifest, and returns the kind of the statement.
+isolated function unload(string sql) returns StatementKind {
+    // UNLOAD ('<query>') TO 's3://<bucket>/<prefix>' ...
+    string queryStart = "UNLOAD (";
+    [string, int]? queryLiteral = readLiteral(sql, queryStart.length());
+    if !sql.startsWith(queryStart) || queryLiteral is () || !hasTerminatedLiterals(queryLiteral[0]) {
+        return FAILING;
+    }
+    [string, int] [query, queryEnd] = queryLiteral;
+    string targetStart = ") TO ";
+    [string, int]? targetLiteral = readLiteral(sql, queryEnd + targetStart.length());
+    MockResultSet? result = findResult(statementKindOf(query));
+    if !sql.substring(queryEnd).startsWith(targetStart) || targetLiteral is () || result is () {
+        return FAILING;
+    }
+
+    string target = targetLiteral[0];
+    json[] entries = [];
+    int partStart = 0;
+    while partStart < result.rows.length() {
+        int partEnd = int:min(partStart + UNLOAD_PART_ROWS, result.rows.length());
+        string part = "";
+        foreach int rowIndex in partStart ..< partEnd {
+            string[] values = from MockValue value in result.rows[rowIndex]
+                select toCsvValue(value);
+            part += string:'join(",", ...values) + "\n";
+        }
+        string url = string `${target}0000_part_${entries.length().toString().padZero(2)}`;
+        putS3Object(url, part);
+        entries.push({"url": url, "meta": {"content_length": part.toBytes().length(),
+            "record_count": partEnd - partStart}});
+        partStart = partEnd;
+    }
+    json manifest = {
+        "entries": entries,
+        "schema": {
+            "elements": from MockColumn column in result.columns
+                select {"name": column.name, "type": {"base": manifestTypeOf(column.typeName)}}
+        },
+        "meta": {"record_count": result.rows.length()}
+    };
+    putS3Object(target + "manifest", manifest.toJsonString());
+    lock {
+        unloadedResults += 1;
+    }
+    return NO_RESULT_SET;
+}
+
+// Reads the string literal that starts at `start` as the service does: a backslash escapes the
+// character after it and two quotes stand for one. Returns the value and the index after the
+// closing quote, or nil if there is no literal at `start` or it is not terminated.
+isolated function readLiteral(string text, int 'start) returns [string, int]? {
+    if 'start >= text.length() || text['start] != "'" {
+        return ();
+    }
+    string value = "";
+    int index = 'start + 1;
+    while index < text.length() {
+        string c = text[index];
+        if c == "\\" && index + 1 < text.length() {
+            value += text[index + 1];
+            index += 2;
+        } else if c != "'" {
+            value += c;
+            index += 1;
+        } else if index + 1 < text.length() && text[index + 1] == "'" {
+            value += "'";
+            index += 2;
+        } else {
+            return [value, index + 1];
+        }
+    }
+    return ();
+}
+
+// Whether every string literal of the query is terminated.
+isolated function hasTerminatedLiterals(string query) returns boolean {
+    int? quote = query.indexOf("'");
+    while quote is int {
+        [string, int]? literal = readLiteral(query, quote);
+        if literal is () {
+            return false;
+        }
+        quote = query.indexOf("'", literal[1]);
+    }
+    return true;
+}
+
+// The names a verbose `UNLOAD` manifest reports column types by.
+isolated function manifestTypeOf(string typeName) returns string {
+    match typeName {
+        "int4" => {
+            return "integer";
+        }
+        "int8" => {
+            return "bigint";
+        }
+        "float8" => {
+            return "double precision";
+        }
+        "bool" => {
+            return "boolean";
+        }
+        "varchar" => {
+            return "character varying";
+        }
+        "timestamptz" => {
+            return "timestamp with time zone";
+        }
+        "timestamp" => {
+            return "timestamp without time zone";
+        }
+        "time" => {
+            return "time without time zone";
+        }
+        "varbyte" => {
+            return "binary varying";
+        }
+    }
+    return typeName;
+}
+
+// ===== S3 store =====
+
+isolated map<string> s3Objects = {};
+isolated int unloadedResults = 0;
+
+service on new http:Listener(MOCK_S3_PORT) {
+
+    // Objects are addressed in the path style, as `/<bucket>/<key>`.
+    isolated resource function get [string bucket]/[string... key]() returns byte[]|http:NotFound {
+        string? content;
+        lock {
+            content = s3Objects[string `${bucket}/${string:'join("/", ...key)}`];
+        }
+        if content is () {
+            return {
+                body: xml `<Error><Code>NoSuchKey</Code><Message>The specified key does not exist.</Message></Error>`,
+                mediaType: "application/xml"
+            };
+        }
+        return content.toBytes();
+    }
+}
+
+isolated function putS3Object(string url, string content) {
+    lock {
+        s3Objects[url.substring("s3://".length())] = content;
+    }
+}
+
+// The number of results unloaded so far, with which the tests tell whether a query
+// was read through `UNLOAD`.
+isolated function unloadedResultCount() returns int {
+    lock {
+        return unloadedResults;
+    }
+}
+
 // ===== Responses =====
 
 isolated function executionResponse(MockStatement statement) returns json {
@@ -185,7 +448,7 @@ isolated function buildStatementData(MockStatement statement) returns map<json>
         "Id": statement.id,
         "CreatedAt": statement.createdAt,
         "UpdatedAt": statement.createdAt,
-        "Status": failed ? FAILED : FINISHED,
+        "Status": failed ? FAILED : kind == RUNNING ? STARTED : FINISHED,
         "HasResultSet": batch ? subStatements.some(sub => findResult(sub.kind) is MockResultSet) :
             result is MockResultSet,
         // A batch statement reports no query identifier or result counts of its
@@ -193,7 +456,8 @@ isolated function buildStatementData(MockStatement statement) returns map<json>
         "RedshiftQueryId": batch || failed ? 0 : REDSHIFT_QUERY_ID,
         "ResultRows": batch ? -1 : rows,
         "ResultSize": batch ? -1 : computeResultSize(kind, rows),
-        "Duration": DURATION_NANOS
+        "Duration": DURATION_NANOS,
+        "ResultFormat": statement.resultFormat
     };
     if statement.queryString != "" {
         statementData["QueryString"] = statement.queryString;
@@ -220,6 +484,25 @@ isolated function toFieldValue(MockValue value) returns json {
     return {"doubleValue": value};
 }
 
+// A SQL `NULL` is an empty value, and a string is quoted when it is empty or holds
+// a delimiter, a quote or a line break.
+isolated function toCsvValue(MockValue value) returns string {
+    if value is () {
+        return "";
+    }
+    if value is boolean {
+        return value ? "t" : "f";
+    }
+    if value !is string {
+        return value.toString();
+    }
+    if value == "" || value.includes(",") || value.includes("\"") || value.includes("\n") ||
+            value.includes("\r") {
+        return "\"" + re `"`.replaceAll(value, "\"\"") + "\"";
+    }
+    return value;
+}
+
 // The cluster has to be reachable from the region the request was signed for.
 isolated function validateDbAccess(map<json> payload) returns http:BadRequest? {
     if stringValue(payload, "SessionId") is string || stringValue(payload, "WorkgroupName") is string {
@@ -236,13 +519,40 @@ isolated function validateDbAccess(map<json> payload) returns http:BadRequest? {
 }
 
 // The session a statement runs in: the requested one, or a newly started session
-// when the request asks to keep one alive.
-isolated function sessionFor(map<json> payload) returns string? {
-    string? sessionId = stringValue(payload, "SessionId");
-    if sessionId is string {
-        return sessionId;
+// when the request asks to keep one alive. As statements finish right away, a
+// session expires `SessionKeepAliveSeconds` after the last statement asking to
+// keep it alive is submitted.
+isolated function sessionFor(map<json> payload) returns string?|http:BadRequest {
+    string? requestedSessionId = stringValue(payload, "SessionId");
+    json keepAliveSeconds = payload["SessionKeepAliveSeconds"];
+    decimal now = currentTime();
+    string sessionId;
+    if requestedSessionId is string {
+        boolean available;
+        lock {
+            decimal? expiresAt = sessionExpiries[requestedSessionId];
+            available = expiresAt is decimal && expiresAt > now;
+        }
+        if !available {
+            return validationError(string `Session ${requestedSessionId} is not available.`);
+        }
+        sessionId = requestedSessionId;
+    } else if keepAliveSeconds is int {
+        sessionId = nextIdentifier(SESSION_ID_PREFIX);
+    } else {
+        return ();
+    }
+    if keepAliveSeconds is int {
+        lock {
+            sessionExpiries[sessionId] = now + <decimal>keepAliveSeconds;
+        }
     }
-    return payload["SessionKeepAliveSeconds"] is int ? nextIdentifier(SESSION_ID_PREFIX) : ();
+    return sessionId;
+}
+
+isolated function currentTime() returns decimal {
+    time:Utc now = time:utcNow();
+    return <decimal>now[0] + now[1];
 }
 
 // Errors carry the exception name in the `x-amzn-errortype` header and the
@@ -259,6 +569,47 @@ isolated function invalidStatementIdError() returns http:BadRequest =>
     validationError("id must satisfy regex pattern: " +
             "^[a-z0-9]{8}-[a-z0-9]{4}-[a-z0-9]{4}-[a-z0-9]{4}-[a-z0-9]{12}(:\\d+)?$");
 
+// ===== Throttling =====
+
+// The number of upcoming requests of each operation the service rejects, with the
+// error it rejects them with, as set by `throttleRequests`.
+isolated map<[int, string]> throttledRequests = {};
+
+isolated function throttleRequests(string operation, int count, string errorType = "ThrottlingException") {
+    lock {
+        throttledRequests[operation] = [count, errorType];
+    }
+}
+
+isolated function takeThrottledRequest(string operation) returns string? {
+    lock {
+        [int, string]? throttled = throttledRequests[operation];
+        if throttled is () || throttled[0] <= 0 {
+            return ();
+        }
+        throttledRequests[operation] = [throttled[0] - 1, throttled[1]];
+        return throttled[1];
+    }
+}
+
+// ===== Latency =====
+
+// The time in seconds the service takes to respond to the requests of each operation,
+// as set by `delayResponses`.
+isolated map<decimal> responseDelays = {};
+
+isolated function delayResponses(string operation, decimal delay) {
+    lock {
+        responseDelays[operation] = delay;
+    }
+}
+
+isolated function responseDelayOf(string operation) returns decimal? {
+    lock {
+        return responseDelays[operation];
+    }
+}
+
 // ===== Canned statement results =====
 
 // What the service reports for a statement, one member per query the test suite
@@ -270,9 +621,12 @@ enum StatementKind {
     SINGLE_USER,
     NO_ROWS,
     SUPPORTED_TYPES,
+    TYPED_VALUES,
     PAGINATED,
     // A statement the cluster rejects
     FAILING,
+    // A statement that keeps running
+    RUNNING,
     // The parent of a batch execution, which reports on its sub-statements
     BATCH
 }
@@ -316,6 +670,21 @@ final readonly & MockValue[][] SUPPORTED_TYPE_ROWS = [
     [12, 9223372036854774807, 123.34, true, "test", ()]
 ];
 
+// The row `testTypedColumnDecoding` reads from `TypedValues`, in the text form
+// the Data API delivers these column types in.
+final readonly & MockColumn[] TYPED_VALUE_COLUMNS = [
+    {name: "amount", typeName: "numeric"},
+    {name: "created_at", typeName: "timestamptz"},
+    {name: "updated_at", typeName: "timestamp"},
+    {name: "birth_date", typeName: "date"},
+    {name: "start_time", typeName: "time"},
+    {name: "payload", typeName: "varbyte"},
+    {name: "note", typeName: "varchar"}
+];
+final readonly & MockValue[][] TYPED_VALUE_ROWS = [
+    ["1234.5678", "2024-03-15 10:20:30.25+05:30", "2024-03-15 10:20:30.5", "2024-03-15", "08:15:00", "0aff", ()]
+];
+
 const PAGINATION_ROW_COUNT = 1601;
 const PAGINATION_COLUMN_LENGTH = 100000;
 
@@ -324,6 +693,9 @@ isolated function statementKindOf(string sql) returns StatementKind {
     if !query.startsWith("SELECT") {
         return NO_RESULT_SET;
     }
+    if query.includes("PG_SLEEP") {
+        return RUNNING;
+    }
     if query.includes("LARGE_COLUMN") {
         return PAGINATED;
     }
@@ -333,6 +705,9 @@ isolated function statementKindOf(string sql) returns StatementKind {
     if query.includes("SUPPORTEDTYPES") {
         return SUPPORTED_TYPES;
     }
+    if query.includes("TYPEDVALUES") {
+        return TYPED_VALUES;
+    }
     if query.includes("USER_ID = 0") {
         return NO_ROWS;
     }
@@ -356,6 +731,9 @@ isolated function findResult(StatementKind kind) returns MockResultSet? {
         SUPPORTED_TYPES => {
             return {columns: SUPPORTED_TYPE_COLUMNS, rows: SUPPORTED_TYPE_ROWS};
         }
+        TYPED_VALUES => {
+            return {columns: TYPED_VALUE_COLUMNS, rows: TYPED_VALUE_ROWS};
+        }
         PAGINATED => {
             return {
                 columns: [{name: "num", typeName: "int4"}, {name: "large_column", typeName: "varchar"}],
@@ -379,6 +757,7 @@ type MockStatement record {|
     string queryString;
     StatementKind kind;
     string? sessionId;
+    ResultFormat resultFormat;
     MockStatement[] subStatements;
     int createdAt;
 |};
@@ -389,15 +768,18 @@ const STATEMENT_ID_PREFIX = "3f0c7e2a-9b41-4d6e-8f5a-";
 const SESSION_ID_PREFIX = "5d2b18c4-6ea7-4f39-b0c1-";
 
 isolated map<readonly & MockStatement> statements = {};
+// The time in seconds at which each session started so far expires
+isolated map<decimal> sessionExpiries = {};
 isolated int sequence = 0;
 
 isolated function newStatement(string statementId, string queryString, StatementKind kind, string? sessionId,
-        MockStatement[] subStatements = []) returns readonly & MockStatement {
+        ResultFormat resultFormat, MockStatement[] subStatements = []) returns readonly & MockStatement {
     MockStatement statement = {
         id: statementId,
         queryString,
         kind,
         sessionId,
+        resultFormat,
         subStatements,
         createdAt: time:utcNow()[0]
     };
@@ -437,6 +819,9 @@ isolated function parsePayload(http:Request request) returns map<json>|error {
     return payload is map<json> ? payload : {};
 }
 
+isolated function resultFormatOf(map<json> payload) returns ResultFormat =>
+    stringValue(payload, "ResultFormat") == CSV ? CSV : JSON;
+
 isolated function stringValue(map<json> payload, string name) returns string? {
     json value = payload[name];
     return value is string ? value : ();
@@ -0,0 +1,122 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/log;
+import ballerina/test;
+import ballerina/time;
+
+// The number of statements submitted at once when comparing the blocking and
+// non-blocking clients.
+const CONCURRENT_STATEMENTS = 200;
+
+@test:Config {
+    groups: ["nonBlocking"]
+}
+isolated function testNonBlockingClientInit() returns error? {
+    Client nonBlockingClient = check new ({
+        region: awsRegion,
+        auth: authConfig,
+        endpoint: endpointConfig,
+        dbAccessConfig,
+        nonBlocking: true
+    });
+    check nonBlockingClient.close();
+}
+
+@test:Config {
+    groups: ["nonBlocking"]
+}
+isolated function testNonBlockingClientOperations() returns error? {
+    Client nonBlockingClient = check new ({
+        region: awsRegion,
+        auth: authConfig,
+        endpoint: endpointConfig,
+        dbAccessConfig,
+        nonBlocking: true
+    });
+    ExecutionResponse res = check nonBlockingClient->execute(`SELECT * FROM Users;`);
+    DescriptionResponse descriptionResponse = check waitForCompletion(nonBlockingClient, res.statementId);
+    test:assertEquals(descriptionResponse.status, FINISHED);
+
+    stream<User, Error?> resultStream = check nonBlockingClient->getResultAsStream(res.statementId);
+    User[] users = check from User user in resultStream
+        select user;
+    test:assertEquals(users.length(), 3);
+    check nonBlockingClient.close();
+}
+
+@test:Config {
+    groups: ["nonBlocking"]
+}
+isolated function testNonBlockingClientErrorDetails() returns error? {
+    Client nonBlockingClient = check new ({
+        region: awsRegion,
+        auth: authConfig,
+        endpoint: endpointConfig,
+        dbAccessConfig,
+        nonBlocking: true
+    });
+    DescriptionResponse|Error response = nonBlockingClient->describe("70662acc-f334-46f8-b953-3a9546796d7c");
+    test:assertTrue(response is Error);
+    if response is Error {
+        test:assertEquals(response.detail().httpStatusCode, 400);
+        test:assertEquals(response.detail().errorMessage, "Query does not exist.");
+    }
+    check nonBlockingClient.close();
+}
+
+@test:Config {
+    groups: ["nonBlocking"]
+}
+isolated function testConcurrentStatementThroughput() returns error? {
+    Client blockingClient = check new ({
+        region: awsRegion,
+        auth: authConfig,
+        endpoint: endpointConfig,
+        dbAccessConfig
+    });
+    Client nonBlockingClient = check new ({
+        region: awsRegion,
+        auth: authConfig,
+        endpoint: endpointConfig,
+        dbAccessConfig,
+        nonBlocking: true
+    });
+    decimal blockingSeconds = check executeConcurrently(blockingClient);
+    decimal nonBlockingSeconds = check executeConcurrently(nonBlockingClient);
+    log:printInfo("Concurrent statement throughput",
+            statements = CONCURRENT_STATEMENTS,
+            blockingStatementsPerSecond = <decimal>CONCURRENT_STATEMENTS / blockingSeconds,
+            nonBlockingStatementsPerSecond = <decimal>CONCURRENT_STATEMENTS / nonBlockingSeconds);
+    check blockingClient.close();
+    check nonBlockingClient.close();
+}
+
+// Submits `CONCURRENT_STATEMENTS` statements at once and returns the seconds taken
+// until all of them were accepted.
+isolated function executeConcurrently(Client redshift) returns decimal|error {
+    time:Utc startedAt = time:utcNow();
+    future<ExecutionResponse|Error>[] submissions = [];
+    foreach int i in 0 ..< CONCURRENT_STATEMENTS {
+        future<ExecutionResponse|Error> submission = start redshift->execute(`SELECT * FROM Users;`);
+        submissions.push(submission);
+    }
+    foreach future<ExecutionResponse|Error> submission in submissions {
+        ExecutionResponse response = check wait submission;
+        test:assertTrue(response.statementId != "");
+    }
+    return time:utcDiffSeconds(time:utcNow(), startedAt);
+}
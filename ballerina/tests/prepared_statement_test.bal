@@ -0,0 +1,90 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["preparedStatement"]
+}
+isolated function testPreparedStatement() returns error? {
+    int id = 1;
+    string username = "alice";
+    PreparedStatement statement = check redshiftData->prepare(
+        `SELECT * FROM Users WHERE id = ${id} AND username = ${username}`);
+    test:assertEquals(statement.parameterCount(), 2);
+
+    ExecutionResponse res1 = check redshiftData->executePrepared(statement, 1, "alice");
+    ExecutionResponse res2 = check redshiftData->executePrepared(statement, 2, "bob");
+    test:assertNotEquals(res1.statementId, res2.statementId);
+    DescriptionResponse descRes = check redshiftData->describe(res2.statementId);
+    test:assertEquals(descRes.queryString, "SELECT * FROM Users WHERE id = :param0 AND username = :param1");
+}
+
+@test:Config {
+    groups: ["preparedStatement"]
+}
+isolated function testPreparedStatementWithoutParameters() returns error? {
+    PreparedStatement statement = check redshiftData->prepare(`SELECT * FROM Users`, statementName = "users");
+    test:assertEquals(statement.parameterCount(), 0);
+    ExecutionResponse res = check redshiftData->executePrepared(statement);
+    test:assertTrue(res.statementId != "");
+}
+
+@test:Config {
+    groups: ["preparedStatement"]
+}
+isolated function testPreparedStatementWithWrongValueCount() returns error? {
+    PreparedStatement statement = check redshiftData->prepare(`SELECT * FROM Users WHERE id = ${0}`);
+    ExecutionResponse|Error res = redshiftData->executePrepared(statement, 1, 2);
+    test:assertTrue(res is Error);
+    if res is Error {
+        test:assertEquals(res.message(), "Error occurred while executing the executePrepared: " +
+            "The prepared statement has 1 parameters, but 2 values were given.");
+    }
+}
+
+@test:Config {
+    groups: ["preparedStatement"]
+}
+isolated function testPreparedStatementWithNilValue() returns error? {
+    PreparedStatement statement = check redshiftData->prepare(`SELECT * FROM Users WHERE username = ${""}`);
+    ExecutionResponse|Error res = redshiftData->executePrepared(statement, ());
+    test:assertTrue(res is Error);
+    if res is Error {
+        test:assertEquals(res.message(), "Error occurred while executing the executePrepared: " +
+            "The value of the parameter 0 is nil, which cannot be bound to a prepared statement.");
+    }
+}
+
+@test:Config {
+    groups: ["preparedStatement"]
+}
+isolated function testPreparedStatementWithClientToken() returns error? {
+    PreparedStatement|Error statement = redshiftData->prepare(`SELECT * FROM Users`, clientToken = "token");
+    test:assertTrue(statement is Error);
+    if statement is Error {
+        test:assertEquals(statement.message(),
+            "A prepared statement cannot have a clientToken, as each of its executions is a new request.");
+    }
+}
+
+@test:Config {
+    groups: ["preparedStatement"]
+}
+isolated function testEmptyPreparedStatement() returns error? {
+    PreparedStatement|Error statement = redshiftData->prepare(``);
+    test:assertTrue(statement is Error && statement.message() == "SQL statement cannot be empty.");
+}
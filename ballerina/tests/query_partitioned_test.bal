@@ -0,0 +1,99 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["queryPartitioned"]
+}
+isolated function testQueryPartitionedByRanges() returns error? {
+    stream<User, Error?> resultStream = check redshiftData->queryPartitioned(`SELECT * FROM Users;`, "user_id",
+        [{upperBound: 10}, {lowerBound: 10, upperBound: 20}, {lowerBound: 20}]);
+    User[] users = check from User user in resultStream
+        select user;
+    test:assertEquals(users.length(), 3);
+}
+
+@test:Config {
+    groups: ["queryPartitioned"]
+}
+isolated function testQueryPartitionedByHashBuckets() returns error? {
+    stream<User, Error?> resultStream = check redshiftData->queryPartitioned(`SELECT * FROM Users`, "user_id", 4,
+        ordered = false, maxConcurrency = 2);
+    User[] users = check from User user in resultStream
+        select user;
+    test:assertEquals(users.length(), 4);
+}
+
+@test:Config {
+    groups: ["queryPartitioned"]
+}
+isolated function testQueryPartitionedWithUnboundedRange() returns error? {
+    stream<User, Error?> resultStream = check redshiftData->queryPartitioned(`SELECT * FROM Users`, "user_id", [{}]);
+    User[] users = check from User user in resultStream
+        select user;
+    test:assertEquals(users.map(user => user.userId), [1, 2, 3]);
+}
+
+@test:Config {
+    groups: ["queryPartitioned"]
+}
+isolated function testQueryPartitionedWithFailingPartition() returns error? {
+    stream<User, Error?> resultStream = check redshiftData->queryPartitioned(`SELECT * FROM NON_EXISTENT_TABLE`,
+        "user_id", 2);
+    User[]|Error users = from User user in resultStream
+        select user;
+    test:assertTrue(users is Error);
+}
+
+@test:Config {
+    groups: ["queryPartitioned"]
+}
+isolated function testQueryPartitionedWithNoPartitions() returns error? {
+    stream<User, Error?>|Error resultStream = redshiftData->queryPartitioned(`SELECT * FROM Users`, "user_id", []);
+    test:assertTrue(resultStream is Error);
+    if resultStream is Error {
+        test:assertEquals(resultStream.message(), "Error occurred while executing the queryPartitioned: " +
+            "The number of partitions should be greater than 0.");
+    }
+}
+
+@test:Config {
+    groups: ["queryPartitioned"]
+}
+isolated function testQueryPartitionedWithOutOfRangeConcurrency() returns error? {
+    // A value that wraps around to 1 when narrowed to 32 bits
+    stream<User, Error?>|Error resultStream = redshiftData->queryPartitioned(`SELECT * FROM Users`, "user_id", 2,
+        maxConcurrency = 4294967297);
+    test:assertTrue(resultStream is Error);
+    if resultStream is Error {
+        test:assertEquals(resultStream.message(), "Error occurred while executing the queryPartitioned: " +
+            "The maxConcurrency should be less than or equal to 2147483647.");
+    }
+}
+
+@test:Config {
+    groups: ["queryPartitioned"]
+}
+isolated function testQueryPartitionedWithClientToken() returns error? {
+    stream<User, Error?>|Error resultStream = redshiftData->queryPartitioned(`SELECT * FROM Users`, "user_id", 2,
+        clientToken = "token");
+    test:assertTrue(resultStream is Error);
+    if resultStream is Error {
+        test:assertEquals(resultStream.message(), "Error occurred while executing the queryPartitioned: " +
+            "The statements of queryPartitioned cannot have a clientToken, as each of them is a new request.");
+    }
+}
@@ -0,0 +1,112 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/test;
+import ballerina/time;
+
+const PACED_STATEMENTS = 6;
+
+@test:Config {
+    groups: ["rateLimit"]
+}
+isolated function testRateLimiterPacesBurst() returns error? {
+    Client limitedClient = check newTestClient(rateLimit = {executeStatementRate: 2});
+    decimal startedAt = time:monotonicNow();
+    future<ExecutionResponse|Error>[] executions = [];
+    foreach int i in 0 ..< PACED_STATEMENTS {
+        future<ExecutionResponse|Error> execution = start limitedClient->execute(`SELECT * FROM Users;`);
+        executions.push(execution);
+    }
+    foreach future<ExecutionResponse|Error> execution in executions {
+        _ = check wait execution;
+    }
+    // Two requests are sent right away, and the other four half a second apart
+    test:assertTrue(time:monotonicNow() - startedAt >= 1.5d);
+
+    RateLimiterStats? stats = limitedClient.getRateLimiterStats();
+    if stats is () {
+        test:assertFail("Expected the client to have a rate limiter");
+    }
+    test:assertEquals(stats.executeStatement.throttled, 0);
+    test:assertEquals(stats.executeStatement.queued, 0);
+    test:assertEquals(stats.activeStatements, PACED_STATEMENTS);
+    check limitedClient.close();
+}
+
+@test:Config {
+    groups: ["rateLimit"]
+}
+isolated function testRateLimiterRequeuesThrottledRequest() returns error? {
+    Client limitedClient = check newTestClient(rateLimit = {});
+    // More than the attempts the AWS SDK makes on its own
+    throttleRequests("ExecuteStatement", 8);
+    ExecutionResponse response = check limitedClient->execute(`SELECT * FROM Users;`);
+    test:assertTrue(response.statementId != "");
+
+    RateLimiterStats? stats = limitedClient.getRateLimiterStats();
+    test:assertTrue((stats?.executeStatement?.throttled ?: 0) > 0);
+    test:assertTrue((stats?.executeStatement?.rate ?: 30d) < 30d);
+    check limitedClient.close();
+}
+
+@test:Config {
+    groups: ["rateLimit"]
+}
+isolated function testRateLimiterLowersActiveStatementLimit() returns error? {
+    Client limitedClient = check newTestClient(rateLimit = {maxActiveStatements: 8});
+    throttleRequests("ExecuteStatement", 1, "ActiveStatementsExceededException");
+    DescriptionResponse descriptionResponse = check limitedClient->executeAndWait(`SELECT * FROM Users;`);
+    test:assertEquals(descriptionResponse.status, FINISHED);
+
+    RateLimiterStats? stats = limitedClient.getRateLimiterStats();
+    test:assertEquals(stats?.activeStatementLimit, 4);
+    // The statement no longer counts as active once it is seen to complete
+    test:assertEquals(stats?.activeStatements, 0);
+    check limitedClient.close();
+}
+
+@test:Config {
+    groups: ["rateLimit"]
+}
+isolated function testRateLimiterWithoutRequeues() returns error? {
+    Client limitedClient = check newTestClient(rateLimit = {maxRequeues: 0});
+    throttleRequests("ExecuteStatement", 1, "ActiveStatementsExceededException");
+    ExecutionResponse|Error response = limitedClient->execute(`SELECT * FROM Users;`);
+    test:assertTrue(response is Error);
+    if response is Error {
+        test:assertEquals(response.detail().errorCode, "ActiveStatementsExceededException");
+    }
+    test:assertEquals((limitedClient.getRateLimiterStats())?.activeStatements, 0);
+    check limitedClient.close();
+}
+
+@test:Config {
+    groups: ["rateLimit"]
+}
+isolated function testRateLimiterStatsWithoutLimiter() {
+    test:assertEquals(redshiftData.getRateLimiterStats(), ());
+}
+
+@test:Config {
+    groups: ["rateLimit"]
+}
+isolated function testInvalidRateLimitConfig() {
+    Client|Error limitedClient = newTestClient(rateLimit = {executeStatementRate: 0});
+    test:assertTrue(limitedClient is Error);
+    if limitedClient is Error {
+        test:assertEquals(limitedClient.message(), "The executeStatementRate should be greater than 0.");
+    }
+}
@@ -0,0 +1,113 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/test;
+
+type PaginatedRow record {|
+    int num;
+    string large_column;
+|};
+
+@test:Config {
+    groups: ["replayableResult"]
+}
+isolated function testReplayResult() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT num, large_column FROM large_column_table;`);
+    DescriptionResponse descriptionResponse = check waitForCompletion(redshiftData, res.statementId);
+
+    ReplayableResult result = check redshiftData->getResultAsReplayable(res.statementId);
+    stream<PaginatedRow, Error?> first = check result.replay();
+    record {|PaginatedRow value;|}? firstRow = check first.next();
+    test:assertEquals(firstRow?.value?.num, 0);
+
+    // A stream opened later reads the result from its first row, while the one opened earlier reads on
+    stream<record {int num;}, Error?> second = check result.replay();
+    int[] secondNumbers = check from var item in second
+        select item.num;
+    test:assertEquals(secondNumbers.length(), descriptionResponse.resultRows);
+
+    int expected = 1;
+    check from PaginatedRow item in first
+        do {
+            test:assertEquals(item, {num: expected, large_column: "X"});
+            expected += 1;
+        };
+    test:assertEquals(expected, descriptionResponse.resultRows);
+    foreach int i in 0 ..< secondNumbers.length() {
+        test:assertEquals(secondNumbers[i], i);
+    }
+    check result.close();
+}
+
+@test:Config {
+    groups: ["replayableResult"]
+}
+isolated function testStreamOfClosedReplayableResult() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users;`);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+
+    ReplayableResult result = check redshiftData->getResultAsReplayable(res.statementId);
+    stream<User, Error?> openStream = check result.replay();
+    check result.close();
+
+    // The streams opened before the result is closed read on
+    User[] users = check from User user in openStream
+        select user;
+    test:assertEquals(users.length(), 3);
+
+    stream<User, Error?>|Error afterClose = result.replay();
+    if afterClose !is Error {
+        test:assertFail("Expected an error when replaying a closed result");
+    }
+    test:assertTrue(afterClose.message().includes("The replayable result is closed."));
+}
+
+@test:Config {
+    groups: ["replayableResult"]
+}
+isolated function testReplayResultBeyondMaxSpillSize() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT num, large_column FROM large_column_table;`);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+
+    // Large enough for the first page of 500 rows only
+    ReplayableResult result = check redshiftData->getResultAsReplayable(res.statementId, maxSpillSize = 20000);
+    stream<PaginatedRow, Error?> resultStream = check result.replay();
+    int count = 0;
+    Error? failure = from var _ in resultStream
+        do {
+            count += 1;
+        };
+    test:assertEquals(count, 500);
+    if failure !is Error {
+        test:assertFail("Expected an error when reading beyond the maxSpillSize");
+    }
+    test:assertTrue(failure.message().includes("The result exceeds the maxSpillSize of 20000 bytes."));
+    check result.close();
+}
+
+@test:Config {
+    groups: ["replayableResult"]
+}
+isolated function testReplayableResultWithInvalidMaxSpillSize() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users;`);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+
+    ReplayableResult|Error result = redshiftData->getResultAsReplayable(res.statementId, maxSpillSize = 0);
+    if result !is Error {
+        test:assertFail("Expected an error for an invalid maxSpillSize");
+    }
+    test:assertEquals(result.message(), "The maxSpillSize should be greater than 0.");
+}
@@ -0,0 +1,168 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/lang.runtime;
+import ballerina/sql;
+import ballerina/test;
+
+isolated function queryUsers(Client cachingClient, sql:ParameterizedQuery query, boolean bypassCache = false)
+        returns User[]|error {
+    stream<User, Error?> resultStream = check cachingClient->query(query, bypassCache = bypassCache);
+    return from User user in resultStream
+        select user;
+}
+
+@test:Config {
+    groups: ["resultCache"]
+}
+isolated function testResultCacheHit() returns error? {
+    Client cachingClient = check newTestClient(resultCache = {});
+    User[] users = check queryUsers(cachingClient, `SELECT * FROM Users;`);
+    // The same query written differently is served from the cache
+    User[] cachedUsers = check queryUsers(cachingClient, `SELECT *
+        FROM   Users`);
+    test:assertEquals(cachedUsers, users);
+    test:assertEquals(cachedUsers.length(), 3);
+
+    ResultCacheStats? stats = cachingClient.getResultCacheStats();
+    if stats is () {
+        test:assertFail("Expected the client to have a result cache");
+    }
+    test:assertEquals(stats.hits, 1);
+    test:assertEquals(stats.misses, 1);
+    test:assertEquals(stats.entries, 1);
+    test:assertTrue(stats.size > 0);
+    check cachingClient.close();
+}
+
+@test:Config {
+    groups: ["resultCache"]
+}
+isolated function testResultCacheKeyedByParameters() returns error? {
+    Client cachingClient = check newTestClient(resultCache = {});
+    foreach int userId in [1, 2, 1] {
+        _ = check queryUsers(cachingClient, `SELECT * FROM Users WHERE user_id = ${userId};`);
+    }
+    ResultCacheStats? stats = cachingClient.getResultCacheStats();
+    test:assertEquals(stats?.hits, 1);
+    test:assertEquals(stats?.misses, 2);
+    test:assertEquals(stats?.entries, 2);
+    check cachingClient.close();
+}
+
+@test:Config {
+    groups: ["resultCache"]
+}
+isolated function testResultCacheBypass() returns error? {
+    Client cachingClient = check newTestClient(resultCache = {});
+    _ = check queryUsers(cachingClient, `SELECT * FROM Users;`, bypassCache = true);
+    _ = check queryUsers(cachingClient, `SELECT * FROM Users;`);
+    _ = check queryUsers(cachingClient, `SELECT * FROM Users;`, bypassCache = true);
+
+    ResultCacheStats? stats = cachingClient.getResultCacheStats();
+    // Bypassing calls neither read nor fill the cache
+    test:assertEquals(stats?.hits, 0);
+    test:assertEquals(stats?.misses, 1);
+    test:assertEquals(stats?.entries, 1);
+    check cachingClient.close();
+}
+
+@test:Config {
+    groups: ["resultCache"]
+}
+isolated function testResultCacheLruEviction() returns error? {
+    Client sizingClient = check newTestClient(resultCache = {});
+    _ = check queryUsers(sizingClient, `SELECT * FROM Users;`);
+    int resultSize = (sizingClient.getResultCacheStats())?.size ?: 0;
+    check sizingClient.close();
+
+    // Room for one result of the size of `Users`, but not two
+    Client cachingClient = check newTestClient(resultCache = {maxSize: resultSize + resultSize / 2});
+    _ = check queryUsers(cachingClient, `SELECT * FROM Users;`);
+    _ = check queryUsers(cachingClient, `SELECT * FROM Users u;`);
+    _ = check queryUsers(cachingClient, `SELECT * FROM Users u;`);
+    _ = check queryUsers(cachingClient, `SELECT * FROM Users;`);
+
+    ResultCacheStats? stats = cachingClient.getResultCacheStats();
+    test:assertEquals(stats?.hits, 1);
+    test:assertEquals(stats?.misses, 3);
+    test:assertEquals(stats?.evictions, 2);
+    test:assertEquals(stats?.entries, 1);
+    check cachingClient.close();
+}
+
+@test:Config {
+    groups: ["resultCache"]
+}
+isolated function testResultCacheExpiry() returns error? {
+    Client cachingClient = check newTestClient(resultCache = {ttl: 0.2});
+    _ = check queryUsers(cachingClient, `SELECT * FROM Users;`);
+    runtime:sleep(0.3);
+    _ = check queryUsers(cachingClient, `SELECT * FROM Users;`);
+
+    ResultCacheStats? stats = cachingClient.getResultCacheStats();
+    test:assertEquals(stats?.hits, 0);
+    test:assertEquals(stats?.misses, 2);
+    test:assertEquals(stats?.evictions, 1);
+    test:assertEquals(stats?.entries, 1);
+    check cachingClient.close();
+}
+
+@test:Config {
+    groups: ["resultCache"]
+}
+isolated function testResultCacheStatsWithoutCache() {
+    test:assertEquals(redshiftData.getResultCacheStats(), ());
+}
+
+@test:Config {
+    groups: ["resultCache"]
+}
+isolated function testInvalidResultCacheConfig() {
+    Client|Error cachingClient = newTestClient(resultCache = {maxSize: 0});
+    test:assertTrue(cachingClient is Error);
+    if cachingClient is Error {
+        test:assertEquals(cachingClient.message(), "The maxSize should be greater than 0.");
+    }
+}
+
+@test:Config {
+    groups: ["resultCache"]
+}
+isolated function testResultCacheHitWithReadAhead() returns error? {
+    // The pages of a cached result are read synchronously, so each one is recorded as soon as it is requested
+    Client cachingClient = check new ({
+        region: awsRegion,
+        auth: authConfig,
+        endpoint: endpointConfig,
+        dbAccessConfig,
+        resultConfig: {readAhead: 2},
+        resultCache: {}
+    });
+    foreach int _ in 0 ..< 2 {
+        stream<record {int num;}, Error?> resultStream =
+            check cachingClient->query(`SELECT num, large_column FROM large_column_table;`);
+        int[] numbers = check from var item in resultStream
+            select item.num;
+        test:assertEquals(numbers.length(), 1601);
+        foreach int i in 0 ..< numbers.length() {
+            test:assertEquals(numbers[i], i);
+        }
+    }
+    ResultCacheStats? stats = cachingClient.getResultCacheStats();
+    test:assertEquals(stats?.hits, 1);
+    check cachingClient.close();
+}
@@ -0,0 +1,103 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["retry"]
+}
+isolated function testRetryThrottledRequest() returns error? {
+    Client retryingClient =
+        check newTestClient(retryConfig = {maxAttempts: 4, throttlingBaseDelay: 0.01, maxDelay: 0.05});
+    throttleRequests("ExecuteStatement", 3);
+    ExecutionResponse response = check retryingClient->execute(`SELECT * FROM Users;`);
+    test:assertTrue(response.statementId != "");
+    check retryingClient.close();
+}
+
+@test:Config {
+    groups: ["retry"]
+}
+isolated function testRetryAttemptsInErrorDetails() returns error? {
+    Client retryingClient =
+        check newTestClient(retryConfig = {maxAttempts: 2, throttlingBaseDelay: 0.01, maxDelay: 0.05});
+    throttleRequests("ExecuteStatement", 2);
+    ExecutionResponse|Error response = retryingClient->execute(`SELECT * FROM Users;`);
+    if response is ExecutionResponse {
+        test:assertFail("Expected the request to fail once its attempts are used up");
+    }
+    test:assertEquals(response.detail().errorCode, "ThrottlingException");
+    test:assertEquals(response.detail().retryAttempts, 1);
+    check retryingClient.close();
+}
+
+@test:Config {
+    groups: ["retry"]
+}
+isolated function testRetryOperationOverride() returns error? {
+    Client retryingClient = check newTestClient(retryConfig = {
+        maxAttempts: 4,
+        throttlingBaseDelay: 0.01,
+        maxDelay: 0.05,
+        operations: {
+            describeStatement: {maxAttempts: 1}
+        }
+    });
+    ExecutionResponse response = check retryingClient->execute(`SELECT * FROM Users;`);
+    throttleRequests("DescribeStatement", 1);
+    DescriptionResponse|Error description = retryingClient->describe(response.statementId);
+    if description is DescriptionResponse {
+        test:assertFail("Expected the request not to be retried");
+    }
+    test:assertEquals(description.detail().retryAttempts, 0);
+
+    // The other operations are retried as configured for the client
+    throttleRequests("ExecuteStatement", 2);
+    _ = check retryingClient->execute(`SELECT * FROM Users;`);
+    check retryingClient.close();
+}
+
+@test:Config {
+    groups: ["retry"]
+}
+isolated function testRetryDoesNotRetryValidationError() returns error? {
+    Client retryingClient = check newTestClient(retryConfig = {maxAttempts: 4, baseDelay: 0.01, maxDelay: 0.05});
+    throttleRequests("ExecuteStatement", 1, "ValidationException");
+    ExecutionResponse|Error response = retryingClient->execute(`SELECT * FROM Users;`);
+    if response is ExecutionResponse {
+        test:assertFail("Expected the validation error not to be retried");
+    }
+    test:assertEquals(response.detail().errorCode, "ValidationException");
+    test:assertEquals(response.detail().retryAttempts, 0);
+    check retryingClient.close();
+}
+
+@test:Config {
+    groups: ["retry"]
+}
+isolated function testRetryInvalidConfig() returns error? {
+    Client|Error retryingClient = newTestClient(retryConfig = {maxAttempts: 0});
+    if retryingClient is Client {
+        test:assertFail("Expected an error for maxAttempts of 0");
+    }
+    test:assertEquals(retryingClient.message(), "The maxAttempts should be greater than 0.");
+
+    retryingClient = newTestClient(retryConfig = {operations: {executeStatement: {maxDelay: 0}}});
+    if retryingClient is Client {
+        test:assertFail("Expected an error for a maxDelay of 0");
+    }
+    test:assertEquals(retryingClient.message(), "The maxDelay should be greater than 0.");
+}
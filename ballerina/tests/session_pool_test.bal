@@ -0,0 +1,167 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+const POOLED_STATEMENTS = 6;
+
+@test:Config {
+    groups: ["sessionPool"]
+}
+isolated function testSessionPoolReusesSession() returns error? {
+    Client poolingClient = check newTestClient(sessionPool = {});
+    DescriptionResponse first = check poolingClient->executeAndWait(`SELECT * FROM Users;`);
+    stream<User, Error?> userStream = check poolingClient->query(`SELECT * FROM Users;`);
+    User[] users = check from User user in userStream
+        select user;
+    DescriptionResponse second = check poolingClient->executeAndWait(`SELECT * FROM Users;`);
+    test:assertEquals(users.length(), 3);
+    test:assertTrue(first.sessionId is string);
+    test:assertEquals(second.sessionId, first.sessionId);
+
+    SessionPoolStats? stats = poolingClient.getSessionPoolStats();
+    if stats is () {
+        test:assertFail("Expected the client to have a session pool");
+    }
+    test:assertEquals(stats.sessions, 1);
+    test:assertEquals(stats.inUse, 0);
+    test:assertEquals(stats.idle, 1);
+    test:assertEquals(stats.created, 1);
+    test:assertEquals(stats.leases, 3);
+    check poolingClient.close();
+}
+
+@test:Config {
+    groups: ["sessionPool"]
+}
+isolated function testSessionPoolBoundsSessions() returns error? {
+    Client poolingClient = check newTestClient(sessionPool = {maxSessions: 2});
+    future<DescriptionResponse|Error>[] waits = [];
+    foreach int i in 0 ..< POOLED_STATEMENTS {
+        future<DescriptionResponse|Error> result = start poolingClient->executeAndWait(`SELECT * FROM Users;`);
+        waits.push(result);
+    }
+    foreach future<DescriptionResponse|Error> result in waits {
+        DescriptionResponse descriptionResponse = check wait result;
+        test:assertEquals(descriptionResponse.status, FINISHED);
+        test:assertTrue(descriptionResponse.sessionId is string);
+    }
+
+    SessionPoolStats? stats = poolingClient.getSessionPoolStats();
+    test:assertTrue((stats?.sessions ?: 0) <= 2);
+    test:assertTrue((stats?.created ?: 0) <= 2);
+    test:assertEquals(stats?.leases, POOLED_STATEMENTS);
+    test:assertEquals(stats?.waiting, 0);
+    check poolingClient.close();
+}
+
+@test:Config {
+    groups: ["sessionPool"]
+}
+isolated function testSessionPoolEvictsSessionOfFailedStatement() returns error? {
+    Client poolingClient = check newTestClient(sessionPool = {});
+    DescriptionResponse first = check poolingClient->executeAndWait(`SELECT * FROM Users;`);
+    DescriptionResponse failed = check poolingClient->executeAndWait(`SELECT * FROM non_existent_table;`);
+    DescriptionResponse next = check poolingClient->executeAndWait(`SELECT * FROM Users;`);
+    test:assertEquals(failed.status, FAILED);
+    test:assertEquals(failed.sessionId, first.sessionId);
+    test:assertTrue(next.sessionId is string);
+    test:assertNotEquals(next.sessionId, first.sessionId);
+
+    SessionPoolStats? stats = poolingClient.getSessionPoolStats();
+    test:assertEquals(stats?.evictions, 1);
+    test:assertEquals(stats?.created, 2);
+    test:assertEquals(stats?.sessions, 1);
+    check poolingClient.close();
+}
+
+@test:Config {
+    groups: ["sessionPool"]
+}
+isolated function testSessionPoolKeepsIdleSessionAlive() returns error? {
+    Client poolingClient = check newTestClient(sessionPool = {sessionKeepAliveSeconds: 3, refreshMargin: 1});
+    DescriptionResponse first = check poolingClient->executeAndWait(`SELECT * FROM Users;`);
+    // Past the time the session would have expired at, but before it is due to be kept alive once more
+    runtime:sleep(3.2);
+    DescriptionResponse second = check poolingClient->executeAndWait(`SELECT * FROM Users;`);
+    test:assertEquals(second.sessionId, first.sessionId);
+
+    SessionPoolStats? stats = poolingClient.getSessionPoolStats();
+    test:assertTrue((stats?.refreshes ?: 0) > 0);
+    test:assertEquals(stats?.created, 1);
+    check poolingClient.close();
+}
+
+@test:Config {
+    groups: ["sessionPool"]
+}
+isolated function testSessionPoolLetsIdleSessionExpire() returns error? {
+    Client poolingClient =
+        check newTestClient(sessionPool = {sessionKeepAliveSeconds: 1, refreshMargin: 0.5, maxIdleTime: 0.5});
+    DescriptionResponse first = check poolingClient->executeAndWait(`SELECT * FROM Users;`);
+    runtime:sleep(1.5);
+    test:assertEquals((poolingClient.getSessionPoolStats())?.sessions, 0);
+    DescriptionResponse second = check poolingClient->executeAndWait(`SELECT * FROM Users;`);
+    test:assertTrue(second.sessionId is string);
+    test:assertNotEquals(second.sessionId, first.sessionId);
+    test:assertEquals((poolingClient.getSessionPoolStats())?.created, 2);
+    check poolingClient.close();
+}
+
+@test:Config {
+    groups: ["sessionPool"]
+}
+isolated function testStatementOutsideSessionPool() returns error? {
+    Client poolingClient = check newTestClient(sessionPool = {});
+    // A statement on a database other than that of the pool starts no session
+    DescriptionResponse descriptionResponse = check poolingClient->executeAndWait(`SELECT * FROM Users;`,
+        dbAccessConfig = {name: "ballerina-redshift-workgroup", database});
+    test:assertEquals(descriptionResponse.sessionId, ());
+    test:assertEquals((poolingClient.getSessionPoolStats())?.leases, 0);
+    check poolingClient.close();
+}
+
+@test:Config {
+    groups: ["sessionPool"]
+}
+isolated function testSessionPoolStatsWithoutPool() {
+    test:assertEquals(redshiftData.getSessionPoolStats(), ());
+}
+
+@test:Config {
+    groups: ["sessionPool"]
+}
+isolated function testInvalidSessionPoolConfig() {
+    Client|Error poolingClient = newTestClient(sessionPool = {maxSessions: 0});
+    test:assertTrue(poolingClient is Error);
+    if poolingClient is Error {
+        test:assertEquals(poolingClient.message(), "The maxSessions should be greater than 0.");
+    }
+
+    poolingClient = newTestClient(sessionPool = {sessionKeepAliveSeconds: 60, refreshMargin: 60});
+    test:assertTrue(poolingClient is Error);
+    if poolingClient is Error {
+        test:assertEquals(poolingClient.message(),
+                "The refreshMargin should be less than the sessionKeepAliveSeconds.");
+    }
+
+    poolingClient = new ({region: awsRegion, auth: authConfig, endpoint: endpointConfig, sessionPool: {}});
+    test:assertTrue(poolingClient is Error);
+    if poolingClient is Error {
+        test:assertEquals(poolingClient.message(), "The sessionPool requires the dbAccessConfig of the client.");
+    }
+}
@@ -0,0 +1,53 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["sharedClient"]
+}
+isolated function testSharedClientOutlivesClosedClient() returns error? {
+    Client first = check newTestClient();
+    Client second = check newTestClient();
+    _ = check first->execute(`SELECT * FROM Users;`);
+    check first.close();
+
+    // The second client still refers to the SDK client the first one shared with it
+    ExecutionResponse response = check second->execute(`SELECT * FROM Users;`);
+    test:assertTrue(response.statementId != "");
+    check second.close();
+
+    // A client of the same configurations builds the SDK client again once the others have closed it
+    Client third = check newTestClient();
+    response = check third->execute(`SELECT * FROM Users;`);
+    test:assertTrue(response.statementId != "");
+    check third.close();
+}
+
+@test:Config {
+    groups: ["sharedClient"]
+}
+isolated function testSharedClientClosedTwice() returns error? {
+    Client first = check newTestClient();
+    Client second = check newTestClient();
+    check first.close();
+    check first.close();
+
+    // Closing a client again does not release the SDK client of the other client
+    ExecutionResponse response = check second->execute(`SELECT * FROM Users;`);
+    test:assertTrue(response.statementId != "");
+    check second.close();
+}
@@ -0,0 +1,103 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/test;
+
+const TRACKED_STATEMENTS = 150;
+
+final readonly & StatusTrackerConfig trackerConfig = {pollInterval: 0.1, maxListPages: 3};
+
+@test:Config {
+    groups: ["statusTracker"]
+}
+isolated function testStatusTrackerWaitsForManyStatements() returns error? {
+    Client trackingClient = check newTestClient(statusTracker = trackerConfig);
+    future<DescriptionResponse|Error>[] waits = [];
+    foreach int i in 0 ..< TRACKED_STATEMENTS {
+        future<DescriptionResponse|Error> result = start trackingClient->executeAndWait(`SELECT * FROM Users;`);
+        waits.push(result);
+    }
+    foreach future<DescriptionResponse|Error> result in waits {
+        DescriptionResponse descriptionResponse = check wait result;
+        test:assertEquals(descriptionResponse.status, FINISHED);
+        test:assertEquals(descriptionResponse.resultRows, 3);
+    }
+    check trackingClient.close();
+}
+
+@test:Config {
+    groups: ["statusTracker"]
+}
+isolated function testStatusTrackerWithFailedStatement() returns error? {
+    Client trackingClient = check newTestClient(statusTracker = trackerConfig);
+    DescriptionResponse descriptionResponse =
+        check trackingClient->executeAndWait(`SELECT * FROM non_existent_table;`);
+    test:assertEquals(descriptionResponse.status, FAILED);
+
+    stream<User, Error?>|Error resultStream = trackingClient->query(`SELECT * FROM non_existent_table;`);
+    test:assertTrue(resultStream is Error);
+    check trackingClient.close();
+}
+
+@test:Config {
+    groups: ["statusTracker"]
+}
+isolated function testStatusTrackerWithSubStatement() returns error? {
+    Client trackingClient = check newTestClient(statusTracker = trackerConfig);
+    ExecutionResponse res = check trackingClient->batchExecute([`SELECT * FROM Users;`, `SELECT * FROM Users;`]);
+    // Sub-statements are not listed by `ListStatements`, so they are described on their own
+    DescriptionResponse descriptionResponse = check trackingClient->waitForCompletion(res.statementId + ":2");
+    test:assertEquals(descriptionResponse.status, FINISHED);
+    check trackingClient.close();
+}
+
+@test:Config {
+    groups: ["statusTracker"]
+}
+isolated function testStatusTrackerTimeout() returns error? {
+    Client trackingClient = check newTestClient(statusTracker = trackerConfig);
+    ExecutionResponse res = check trackingClient->execute(`SELECT pg_sleep(600);`);
+    DescriptionResponse|Error descriptionResponse = trackingClient->waitForCompletion(res.statementId, timeout = 0.3);
+    test:assertTrue(descriptionResponse is Error);
+    if descriptionResponse is Error {
+        test:assertEquals(descriptionResponse.message(), "Error occurred while executing the waitForCompletion: " +
+            "Statement did not complete within 0.3 seconds. Last status: STARTED.");
+    }
+    check trackingClient.close();
+}
+
+@test:Config {
+    groups: ["statusTracker"]
+}
+isolated function testStatusTrackerTimeoutPerCaller() returns error? {
+    Client trackingClient = check newTestClient(statusTracker = trackerConfig);
+    ExecutionResponse res = check trackingClient->execute(`SELECT pg_sleep(600);`);
+    future<DescriptionResponse|Error> longWait = start trackingClient->waitForCompletion(res.statementId, timeout = 1);
+    DescriptionResponse|Error shortWait = trackingClient->waitForCompletion(res.statementId, timeout = 0.3);
+    test:assertTrue(shortWait is Error);
+    if shortWait is Error {
+        test:assertEquals(shortWait.message(), "Error occurred while executing the waitForCompletion: " +
+            "Statement did not complete within 0.3 seconds. Last status: STARTED.");
+    }
+    // The caller that waits for the same statement keeps waiting until its own timeout
+    DescriptionResponse|Error longWaitResult = wait longWait;
+    test:assertTrue(longWaitResult is Error);
+    if longWaitResult is Error {
+        test:assertEquals(longWaitResult.message(), "Error occurred while executing the waitForCompletion: " +
+            "Statement did not complete within 1 seconds. Last status: STARTED.");
+    }
+    check trackingClient.close();
+}
@@ -0,0 +1,107 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["subStatementResults"]
+}
+isolated function testGetSubStatementResultsAsStream() returns error? {
+    ExecutionResponse res = check redshiftData->batchExecute([
+        `SELECT * FROM Users`,
+        `INSERT INTO Users (id) VALUES (1)`,
+        `SELECT * FROM Users WHERE user_id = 1`
+    ]);
+    _ = check redshiftData->waitForCompletion(res.statementId);
+
+    stream<User, Error?> resultStream = check redshiftData->getSubStatementResultsAsStream(res.statementId);
+    User[] users = check from User user in resultStream
+        select user;
+    test:assertEquals(users.length(), 4);
+    test:assertEquals(users.map(user => user.userId), [1, 2, 3, 1]);
+}
+
+@test:Config {
+    groups: ["subStatementResults"]
+}
+isolated function testGetInterleavedSubStatementResultsAsStream() returns error? {
+    ExecutionResponse res = check redshiftData->batchExecute([
+        `SELECT * FROM Users`,
+        `SELECT * FROM Users`,
+        `SELECT * FROM Users`
+    ]);
+    _ = check redshiftData->waitForCompletion(res.statementId);
+
+    stream<User, Error?> resultStream = check redshiftData->getSubStatementResultsAsStream(res.statementId,
+        ordered = false, maxConcurrency = 2, bufferSize = 1);
+    User[] users = check from User user in resultStream
+        select user;
+    test:assertEquals(users.length(), 9);
+}
+
+@test:Config {
+    groups: ["subStatementResults"]
+}
+isolated function testGetSubStatementResultsAsStreams() returns error? {
+    ExecutionResponse res = check redshiftData->batchExecute([
+        `SELECT * FROM Users`,
+        `INSERT INTO Users (id) VALUES (1)`,
+        `SELECT * FROM Users WHERE user_id = 0`
+    ]);
+    _ = check redshiftData->waitForCompletion(res.statementId);
+
+    map<stream<User, Error?>> resultStreams = check redshiftData->getSubStatementResultsAsStreams(res.statementId,
+        maxConcurrency = 1);
+    test:assertEquals(resultStreams.keys(), [string `${res.statementId}:1`, string `${res.statementId}:3`]);
+    // The streams are read in the reverse order to the one in which they are fetched
+    User[] noUsers = check from User user in resultStreams.get(string `${res.statementId}:3`)
+        select user;
+    test:assertEquals(noUsers.length(), 0);
+    User[] allUsers = check from User user in resultStreams.get(string `${res.statementId}:1`)
+        select user;
+    test:assertEquals(allUsers.length(), 3);
+}
+
+@test:Config {
+    groups: ["subStatementResults"]
+}
+isolated function testGetSubStatementResultsOfSingleStatement() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users`);
+    _ = check redshiftData->waitForCompletion(res.statementId);
+
+    stream<User, Error?>|Error resultStream = redshiftData->getSubStatementResultsAsStream(res.statementId);
+    test:assertTrue(resultStream is Error);
+    if resultStream is Error {
+        test:assertEquals(resultStream.message(), "Error occurred while executing the " +
+            string `getSubStatementResultsAsStream: The statement '${res.statementId}' has no sub-statements.`);
+    }
+}
+
+@test:Config {
+    groups: ["subStatementResults"]
+}
+isolated function testGetSubStatementResultsWithInvalidConcurrency() returns error? {
+    ExecutionResponse res = check redshiftData->batchExecute([`SELECT * FROM Users`, `SELECT * FROM Users`]);
+    _ = check redshiftData->waitForCompletion(res.statementId);
+
+    map<stream<User, Error?>>|Error resultStreams = redshiftData->getSubStatementResultsAsStreams(res.statementId,
+        maxConcurrency = 0);
+    test:assertTrue(resultStreams is Error);
+    if resultStreams is Error {
+        test:assertEquals(resultStreams.message(), "Error occurred while executing the " +
+            "getSubStatementResultsAsStreams: The maxConcurrency should be greater than 0.");
+    }
+}
@@ -46,6 +46,28 @@ final readonly & aws:EndpointConfig endpointConfig = isLiveServer ? {} : {custom
 
 final Client redshiftData = check initClient();
 
+// The configurations of a test client other than the connection details every test client shares
+type ClientOptions record {|
+    boolean nonBlocking = false;
+    ResultConfig resultConfig = {};
+    StatusTrackerConfig statusTracker?;
+    UnloadConfig unloadConfig?;
+    ResultCacheConfig resultCache?;
+    SessionPoolConfig sessionPool?;
+    RateLimitConfig rateLimit?;
+    RetryConfig retryConfig?;
+    HttpClientConfig httpClientConfig?;
+    ExecutorConfig executorConfig?;
+|};
+
+isolated function newTestClient(*ClientOptions options) returns Client|Error => new ({
+    region: awsRegion,
+    auth: authConfig,
+    endpoint: endpointConfig,
+    dbAccessConfig,
+    ...options
+});
+
 isolated function initClient() returns Client|error {
     if isLiveServer && (accessKeyId is "" || secretAccessKey is "") {
         return test:mock(Client);
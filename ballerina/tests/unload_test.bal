@@ -0,0 +1,164 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/test;
+import ballerina/time;
+
+const UNLOAD_LOCATION = "s3://redshift-exports/unload";
+
+isolated function newUnloadClient(int? autoUnloadThreshold = ()) returns Client|Error {
+    UnloadConfig unloadConfig = {s3Location: UNLOAD_LOCATION, s3Endpoint: mockS3Url, maxConcurrentDownloads: 2};
+    if autoUnloadThreshold is int {
+        unloadConfig.autoUnloadThreshold = autoUnloadThreshold;
+    }
+    return newTestClient(unloadConfig = unloadConfig);
+}
+
+@test:Config {
+    groups: ["unload"]
+}
+isolated function testUnloadAsStream() returns error? {
+    Client unloadClient = check newUnloadClient();
+    stream<record {int num;}, Error?> resultStream =
+        check unloadClient->unloadAsStream(`SELECT num, large_column FROM large_column_table;`);
+    int expected = 0;
+    check from record {int num;} item in resultStream
+        do {
+            test:assertEquals(item.num, expected);
+            expected += 1;
+        };
+    // The parts are read in order, whatever order their downloads complete in
+    test:assertEquals(expected, 1601);
+    check unloadClient.close();
+}
+
+@test:Config {
+    groups: ["unload"]
+}
+isolated function testUnloadParameterizedQuery() returns error? {
+    Client unloadClient = check newUnloadClient();
+    int userId = 1;
+    stream<User, Error?> resultStream =
+        check unloadClient->unloadAsStream(`SELECT * FROM Users WHERE user_id = ${userId};`);
+    User[] users = check from User user in resultStream
+        select user;
+    test:assertEquals(users, [{userId: 1, username: "JohnDoe", email: "john.doe@example.com", age: 25}]);
+    check unloadClient.close();
+}
+
+@test:Config {
+    groups: ["unload"]
+}
+isolated function testUnloadQueryWithBackslash() returns error? {
+    Client unloadClient = check newUnloadClient();
+    // A value that ends with a backslash would escape the closing quote of its literal
+    string username = "JohnDoe\\";
+    stream<User, Error?> resultStream =
+        check unloadClient->unloadAsStream(`SELECT * FROM Users WHERE username = ${username};`);
+    User[] users = check from User user in resultStream
+        select user;
+    test:assertEquals(users, [{userId: 1, username: "JohnDoe", email: "john.doe@example.com", age: 25}]);
+    check unloadClient.close();
+}
+
+@test:Config {
+    groups: ["unload"]
+}
+isolated function testUnloadTypedValues() returns error? {
+    Client unloadClient = check newUnloadClient();
+    stream<TypedValues, Error?> resultStream = check unloadClient->unloadAsStream(`SELECT * FROM TypedValues;`);
+    TypedValues[] resultArray = check from TypedValues item in resultStream
+        select item;
+    TypedValues expected = {
+        amount: 1234.5678d,
+        createdAt: check time:utcFromString("2024-03-15T04:50:30.250Z"),
+        updatedAt: {year: 2024, month: 3, day: 15, hour: 10, minute: 20, second: 30.5d},
+        birthDate: {year: 2024, month: 3, day: 15},
+        startTime: {hour: 8, minute: 15, second: 0d},
+        payload: [10, 255],
+        note: ()
+    };
+    test:assertEquals(resultArray, [expected]);
+    check unloadClient.close();
+}
+
+@test:Config {
+    groups: ["unload"]
+}
+isolated function testUnloadFailedQuery() returns error? {
+    Client unloadClient = check newUnloadClient();
+    stream<User, Error?>|Error resultStream = unloadClient->unloadAsStream(`SELECT * FROM non_existent_table;`);
+    test:assertTrue(resultStream is Error);
+    check unloadClient.close();
+}
+
+@test:Config {
+    groups: ["unload"]
+}
+isolated function testUnloadWithoutUnloadConfig() returns error? {
+    stream<User, Error?>|Error resultStream = redshiftData->unloadAsStream(`SELECT * FROM Users;`);
+    test:assertTrue(resultStream is Error);
+    if resultStream is Error {
+        test:assertEquals(resultStream.message(), "Error occurred while executing the unloadAsStream: " +
+                "The client is not configured to unload results. Provide the `unloadConfig` of the client.");
+    }
+}
+
+@test:Config {
+    groups: ["unload"]
+}
+isolated function testQueryUnloadsLargeResult() returns error? {
+    Client unloadClient = check newUnloadClient(autoUnloadThreshold = 1024);
+
+    int unloadedBefore = unloadedResultCount();
+    stream<User, Error?> users = check unloadClient->query(`SELECT * FROM Users;`);
+    User[] userArray = check from User user in users
+        select user;
+    test:assertEquals(userArray.length(), 3);
+    // The result of the query is below the threshold, so it is read with the Data API
+    test:assertEquals(unloadedResultCount(), unloadedBefore);
+
+    stream<record {int num;}, Error?> resultStream =
+        check unloadClient->query(`SELECT num, large_column FROM large_column_table;`);
+    record {int num;}[] rows = check from record {int num;} item in resultStream
+        select item;
+    test:assertEquals(rows.length(), 1601);
+    test:assertTrue(unloadedResultCount() > unloadedBefore);
+    check unloadClient.close();
+}
+
+@test:Config {
+    groups: ["unload"]
+}
+isolated function testInvalidUnloadConfig() returns error? {
+    Client|Error unloadClient = newTestClient(unloadConfig = {s3Location: "redshift-exports/unload"});
+    test:assertTrue(unloadClient is Error);
+    if unloadClient is Error {
+        test:assertEquals(unloadClient.message(), "The s3Location should be of the form s3://bucket/prefix.");
+    }
+}
+
+@test:Config {
+    groups: ["unload"]
+}
+isolated function testUnloadConfigWithOversizedParts() returns error? {
+    // A part is held in memory whole, so parts are bounded well below the size an array can hold
+    Client|Error unloadClient = newTestClient(unloadConfig = {s3Location: UNLOAD_LOCATION, maxPartSize: 2048});
+    test:assertTrue(unloadClient is Error);
+    if unloadClient is Error {
+        test:assertEquals(unloadClient.message(), "The maxPartSize should be at most 1024 MB.");
+    }
+}
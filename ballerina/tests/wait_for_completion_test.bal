@@ -0,0 +1,179 @@
+//  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/sql;
+import ballerina/test;
+
+@test:Config {
+    groups: ["waitForCompletion"]
+}
+isolated function testWaitForCompletion() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users;`);
+    DescriptionResponse descriptionResponse = check redshiftData->waitForCompletion(res.statementId);
+
+    test:assertEquals(descriptionResponse.status, FINISHED);
+    test:assertEquals(descriptionResponse.statementId, res.statementId);
+    test:assertEquals(descriptionResponse.hasResultSet, true);
+}
+
+@test:Config {
+    groups: ["waitForCompletion"]
+}
+isolated function testWaitForCompletionOfFailedStatement() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM non_existent_table;`);
+    DescriptionResponse descriptionResponse = check redshiftData->waitForCompletion(res.statementId);
+
+    test:assertEquals(descriptionResponse.status, FAILED);
+    test:assertTrue(descriptionResponse.'error is string);
+}
+
+@test:Config {
+    groups: ["waitForCompletion"]
+}
+isolated function testWaitForCompletionTimeout() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT pg_sleep(600);`);
+    DescriptionResponse|Error descriptionResponse = redshiftData->waitForCompletion(res.statementId,
+        initialInterval = 0.01, maxInterval = 0.1, timeout = 0.3);
+
+    test:assertTrue(descriptionResponse is Error);
+    if descriptionResponse is Error {
+        test:assertEquals(descriptionResponse.message(), "Error occurred while executing the waitForCompletion: " +
+            "Statement did not complete within 0.3 seconds. Last status: STARTED.");
+    }
+}
+
+@test:Config {
+    groups: ["waitForCompletion"]
+}
+isolated function testWaitForCompletionWithInvalidConfig() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users;`);
+    DescriptionResponse|Error descriptionResponse = redshiftData->waitForCompletion(res.statementId,
+        initialInterval = 0);
+    test:assertTrue(descriptionResponse is Error);
+    if descriptionResponse is Error {
+        test:assertEquals(descriptionResponse.message(), "The initialInterval should be greater than 0.");
+    }
+
+    descriptionResponse = redshiftData->waitForCompletion(res.statementId, initialInterval = 1, maxInterval = 0.5);
+    test:assertTrue(descriptionResponse is Error);
+    if descriptionResponse is Error {
+        test:assertEquals(descriptionResponse.message(),
+            "The maxInterval should not be less than the initialInterval.");
+    }
+}
+
+@test:Config {
+    groups: ["executeAndWait"]
+}
+isolated function testExecuteAndWait() returns error? {
+    sql:ParameterizedQuery query = `SELECT * FROM Users;`;
+    DescriptionResponse descriptionResponse = check redshiftData->executeAndWait(query);
+
+    test:assertEquals(descriptionResponse.status, FINISHED);
+    test:assertEquals(descriptionResponse.queryString, query.strings[0]);
+    test:assertEquals(descriptionResponse.resultRows, 3);
+}
+
+@test:Config {
+    groups: ["executeAndWait"]
+}
+isolated function testExecuteAndWaitWithEmptyStatement() returns error? {
+    DescriptionResponse|Error descriptionResponse = redshiftData->executeAndWait(``);
+    test:assertTrue(descriptionResponse is Error);
+    if descriptionResponse is Error {
+        test:assertEquals(descriptionResponse.message(), "SQL statement cannot be empty.");
+    }
+}
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testQuery() returns error? {
+    stream<User, Error?> resultStream = check redshiftData->query(`SELECT * FROM Users;`);
+    User[] users = check from User user in resultStream
+        select user;
+
+    test:assertEquals(users.length(), 3);
+    test:assertEquals(users[0], {userId: 1, username: "JohnDoe", email: "john.doe@example.com", age: 25});
+}
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testQueryWithWaitConfig() returns error? {
+    stream<User, Error?> resultStream = check redshiftData->query(`SELECT * FROM Users WHERE user_id = 1;`,
+        waitConfig = {initialInterval: 0.01, timeout: 30});
+    User[] users = check from User user in resultStream
+        select user;
+
+    test:assertEquals(users.length(), 1);
+}
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testQueryOfFailedStatement() returns error? {
+    stream<User, Error?>|Error resultStream = redshiftData->query(`SELECT * FROM non_existent_table;`);
+    test:assertTrue(resultStream is Error);
+    if resultStream is Error {
+        test:assertTrue(resultStream.message().startsWith(
+            "Error occurred while executing the query: Statement did not finish successfully. Status: FAILED."));
+    }
+}
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testQueryWithInvalidConfigs() returns error? {
+    stream<User, Error?>|Error emptyStatement = redshiftData->query(``);
+    if emptyStatement !is Error {
+        test:assertFail("Expected an error for an empty statement");
+    }
+    test:assertEquals(emptyStatement.message(), "SQL statement cannot be empty.");
+
+    stream<User, Error?>|Error emptyName = redshiftData->query(`SELECT * FROM Users;`, statementName = "");
+    if emptyName !is Error {
+        test:assertFail("Expected an error for an empty statement name");
+    }
+    test:assertEquals(emptyName.message(), "The statement name should be at least 1 character long.");
+
+    stream<User, Error?>|Error invalidSession = redshiftData->query(`SELECT * FROM Users;`,
+        dbAccessConfig = "invalid-session-id");
+    if invalidSession !is Error {
+        test:assertFail("Expected an error for an invalid session ID");
+    }
+    test:assertEquals(invalidSession.message(), "Invalid session ID format.");
+
+    stream<User, Error?>|Error zeroTimeout = redshiftData->query(`SELECT * FROM Users;`,
+        waitConfig = {timeout: 0});
+    if zeroTimeout !is Error {
+        test:assertFail("Expected an error for a timeout of 0");
+    }
+    test:assertEquals(zeroTimeout.message(), "The timeout should be greater than 0.");
+}
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testQueryWithSubNanosecondTimeout() returns error? {
+    // A timeout of less than a nanosecond is a timeout, not the absence of one
+    stream<record {}, Error?>|Error resultStream = redshiftData->query(`SELECT pg_sleep(600);`,
+        waitConfig = {initialInterval: 0.01, timeout: 0.0000000001});
+    test:assertTrue(resultStream is Error);
+    if resultStream is Error {
+        test:assertTrue(resultStream.message().includes("Statement did not complete within"));
+    }
+}
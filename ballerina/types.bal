@@ -31,11 +31,709 @@ import ballerinax/aws.auth;
 # endpoint override (e.g. LocalStack, VPC interface endpoints)
 # + dbAccessConfig - The database access configurations for the Redshift Data API
 # This can be overridden in the individual `execute` and `batchExecute` requests
+# + nonBlocking - Whether to use the non-blocking AWS SDK client, which is backed by an NIO HTTP client and does
+# not hold a thread while a Data API request is in flight
+# + resultConfig - The configurations related to reading the results of statements
+# + statusTracker - The configurations of a tracker that waits for the statements of the client together, by
+# listing their status with `ListStatements` rather than describing each of them. If not provided, each statement
+# is polled on its own as configured by `WaitConfig`
+# + unloadConfig - The configurations of reading query results through `UNLOAD` and Amazon S3, which
+# `unloadAsStream` requires
+# + resultCache - The configurations of a cache of the results of `query`, which serves the result of a
+# `SELECT` run again with the same parameters on the same database without running it. If not provided, results
+# are not cached
+# + sessionPool - The configurations of a pool of Redshift sessions that `executeAndWait`, `query` and
+# `unloadAsStream` run their statements in, which requires the `dbAccessConfig` of the client. Statements that
+# override the `dbAccessConfig` do not run in the pool. If not provided, each statement starts a session of its own
+# + rateLimit - The configurations of pacing the Data API requests of the client to stay within the quotas of the
+# service, which queues the requests of a burst rather than having the service reject them. If not provided,
+# requests are sent as soon as they are made
+# + retryConfig - The configurations of retrying the Data API requests that fail with a transient error or that
+# the service throttles. If not provided, requests are retried with the defaults of the AWS SDK
+# + httpClientConfig - The configurations of the HTTP client the Data API requests are sent with, such as the size
+# of its connection pool and its timeouts. If not provided, the defaults of the AWS SDK HTTP client are used
+# + executorConfig - The configurations of the executor the AWS SDK calls of a blocking client run on, which bounds
+# the calls that run at a time and the calls that wait for them. If not provided, each call runs right away on a
+# virtual thread of its own
 public type ConnectionConfig record {|
     auth:AuthConfig auth;
     aws:Region|string region;
     aws:EndpointConfig endpoint?;
     Cluster|WorkGroup dbAccessConfig?;
+    boolean nonBlocking = false;
+    ResultConfig resultConfig = {};
+    StatusTrackerConfig statusTracker?;
+    UnloadConfig unloadConfig?;
+    ResultCacheConfig resultCache?;
+    SessionPoolConfig sessionPool?;
+    RateLimitConfig rateLimit?;
+    RetryConfig retryConfig?;
+    HttpClientConfig httpClientConfig?;
+    ExecutorConfig executorConfig?;
+|};
+
+# Represents the configurations related to reading the results of statements.
+#
+# + readAhead - The number of upcoming result pages to fetch in the background while the current page is
+# consumed. With `0`, a page is fetched only once the previous one is consumed. Should be at most 2147483647
+# + readAheadBufferSize - The maximum number of bytes the pages fetched ahead may hold. No further page is
+# fetched ahead until the consumer catches up
+# + offHeapPages - Whether the pages of JSON results are re-encoded into a compact binary form held off the heap as
+# they are fetched, so that the values are decoded only when they are read. Disabled by default
+public type ResultConfig record {|
+    @constraint:Int {
+        minValue: {
+            value: 0,
+            message: "The readAhead should be greater than or equal to 0"
+        },
+        maxValue: {
+            value: 2147483647,
+            message: "The readAhead should be less than or equal to 2147483647"
+        }
+    }
+    int readAhead = 0;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The readAheadBufferSize should be greater than 0"
+        }
+    }
+    int readAheadBufferSize = 67108864;
+    boolean offHeapPages = false;
+|};
+
+# Represents the configurations of the statement status tracker of a client. While statements are waited for,
+# the tracker checks the status of all of them once per `pollInterval`, reading up to `maxListPages` pages of
+# `ListStatements`. Only the `timeout` of a `WaitConfig` applies to statements waited for through the tracker.
+#
+# + pollInterval - The time in seconds between two status checks of the statements waited for
+# + maxListPages - The maximum number of `ListStatements` pages, of up to 100 statements each, read in a
+# status check, at most 2147483647. Statements not listed within these pages are described on their own
+public type StatusTrackerConfig record {|
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The pollInterval should be greater than 0"
+        }
+    }
+    decimal pollInterval = 0.5;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxListPages should be greater than 0"
+        },
+        maxValue: {
+            value: 2147483647,
+            message: "The maxListPages should be less than or equal to 2147483647"
+        }
+    }
+    int maxListPages = 5;
+|};
+
+# Represents the configurations of reading query results through `UNLOAD`. A query is unloaded to Amazon S3 in
+# parallel as CSV parts, which are then downloaded concurrently and read as a single result. The S3 client is
+# authenticated with the `auth` of the connection configurations.
+#
+# + s3Location - The S3 location to unload results to, as `s3://bucket/prefix`. Each result is unloaded under a
+# prefix of its own within this location, and is left in place once read
+# + iamRole - The ARN of the IAM role that authorizes Redshift to write to the S3 location. If not provided, the
+# default IAM role of the cluster or workgroup is used
+# + maxConcurrentDownloads - The maximum number of unloaded parts downloaded at the same time, at most 2147483647
+# + maxPartSize - The maximum size of an unloaded part in MB, from 5 to 1024. A downloaded part is held in memory
+# whole while it is read, taking up to about three times its size as it is decoded, and up to
+# `maxConcurrentDownloads` parts are held at a time
+# + s3Endpoint - An endpoint that overrides the regional S3 endpoint, such as that of a local S3-compatible store.
+# Objects are addressed in the path style through it
+# + autoUnloadThreshold - The result size in bytes above which `query` runs the query again through `UNLOAD`
+# and reads the unloaded result, rather than paging through the result with the Data API. If not provided,
+# `query` always reads results with the Data API
+public type UnloadConfig record {|
+    @constraint:String {
+        pattern: {
+            value: re `s3://[^/]+(/.*)?`,
+            message: "The s3Location should be of the form s3://bucket/prefix"
+        }
+    }
+    string s3Location;
+    string iamRole?;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxConcurrentDownloads should be greater than 0"
+        },
+        maxValue: {
+            value: 2147483647,
+            message: "The maxConcurrentDownloads should be less than or equal to 2147483647"
+        }
+    }
+    int maxConcurrentDownloads = 4;
+    @constraint:Int {
+        minValue: {
+            value: 5,
+            message: "The maxPartSize should be at least 5 MB"
+        },
+        maxValue: {
+            value: 1024,
+            message: "The maxPartSize should be at most 1024 MB"
+        }
+    }
+    int maxPartSize = 16;
+    string s3Endpoint?;
+    @constraint:Int {
+        minValue: {
+            value: 0,
+            message: "The autoUnloadThreshold should be greater than or equal to 0"
+        }
+    }
+    int autoUnloadThreshold?;
+|};
+
+# Represents the configurations of the result cache of a client. The result of a `SELECT` read through `query` is
+# cached once it is read to the end, keyed by the query with its whitespace normalized, its parameters and the
+# database it runs on. Cached results are evicted in least recently used order to keep within `maxSize`.
+#
+# + ttl - The time in seconds for which a cached result is served after it is read
+# + maxSize - The maximum number of bytes the cached results may hold. A result larger than this is not cached
+public type ResultCacheConfig record {|
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The ttl should be greater than 0"
+        }
+    }
+    decimal ttl = 60;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxSize should be greater than 0"
+        }
+    }
+    int maxSize = 67108864;
+|};
+
+# Represents the counters of the result cache of a client.
+#
+# + hits - The number of queries served from the cache
+# + misses - The number of cacheable queries whose result was not in the cache
+# + evictions - The number of results removed from the cache to keep within its size or once expired
+# + entries - The number of results the cache holds
+# + size - The estimated number of bytes the cached results hold
+public type ResultCacheStats record {|
+    int hits;
+    int misses;
+    int evictions;
+    int entries;
+    int size;
+|};
+
+# Represents the configurations of the session pool of a client. A statement leases an idle session of the pool,
+# or starts a new one while the pool holds fewer than `maxSessions`, and returns it once the statement completes.
+# A session in which a statement fails, or does not complete in time, is evicted from the pool. Idle sessions are
+# kept alive by running `SELECT 1` in them before they expire, until they have been idle for `maxIdleTime`.
+# A session is not reset when it is returned, so the state a statement leaves in it, such as the parameters set
+# with `SET`, temporary tables or a transaction left open, carries over to the statements that lease it later.
+#
+# + maxSessions - The maximum number of sessions the pool holds, at most 2147483647. A statement waits for a
+# session once all of them are in use
+# + sessionKeepAliveSeconds - The number of seconds a session of the pool is kept alive after a statement finishes
+# in it. This replaces the `sessionKeepAliveSeconds` of the `dbAccessConfig` for the statements of the pool
+# + refreshMargin - The time in seconds before an idle session expires at which it is kept alive. This should be
+# less than `sessionKeepAliveSeconds`
+# + maxIdleTime - The time in seconds an idle session is kept alive for after its last statement, after which it
+# is left to expire
+# + leaseTimeout - The maximum time in seconds a statement waits for a session of the pool
+public type SessionPoolConfig record {|
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxSessions should be greater than 0"
+        },
+        maxValue: {
+            value: 2147483647,
+            message: "The maxSessions should be less than or equal to 2147483647"
+        }
+    }
+    int maxSessions = 4;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The sessionKeepAliveSeconds should be greater than 0"
+        },
+        maxValue: {
+            value: 86400,
+            message: "The sessionKeepAliveSeconds should be less than or equal to 86400"
+        }
+    }
+    int sessionKeepAliveSeconds = 600;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The refreshMargin should be greater than 0"
+        }
+    }
+    decimal refreshMargin = 60;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The maxIdleTime should be greater than 0"
+        }
+    }
+    decimal maxIdleTime = 1800;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The leaseTimeout should be greater than 0"
+        }
+    }
+    decimal leaseTimeout = 60;
+|};
+
+# Represents the occupancy and the counters of the session pool of a client.
+#
+# + sessions - The number of sessions the pool holds, in use or idle
+# + inUse - The number of sessions leased to statements or being kept alive
+# + idle - The number of sessions waiting for a statement
+# + waiting - The number of statements waiting for a session
+# + created - The number of sessions the pool has started
+# + evictions - The number of sessions evicted as a statement failed or did not complete in them
+# + refreshes - The number of times an idle session was kept alive
+# + leases - The number of sessions leased to statements
+# + averageWaitTime - The average time in seconds a statement waited for a session
+# + maxWaitTime - The longest time in seconds a statement waited for a session
+public type SessionPoolStats record {|
+    int sessions;
+    int inUse;
+    int idle;
+    int waiting;
+    int created;
+    int evictions;
+    int refreshes;
+    int leases;
+    decimal averageWaitTime;
+    decimal maxWaitTime;
+|};
+
+# Represents the configurations of pacing the Data API requests of a client. Each operation is sent at up to its
+# rate, and a statement is submitted only while the client has fewer than its active statement limit of statements
+# that have not completed. A statement counts as completed once `describe`, a wait for its completion or the status
+# tracker sees it complete. The rates and the active statement limit adapt to the service: a throttled request
+# halves the rate of its operation, and a statement rejected as too many statements are active, or one that waited
+# longer than `maxQueueTime` to start, halves the active statement limit. Both grow back additively as requests
+# succeed.
+#
+# + executeStatementRate - The maximum number of `ExecuteStatement` requests per second
+# + batchExecuteStatementRate - The maximum number of `BatchExecuteStatement` requests per second
+# + describeStatementRate - The maximum number of `DescribeStatement` requests per second
+# + getStatementResultRate - The maximum number of `GetStatementResult` and `GetStatementResultV2` requests per
+# second
+# + listStatementsRate - The maximum number of `ListStatements` requests per second
+# + maxActiveStatements - The maximum number of statements of the client that may be active at a time, at most
+# 2147483647
+# + maxQueueTime - The time in seconds a statement may wait to start on the database before the active statement
+# limit is lowered
+# + maxRequeues - The number of times a request the service throttles is queued again before it fails, at most
+# 2147483647
+public type RateLimitConfig record {|
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The executeStatementRate should be greater than 0"
+        }
+    }
+    decimal executeStatementRate = 30;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The batchExecuteStatementRate should be greater than 0"
+        }
+    }
+    decimal batchExecuteStatementRate = 20;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The describeStatementRate should be greater than 0"
+        }
+    }
+    decimal describeStatementRate = 100;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The getStatementResultRate should be greater than 0"
+        }
+    }
+    decimal getStatementResultRate = 20;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The listStatementsRate should be greater than 0"
+        }
+    }
+    decimal listStatementsRate = 3;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxActiveStatements should be greater than 0"
+        },
+        maxValue: {
+            value: 2147483647,
+            message: "The maxActiveStatements should be less than or equal to 2147483647"
+        }
+    }
+    int maxActiveStatements = 200;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The maxQueueTime should be greater than 0"
+        }
+    }
+    decimal maxQueueTime = 5;
+    @constraint:Int {
+        minValue: {
+            value: 0,
+            message: "The maxRequeues should be greater than or equal to 0"
+        },
+        maxValue: {
+            value: 2147483647,
+            message: "The maxRequeues should be less than or equal to 2147483647"
+        }
+    }
+    int maxRequeues = 5;
+|};
+
+# Represents the pacing of the requests of a Data API operation.
+#
+# + rate - The number of requests per second the operation is currently sent at
+# + queued - The number of requests waiting to be sent
+# + throttled - The number of requests of the operation the service has throttled
+public type OperationRateStats record {|
+    decimal rate;
+    int queued;
+    int throttled;
+|};
+
+# Represents the current limits and queues of the rate limiter of a client.
+#
+# + executeStatement - The pacing of `ExecuteStatement` requests
+# + batchExecuteStatement - The pacing of `BatchExecuteStatement` requests
+# + describeStatement - The pacing of `DescribeStatement` requests
+# + getStatementResult - The pacing of `GetStatementResult` and `GetStatementResultV2` requests
+# + listStatements - The pacing of `ListStatements` requests
+# + activeStatementLimit - The current maximum number of active statements of the client
+# + activeStatements - The number of statements of the client that are submitted and not yet seen to complete
+# + waitingStatements - The number of statements waiting for the number of active statements to drop
+public type RateLimiterStats record {|
+    OperationRateStats executeStatement;
+    OperationRateStats batchExecuteStatement;
+    OperationRateStats describeStatement;
+    OperationRateStats getStatementResult;
+    OperationRateStats listStatements;
+    int activeStatementLimit;
+    int activeStatements;
+    int waitingStatements;
+|};
+
+# The strategy with which failed Data API requests are retried.
+#
+# + STANDARD - Retries the requests with a backoff, drawing from a retry quota of the client when the
+# `retryQuota` is enabled
+# + ADAPTIVE - Retries the requests like `STANDARD`, and also slows down all requests of the client while the
+# service throttles them
+public enum RetryMode {
+    STANDARD,
+    ADAPTIVE
+}
+
+# Represents the configurations of retrying the Data API requests that fail with a transient error, such as a
+# throttling error, a server error or a connection failure. Requests that fail with any other error, such as a
+# validation error, are not retried. The backoff before each retry is a random delay up to an exponentially
+# growing delay, which starts at `baseDelay`, or at `throttlingBaseDelay` for a throttled request, and is capped at
+# `maxDelay`.
+#
+# + mode - The strategy with which requests are retried
+# + maxAttempts - The maximum number of attempts of a request, including the first one, at most 2147483647
+# + baseDelay - The delay in seconds the backoff after a failed attempt starts at
+# + throttlingBaseDelay - The delay in seconds the backoff after a throttled attempt starts at
+# + maxDelay - The longest delay in seconds of the backoff
+# + retryQuota - Whether retries of the `STANDARD` mode draw from a retry quota of the client, which stops the
+# client from retrying while most of its requests fail, rather than retrying every request up to `maxAttempts`
+# + operations - The attempts and the backoff of the requests of the Data API operations that are retried
+# differently from the other requests of the client
+public type RetryConfig record {|
+    RetryMode mode = STANDARD;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxAttempts should be greater than 0"
+        },
+        maxValue: {
+            value: 2147483647,
+            message: "The maxAttempts should be less than or equal to 2147483647"
+        }
+    }
+    int maxAttempts = 3;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The baseDelay should be greater than 0"
+        }
+    }
+    decimal baseDelay = 0.1;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The throttlingBaseDelay should be greater than 0"
+        }
+    }
+    decimal throttlingBaseDelay = 1;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The maxDelay should be greater than 0"
+        }
+    }
+    decimal maxDelay = 20;
+    boolean retryQuota = true;
+    OperationRetryConfigs operations = {};
+|};
+
+# Represents the attempts and the backoff of the requests of the Data API operations. The fields an operation
+# does not set are taken from the `RetryConfig` of the client.
+#
+# + executeStatement - The retries of `ExecuteStatement` requests
+# + batchExecuteStatement - The retries of `BatchExecuteStatement` requests
+# + describeStatement - The retries of `DescribeStatement` requests
+# + getStatementResult - The retries of `GetStatementResult` and `GetStatementResultV2` requests
+# + listStatements - The retries of `ListStatements` requests
+public type OperationRetryConfigs record {|
+    OperationRetryConfig executeStatement?;
+    OperationRetryConfig batchExecuteStatement?;
+    OperationRetryConfig describeStatement?;
+    OperationRetryConfig getStatementResult?;
+    OperationRetryConfig listStatements?;
+|};
+
+# Represents the attempts and the backoff of the requests of a Data API operation.
+#
+# + maxAttempts - The maximum number of attempts of a request, including the first one, at most 2147483647
+# + baseDelay - The delay in seconds the backoff after a failed attempt starts at
+# + throttlingBaseDelay - The delay in seconds the backoff after a throttled attempt starts at
+# + maxDelay - The longest delay in seconds of the backoff
+public type OperationRetryConfig record {|
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxAttempts should be greater than 0"
+        },
+        maxValue: {
+            value: 2147483647,
+            message: "The maxAttempts should be less than or equal to 2147483647"
+        }
+    }
+    int maxAttempts?;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The baseDelay should be greater than 0"
+        }
+    }
+    decimal baseDelay?;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The throttlingBaseDelay should be greater than 0"
+        }
+    }
+    decimal throttlingBaseDelay?;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The maxDelay should be greater than 0"
+        }
+    }
+    decimal maxDelay?;
+|};
+
+# The HTTP client the Data API requests are sent with.
+#
+# + APACHE - The Apache HTTP client, which is the default of a blocking client
+# + URL_CONNECTION - The `HttpURLConnection` HTTP client of the JDK, which starts faster and has fewer dependencies,
+# and whose connections are pooled by the JVM
+# + NETTY - The Netty NIO HTTP client, which is the HTTP client of a non-blocking client
+public enum HttpTransport {
+    APACHE,
+    URL_CONNECTION,
+    NETTY
+}
+
+# Represents the configurations of the HTTP client the Data API requests are sent with. A blocking client can use
+# the `APACHE` or the `URL_CONNECTION` transport, and a non-blocking client the `NETTY` transport. The
+# `URL_CONNECTION` transport uses only the timeouts, as its connections are pooled by the JVM.
+#
+# + transport - The HTTP client the requests are sent with. If not provided, a blocking client uses `APACHE`, and a
+# non-blocking client uses `NETTY`
+# + maxConnections - The maximum number of connections the client keeps open, which bounds the number of
+# requests in flight at a time. Should be at most 2147483647
+# + connectionTimeout - The maximum time in seconds to establish a connection
+# + connectionAcquisitionTimeout - The maximum time in seconds a request waits for a connection from the pool
+# + socketTimeout - The maximum time in seconds to wait for data to be read from or written to a connection
+# + connectionMaxIdleTime - The time in seconds an idle connection is kept in the pool
+# + connectionTimeToLive - The time in seconds a connection is used for before it is closed. If not provided,
+# connections are used until they are idle for longer than the `connectionMaxIdleTime`
+# + useIdleConnectionReaper - Whether idle connections are closed in the background, rather than when they are
+# next taken from the pool
+# + tcpKeepAlive - Whether TCP keep-alive probes are sent on the connections
+# + tlsSession - The configurations of resuming TLS sessions of the `APACHE` transport. If not provided, the TLS
+# sessions are cached by the default SSL context of the JVM
+public type HttpClientConfig record {|
+    HttpTransport transport?;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxConnections should be greater than 0"
+        },
+        maxValue: {
+            value: 2147483647,
+            message: "The maxConnections should be less than or equal to 2147483647"
+        }
+    }
+    int maxConnections = 50;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The connectionTimeout should be greater than 0"
+        }
+    }
+    decimal connectionTimeout = 2;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The connectionAcquisitionTimeout should be greater than 0"
+        }
+    }
+    decimal connectionAcquisitionTimeout = 10;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The socketTimeout should be greater than 0"
+        }
+    }
+    decimal socketTimeout = 30;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The connectionMaxIdleTime should be greater than 0"
+        }
+    }
+    decimal connectionMaxIdleTime = 60;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The connectionTimeToLive should be greater than 0"
+        }
+    }
+    decimal connectionTimeToLive?;
+    boolean useIdleConnectionReaper = true;
+    boolean tcpKeepAlive = false;
+    TlsSessionConfig tlsSession?;
+|};
+
+# Represents the configurations of resuming TLS sessions, which saves a full TLS handshake when a new connection is
+# opened to the same endpoint.
+#
+# + sessionCacheSize - The maximum number of TLS sessions cached to be resumed, at most 2147483647
+# + sessionTimeout - The time in seconds a cached TLS session can be resumed for
+public type TlsSessionConfig record {|
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The sessionCacheSize should be greater than 0"
+        },
+        maxValue: {
+            value: 2147483647,
+            message: "The sessionCacheSize should be less than or equal to 2147483647"
+        }
+    }
+    int sessionCacheSize = 1000;
+    @constraint:Number {
+        minValue: {
+            value: 1,
+            message: "The sessionTimeout should be greater than or equal to 1"
+        }
+    }
+    decimal sessionTimeout = 86400;
+|};
+
+# The threads the AWS SDK calls of a blocking client run on.
+#
+# + VIRTUAL - A virtual thread for each call
+# + PLATFORM - A pool of up to `maxConcurrency` platform threads
+public enum ExecutorMode {
+    VIRTUAL,
+    PLATFORM
+}
+
+# What happens to a call made while the queue of the executor is full.
+#
+# + FAIL - The call fails with an error
+# + BLOCK - The strand that made the call waits for room in the queue, which slows down the calls it makes next.
+# The calls made on any thread other than a strand, such as the status polls, the session keep-alives and the calls
+# the `rateLimit` releases, fail instead, as waiting would hold up the background work of the client
+public enum RejectionPolicy {
+    FAIL,
+    BLOCK
+}
+
+# Represents the configurations of the executor the AWS SDK calls of a blocking client run on. A call runs right away
+# while fewer than `maxConcurrency` calls run, and otherwise waits in a queue of up to `maxQueueDepth` calls. A call
+# made while the queue is full is handled as the `rejectionPolicy` says.
+#
+# + mode - The threads the calls run on
+# + maxConcurrency - The maximum number of calls that run at a time, at most 2147483647
+# + maxQueueDepth - The maximum number of calls that wait for a running call to complete, at most 2147483647
+# + rejectionPolicy - What happens to a call made while the queue is full
+public type ExecutorConfig record {|
+    ExecutorMode mode = VIRTUAL;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxConcurrency should be greater than 0"
+        },
+        maxValue: {
+            value: 2147483647,
+            message: "The maxConcurrency should be less than or equal to 2147483647"
+        }
+    }
+    int maxConcurrency = 64;
+    @constraint:Int {
+        minValue: {
+            value: 0,
+            message: "The maxQueueDepth should be greater than or equal to 0"
+        },
+        maxValue: {
+            value: 2147483647,
+            message: "The maxQueueDepth should be less than or equal to 2147483647"
+        }
+    }
+    int maxQueueDepth = 1000;
+    RejectionPolicy rejectionPolicy = FAIL;
+|};
+
+# Represents the occupancy and the counters of the executor of a blocking client.
+#
+# + active - The number of calls running
+# + queued - The number of calls waiting for a running call to complete
+# + maxQueued - The largest number of calls that have waited at a time
+# + completed - The number of calls that have completed
+# + saturations - The number of calls made while `maxConcurrency` calls were running, which had to wait or were
+# rejected
+# + rejected - The number of calls made while the queue was full
+public type ExecutorStats record {|
+    int active;
+    int queued;
+    int maxQueued;
+    int completed;
+    int saturations;
+    int rejected;
 |};
 
 # Represents the configuration details required for connecting to an Amazon Redshift cluster.
@@ -113,6 +811,8 @@ public type SessionId string;
 # + statementName - The name of the SQL statement
 # + withEvent - Flag which indicates to send an event after the SQL statement execution 
 # to an event bus instance running in Amazon EventBridge
+# + resultFormat - The format in which Redshift returns the result of the statement. Results in the `CSV` format
+# are fetched as delimited text, which is smaller to transfer and faster to decode than the default `JSON` format
 public type ExecutionConfig record {|
     Cluster|WorkGroup|SessionId dbAccessConfig?;
     string clientToken?;
@@ -128,6 +828,252 @@ public type ExecutionConfig record {|
     }
     string statementName?;
     boolean withEvent?;
+    ResultFormat resultFormat?;
+|};
+
+# The format in which Redshift returns the result of a statement.
+#
+# + JSON - Each value is returned as a typed field
+# + CSV - The rows are returned as comma-separated text
+public enum ResultFormat {
+    JSON,
+    CSV
+}
+
+# Represents the configurations related to waiting for a statement to complete. The status of the statement is
+# checked right away, and then at intervals that start at `initialInterval` and grow by `backoffFactor` up to
+# `maxInterval`.
+#
+# + initialInterval - The time in seconds to wait before checking the status again after the first check
+# + maxInterval - The maximum time in seconds to wait between two status checks
+# + backoffFactor - The factor by which the time between two status checks grows
+# + timeout - The maximum time in seconds to wait for the statement to complete. If not provided, waits until
+# the statement completes
+public type WaitConfig record {|
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The initialInterval should be greater than 0"
+        }
+    }
+    decimal initialInterval = 0.05;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The maxInterval should be greater than 0"
+        }
+    }
+    decimal maxInterval = 2;
+    @constraint:Number {
+        minValue: {
+            value: 1,
+            message: "The backoffFactor should be greater than or equal to 1"
+        }
+    }
+    decimal backoffFactor = 1.5;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The timeout should be greater than 0"
+        }
+    }
+    decimal timeout?;
+|};
+
+# Represents the configurations of running a list of SQL statements as batches through the `executeMany` method.
+# The statements are split in their order into batches of at most `maxBatchSize` statements and `maxBatchSqlSize`
+# bytes of SQL, and a statement larger than `maxBatchSqlSize` forms a batch of its own. Up to `parallelism` batches
+# run at a time.
+#
+# + maxBatchSize - The maximum number of statements in a batch
+# + maxBatchSqlSize - The maximum total size of the SQL statements in a batch, in UTF-8 bytes
+# + parallelism - The maximum number of batches running at a time, at most 2147483647
+# + ordered - Whether a batch is submitted only after the batch before it finished, so that the statements run in
+# their order. When enabled, `parallelism` is not used
+public type ExecuteManyConfig record {|
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxBatchSize should be greater than 0"
+        },
+        maxValue: {
+            value: 40,
+            message: "The maxBatchSize should be less than or equal to 40"
+        }
+    }
+    int maxBatchSize = 40;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxBatchSqlSize should be greater than 0"
+        }
+    }
+    int maxBatchSqlSize = 102400;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The parallelism should be greater than 0"
+        },
+        maxValue: {
+            value: 2147483647,
+            message: "The parallelism should be less than or equal to 2147483647"
+        }
+    }
+    int parallelism = 4;
+    boolean ordered = false;
+|};
+
+# Represents the configurations of inserting rows through the `insertAll` method. The rows are packed into
+# multi-row `INSERT` statements of at most `maxStatementSize` bytes, and a row that does not fit in a statement of
+# its own stops the insertion. Up to `parallelism` statements run at a time.
+#
+# + maxStatementSize - The maximum size of an `INSERT` statement, in UTF-8 bytes. The Data API accepts statements of
+# up to 100 KB
+# + parallelism - The maximum number of `INSERT` statements running at a time, at most 2147483647
+public type InsertConfig record {|
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxStatementSize should be greater than 0"
+        }
+    }
+    int maxStatementSize = 102400;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The parallelism should be greater than 0"
+        },
+        maxValue: {
+            value: 2147483647,
+            message: "The parallelism should be less than or equal to 2147483647"
+        }
+    }
+    int parallelism = 4;
+|};
+
+# Represents a range of the partition column of the `queryPartitioned` method. A row falls into the range if its
+# value of the column is at least `lowerBound` and less than `upperBound`. A `NULL` value falls into no range.
+#
+# + lowerBound - The inclusive lower bound of the range, or `()` if the range has none
+# + upperBound - The exclusive upper bound of the range, or `()` if the range has none
+public type PartitionRange record {|
+    int|float|decimal|string? lowerBound = ();
+    int|float|decimal|string? upperBound = ();
+|};
+
+# Represents the configurations of fetching several statement results concurrently, such as those of the
+# sub-statements of a batch or of the partitions of a query. Up to `maxConcurrency` results are fetched at a time,
+# and no page is fetched ahead of consumption once the pages fetched across the results hold `bufferSize` bytes. A
+# result that is being waited on is fetched regardless.
+#
+# + ordered - Whether the rows of a merged stream follow the order of the statements. Otherwise, the pages of the
+# results are returned in the order in which they arrive
+# + maxConcurrency - The maximum number of results fetched at a time. Should be greater than 0 and at most
+# 2147483647
+# + bufferSize - The size, in bytes, of the fetched pages that are not read yet, at which fetching ahead stops.
+# Should be greater than 0
+public type FanOutConfig record {|
+    boolean ordered = true;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxConcurrency should be greater than 0"
+        },
+        maxValue: {
+            value: 2147483647,
+            message: "The maxConcurrency should be less than or equal to 2147483647"
+        }
+    }
+    int maxConcurrency = 4;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The bufferSize should be greater than 0"
+        }
+    }
+    int bufferSize = 16777216;
+|};
+
+# Represents the configurations of the local spill file of a result returned from the `getResultAsReplayable`
+# method. The file holds the pages of the result in a compact binary form, appended as they are fetched.
+#
+# + spillDirectory - The directory the spill file is created in. Defaults to the temporary directory of the system
+# + maxSpillSize - The maximum number of bytes the spill file may hold. Reading a result beyond that fails
+public type SpillConfig record {|
+    string spillDirectory?;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxSpillSize should be greater than 0"
+        }
+    }
+    int maxSpillSize = 1073741824;
+|};
+
+# Represents the configurations of a buffered writer returned from the `newBufferedWriter` method. The buffered
+# statements of a table are flushed as one batch once they reach `maxStatements` or `maxBatchSqlSize`, or once the
+# first of them has been buffered for `maxLinger`.
+#
+# + maxStatements - The number of buffered statements of a table at which they are flushed
+# + maxBatchSqlSize - The size of the buffered statements of a table, in UTF-8 bytes, at which they are flushed. A
+# statement that would take the buffer over it flushes the statements buffered before it
+# + maxLinger - The longest time in seconds a statement is buffered before it is flushed
+# + maxPendingFlushes - The maximum number of flushed batches that have not completed, at most 2147483647. Writes that
+# fill a buffer wait while this many are pending
+public type BufferedWriterConfig record {|
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxStatements should be greater than 0"
+        },
+        maxValue: {
+            value: 40,
+            message: "The maxStatements should be less than or equal to 40"
+        }
+    }
+    int maxStatements = 40;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxBatchSqlSize should be greater than 0"
+        }
+    }
+    int maxBatchSqlSize = 102400;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The maxLinger should be greater than 0"
+        }
+    }
+    decimal maxLinger = 0.1;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxPendingFlushes should be greater than 0"
+        },
+        maxValue: {
+            value: 2147483647,
+            message: "The maxPendingFlushes should be less than or equal to 2147483647"
+        }
+    }
+    int maxPendingFlushes = 8;
+|};
+
+# Represents the occupancy and the counters of a buffered writer.
+#
+# + bufferedStatements - The number of statements buffered and not yet flushed
+# + pendingFlushes - The number of flushed batches that have not completed
+# + flushes - The number of flushed batches that have completed
+# + flushedStatements - The number of statements of the batches that finished
+# + failedFlushes - The number of flushed batches that did not finish
+# + backPressureWaits - The number of flushes that waited as `maxPendingFlushes` batches were pending
+public type BufferedWriterStats record {|
+    int bufferedStatements;
+    int pendingFlushes;
+    int flushes;
+    int flushedStatements;
+    int failedFlushes;
+    int backPressureWaits;
 |};
 
 # The response from the `execute` method.
@@ -152,6 +1098,51 @@ public type ExecutionResponse record {|
 }
 public type StatementId string;
 
+# The response from the `executeMany` method.
+#
+# + statementIds - The identifiers of the completed batches, in the order of their statements
+# + descriptions - The descriptions of the completed batches, in the order of their statements
+# + status - `FINISHED` if all the statements finished, or else the status of the first batch that did not finish,
+# which is `FAILED` for a batch that could not be submitted or waited for
+# + skippedStatements - The number of statements that were not submitted, as a batch before them did not finish or
+# failed
+# + failures - The batches that could not be submitted or waited for, in the order of the batches
+public type ExecuteManyResponse record {|
+    StatementId[] statementIds;
+    DescriptionResponse[] descriptions;
+    Status status;
+    int skippedStatements;
+    BatchFailure[] failures;
+|};
+
+# A batch of the `executeMany` method that could not be submitted or waited for. Its statements may or may not have
+# run.
+#
+# + batch - The index of the batch, in the order of the batches
+# + statementId - The identifier of the batch, if it was submitted
+# + message - The message of the error the batch failed with
+public type BatchFailure record {|
+    int batch;
+    StatementId statementId?;
+    string message;
+|};
+
+# The response from the `insertAll` method.
+#
+# + statementIds - The identifiers of the submitted `INSERT` statements, in the order of their rows
+# + status - `FINISHED` if all the statements finished, or else the status of the first statement that did not
+# finish, which is `FAILED` for a statement that could not be submitted or waited for or when the insertion stopped
+# at an error
+# + insertedRows - The number of rows inserted by the statements that finished
+# + failure - The message of the error that stopped the insertion, such as a row that could not be read or inserted,
+# or a statement that could not be submitted or waited for
+public type InsertResponse record {|
+    StatementId[] statementIds;
+    Status status;
+    int insertedRows;
+    string failure?;
+|};
+
 # Describes the details about a specific instance when a query was run by the Amazon Redshift Data API.
 #
 # + subStatements - The SQL statements from a multiple statement run
@@ -191,6 +1182,41 @@ public type StatementData record {|
     time:Utc updatedAt;
 |};
 
+# A page of a result returned from the `getResultAsColumnStream` method, held by column.
+#
+# + rowCount - The number of rows in the page
+# + columns - The values of the columns, in the order of the result columns
+public type ColumnBatch record {|
+    int rowCount;
+    ColumnVector[] columns;
+|};
+
+# The values of a result column across the rows of a page, in an array of the type of the column. Integer columns
+# are read into an `int[]`, floating point columns into a `float[]`, `NUMERIC` columns into a `decimal[]`, boolean
+# columns into a `boolean[]` and `VARBYTE` columns into a `byte[][]`. Any other column, such as a text or a
+# temporal column, is read into a `StringDictionary`.
+#
+# + name - The name of the column
+# + typeName - The Redshift type of the column
+# + nulls - The bitmap of the SQL `NULL` values of the column. Bit `row % 8` of byte `row / 8` is set if the value of
+# the row is `NULL`, in which case the array holds the zero value of its type
+# + values - The values of the column
+public type ColumnVector record {|
+    string name;
+    string typeName;
+    byte[] nulls;
+    int[]|float[]|decimal[]|boolean[]|byte[][]|StringDictionary values;
+|};
+
+# The values of a column read as strings, with each distinct value held once.
+#
+# + dictionary - The distinct values of the column
+# + codes - The index in the dictionary of the value of each row, or `-1` for a `NULL` value
+public type StringDictionary record {|
+    string[] dictionary;
+    int[] codes;
+|};
+
 # The status of the SQL statement being described. 
 #
 # + SUBMITTED - The query was submitted, but not yet processed
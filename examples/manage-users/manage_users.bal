@@ -15,7 +15,6 @@
 //  under the License.
 
 import ballerina/io;
-import ballerina/lang.runtime;
 import ballerina/sql;
 import ballerinax/aws;
 import ballerinax/aws.redshiftdata;
@@ -50,8 +49,7 @@ public function main() returns error? {
         email VARCHAR(255),
         age INT
     );`;
-    redshiftdata:ExecutionResponse createTableResponse = check redshift->execute(createTableQuery);
-    _ = check waitForCompletion(redshift, createTableResponse.statementId);
+    _ = check redshift->executeAndWait(createTableQuery);
 
     // Insert data into the table
     User[] users = [
@@ -63,31 +61,14 @@ public function main() returns error? {
             (${row.userId}, ${row.username}, ${row.email}, ${row.age});`;
 
     redshiftdata:ExecutionResponse insertResponse = check redshift->batchExecute(insertQueries);
-    redshiftdata:DescriptionResponse insertDescription = check waitForCompletion(redshift, insertResponse.statementId);
+    redshiftdata:DescriptionResponse insertDescription = check redshift->waitForCompletion(insertResponse.statementId);
     io:println("Describe statement response for insert query: ", insertDescription);
 
     // Select data from the table
-    redshiftdata:ExecutionResponse res = check redshift->execute(`SELECT * FROM Users;`);
-    _ = check waitForCompletion(redshift, res.statementId);
-    stream<User, redshiftdata:Error?> resultStream = check redshift->getResultAsStream(res.statementId);
+    stream<User, redshiftdata:Error?> resultStream = check redshift->query(`SELECT * FROM Users;`);
     io:println("User details: ");
     check from User user in resultStream
         do {
             io:println(user);
         };
 }
-
-isolated function waitForCompletion(redshiftdata:Client redshift, string statementId)
-returns redshiftdata:DescriptionResponse|redshiftdata:Error {
-    foreach int retryCount in 0 ... 9 {
-        redshiftdata:DescriptionResponse descriptionResponse = check redshift->describe(statementId);
-        if descriptionResponse.status is redshiftdata:FINISHED {
-            return descriptionResponse;
-        }
-        if descriptionResponse.status is redshiftdata:FAILED|redshiftdata:ABORTED {
-            return error("Execution did not finish successfully. Status: " + descriptionResponse.status);
-        }
-        runtime:sleep(1);
-    }
-    return error("Statement execution did not finish within the expected time");
-}
@@ -15,7 +15,6 @@
 //  under the License.
 
 import ballerina/http;
-import ballerina/lang.runtime;
 import ballerinax/aws;
 import ballerinax/aws.redshiftdata;
 
@@ -45,42 +44,23 @@ service / on new http:Listener(8080) {
     }
 
     resource function get albums() returns Album[]|error {
-        redshiftdata:ExecutionResponse res = check self.redshift->execute(`SELECT * FROM Albums`);
-        _ = check waitForCompletion(self.redshift, res.statementId);
-        stream<Album, redshiftdata:Error?> albumStream = check self.redshift->getResultAsStream(res.statementId);
+        stream<Album, redshiftdata:Error?> albumStream = check self.redshift->query(`SELECT * FROM Albums`);
         return from Album album in albumStream
             select album;
     }
 
     resource function get albums/[string id]() returns Album|http:NotFound|error {
-        redshiftdata:ExecutionResponse res = check self.redshift->execute(`SELECT * FROM Albums WHERE id = ${id} LIMIT 1`);
-        _ = check waitForCompletion(self.redshift, res.statementId);
-        stream<Album, redshiftdata:Error?> albumStream = check self.redshift->getResultAsStream(res.statementId);
+        stream<Album, redshiftdata:Error?> albumStream =
+            check self.redshift->query(`SELECT * FROM Albums WHERE id = ${id} LIMIT 1`);
         Album[] albums = check from Album album in albumStream
             select album;
         return albums.length() == 0 ? http:NOT_FOUND : albums[0];
     }
 
     resource function post album(Album album) returns Album|error {
-        redshiftdata:ExecutionResponse res = check self.redshift->execute(`
+        redshiftdata:DescriptionResponse description = check self.redshift->executeAndWait(`
             INSERT INTO Albums (id, title, artist, price)
             VALUES (${album.id}, ${album.title}, ${album.artist}, ${album.price});`);
-        redshiftdata:DescriptionResponse description = check waitForCompletion(self.redshift, res.statementId);
         return description.status == redshiftdata:FINISHED ? album : error("Failed to insert the album");
     }
 }
-
-isolated function waitForCompletion(redshiftdata:Client redshift, string statementId)
-returns redshiftdata:DescriptionResponse|redshiftdata:Error {
-    foreach int retryCount in 0 ... 9 {
-        redshiftdata:DescriptionResponse descriptionResponse = check redshift->describe(statementId);
-        if descriptionResponse.status is redshiftdata:FINISHED {
-            return descriptionResponse;
-        }
-        if descriptionResponse.status is redshiftdata:FAILED|redshiftdata:ABORTED {
-            return error("Execution did not finish successfully. Status: " + descriptionResponse.status);
-        }
-        runtime:sleep(1);
-    }
-    return error("Statement execution did not finish within the expected time");
-}
@@ -15,7 +15,6 @@
 //  under the License.
 
 import ballerina/io;
-import ballerina/lang.runtime;
 import ballerina/sql;
 import ballerinax/aws;
 import ballerinax/aws.redshiftdata;
@@ -43,30 +42,14 @@ public function main() returns error? {
         artist VARCHAR(100),
         price REAL
     );`;
-    redshiftdata:ExecutionResponse createTableResponse = check redshift->execute(createTableQuery);
-    _ = check waitForCompletion(redshift, createTableResponse.statementId);
+    _ = check redshift->executeAndWait(createTableQuery);
 
     // Adds the records to the `albums` table
     sql:ParameterizedQuery[] insertQueries = [
         `INSERT INTO Albums VALUES('A-123', 'Lemonade', 'Beyonce', 18.98);`,
         `INSERT INTO Albums VALUES('A-321', 'Renaissance', 'Beyonce', 24.98);`
     ];
-    redshiftdata:ExecutionResponse insertDescription = check redshift->batchExecute(insertQueries);
-    _ = check waitForCompletion(redshift, insertDescription.statementId);
+    redshiftdata:ExecutionResponse insertResponse = check redshift->batchExecute(insertQueries);
+    _ = check redshift->waitForCompletion(insertResponse.statementId);
     io:println("Music Store database setup completed successfully.");
 }
-
-isolated function waitForCompletion(redshiftdata:Client redshift, string statementId)
-returns redshiftdata:DescriptionResponse|redshiftdata:Error {
-    foreach int retryCount in 0 ... 9 {
-        redshiftdata:DescriptionResponse descriptionResponse = check redshift->describe(statementId);
-        if descriptionResponse.status is redshiftdata:FINISHED {
-            return descriptionResponse;
-        }
-        if descriptionResponse.status is redshiftdata:FAILED|redshiftdata:ABORTED {
-            return error("Execution did not finish successfully. Status: " + descriptionResponse.status);
-        }
-        runtime:sleep(1);
-    }
-    return error("Statement execution did not finish within the expected time");
-}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.RedshiftDataAsyncClient;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultRequest;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Request;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Response;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link NativeClient} backed by the non-blocking {@link RedshiftDataAsyncClient}.
+ * <p>
+ * Requests are written and read by the NIO HTTP client's event loop, so no thread is held while a Data API
+ * request is in flight; the returned futures complete once the response has been unmarshalled.
+ * </p>
+ */
+final class AsyncNativeClient implements NativeClient {
+    private final RedshiftDataAsyncClient client;
+
+    AsyncNativeClient(RedshiftDataAsyncClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public CompletableFuture<ExecuteStatementResponse> executeStatement(ExecuteStatementRequest request) {
+        return client.executeStatement(request);
+    }
+
+    @Override
+    public CompletableFuture<BatchExecuteStatementResponse> batchExecuteStatement(
+            BatchExecuteStatementRequest request) {
+        return client.batchExecuteStatement(request);
+    }
+
+    @Override
+    public CompletableFuture<DescribeStatementResponse> describeStatement(DescribeStatementRequest request) {
+        return client.describeStatement(request);
+    }
+
+    @Override
+    public CompletableFuture<GetStatementResultResponse> getStatementResult(GetStatementResultRequest request) {
+        return client.getStatementResult(request);
+    }
+
+    @Override
+    public CompletableFuture<GetStatementResultV2Response> getStatementResultV2(GetStatementResultV2Request request) {
+        return client.getStatementResultV2(request);
+    }
+
+    @Override
+    public CompletableFuture<ListStatementsResponse> listStatements(ListStatementsRequest request) {
+        return client.listStatements(request);
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.StatusString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs a list of SQL statements as batches that respect the statement count and the SQL size limits of
+ * {@code BatchExecuteStatement}.
+ * <p>
+ * The statements are split into batches in their order, and up to a number of lanes run the batches: each lane
+ * submits the next batch, waits for it to complete and moves on to the batch after. Once a batch does not finish,
+ * or a batch cannot be submitted or waited for, the lanes submit no more batches. The failure of a batch is recorded
+ * for it, so the batches that completed before are still reported.
+ * </p>
+ */
+final class BatchDispatcher {
+    private final NativeClient nativeClient;
+    private final Function<String, CompletableFuture<DescribeStatementResponse>> completion;
+    private final List<BatchExecuteStatementRequest> requests;
+    private final DescribeStatementResponse[] descriptions;
+    private final String[] statementIds;
+    private final Throwable[] failures;
+    private final AtomicInteger nextBatch = new AtomicInteger();
+    private volatile boolean stopped = false;
+
+    BatchDispatcher(NativeClient nativeClient, BatchExecuteStatementRequest template, String[] sqls,
+                    ExecuteManyConfig config,
+                    Function<String, CompletableFuture<DescribeStatementResponse>> completion) {
+        this.nativeClient = nativeClient;
+        this.completion = completion;
+        this.requests = split(sqls, config.maxBatchSize(), config.maxBatchSqlSize()).stream()
+                .map(batch -> template.toBuilder().sqls(batch).build())
+                .toList();
+        this.descriptions = new DescribeStatementResponse[requests.size()];
+        this.statementIds = new String[requests.size()];
+        this.failures = new Throwable[requests.size()];
+    }
+
+    /**
+     * Splits statements into consecutive batches of at most {@code maxBatchSize} statements and at most
+     * {@code maxBatchSqlSize} bytes of SQL. A statement larger than the size limit forms a batch of its own.
+     */
+    static List<String[]> split(String[] sqls, int maxBatchSize, long maxBatchSqlSize) {
+        List<String[]> batches = new ArrayList<>();
+        int start = 0;
+        long batchSqlSize = 0;
+        for (int i = 0; i < sqls.length; i++) {
+            long sqlSize = sqls[i].getBytes(StandardCharsets.UTF_8).length;
+            if (i > start && (i - start == maxBatchSize || batchSqlSize + sqlSize > maxBatchSqlSize)) {
+                batches.add(Arrays.copyOfRange(sqls, start, i));
+                start = i;
+                batchSqlSize = 0;
+            }
+            batchSqlSize += sqlSize;
+        }
+        if (start < sqls.length) {
+            batches.add(Arrays.copyOfRange(sqls, start, sqls.length));
+        }
+        return batches;
+    }
+
+    int batchCount() {
+        return requests.size();
+    }
+
+    int statementCount(int batch) {
+        return requests.get(batch).sqls().size();
+    }
+
+    /**
+     * Returns the identifier of a batch, or {@code null} if it was not submitted.
+     */
+    String statementIdOf(int batch) {
+        return statementIds[batch];
+    }
+
+    /**
+     * Returns the failure of a batch that could not be submitted or waited for, or {@code null} if there is none.
+     */
+    Throwable failureOf(int batch) {
+        return failures[batch];
+    }
+
+    /**
+     * Runs the batches on the given number of lanes.
+     *
+     * @return the descriptions of the completed batches in the order of the batches, with {@code null} for the
+     * batches that were not submitted or that failed
+     */
+    CompletableFuture<DescribeStatementResponse[]> run(int lanes) {
+        CompletableFuture<?>[] laneCompletions = new CompletableFuture<?>[Math.min(lanes, requests.size())];
+        for (int i = 0; i < laneCompletions.length; i++) {
+            laneCompletions[i] = runLane();
+        }
+        return CompletableFuture.allOf(laneCompletions).thenApply(ignored -> descriptions);
+    }
+
+    private CompletableFuture<Void> runLane() {
+        int batch = stopped ? requests.size() : nextBatch.getAndIncrement();
+        if (batch >= requests.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return nativeClient.batchExecuteStatement(requests.get(batch))
+                .thenCompose(response -> {
+                    statementIds[batch] = response.id();
+                    return completion.apply(response.id());
+                })
+                .handle((description, failure) -> {
+                    if (failure != null) {
+                        failures[batch] = CommonUtils.unwrap(failure);
+                        stopped = true;
+                    } else {
+                        descriptions[batch] = description;
+                        if (description.status() != StatusString.FINISHED) {
+                            stopped = true;
+                        }
+                    }
+                    return runLane();
+                })
+                .thenCompose(Function.identity());
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.StatusString;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Buffers {@code INSERT} statements per target table and flushes the statements of a table as one
+ * {@code BatchExecuteStatement}, which Redshift runs as a single transaction.
+ * <p>
+ * The statements of a table are flushed once they reach {@code maxStatements} or {@code maxBatchSqlSize}, once the
+ * first of them has been buffered for {@code maxLinger}, or on an explicit flush. A flushed batch is pending until it
+ * completes, and a flush waits while {@code maxPendingFlushes} batches are pending, which holds back the writes that
+ * fill the buffers. The batches of a table may run concurrently, and therefore in any order. A batch that does not
+ * finish fails the next write, flush or close of the writer.
+ * </p>
+ */
+public final class BufferedStatementWriter implements AutoCloseable {
+    static final String NATIVE_BUFFERED_WRITER = "nativeBufferedWriter";
+    private static final String STATS_RECORD = "BufferedWriterStats";
+    private static final BString STATS_BUFFERED_STATEMENTS = StringUtils.fromString("bufferedStatements");
+    private static final BString STATS_PENDING_FLUSHES = StringUtils.fromString("pendingFlushes");
+    private static final BString STATS_FLUSHES = StringUtils.fromString("flushes");
+    private static final BString STATS_FLUSHED_STATEMENTS = StringUtils.fromString("flushedStatements");
+    private static final BString STATS_FAILED_FLUSHES = StringUtils.fromString("failedFlushes");
+    private static final BString STATS_BACK_PRESSURE_WAITS = StringUtils.fromString("backPressureWaits");
+    private static final Pattern INSERT_TARGET = Pattern.compile("^\\s*INSERT\\s+INTO\\s+([^\\s(]+)",
+            Pattern.CASE_INSENSITIVE);
+
+    private final NativeClient nativeClient;
+    private final Function<String, CompletableFuture<DescribeStatementResponse>> completion;
+    private final BatchExecuteStatementRequest template;
+    private final BufferedWriterConfig config;
+    private final Semaphore flushPermits;
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(new RedshiftDataThreadFactory());
+    private final Map<String, TableBuffer> buffers = new HashMap<>();
+    private final Set<CompletableFuture<Void>> pendingFlushes = ConcurrentHashMap.newKeySet();
+    private int bufferedStatements = 0;
+    private long flushes = 0;
+    private long flushedStatements = 0;
+    private long failedFlushes = 0;
+    private long backPressureWaits = 0;
+    private Exception failure = null;
+    private boolean closed = false;
+
+    BufferedStatementWriter(NativeClient nativeClient, BatchExecuteStatementRequest template,
+                            BufferedWriterConfig config,
+                            Function<String, CompletableFuture<DescribeStatementResponse>> completion) {
+        this.nativeClient = nativeClient;
+        this.completion = completion;
+        this.template = template;
+        this.config = config;
+        this.flushPermits = new Semaphore(config.maxPendingFlushes());
+    }
+
+    /**
+     * Buffers an {@code INSERT} statement, flushing the statements of its table if it fills their buffer.
+     *
+     * @param sql the statement, with its parameter values inlined
+     */
+    void write(String sql) throws Exception {
+        Matcher target = INSERT_TARGET.matcher(sql);
+        if (!target.find()) {
+            throw new IllegalArgumentException("The buffered writer accepts only INSERT INTO statements.");
+        }
+        String table = target.group(1);
+        long sqlSize = CommonUtils.utf8Length(sql);
+        List<String> overflow = null;
+        List<String> full = null;
+        synchronized (this) {
+            checkState();
+            TableBuffer buffer = buffers.computeIfAbsent(table, ignored -> new TableBuffer());
+            if (!buffer.sqls.isEmpty() && buffer.sqlSize + sqlSize > config.maxBatchSqlSize()) {
+                overflow = detach(buffer);
+            }
+            buffer.sqls.add(sql);
+            buffer.sqlSize += sqlSize;
+            bufferedStatements++;
+            if (buffer.sqls.size() == 1) {
+                long generation = buffer.generation;
+                // The flush may wait for a pending batch, and therefore does not run on the scheduler
+                buffer.lingerTimer = scheduler.schedule(() -> {
+                    Thread.startVirtualThread(() -> lingerExpired(buffer, generation));
+                }, config.maxLingerNanos(), TimeUnit.NANOSECONDS);
+            }
+            if (buffer.sqls.size() >= config.maxStatements() || buffer.sqlSize >= config.maxBatchSqlSize()) {
+                full = detach(buffer);
+            }
+        }
+        submit(overflow);
+        submit(full);
+    }
+
+    /**
+     * Flushes the buffered statements of all the tables, and waits for all the pending batches to complete.
+     */
+    void flush() throws Exception {
+        List<List<String>> batches = new ArrayList<>();
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("The buffered writer is closed.");
+            }
+            for (TableBuffer buffer : buffers.values()) {
+                if (!buffer.sqls.isEmpty()) {
+                    batches.add(detach(buffer));
+                }
+            }
+        }
+        awaitFlushes(batches);
+    }
+
+    @Override
+    public void close() throws Exception {
+        List<List<String>> batches = new ArrayList<>();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (TableBuffer buffer : buffers.values()) {
+                if (!buffer.sqls.isEmpty()) {
+                    batches.add(detach(buffer));
+                }
+            }
+            buffers.clear();
+        }
+        try {
+            awaitFlushes(batches);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void awaitFlushes(List<List<String>> batches) throws Exception {
+        for (List<String> batch : batches) {
+            submit(batch);
+        }
+        CompletableFuture.allOf(pendingFlushes.toArray(CompletableFuture<?>[]::new)).join();
+        synchronized (this) {
+            reportFailure();
+        }
+    }
+
+    private void lingerExpired(TableBuffer buffer, long generation) {
+        List<String> batch = null;
+        synchronized (this) {
+            if (!closed && buffer.generation == generation && !buffer.sqls.isEmpty()) {
+                batch = detach(buffer);
+            }
+        }
+        try {
+            submit(batch);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<String> detach(TableBuffer buffer) {
+        List<String> batch = buffer.sqls;
+        if (Objects.nonNull(buffer.lingerTimer)) {
+            buffer.lingerTimer.cancel(false);
+            buffer.lingerTimer = null;
+        }
+        buffer.sqls = new ArrayList<>();
+        buffer.sqlSize = 0;
+        buffer.generation++;
+        bufferedStatements -= batch.size();
+        return batch;
+    }
+
+    private void submit(List<String> batch) throws InterruptedException {
+        if (Objects.isNull(batch)) {
+            return;
+        }
+        if (!flushPermits.tryAcquire()) {
+            synchronized (this) {
+                backPressureWaits++;
+            }
+            flushPermits.acquire();
+        }
+        CompletableFuture<Void> pendingFlush = new CompletableFuture<>();
+        pendingFlushes.add(pendingFlush);
+        nativeClient.batchExecuteStatement(template.toBuilder().sqls(batch).build())
+                .thenCompose(response -> completion.apply(response.id()))
+                .whenComplete((description, error) -> {
+                    synchronized (this) {
+                        flushes++;
+                        if (Objects.nonNull(error)) {
+                            failedFlushes++;
+                            recordFailure(new IllegalStateException(String.format(
+                                    "A batch of %d statements could not be run: %s", batch.size(),
+                                    CommonUtils.unwrap(error).getMessage()), CommonUtils.unwrap(error)));
+                        } else if (description.status() != StatusString.FINISHED) {
+                            failedFlushes++;
+                            recordFailure(new IllegalStateException(String.format(
+                                    "The batch %s of %d statements did not finish: %s", description.id(),
+                                    batch.size(), Objects.requireNonNullElse(description.error(),
+                                            description.statusAsString()))));
+                        } else {
+                            flushedStatements += batch.size();
+                        }
+                    }
+                    pendingFlushes.remove(pendingFlush);
+                    flushPermits.release();
+                    pendingFlush.complete(null);
+                });
+    }
+
+    private void recordFailure(Exception batchFailure) {
+        if (Objects.isNull(failure)) {
+            failure = batchFailure;
+        } else {
+            failure.addSuppressed(batchFailure);
+        }
+    }
+
+    private void checkState() throws Exception {
+        if (closed) {
+            throw new IllegalStateException("The buffered writer is closed.");
+        }
+        reportFailure();
+    }
+
+    /**
+     * Throws the failures of the batches that completed since the last one was reported.
+     */
+    private void reportFailure() throws Exception {
+        if (Objects.nonNull(failure)) {
+            Exception reported = failure;
+            failure = null;
+            throw reported;
+        }
+    }
+
+    synchronized BMap<BString, Object> getStats() {
+        BMap<BString, Object> stats = ValueCreator.createRecordValue(ModuleUtils.getModule(), STATS_RECORD);
+        stats.put(STATS_BUFFERED_STATEMENTS, (long) bufferedStatements);
+        stats.put(STATS_PENDING_FLUSHES, (long) pendingFlushes.size());
+        stats.put(STATS_FLUSHES, flushes);
+        stats.put(STATS_FLUSHED_STATEMENTS, flushedStatements);
+        stats.put(STATS_FAILED_FLUSHES, failedFlushes);
+        stats.put(STATS_BACK_PRESSURE_WAITS, backPressureWaits);
+        return stats;
+    }
+
+    /**
+     * The buffered statements of a table. The generation changes each time the statements are flushed, so that a
+     * linger timer set for earlier statements does not flush later ones.
+     */
+    private static final class TableBuffer {
+        private List<String> sqls = new ArrayList<>();
+        private long sqlSize = 0;
+        private long generation = 0;
+        private ScheduledFuture<?> lingerTimer;
+    }
+
+    public static Object write(Environment env, BObject bWriter, BObject bSqlStatement) {
+        BufferedStatementWriter writer = (BufferedStatementWriter) bWriter.getNativeData(NATIVE_BUFFERED_WRITER);
+        return env.yieldAndRun(() -> {
+            try {
+                writer.write(new ParameterizedQuery(bSqlStatement).getPreparedQuery());
+                return null;
+            } catch (Exception e) {
+                return writerError("write", e);
+            }
+        });
+    }
+
+    public static Object flush(Environment env, BObject bWriter) {
+        BufferedStatementWriter writer = (BufferedStatementWriter) bWriter.getNativeData(NATIVE_BUFFERED_WRITER);
+        return env.yieldAndRun(() -> {
+            try {
+                writer.flush();
+                return null;
+            } catch (Exception e) {
+                return writerError("flush", e);
+            }
+        });
+    }
+
+    public static Object close(Environment env, BObject bWriter) {
+        BufferedStatementWriter writer = (BufferedStatementWriter) bWriter.getNativeData(NATIVE_BUFFERED_WRITER);
+        return env.yieldAndRun(() -> {
+            try {
+                writer.close();
+                return null;
+            } catch (Exception e) {
+                return writerError("close", e);
+            }
+        });
+    }
+
+    public static BMap<BString, Object> getStats(BObject bWriter) {
+        return ((BufferedStatementWriter) bWriter.getNativeData(NATIVE_BUFFERED_WRITER)).getStats();
+    }
+
+    private static Object writerError(String operation, Exception e) {
+        Throwable cause = CommonUtils.unwrap(e);
+        String errorMsg = String.format("Error occurred while executing the %s of the buffered writer: %s",
+                operation, Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+        return CommonUtils.createError(errorMsg, cause);
+    }
+}
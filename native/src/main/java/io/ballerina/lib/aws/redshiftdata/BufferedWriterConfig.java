@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code BufferedWriterConfig} contains the java representation of the ballerina redshift data api buffered writer
+ * configurations.
+ *
+ * @param maxStatements     The number of buffered statements of a table at which they are flushed.
+ * @param maxBatchSqlSize   The size of the buffered statements of a table, in UTF-8 bytes, at which they are flushed.
+ * @param maxLingerNanos    The longest time a statement is buffered before it is flushed.
+ * @param maxPendingFlushes The maximum number of flushed batches that have not completed.
+ */
+public record BufferedWriterConfig(int maxStatements, long maxBatchSqlSize, long maxLingerNanos,
+                                   int maxPendingFlushes) {
+    private static final BString BUFFERED_WRITER_MAX_STATEMENTS = StringUtils.fromString("maxStatements");
+    private static final BString BUFFERED_WRITER_MAX_BATCH_SQL_SIZE = StringUtils.fromString("maxBatchSqlSize");
+    private static final BString BUFFERED_WRITER_MAX_LINGER = StringUtils.fromString("maxLinger");
+    private static final BString BUFFERED_WRITER_MAX_PENDING_FLUSHES = StringUtils.fromString("maxPendingFlushes");
+
+    public BufferedWriterConfig {
+        if (maxStatements < 1) {
+            throw new IllegalArgumentException("The maxStatements should be greater than 0.");
+        }
+        if (maxStatements > ExecuteManyConfig.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(String.format(
+                    "The maxStatements should be less than or equal to %d.", ExecuteManyConfig.MAX_BATCH_SIZE));
+        }
+        if (maxBatchSqlSize < 1) {
+            throw new IllegalArgumentException("The maxBatchSqlSize should be greater than 0.");
+        }
+        if (maxLingerNanos < 1) {
+            throw new IllegalArgumentException("The maxLinger should be greater than 0.");
+        }
+        if (maxPendingFlushes < 1) {
+            throw new IllegalArgumentException("The maxPendingFlushes should be greater than 0.");
+        }
+    }
+
+    public BufferedWriterConfig(BMap<BString, Object> bBufferedWriterConfig) {
+        this(
+                CommonUtils.narrowToInt(bBufferedWriterConfig.getIntValue(BUFFERED_WRITER_MAX_STATEMENTS),
+                        "maxStatements"),
+                bBufferedWriterConfig.getIntValue(BUFFERED_WRITER_MAX_BATCH_SQL_SIZE),
+                CommonUtils.toNanos((BDecimal) bBufferedWriterConfig.get(BUFFERED_WRITER_MAX_LINGER)),
+                CommonUtils.narrowToInt(bBufferedWriterConfig.getIntValue(BUFFERED_WRITER_MAX_PENDING_FLUSHES),
+                        "maxPendingFlushes")
+        );
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * The {@link Executor} the blocking SDK calls of a client run on, which bounds the calls that run at a time and the
+ * calls that wait for them, so that slow calls hold a bounded number of threads.
+ * <p>
+ * A call runs right away while fewer than {@code maxConcurrency} calls run, and otherwise waits in a queue of up to
+ * {@code maxQueueDepth} calls. A call made while the queue is full is rejected, or waits for room in the queue on the
+ * strand that made it with the {@code BLOCK} policy. A call made on any other thread, such as a thread of the clients
+ * or one of the common pool the status polls are scheduled on, is rejected either way, as it would hold up the calls
+ * or the background work of the clients while it waits. The calls run on a virtual thread
+ * each in the {@code VIRTUAL} mode, and on a pool of up to {@code maxConcurrency} daemon threads in the
+ * {@code PLATFORM} mode.
+ * </p>
+ */
+final class CallExecutor implements Executor, AutoCloseable {
+    private static final String STATS_RECORD = "ExecutorStats";
+    private static final BString STATS_ACTIVE = StringUtils.fromString("active");
+    private static final BString STATS_QUEUED = StringUtils.fromString("queued");
+    private static final BString STATS_MAX_QUEUED = StringUtils.fromString("maxQueued");
+    private static final BString STATS_COMPLETED = StringUtils.fromString("completed");
+    private static final BString STATS_SATURATIONS = StringUtils.fromString("saturations");
+    private static final BString STATS_REJECTED = StringUtils.fromString("rejected");
+
+    private final ExecutorService executor;
+    private final int maxConcurrency;
+    private final int maxQueueDepth;
+    private final boolean blocks;
+    // The calls waiting for a running call to complete, guarded by this
+    private final Queue<Runnable> queue = new ArrayDeque<>();
+    private int active;
+    private int maxQueued;
+    private long completed;
+    // The number of calls that found every slot taken and had to wait or be rejected
+    private long saturations;
+    private long rejected;
+
+    CallExecutor(ExecutorConfig config) {
+        this.maxConcurrency = config.maxConcurrency();
+        this.maxQueueDepth = config.maxQueueDepth();
+        this.blocks = ExecutorConfig.BLOCK.equals(config.rejectionPolicy());
+        this.executor = ExecutorConfig.PLATFORM.equals(config.mode())
+                ? Executors.newFixedThreadPool(maxConcurrency, new RedshiftDataThreadFactory())
+                : Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name(RedshiftDataThreadFactory.THREAD_NAME_PREFIX, 0).factory());
+    }
+
+    @Override
+    public void execute(Runnable call) {
+        synchronized (this) {
+            if (active >= maxConcurrency) {
+                saturations++;
+                if (blocks && mayWait(Thread.currentThread())) {
+                    awaitRoom();
+                }
+            }
+            if (active >= maxConcurrency) {
+                if (queue.size() < maxQueueDepth) {
+                    queue.add(call);
+                    maxQueued = Math.max(maxQueued, queue.size());
+                    return;
+                }
+                rejected++;
+                throw new RejectedExecutionException(String.format(
+                        "The executor of the client is saturated: %d calls are running and %d are queued.",
+                        active, queue.size()));
+            }
+            active++;
+        }
+        try {
+            executor.execute(runWithQueued(call));
+        } catch (RejectedExecutionException e) {
+            // The executor is closed, so the slot taken for the call is given back
+            synchronized (this) {
+                active--;
+                rejected++;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Whether a call may wait for room on the thread it is made on. Strands run on virtual threads of their own,
+     * while the platform threads and the threads of the clients run the background work of many callers.
+     */
+    private static boolean mayWait(Thread thread) {
+        return thread.isVirtual() && !RedshiftDataThreadFactory.isClientThread(thread);
+    }
+
+    /**
+     * Waits until a slot or a place in the queue is free, the executor is closed or the waiting thread is interrupted.
+     */
+    private synchronized void awaitRoom() {
+        while (active >= maxConcurrency && queue.size() >= maxQueueDepth && !executor.isShutdown()) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Wraps a call that took a slot to run the queued calls on the same slot once it completes, until none is left.
+     */
+    private Runnable runWithQueued(Runnable call) {
+        return () -> {
+            Runnable next = call;
+            while (next != null) {
+                try {
+                    next.run();
+                } finally {
+                    next = takeNext();
+                }
+            }
+        };
+    }
+
+    private synchronized Runnable takeNext() {
+        completed++;
+        Runnable next = queue.poll();
+        if (next == null) {
+            active--;
+        }
+        if (blocks) {
+            notifyAll();
+        }
+        return next;
+    }
+
+    synchronized BMap<BString, Object> getStats() {
+        BMap<BString, Object> stats = ValueCreator.createRecordValue(ModuleUtils.getModule(), STATS_RECORD);
+        stats.put(STATS_ACTIVE, (long) active);
+        stats.put(STATS_QUEUED, (long) queue.size());
+        stats.put(STATS_MAX_QUEUED, (long) maxQueued);
+        stats.put(STATS_COMPLETED, completed);
+        stats.put(STATS_SATURATIONS, saturations);
+        stats.put(STATS_REJECTED, rejected);
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        synchronized (this) {
+            // The calls waiting for room are rejected rather than left waiting on a closed executor
+            notifyAll();
+        }
+    }
+}
@@ -0,0 +1,563 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.ReferenceType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.time.nativeimpl.Utc;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.redshiftdata.model.ColumnMetadata;
+import software.amazon.awssdk.services.redshiftdata.model.Field;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Decodes the values of a result column into the Ballerina values of the record field they are mapped to.
+ * <p>
+ * A decoder is chosen once per column from the Redshift type of the column ({@link ColumnMetadata#typeName()}) and
+ * the type of the target record field, so that numeric, temporal and binary values, which the Data API delivers as
+ * text, are decoded directly into {@code int}, {@code decimal}, {@code time:Utc}, {@code time:Civil},
+ * {@code time:Date}, {@code time:TimeOfDay} and {@code byte[]} values. Decoders hold no state, so they are shared
+ * by every stream reading results of the same shape.
+ * </p>
+ */
+abstract class ColumnDecoder {
+    private static final String TIME_MODULE = "time";
+    private static final String TIME_UTC = "Utc";
+    private static final String TIME_CIVIL = "Civil";
+    private static final String TIME_DATE = "Date";
+    private static final String TIME_OF_DAY = "TimeOfDay";
+    private static final String TIME_ZONE_OFFSET = "ZoneOffset";
+    private static final BString YEAR = StringUtils.fromString("year");
+    private static final BString MONTH = StringUtils.fromString("month");
+    private static final BString DAY = StringUtils.fromString("day");
+    private static final BString HOUR = StringUtils.fromString("hour");
+    private static final BString MINUTE = StringUtils.fromString("minute");
+    private static final BString SECOND = StringUtils.fromString("second");
+    private static final BString UTC_OFFSET = StringUtils.fromString("utcOffset");
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(1_000_000_000);
+
+    static final ColumnDecoder NIL = new NilDecoder();
+    static final ColumnDecoder INT = new IntDecoder();
+    static final ColumnDecoder FLOAT = new FloatDecoder();
+    static final ColumnDecoder DECIMAL = new DecimalDecoder();
+    static final ColumnDecoder STRING = new StringDecoder();
+    static final ColumnDecoder BOOLEAN = new BooleanDecoder();
+    static final ColumnDecoder BYTES = new BytesDecoder();
+    static final ColumnDecoder UTC = new UtcDecoder();
+    static final ColumnDecoder UNTYPED = new UntypedDecoder();
+
+    /**
+     * Returns the decoder of a column for a record field of the given type.
+     *
+     * @param column    the metadata of the result column
+     * @param fieldType the type of the record field, or the rest field type of an open record
+     * @return the decoder of the column
+     */
+    static ColumnDecoder forColumn(ColumnMetadata column, Type fieldType) {
+        String columnType = Objects.requireNonNullElse(column.typeName(), "").toLowerCase(Locale.ROOT);
+        Type targetType = withoutNil(fieldType);
+        String timeType = timeTypeName(targetType);
+        if (Objects.nonNull(timeType)) {
+            return switch (timeType) {
+                case TIME_UTC -> UTC;
+                case TIME_CIVIL -> new CivilDecoder(targetType, isTimeOnly(columnType));
+                case TIME_DATE -> new DateDecoder(targetType);
+                case TIME_OF_DAY -> new TimeOfDayDecoder(targetType, !isTimeOnly(columnType));
+                default -> forColumnType(columnType);
+            };
+        }
+        Type impliedType = TypeUtils.getImpliedType(targetType);
+        int tag = impliedType.getTag();
+        if (TypeTags.isIntegerTypeTag(tag)) {
+            return INT;
+        }
+        return switch (tag) {
+            case TypeTags.NULL_TAG -> NIL;
+            case TypeTags.FLOAT_TAG -> FLOAT;
+            case TypeTags.DECIMAL_TAG -> DECIMAL;
+            case TypeTags.BOOLEAN_TAG -> BOOLEAN;
+            case TypeTags.ARRAY_TAG -> isByteArray(impliedType) ? BYTES : forColumnType(columnType);
+            default -> TypeTags.isStringTypeTag(tag) ? STRING : forColumnType(columnType);
+        };
+    }
+
+    /**
+     * Returns the decoder for a field whose type does not narrow down the value, such as a field of an open record.
+     *
+     * @param columnType the Redshift type of the column, in lower case
+     */
+    static ColumnDecoder forColumnType(String columnType) {
+        return switch (columnType) {
+            case "int2", "int4", "int8", "smallint", "integer", "bigint" -> INT;
+            case "numeric", "decimal" -> DECIMAL;
+            case "float4", "float8", "float", "real", "double precision" -> FLOAT;
+            case "bool", "boolean" -> BOOLEAN;
+            case "varbyte", "varbinary", "binary varying" -> BYTES;
+            default -> UNTYPED;
+        };
+    }
+
+    /**
+     * Decodes the value of a result field.
+     */
+    Object decode(Field field) {
+        if (Boolean.TRUE.equals(field.isNull())) {
+            return null;
+        }
+        String stringValue = field.stringValue();
+        if (Objects.nonNull(stringValue)) {
+            return fromText(stringValue, 0, stringValue.length());
+        }
+        Long longValue = field.longValue();
+        if (Objects.nonNull(longValue)) {
+            return fromLong(longValue);
+        }
+        Double doubleValue = field.doubleValue();
+        if (Objects.nonNull(doubleValue)) {
+            return fromDouble(doubleValue);
+        }
+        Boolean booleanValue = field.booleanValue();
+        if (Objects.nonNull(booleanValue)) {
+            return fromBoolean(booleanValue);
+        }
+        SdkBytes blobValue = field.blobValue();
+        if (Objects.nonNull(blobValue)) {
+            return fromBytes(blobValue.asByteArray());
+        }
+        return null;
+    }
+
+    /**
+     * Decodes a value delivered as text, held between {@code start} and {@code end} of {@code text}.
+     */
+    abstract Object fromText(CharSequence text, int start, int end);
+
+    Object fromLong(long value) {
+        String text = Long.toString(value);
+        return fromText(text, 0, text.length());
+    }
+
+    Object fromDouble(double value) {
+        String text = Double.toString(value);
+        return fromText(text, 0, text.length());
+    }
+
+    Object fromBoolean(boolean value) {
+        String text = Boolean.toString(value);
+        return fromText(text, 0, text.length());
+    }
+
+    Object fromBytes(byte[] value) {
+        throw new IllegalArgumentException("Binary value cannot be converted to " + targetName());
+    }
+
+    abstract String targetName();
+
+    private static Type withoutNil(Type type) {
+        Type impliedType = TypeUtils.getImpliedType(type);
+        if (impliedType.getTag() != TypeTags.UNION_TAG) {
+            return type;
+        }
+        Type nonNilMember = null;
+        for (Type member : ((UnionType) impliedType).getMemberTypes()) {
+            if (TypeUtils.getImpliedType(member).getTag() == TypeTags.NULL_TAG) {
+                continue;
+            }
+            if (Objects.nonNull(nonNilMember)) {
+                // More than one member, such as `anydata`: the column type decides
+                return type;
+            }
+            nonNilMember = member;
+        }
+        return Objects.requireNonNullElse(nonNilMember, type);
+    }
+
+    /**
+     * Returns the name of the {@code ballerina/time} type the given type refers to, if it does.
+     */
+    private static String timeTypeName(Type type) {
+        Type current = type;
+        while (Objects.nonNull(current)) {
+            if (Objects.nonNull(current.getPackage()) && TIME_MODULE.equals(current.getPackage().getName())
+                    && Objects.nonNull(current.getName())) {
+                switch (current.getName()) {
+                    case TIME_UTC, TIME_CIVIL, TIME_DATE, TIME_OF_DAY:
+                        return current.getName();
+                    default:
+                        break;
+                }
+            }
+            if (current instanceof ReferenceType referenceType) {
+                current = referenceType.getReferredType();
+            } else if (current instanceof IntersectionType intersectionType) {
+                current = intersectionType.getEffectiveType();
+            } else {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isByteArray(Type arrayType) {
+        Type elementType = ((ArrayType) arrayType).getElementType();
+        return TypeUtils.getImpliedType(elementType).getTag() == TypeTags.BYTE_TAG;
+    }
+
+    private static boolean isTimeOnly(String columnType) {
+        return columnType.equals("time") || columnType.equals("timetz");
+    }
+
+    private static Instant toInstant(TextParsers.Temporal temporal) {
+        LocalDateTime localDateTime = LocalDateTime.of(temporal.year(), temporal.month(), temporal.day(),
+                temporal.hour(), temporal.minute(), temporal.second(), temporal.nanos());
+        int offsetSeconds = Objects.requireNonNullElse(temporal.offsetSeconds(), 0);
+        return localDateTime.toInstant(ZoneOffset.ofTotalSeconds(offsetSeconds));
+    }
+
+    private static Object seconds(TextParsers.Temporal temporal) {
+        BigDecimal seconds = BigDecimal.valueOf(temporal.second());
+        if (temporal.nanos() != 0) {
+            seconds = seconds.add(BigDecimal.valueOf(temporal.nanos()).divide(NANOS_PER_SECOND)
+                    .stripTrailingZeros());
+        }
+        return ValueCreator.createDecimalValue(seconds);
+    }
+
+    private static final class NilDecoder extends ColumnDecoder {
+        @Override
+        Object decode(Field field) {
+            return null;
+        }
+
+        @Override
+        Object fromText(CharSequence text, int start, int end) {
+            return null;
+        }
+
+        @Override
+        String targetName() {
+            return "()";
+        }
+    }
+
+    private static final class IntDecoder extends ColumnDecoder {
+        @Override
+        Object fromText(CharSequence text, int start, int end) {
+            return TextParsers.parseLong(text, start, end);
+        }
+
+        @Override
+        Object fromLong(long value) {
+            return value;
+        }
+
+        @Override
+        Object fromDouble(double value) {
+            if (value != Math.rint(value) || Double.isInfinite(value)) {
+                throw new IllegalArgumentException("Value '" + value + "' cannot be converted to int");
+            }
+            return (long) value;
+        }
+
+        @Override
+        Object fromBoolean(boolean value) {
+            throw new IllegalArgumentException("Boolean value cannot be converted to int");
+        }
+
+        @Override
+        String targetName() {
+            return "int";
+        }
+    }
+
+    private static final class FloatDecoder extends ColumnDecoder {
+        @Override
+        Object fromText(CharSequence text, int start, int end) {
+            return Double.parseDouble(text.subSequence(start, end).toString());
+        }
+
+        @Override
+        Object fromLong(long value) {
+            return (double) value;
+        }
+
+        @Override
+        Object fromDouble(double value) {
+            return value;
+        }
+
+        @Override
+        Object fromBoolean(boolean value) {
+            throw new IllegalArgumentException("Boolean value cannot be converted to float");
+        }
+
+        @Override
+        String targetName() {
+            return "float";
+        }
+    }
+
+    private static final class DecimalDecoder extends ColumnDecoder {
+        @Override
+        Object fromText(CharSequence text, int start, int end) {
+            char[] digits = new char[end - start];
+            for (int i = 0; i < digits.length; i++) {
+                digits[i] = text.charAt(start + i);
+            }
+            return ValueCreator.createDecimalValue(new BigDecimal(digits));
+        }
+
+        @Override
+        Object fromLong(long value) {
+            return ValueCreator.createDecimalValue(BigDecimal.valueOf(value));
+        }
+
+        @Override
+        Object fromDouble(double value) {
+            return ValueCreator.createDecimalValue(BigDecimal.valueOf(value));
+        }
+
+        @Override
+        Object fromBoolean(boolean value) {
+            throw new IllegalArgumentException("Boolean value cannot be converted to decimal");
+        }
+
+        @Override
+        String targetName() {
+            return "decimal";
+        }
+    }
+
+    private static final class StringDecoder extends ColumnDecoder {
+        @Override
+        Object fromText(CharSequence text, int start, int end) {
+            if (start == 0 && end == text.length() && text instanceof String string) {
+                return StringUtils.fromString(string);
+            }
+            return StringUtils.fromString(text.subSequence(start, end).toString());
+        }
+
+        @Override
+        Object fromBytes(byte[] value) {
+            StringBuilder hex = new StringBuilder(value.length * 2);
+            for (byte b : value) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return StringUtils.fromString(hex.toString());
+        }
+
+        @Override
+        String targetName() {
+            return "string";
+        }
+    }
+
+    private static final class BooleanDecoder extends ColumnDecoder {
+        @Override
+        Object fromText(CharSequence text, int start, int end) {
+            return TextParsers.parseBoolean(text, start, end);
+        }
+
+        @Override
+        Object fromLong(long value) {
+            return value != 0;
+        }
+
+        @Override
+        Object fromBoolean(boolean value) {
+            return value;
+        }
+
+        @Override
+        String targetName() {
+            return "boolean";
+        }
+    }
+
+    private static final class BytesDecoder extends ColumnDecoder {
+        @Override
+        Object fromText(CharSequence text, int start, int end) {
+            return ValueCreator.createArrayValue(TextParsers.parseHex(text, start, end));
+        }
+
+        @Override
+        Object fromBytes(byte[] value) {
+            return ValueCreator.createArrayValue(value);
+        }
+
+        @Override
+        String targetName() {
+            return "byte[]";
+        }
+    }
+
+    private static final class UtcDecoder extends ColumnDecoder {
+        @Override
+        Object fromText(CharSequence text, int start, int end) {
+            TextParsers.Temporal temporal = TextParsers.parseTemporal(text, start, end, true, true);
+            return new Utc(toInstant(temporal)).build();
+        }
+
+        @Override
+        String targetName() {
+            return "time:Utc";
+        }
+    }
+
+    private static final class CivilDecoder extends ColumnDecoder {
+        private final Type civilType;
+        private final boolean timeOnly;
+
+        CivilDecoder(Type civilType, boolean timeOnly) {
+            this.civilType = civilType;
+            this.timeOnly = timeOnly;
+        }
+
+        @Override
+        Object fromText(CharSequence text, int start, int end) {
+            TextParsers.Temporal temporal = TextParsers.parseTemporal(text, start, end, !timeOnly, true);
+            BMap<BString, Object> civil = ValueCreator.createRecordValue(civilType.getPackage(), TIME_CIVIL);
+            civil.put(YEAR, (long) temporal.year());
+            civil.put(MONTH, (long) temporal.month());
+            civil.put(DAY, (long) temporal.day());
+            civil.put(HOUR, (long) temporal.hour());
+            civil.put(MINUTE, (long) temporal.minute());
+            civil.put(SECOND, seconds(temporal));
+            if (Objects.nonNull(temporal.offsetSeconds())) {
+                civil.put(UTC_OFFSET, zoneOffset(temporal.offsetSeconds()));
+            }
+            return civil;
+        }
+
+        private Object zoneOffset(int offsetSeconds) {
+            int absoluteSeconds = Math.abs(offsetSeconds);
+            int sign = offsetSeconds < 0 ? -1 : 1;
+            Map<String, Object> offset = new HashMap<>();
+            offset.put("hours", (long) (sign * (absoluteSeconds / 3600)));
+            offset.put("minutes", (long) (sign * ((absoluteSeconds % 3600) / 60)));
+            return ValueCreator.createReadonlyRecordValue(civilType.getPackage(), TIME_ZONE_OFFSET, offset);
+        }
+
+        @Override
+        String targetName() {
+            return "time:Civil";
+        }
+    }
+
+    private static final class DateDecoder extends ColumnDecoder {
+        private final Type dateType;
+
+        DateDecoder(Type dateType) {
+            this.dateType = dateType;
+        }
+
+        @Override
+        Object fromText(CharSequence text, int start, int end) {
+            TextParsers.Temporal temporal = TextParsers.parseTemporal(text, start, end, true, true);
+            BMap<BString, Object> date = ValueCreator.createRecordValue(dateType.getPackage(), TIME_DATE);
+            date.put(YEAR, (long) temporal.year());
+            date.put(MONTH, (long) temporal.month());
+            date.put(DAY, (long) temporal.day());
+            return date;
+        }
+
+        @Override
+        String targetName() {
+            return "time:Date";
+        }
+    }
+
+    private static final class TimeOfDayDecoder extends ColumnDecoder {
+        private final Type timeOfDayType;
+        private final boolean hasDate;
+
+        TimeOfDayDecoder(Type timeOfDayType, boolean hasDate) {
+            this.timeOfDayType = timeOfDayType;
+            this.hasDate = hasDate;
+        }
+
+        @Override
+        Object fromText(CharSequence text, int start, int end) {
+            TextParsers.Temporal temporal = TextParsers.parseTemporal(text, start, end, hasDate, true);
+            BMap<BString, Object> timeOfDay = ValueCreator.createRecordValue(timeOfDayType.getPackage(),
+                    TIME_OF_DAY);
+            timeOfDay.put(HOUR, (long) temporal.hour());
+            timeOfDay.put(MINUTE, (long) temporal.minute());
+            timeOfDay.put(SECOND, seconds(temporal));
+            return timeOfDay;
+        }
+
+        @Override
+        String targetName() {
+            return "time:TimeOfDay";
+        }
+    }
+
+    /**
+     * Keeps values in the form the Data API delivers them in, for columns whose type does not say more.
+     */
+    private static final class UntypedDecoder extends ColumnDecoder {
+        @Override
+        Object fromText(CharSequence text, int start, int end) {
+            return STRING.fromText(text, start, end);
+        }
+
+        @Override
+        Object fromLong(long value) {
+            return value;
+        }
+
+        @Override
+        Object fromDouble(double value) {
+            return value;
+        }
+
+        @Override
+        Object fromBoolean(boolean value) {
+            return value;
+        }
+
+        @Override
+        Object fromBytes(byte[] value) {
+            return ValueCreator.createArrayValue(value);
+        }
+
+        @Override
+        String targetName() {
+            return "anydata";
+        }
+    }
+}
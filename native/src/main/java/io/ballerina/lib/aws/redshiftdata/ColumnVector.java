@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.redshiftdata.model.ColumnMetadata;
+import software.amazon.awssdk.services.redshiftdata.model.Field;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The values of a result column across the rows of a page, read into a single array of the type of the column.
+ * <p>
+ * The type of the array follows the Redshift type of the column, as {@link ColumnDecoder#forColumnType} maps it:
+ * integer columns are read into an {@code int[]}, floating point columns into a {@code float[]}, numeric columns
+ * into a {@code decimal[]}, boolean columns into a {@code boolean[]} and binary columns into a {@code byte[][]}. The
+ * values of any other column, such as text or temporal values, are read as strings into a dictionary of the
+ * distinct values and an {@code int[]} of codes into it. SQL {@code NULL} values are marked in a bitmap, in which
+ * the bit {@code row % 8} of the byte {@code row / 8} is set for a {@code NULL} value of the row. The slot of a
+ * {@code NULL} value in the array holds the zero value of the type, and its dictionary code is {@code -1}.
+ * </p>
+ */
+abstract class ColumnVector {
+    private static final String COLUMN_BATCH_RECORD = "ColumnBatch";
+    private static final String COLUMN_VECTOR_RECORD = "ColumnVector";
+    private static final String STRING_DICTIONARY_RECORD = "StringDictionary";
+    private static final BString COLUMN_BATCH_ROW_COUNT = StringUtils.fromString("rowCount");
+    private static final BString COLUMN_BATCH_COLUMNS = StringUtils.fromString("columns");
+    private static final BString COLUMN_VECTOR_NAME = StringUtils.fromString("name");
+    private static final BString COLUMN_VECTOR_TYPE_NAME = StringUtils.fromString("typeName");
+    private static final BString COLUMN_VECTOR_NULLS = StringUtils.fromString("nulls");
+    private static final BString COLUMN_VECTOR_VALUES = StringUtils.fromString("values");
+    private static final BString STRING_DICTIONARY_DICTIONARY = StringUtils.fromString("dictionary");
+    private static final BString STRING_DICTIONARY_CODES = StringUtils.fromString("codes");
+
+    private final byte[] nulls;
+
+    private ColumnVector(int rowCount) {
+        this.nulls = new byte[(rowCount + 7) / 8];
+    }
+
+    /**
+     * Reads the rows of a page by column, into a {@code ColumnBatch}.
+     *
+     * @param columns the columns of the result, as the first page of the result carries them
+     * @param page    the page
+     * @return the column batch
+     */
+    static BMap<BString, Object> toColumnBatch(List<ColumnMetadata> columns, ResultPage page) {
+        int rowCount = page.rowCount();
+        ArrayType columnArrayType = TypeCreator.createArrayType(ValueCreator.createRecordValue(
+                ModuleUtils.getModule(), COLUMN_VECTOR_RECORD).getType());
+        BArray bColumns = ValueCreator.createArrayValue(columnArrayType);
+        for (int column = 0; column < columns.size(); column++) {
+            ColumnMetadata columnMetadata = columns.get(column);
+            ColumnVector vector = forColumn(columnMetadata, rowCount);
+            page.readColumn(column, vector);
+
+            BMap<BString, Object> bColumn = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    COLUMN_VECTOR_RECORD);
+            bColumn.put(COLUMN_VECTOR_NAME, StringUtils.fromString(Objects.requireNonNullElse(
+                    columnMetadata.name(), "")));
+            bColumn.put(COLUMN_VECTOR_TYPE_NAME, StringUtils.fromString(Objects.requireNonNullElse(
+                    columnMetadata.typeName(), "")));
+            bColumn.put(COLUMN_VECTOR_NULLS, ValueCreator.createArrayValue(vector.nulls));
+            bColumn.put(COLUMN_VECTOR_VALUES, vector.values());
+            bColumns.append(bColumn);
+        }
+        BMap<BString, Object> batch = ValueCreator.createRecordValue(ModuleUtils.getModule(), COLUMN_BATCH_RECORD);
+        batch.put(COLUMN_BATCH_ROW_COUNT, (long) rowCount);
+        batch.put(COLUMN_BATCH_COLUMNS, bColumns);
+        return batch;
+    }
+
+    private static ColumnVector forColumn(ColumnMetadata column, int rowCount) {
+        ColumnDecoder decoder = ColumnDecoder.forColumnType(
+                Objects.requireNonNullElse(column.typeName(), "").toLowerCase(Locale.ROOT));
+        if (decoder == ColumnDecoder.INT) {
+            return new IntVector(rowCount);
+        } else if (decoder == ColumnDecoder.FLOAT) {
+            return new FloatVector(rowCount);
+        } else if (decoder == ColumnDecoder.DECIMAL) {
+            return new DecimalVector(rowCount);
+        } else if (decoder == ColumnDecoder.BOOLEAN) {
+            return new BooleanVector(rowCount);
+        } else if (decoder == ColumnDecoder.BYTES) {
+            return new BytesVector(rowCount);
+        }
+        return new StringVector(rowCount);
+    }
+
+    void setNull(int row) {
+        nulls[row >>> 3] |= (byte) (1 << (row & 7));
+    }
+
+    /**
+     * Reads the value of a row from a result field.
+     */
+    void fromField(int row, Field field) {
+        if (Boolean.TRUE.equals(field.isNull())) {
+            setNull(row);
+            return;
+        }
+        String stringValue = field.stringValue();
+        if (Objects.nonNull(stringValue)) {
+            fromText(row, stringValue, 0, stringValue.length());
+            return;
+        }
+        Long longValue = field.longValue();
+        if (Objects.nonNull(longValue)) {
+            fromLong(row, longValue);
+            return;
+        }
+        Double doubleValue = field.doubleValue();
+        if (Objects.nonNull(doubleValue)) {
+            fromDouble(row, doubleValue);
+            return;
+        }
+        Boolean booleanValue = field.booleanValue();
+        if (Objects.nonNull(booleanValue)) {
+            fromBoolean(row, booleanValue);
+            return;
+        }
+        SdkBytes blobValue = field.blobValue();
+        if (Objects.nonNull(blobValue)) {
+            fromBytes(row, blobValue.asByteArray());
+            return;
+        }
+        setNull(row);
+    }
+
+    /**
+     * Reads the value of a row delivered as text, held between {@code start} and {@code end} of {@code text}.
+     */
+    abstract void fromText(int row, CharSequence text, int start, int end);
+
+    void fromLong(int row, long value) {
+        String text = Long.toString(value);
+        fromText(row, text, 0, text.length());
+    }
+
+    void fromDouble(int row, double value) {
+        String text = Double.toString(value);
+        fromText(row, text, 0, text.length());
+    }
+
+    void fromBoolean(int row, boolean value) {
+        String text = Boolean.toString(value);
+        fromText(row, text, 0, text.length());
+    }
+
+    void fromBytes(int row, byte[] value) {
+        throw new IllegalArgumentException("Binary value cannot be converted to " + targetName());
+    }
+
+    /**
+     * Returns the values read, as the Ballerina value of the {@code values} field of a {@code ColumnVector}.
+     */
+    abstract Object values();
+
+    abstract String targetName();
+
+    private static final class IntVector extends ColumnVector {
+        private final long[] values;
+
+        private IntVector(int rowCount) {
+            super(rowCount);
+            this.values = new long[rowCount];
+        }
+
+        @Override
+        void fromText(int row, CharSequence text, int start, int end) {
+            values[row] = TextParsers.parseLong(text, start, end);
+        }
+
+        @Override
+        void fromLong(int row, long value) {
+            values[row] = value;
+        }
+
+        @Override
+        void fromDouble(int row, double value) {
+            if (value != Math.rint(value) || Double.isInfinite(value)) {
+                throw new IllegalArgumentException("Value '" + value + "' cannot be converted to int");
+            }
+            values[row] = (long) value;
+        }
+
+        @Override
+        void fromBoolean(int row, boolean value) {
+            throw new IllegalArgumentException("Boolean value cannot be converted to int");
+        }
+
+        @Override
+        Object values() {
+            return ValueCreator.createArrayValue(values);
+        }
+
+        @Override
+        String targetName() {
+            return "int";
+        }
+    }
+
+    private static final class FloatVector extends ColumnVector {
+        private final double[] values;
+
+        private FloatVector(int rowCount) {
+            super(rowCount);
+            this.values = new double[rowCount];
+        }
+
+        @Override
+        void fromText(int row, CharSequence text, int start, int end) {
+            values[row] = Double.parseDouble(text.subSequence(start, end).toString());
+        }
+
+        @Override
+        void fromLong(int row, long value) {
+            values[row] = value;
+        }
+
+        @Override
+        void fromDouble(int row, double value) {
+            values[row] = value;
+        }
+
+        @Override
+        void fromBoolean(int row, boolean value) {
+            throw new IllegalArgumentException("Boolean value cannot be converted to float");
+        }
+
+        @Override
+        Object values() {
+            return ValueCreator.createArrayValue(values);
+        }
+
+        @Override
+        String targetName() {
+            return "float";
+        }
+    }
+
+    private static final class DecimalVector extends ColumnVector {
+        private final BDecimal[] values;
+
+        private DecimalVector(int rowCount) {
+            super(rowCount);
+            this.values = new BDecimal[rowCount];
+        }
+
+        @Override
+        void fromText(int row, CharSequence text, int start, int end) {
+            values[row] = (BDecimal) ColumnDecoder.DECIMAL.fromText(text, start, end);
+        }
+
+        @Override
+        void fromLong(int row, long value) {
+            values[row] = ValueCreator.createDecimalValue(BigDecimal.valueOf(value));
+        }
+
+        @Override
+        void fromDouble(int row, double value) {
+            values[row] = ValueCreator.createDecimalValue(BigDecimal.valueOf(value));
+        }
+
+        @Override
+        void fromBoolean(int row, boolean value) {
+            throw new IllegalArgumentException("Boolean value cannot be converted to decimal");
+        }
+
+        @Override
+        Object values() {
+            BArray array = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_DECIMAL),
+                    values.length);
+            for (int row = 0; row < values.length; row++) {
+                if (Objects.nonNull(values[row])) {
+                    array.add(row, values[row]);
+                }
+            }
+            return array;
+        }
+
+        @Override
+        String targetName() {
+            return "decimal";
+        }
+    }
+
+    private static final class BooleanVector extends ColumnVector {
+        private final boolean[] values;
+
+        private BooleanVector(int rowCount) {
+            super(rowCount);
+            this.values = new boolean[rowCount];
+        }
+
+        @Override
+        void fromText(int row, CharSequence text, int start, int end) {
+            values[row] = TextParsers.parseBoolean(text, start, end);
+        }
+
+        @Override
+        void fromLong(int row, long value) {
+            values[row] = value != 0;
+        }
+
+        @Override
+        void fromBoolean(int row, boolean value) {
+            values[row] = value;
+        }
+
+        @Override
+        Object values() {
+            return ValueCreator.createArrayValue(values);
+        }
+
+        @Override
+        String targetName() {
+            return "boolean";
+        }
+    }
+
+    private static final class BytesVector extends ColumnVector {
+        private static final byte[] EMPTY = new byte[0];
+        private final byte[][] values;
+
+        private BytesVector(int rowCount) {
+            super(rowCount);
+            this.values = new byte[rowCount][];
+        }
+
+        @Override
+        void fromText(int row, CharSequence text, int start, int end) {
+            values[row] = TextParsers.parseHex(text, start, end);
+        }
+
+        @Override
+        void fromBytes(int row, byte[] value) {
+            values[row] = value;
+        }
+
+        @Override
+        Object values() {
+            BArray array = ValueCreator.createArrayValue(TypeCreator.createArrayType(
+                    TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE)), values.length);
+            for (int row = 0; row < values.length; row++) {
+                array.add(row, ValueCreator.createArrayValue(Objects.requireNonNullElse(values[row], EMPTY)));
+            }
+            return array;
+        }
+
+        @Override
+        String targetName() {
+            return "byte[]";
+        }
+    }
+
+    private static final class StringVector extends ColumnVector {
+        private final long[] codes;
+        private final Map<String, Integer> codesByValue = new HashMap<>();
+        private final List<BString> dictionary = new ArrayList<>();
+
+        private StringVector(int rowCount) {
+            super(rowCount);
+            this.codes = new long[rowCount];
+        }
+
+        @Override
+        void setNull(int row) {
+            super.setNull(row);
+            codes[row] = -1;
+        }
+
+        @Override
+        void fromText(int row, CharSequence text, int start, int end) {
+            String value = text.subSequence(start, end).toString();
+            codes[row] = codesByValue.computeIfAbsent(value, ignored -> {
+                dictionary.add(StringUtils.fromString(value));
+                return dictionary.size() - 1;
+            });
+        }
+
+        @Override
+        void fromBytes(int row, byte[] value) {
+            BString hex = (BString) ColumnDecoder.STRING.fromBytes(value);
+            fromText(row, hex.getValue(), 0, hex.length());
+        }
+
+        @Override
+        Object values() {
+            BMap<BString, Object> bDictionary = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    STRING_DICTIONARY_RECORD);
+            bDictionary.put(STRING_DICTIONARY_DICTIONARY,
+                    ValueCreator.createArrayValue(dictionary.toArray(BString[]::new)));
+            bDictionary.put(STRING_DICTIONARY_CODES, ValueCreator.createArrayValue(codes));
+            return bDictionary;
+        }
+
+        @Override
+        String targetName() {
+            return "string";
+        }
+    }
+}
@@ -24,6 +24,7 @@ import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
@@ -31,16 +32,24 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.time.nativeimpl.Utc;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementRequest;
 import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementResponse;
 import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
 import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
 import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.StatusString;
 import software.amazon.awssdk.services.redshiftdata.model.SubStatementData;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
 
 import static io.ballerina.lib.aws.redshiftdata.Cluster.CLUSTER_ID;
 import static io.ballerina.lib.aws.redshiftdata.ConnectionConfig.CONNECTION_CONFIG_DB_ACCESS_CONFIG;
@@ -52,12 +61,17 @@ import static io.ballerina.lib.aws.redshiftdata.WorkGroup.WORK_GROUP_NAME;
  */
 public final class CommonUtils {
     // Constants related to `Error`
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(1_000_000_000L);
+    private static final BigDecimal MAX_NANOS = BigDecimal.valueOf(Long.MAX_VALUE);
+    private static final BigDecimal MIN_NANOS = BigDecimal.valueOf(Long.MIN_VALUE);
+
     private static final String ERROR = "Error";
     private static final String ERROR_DETAILS = "ErrorDetails";
     private static final BString ERROR_DETAILS_HTTP_STATUS_CODE = StringUtils.fromString("httpStatusCode");
     private static final BString ERROR_DETAILS_HTTP_STATUS_TEXT = StringUtils.fromString("httpStatusText");
     private static final BString ERROR_DETAILS_ERROR_CODE = StringUtils.fromString("errorCode");
     private static final BString ERROR_DETAILS_ERROR_MESSAGE = StringUtils.fromString("errorMessage");
+    private static final BString ERROR_DETAILS_RETRY_ATTEMPTS = StringUtils.fromString("retryAttempts");
 
     // Constants related to `DescriptionResponse`
     private static final String DESCRIPTION_RES_RECORD = "DescriptionResponse";
@@ -82,7 +96,12 @@ public final class CommonUtils {
     // Constants related to `ExecutionConfig`
     private static final BString EXECUTE_STATEMENT_CONFIG_CLIENT_TOKEN = StringUtils.fromString("clientToken");
     private static final BString EXECUTE_STATEMENT_CONFIG_STATEMENT_NAME = StringUtils.fromString("statementName");
+    private static final BString QUERY_STRINGS = StringUtils.fromString("strings");
+    private static final BString SESSION_KEEP_ALIVE_SECONDS = StringUtils.fromString("sessionKeepAliveSeconds");
+    private static final Pattern SESSION_ID_PATTERN =
+            Pattern.compile("^[a-z0-9]{8}(-[a-z0-9]{4}){3}-[a-z0-9]{12}(:\\d+)?$");
     private static final BString EXECUTE_STATEMENT_CONFIG_WITH_EVENT = StringUtils.fromString("withEvent");
+    private static final BString EXECUTE_STATEMENT_CONFIG_RESULT_FORMAT = StringUtils.fromString("resultFormat");
 
     // Constants related to `ExecutionResponse`
     private static final String EXECUTE_STATEMENT_RES_RECORD = "ExecutionResponse";
@@ -91,6 +110,25 @@ public final class CommonUtils {
     private static final BString EXECUTE_STATEMENT_RES_STATEMENT_ID = StringUtils.fromString("statementId");
     private static final BString EXECUTE_STATEMENT_RES_SESSION_ID = StringUtils.fromString("sessionId");
 
+    // Constants related to `ExecuteManyResponse`
+    private static final String EXECUTE_MANY_RES_RECORD = "ExecuteManyResponse";
+    private static final BString EXECUTE_MANY_RES_STATEMENT_IDS = StringUtils.fromString("statementIds");
+    private static final BString EXECUTE_MANY_RES_DESCRIPTIONS = StringUtils.fromString("descriptions");
+    private static final BString EXECUTE_MANY_RES_STATUS = StringUtils.fromString("status");
+    private static final BString EXECUTE_MANY_RES_SKIPPED_STATEMENTS = StringUtils.fromString("skippedStatements");
+    private static final BString EXECUTE_MANY_RES_FAILURES = StringUtils.fromString("failures");
+    private static final String BATCH_FAILURE_RECORD = "BatchFailure";
+    private static final BString BATCH_FAILURE_BATCH = StringUtils.fromString("batch");
+    private static final BString BATCH_FAILURE_STATEMENT_ID = StringUtils.fromString("statementId");
+    private static final BString BATCH_FAILURE_MESSAGE = StringUtils.fromString("message");
+
+    // Constants related to `InsertResponse`
+    private static final String INSERT_RES_RECORD = "InsertResponse";
+    private static final BString INSERT_RES_STATEMENT_IDS = StringUtils.fromString("statementIds");
+    private static final BString INSERT_RES_STATUS = StringUtils.fromString("status");
+    private static final BString INSERT_RES_INSERTED_ROWS = StringUtils.fromString("insertedRows");
+    private static final BString INSERT_RES_FAILURE = StringUtils.fromString("failure");
+
     private CommonUtils() {
     }
 
@@ -110,14 +148,30 @@ public final class CommonUtils {
             errorDetails.put(ERROR_DETAILS_ERROR_CODE, StringUtils.fromString(awsErrorDetails.errorCode()));
             errorDetails.put(ERROR_DETAILS_ERROR_MESSAGE, StringUtils.fromString(awsErrorDetails.errorMessage()));
         }
+        if (exception instanceof SdkException sdkException && Objects.nonNull(sdkException.numAttempts())) {
+            errorDetails.put(ERROR_DETAILS_RETRY_ATTEMPTS, sdkException.numAttempts() - 1L);
+        }
         return ErrorCreator.createError(
                 ModuleUtils.getModule(), ERROR, StringUtils.fromString(message), cause, errorDetails);
     }
 
+    /**
+     * Returns the failure a {@link java.util.concurrent.CompletableFuture} completed with, rather than the
+     * {@link CompletionException} or {@link ExecutionException} waiting on it wraps the failure in.
+     */
+    public static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && Objects.nonNull(cause.getCause())) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
     @SuppressWarnings("unchecked")
     public static ExecuteStatementRequest getNativeExecuteRequest(
             BObject bSqlStatement, BMap<BString, Object> bConfig, Object initLevelDbAccessConfig) throws Exception {
-        ExecuteStatementRequest.Builder builder = ExecuteStatementRequest.builder();
+        ExecuteStatementRequest.Builder builder = getNativeExecuteRequestBuilder(bConfig, initLevelDbAccessConfig);
 
         // Set the SQL statement
         ParameterizedQuery parameterizedQuery = new ParameterizedQuery(bSqlStatement);
@@ -125,6 +179,80 @@ public final class CommonUtils {
         if (parameterizedQuery.hasParameters()) {
             builder.parameters(parameterizedQuery.getParameters());
         }
+        return builder.build();
+    }
+
+    /**
+     * Validates the execution configurations of a function that is bound directly to Java, against the same
+     * constraints as the {@code ExecutionConfig} record, which are otherwise validated in Ballerina.
+     *
+     * @throws IllegalArgumentException with the message of the first constraint that does not hold
+     */
+    @SuppressWarnings("unchecked")
+    static void validateExecutionConfig(BMap<BString, Object> bConfig) {
+        if (bConfig.containsKey(EXECUTE_STATEMENT_CONFIG_STATEMENT_NAME)) {
+            String statementName = bConfig.getStringValue(EXECUTE_STATEMENT_CONFIG_STATEMENT_NAME).getValue();
+            int length = statementName.codePointCount(0, statementName.length());
+            if (length < 1) {
+                throw new IllegalArgumentException("The statement name should be at least 1 character long.");
+            }
+            if (length > 500) {
+                throw new IllegalArgumentException("The statement name should be at most 500 characters long.");
+            }
+        }
+        if (!bConfig.containsKey(CONNECTION_CONFIG_DB_ACCESS_CONFIG)) {
+            return;
+        }
+        Object bDbAccessConfig = bConfig.get(CONNECTION_CONFIG_DB_ACCESS_CONFIG);
+        if (bDbAccessConfig instanceof BString bSessionId) {
+            if (!SESSION_ID_PATTERN.matcher(bSessionId.getValue()).matches()) {
+                throw new IllegalArgumentException("Invalid session ID format.");
+            }
+            return;
+        }
+        BMap<BString, Object> bAccessConfig = (BMap<BString, Object>) bDbAccessConfig;
+        if (bAccessConfig.containsKey(CLUSTER_ID)) {
+            String clusterId = bAccessConfig.getStringValue(CLUSTER_ID).getValue();
+            int length = clusterId.codePointCount(0, clusterId.length());
+            if (length < 1) {
+                throw new IllegalArgumentException("The cluster ID should be at least 1 character long.");
+            }
+            if (length > 63) {
+                throw new IllegalArgumentException("The cluster ID should be at most 63 characters long.");
+            }
+        }
+        if (bAccessConfig.containsKey(SESSION_KEEP_ALIVE_SECONDS)) {
+            long sessionKeepAliveSeconds = bAccessConfig.getIntValue(SESSION_KEEP_ALIVE_SECONDS);
+            if (sessionKeepAliveSeconds < 0) {
+                throw new IllegalArgumentException(
+                        "The sessionKeepAliveSeconds should be greater than or equal to 0.");
+            }
+            if (sessionKeepAliveSeconds > 86400) {
+                throw new IllegalArgumentException(
+                        "The sessionKeepAliveSeconds should be less than or equal to 86400.");
+            }
+        }
+    }
+
+    /**
+     * Validates that an SQL statement passed to a function that is bound directly to Java is not empty.
+     *
+     * @throws IllegalArgumentException if the statement is empty
+     */
+    static void validateStatement(BObject bSqlStatement) {
+        if (bSqlStatement.getArrayValue(QUERY_STRINGS).size() == 0) {
+            throw new IllegalArgumentException("SQL statement cannot be empty.");
+        }
+    }
+
+    /**
+     * Returns a builder of an execute request with the database access and the other configurations of the given
+     * execution configurations set, and without the SQL statement.
+     */
+    @SuppressWarnings("unchecked")
+    static ExecuteStatementRequest.Builder getNativeExecuteRequestBuilder(
+            BMap<BString, Object> bConfig, Object initLevelDbAccessConfig) throws Exception {
+        ExecuteStatementRequest.Builder builder = ExecuteStatementRequest.builder();
 
         // If a `dbAccessConfig` is provided in the ExecutionConfig , it will override the init level dbAccessConfig.
         Object dbAccessConfig = validateAndGetDbAccessConfig(bConfig, initLevelDbAccessConfig);
@@ -162,7 +290,10 @@ public final class CommonUtils {
         if (bConfig.containsKey(EXECUTE_STATEMENT_CONFIG_WITH_EVENT)) {
             builder.withEvent(bConfig.getBooleanValue(EXECUTE_STATEMENT_CONFIG_WITH_EVENT));
         }
-        return builder.build();
+        if (bConfig.containsKey(EXECUTE_STATEMENT_CONFIG_RESULT_FORMAT)) {
+            builder.resultFormat(bConfig.getStringValue(EXECUTE_STATEMENT_CONFIG_RESULT_FORMAT).getValue());
+        }
+        return builder;
     }
 
     public static BMap<BString, Object> getExecutionResponse(ExecuteStatementResponse nativeResponse) {
@@ -186,14 +317,30 @@ public final class CommonUtils {
     @SuppressWarnings("unchecked")
     public static BatchExecuteStatementRequest getNativeBatchExecuteRequest(
             BArray bSqlStatements, BMap<BString, Object> bConfig, Object initLevelDbAccessConfig) throws Exception {
-        BatchExecuteStatementRequest.Builder builder = BatchExecuteStatementRequest.builder();
+        BatchExecuteStatementRequest.Builder builder = getNativeBatchExecuteRequestBuilder(
+                bConfig, initLevelDbAccessConfig);
 
         // Set the SQL statements
+        builder.sqls(getPreparedQueries(bSqlStatements));
+        return builder.build();
+    }
+
+    static String[] getPreparedQueries(BArray bSqlStatements) {
         String[] sqlStatements = new String[bSqlStatements.size()];
         for (int i = 0; i < bSqlStatements.size(); i++) {
             sqlStatements[i] = new ParameterizedQuery((BObject) bSqlStatements.get(i)).getPreparedQuery();
         }
-        builder.sqls(sqlStatements);
+        return sqlStatements;
+    }
+
+    /**
+     * Returns a builder of a batch execute request with the database access and the other configurations of the
+     * given execution configurations set, and without the SQL statements.
+     */
+    @SuppressWarnings("unchecked")
+    static BatchExecuteStatementRequest.Builder getNativeBatchExecuteRequestBuilder(
+            BMap<BString, Object> bConfig, Object initLevelDbAccessConfig) throws Exception {
+        BatchExecuteStatementRequest.Builder builder = BatchExecuteStatementRequest.builder();
 
         // If a `dbAccessConfig` is provided in the ExecutionConfig , it will override the init level dbAccessConfig.
         Object dbAccessConfig = validateAndGetDbAccessConfig(bConfig, initLevelDbAccessConfig);
@@ -231,7 +378,10 @@ public final class CommonUtils {
         if (bConfig.containsKey(EXECUTE_STATEMENT_CONFIG_WITH_EVENT)) {
             builder.withEvent(bConfig.getBooleanValue(EXECUTE_STATEMENT_CONFIG_WITH_EVENT));
         }
-        return builder.build();
+        if (bConfig.containsKey(EXECUTE_STATEMENT_CONFIG_RESULT_FORMAT)) {
+            builder.resultFormat(bConfig.getStringValue(EXECUTE_STATEMENT_CONFIG_RESULT_FORMAT).getValue());
+        }
+        return builder;
     }
 
     @SuppressWarnings("unchecked")
@@ -317,6 +467,99 @@ public final class CommonUtils {
         return response;
     }
 
+    /**
+     * Returns the response of running statements as batches, from the descriptions of the batches, which are
+     * {@code null} for the batches that were not submitted.
+     */
+    static BMap<BString, Object> getExecuteManyResponse(BatchDispatcher dispatcher,
+                                                        DescribeStatementResponse[] descriptions) {
+        BMap<BString, Object> response = ValueCreator.createRecordValue(
+                ModuleUtils.getModule(), EXECUTE_MANY_RES_RECORD);
+        ArrayType descriptionArrayType = TypeCreator.createArrayType(ValueCreator.createRecordValue(
+                ModuleUtils.getModule(), DESCRIPTION_RES_RECORD).getType());
+        BArray descriptionsArray = ValueCreator.createArrayValue(descriptionArrayType);
+        List<BString> statementIds = new ArrayList<>();
+        ArrayType failureArrayType = TypeCreator.createArrayType(ValueCreator.createRecordValue(
+                ModuleUtils.getModule(), BATCH_FAILURE_RECORD).getType());
+        BArray failuresArray = ValueCreator.createArrayValue(failureArrayType);
+        // The status is that of the first batch that did not finish, if any, which is FAILED for a failed batch
+        StatusString status = StatusString.FINISHED;
+        long skippedStatements = 0;
+        for (int i = 0; i < descriptions.length; i++) {
+            DescribeStatementResponse description = descriptions[i];
+            Throwable failure = dispatcher.failureOf(i);
+            if (Objects.nonNull(failure)) {
+                failuresArray.append(getBatchFailure(i, dispatcher.statementIdOf(i), failure));
+                if (status == StatusString.FINISHED) {
+                    status = StatusString.FAILED;
+                }
+                continue;
+            }
+            if (Objects.isNull(description)) {
+                skippedStatements += dispatcher.statementCount(i);
+                continue;
+            }
+            statementIds.add(StringUtils.fromString(description.id()));
+            descriptionsArray.append(getDescriptionResponse(description));
+            if (status == StatusString.FINISHED) {
+                status = description.status();
+            }
+        }
+        response.put(EXECUTE_MANY_RES_STATEMENT_IDS,
+                ValueCreator.createArrayValue(statementIds.toArray(BString[]::new)));
+        response.put(EXECUTE_MANY_RES_DESCRIPTIONS, descriptionsArray);
+        response.put(EXECUTE_MANY_RES_STATUS, StringUtils.fromString(status.toString()));
+        response.put(EXECUTE_MANY_RES_SKIPPED_STATEMENTS, skippedStatements);
+        response.put(EXECUTE_MANY_RES_FAILURES, failuresArray);
+        return response;
+    }
+
+    private static BMap<BString, Object> getBatchFailure(int batch, String statementId, Throwable failure) {
+        BMap<BString, Object> record = ValueCreator.createRecordValue(ModuleUtils.getModule(), BATCH_FAILURE_RECORD);
+        record.put(BATCH_FAILURE_BATCH, (long) batch);
+        if (Objects.nonNull(statementId)) {
+            record.put(BATCH_FAILURE_STATEMENT_ID, StringUtils.fromString(statementId));
+        }
+        record.put(BATCH_FAILURE_MESSAGE,
+                StringUtils.fromString(Objects.requireNonNullElse(failure.getMessage(), "Unknown error")));
+        return record;
+    }
+
+    /**
+     * Returns the response of inserting rows, from the {@code INSERT} statements and the failure of the inserter.
+     */
+    static BMap<BString, Object> getInsertResponse(RowInserter rowInserter, List<RowInserter.Statement> statements) {
+        BMap<BString, Object> response = ValueCreator.createRecordValue(ModuleUtils.getModule(), INSERT_RES_RECORD);
+        List<BString> statementIds = new ArrayList<>();
+        // The status is that of the first statement that did not finish, if any, which is FAILED for a statement
+        // that could not be submitted or waited for
+        StatusString status = StatusString.FINISHED;
+        long insertedRows = 0;
+        for (RowInserter.Statement statement : statements) {
+            if (Objects.nonNull(statement.id())) {
+                statementIds.add(StringUtils.fromString(statement.id()));
+            }
+            DescribeStatementResponse description = statement.description();
+            if (Objects.nonNull(description) && description.status() == StatusString.FINISHED) {
+                insertedRows += statement.rows();
+            } else if (status == StatusString.FINISHED) {
+                status = Objects.nonNull(description) ? description.status() : StatusString.FAILED;
+            }
+        }
+        String failure = rowInserter.failure();
+        if (Objects.nonNull(failure)) {
+            if (status == StatusString.FINISHED) {
+                status = StatusString.FAILED;
+            }
+            response.put(INSERT_RES_FAILURE, StringUtils.fromString(failure));
+        }
+        response.put(INSERT_RES_STATEMENT_IDS,
+                ValueCreator.createArrayValue(statementIds.toArray(BString[]::new)));
+        response.put(INSERT_RES_STATUS, StringUtils.fromString(status.toString()));
+        response.put(INSERT_RES_INSERTED_ROWS, insertedRows);
+        return response;
+    }
+
     private static BMap<BString, Object> getSubStatementData(SubStatementData subStatementData) {
         BMap<BString, Object> record = ValueCreator.createRecordValue(
                 ModuleUtils.getModule(), STATEMENT_DATA_RECORD);
@@ -340,6 +583,51 @@ public final class CommonUtils {
         return record;
     }
 
+    /**
+     * Returns the number of bytes of the UTF-8 encoding of a text, without encoding it.
+     */
+    static long utf8Length(CharSequence text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Narrows an integer of a configuration to an {@code int}, failing rather than wrapping around when it is above
+     * the range of an {@code int}. A value below the range is taken as the least {@code int}, which the check of the
+     * lower bound of the configuration then rejects.
+     */
+    static int narrowToInt(long value, String name) {
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format(
+                    "The %s should be less than or equal to %d.", name, Integer.MAX_VALUE));
+        }
+        return (int) Math.max(value, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Converts a time of a configuration given in seconds to nanoseconds. The time is rounded up, so that a time of
+     * less than a nanosecond is not taken as none, and saturates at the range of a {@code long} rather than wrapping
+     * around, as close to three hundred years is as good as no limit.
+     */
+    static long toNanos(BDecimal seconds) {
+        Objects.requireNonNull(seconds);
+        BigDecimal nanos = seconds.decimalValue().multiply(NANOS_PER_SECOND).setScale(0, RoundingMode.CEILING);
+        return nanos.max(MIN_NANOS).min(MAX_NANOS).longValue();
+    }
+
     private static BigDecimal convertNanosToSeconds(long nanos) {
         return BigDecimal.valueOf(nanos).divide(BigDecimal.valueOf(1_000_000_000));
     }
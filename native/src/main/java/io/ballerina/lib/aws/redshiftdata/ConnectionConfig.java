@@ -18,13 +18,13 @@
 
 package io.ballerina.lib.aws.redshiftdata;
 
-import io.ballerina.lib.aws.auth.ProviderFactory;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
-import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 
+import java.util.Objects;
+
 import static io.ballerina.lib.aws.redshiftdata.Cluster.CLUSTER_ID;
 
 /**
@@ -33,32 +33,128 @@ import static io.ballerina.lib.aws.redshiftdata.Cluster.CLUSTER_ID;
  *
  * <p>The {@code auth} field is a {@code ballerinax/aws.auth:AuthConfig} value;
  * credential resolution is delegated to the shared {@code aws.auth} library
- * ({@link ProviderFactory}), which supports all standardized AWS credential
+ * ({@code ProviderFactory}), which supports all standardized AWS credential
  * sources (static keys, profile, STS assume-role, web identity, IAM Identity
  * Center, external process, and the default provider chain) with automatic
- * refresh of expiring credentials.
+ * refresh of expiring credentials. The credentials provider is built along with
+ * the SDK client by {@link SharedNativeClient}, and shared with the clients of the
+ * same configurations.
  *
  * @param region              The AWS region where the Redshift cluster is located.
- * @param credentialsProvider The credentials provider resolved from the configured auth.
+ * @param authConfig          The configured auth, which the credentials provider is resolved from.
  * @param endpointConfig      The endpoint options; {@code null} when not configured.
  * @param dbAccessConfig      The database access configurations for the Redshift Data API.
+ * @param nonBlocking         Whether the non-blocking AWS SDK client is used.
+ * @param resultConfig        The configurations related to reading statement results.
+ * @param statusTracker       The statement status tracker configurations; {@code null} when not configured.
+ * @param unloadConfig        The configurations of exporting results through {@code UNLOAD}; {@code null} when
+ *                            not configured.
+ * @param resultCache         The result cache configurations; {@code null} when not configured.
+ * @param sessionPool         The session pool configurations; {@code null} when not configured.
+ * @param rateLimit           The rate limit configurations; {@code null} when not configured.
+ * @param retryConfig         The retry configurations; {@code null} when the SDK retries are used.
+ * @param httpClientConfig    The HTTP client configurations; {@code null} when not configured.
+ * @param executorConfig      The executor configurations of a blocking client; {@code null} when not configured.
  */
-public record ConnectionConfig(Region region, AwsCredentialsProvider credentialsProvider,
-                               BMap<BString, Object> endpointConfig, Object dbAccessConfig) {
+public record ConnectionConfig(Region region, Object authConfig,
+                               BMap<BString, Object> endpointConfig, Object dbAccessConfig, boolean nonBlocking,
+                               ResultConfig resultConfig, StatusTrackerConfig statusTracker,
+                               UnloadConfig unloadConfig, ResultCacheConfig resultCache,
+                               SessionPoolConfig sessionPool, RateLimitConfig rateLimit,
+                               RetryConfig retryConfig, HttpClientConfig httpClientConfig,
+                               ExecutorConfig executorConfig) {
     static final BString CONNECTION_CONFIG_DB_ACCESS_CONFIG = StringUtils.fromString("dbAccessConfig");
     private static final BString CONNECTION_CONFIG_REGION = StringUtils.fromString("region");
     private static final BString CONNECTION_CONFIG_AUTH_CONFIG = StringUtils.fromString("auth");
     private static final BString CONNECTION_CONFIG_ENDPOINT = StringUtils.fromString("endpoint");
+    private static final BString CONNECTION_CONFIG_NON_BLOCKING = StringUtils.fromString("nonBlocking");
+    private static final BString CONNECTION_CONFIG_RESULT_CONFIG = StringUtils.fromString("resultConfig");
+    private static final BString CONNECTION_CONFIG_STATUS_TRACKER = StringUtils.fromString("statusTracker");
+    private static final BString CONNECTION_CONFIG_UNLOAD_CONFIG = StringUtils.fromString("unloadConfig");
+    private static final BString CONNECTION_CONFIG_RESULT_CACHE = StringUtils.fromString("resultCache");
+    private static final BString CONNECTION_CONFIG_SESSION_POOL = StringUtils.fromString("sessionPool");
+    private static final BString CONNECTION_CONFIG_RATE_LIMIT = StringUtils.fromString("rateLimit");
+    private static final BString CONNECTION_CONFIG_RETRY_CONFIG = StringUtils.fromString("retryConfig");
+    private static final BString CONNECTION_CONFIG_HTTP_CLIENT_CONFIG = StringUtils.fromString("httpClientConfig");
+    private static final BString CONNECTION_CONFIG_EXECUTOR_CONFIG = StringUtils.fromString("executorConfig");
 
+    @SuppressWarnings("unchecked")
     public ConnectionConfig(BMap<BString, Object> bConnectionConfig) {
         this(
                 getRegion(bConnectionConfig),
-                ProviderFactory.buildProvider(bConnectionConfig.get(CONNECTION_CONFIG_AUTH_CONFIG)),
+                bConnectionConfig.get(CONNECTION_CONFIG_AUTH_CONFIG),
                 getEndpointConfig(bConnectionConfig),
-                getDbAccessConfig(bConnectionConfig)
+                getDbAccessConfig(bConnectionConfig),
+                bConnectionConfig.getBooleanValue(CONNECTION_CONFIG_NON_BLOCKING),
+                new ResultConfig(
+                        (BMap<BString, Object>) bConnectionConfig.getMapValue(CONNECTION_CONFIG_RESULT_CONFIG)),
+                getStatusTrackerConfig(bConnectionConfig),
+                getUnloadConfig(bConnectionConfig),
+                getResultCacheConfig(bConnectionConfig),
+                getSessionPoolConfig(bConnectionConfig),
+                getRateLimitConfig(bConnectionConfig),
+                getRetryConfig(bConnectionConfig),
+                getHttpClientConfig(bConnectionConfig),
+                getExecutorConfig(bConnectionConfig)
         );
     }
 
+    @SuppressWarnings("unchecked")
+    private static ExecutorConfig getExecutorConfig(BMap<BString, Object> bConnectionConfig) {
+        BMap<BString, Object> bExecutorConfig = (BMap<BString, Object>) bConnectionConfig
+                .getMapValue(CONNECTION_CONFIG_EXECUTOR_CONFIG);
+        return Objects.nonNull(bExecutorConfig) ? new ExecutorConfig(bExecutorConfig) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpClientConfig getHttpClientConfig(BMap<BString, Object> bConnectionConfig) {
+        BMap<BString, Object> bHttpClientConfig = (BMap<BString, Object>) bConnectionConfig
+                .getMapValue(CONNECTION_CONFIG_HTTP_CLIENT_CONFIG);
+        return Objects.nonNull(bHttpClientConfig) ? new HttpClientConfig(bHttpClientConfig) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RetryConfig getRetryConfig(BMap<BString, Object> bConnectionConfig) {
+        BMap<BString, Object> bRetryConfig = (BMap<BString, Object>) bConnectionConfig
+                .getMapValue(CONNECTION_CONFIG_RETRY_CONFIG);
+        return Objects.nonNull(bRetryConfig) ? new RetryConfig(bRetryConfig) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RateLimitConfig getRateLimitConfig(BMap<BString, Object> bConnectionConfig) {
+        BMap<BString, Object> bRateLimitConfig = (BMap<BString, Object>) bConnectionConfig
+                .getMapValue(CONNECTION_CONFIG_RATE_LIMIT);
+        return Objects.nonNull(bRateLimitConfig) ? new RateLimitConfig(bRateLimitConfig) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SessionPoolConfig getSessionPoolConfig(BMap<BString, Object> bConnectionConfig) {
+        BMap<BString, Object> bSessionPoolConfig = (BMap<BString, Object>) bConnectionConfig
+                .getMapValue(CONNECTION_CONFIG_SESSION_POOL);
+        return Objects.nonNull(bSessionPoolConfig) ? new SessionPoolConfig(bSessionPoolConfig) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ResultCacheConfig getResultCacheConfig(BMap<BString, Object> bConnectionConfig) {
+        BMap<BString, Object> bResultCacheConfig = (BMap<BString, Object>) bConnectionConfig
+                .getMapValue(CONNECTION_CONFIG_RESULT_CACHE);
+        return Objects.nonNull(bResultCacheConfig) ? new ResultCacheConfig(bResultCacheConfig) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static UnloadConfig getUnloadConfig(BMap<BString, Object> bConnectionConfig) {
+        BMap<BString, Object> bUnloadConfig = (BMap<BString, Object>) bConnectionConfig
+                .getMapValue(CONNECTION_CONFIG_UNLOAD_CONFIG);
+        return Objects.nonNull(bUnloadConfig) ? new UnloadConfig(bUnloadConfig) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StatusTrackerConfig getStatusTrackerConfig(BMap<BString, Object> bConnectionConfig) {
+        BMap<BString, Object> bStatusTrackerConfig = (BMap<BString, Object>) bConnectionConfig
+                .getMapValue(CONNECTION_CONFIG_STATUS_TRACKER);
+        return Objects.nonNull(bStatusTrackerConfig) ? new StatusTrackerConfig(bStatusTrackerConfig) : null;
+    }
+
     private static Region getRegion(BMap<BString, Object> bConnectionConfig) {
         return Region.of(bConnectionConfig.getStringValue(CONNECTION_CONFIG_REGION).getValue());
     }
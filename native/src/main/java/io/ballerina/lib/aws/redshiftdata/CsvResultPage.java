@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.model.ColumnMetadata;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Request;
+import software.amazon.awssdk.services.redshiftdata.model.QueryRecords;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A page of a statement result in the CSV format, fetched with {@code GetStatementResultV2} or read from a part of
+ * a result unloaded to S3.
+ * <p>
+ * The CSV text of the page is kept as it is. A single pass over it records where each value starts and ends and
+ * whether it is quoted, so values are decoded straight from the text, without a string or object per value. Only
+ * quoted values that contain escaped quotes are copied, to unescape them. An unquoted empty value is SQL
+ * {@code NULL}, while {@code ""} is an empty string.
+ * </p>
+ */
+final class CsvResultPage implements ResultPage {
+    private static final byte QUOTED = 1;
+    private static final byte ESCAPED = 2;
+    private static final byte NULL = 4;
+    private static final int INITIAL_ROW_CAPACITY = 64;
+
+    private final List<ColumnMetadata> columnMetadata;
+    private final String nextToken;
+    private final String text;
+    private final int columnCount;
+    private int[] starts;
+    private int[] ends;
+    private byte[] flags;
+    private int rowCount = 0;
+
+    /**
+     * Parses the CSV text of a page.
+     *
+     * @param columnMetadata the columns of the result, if the page carries them
+     * @param text           the CSV records
+     * @param nextToken      the token of the page that follows, or {@code null} if this is the last page
+     * @param columnCount    the number of values in a record
+     * @param hasHeader      whether the first record holds the column names rather than values, as it does on the
+     *                       first page of a result fetched with {@code GetStatementResultV2}
+     */
+    CsvResultPage(List<ColumnMetadata> columnMetadata, String text, String nextToken, int columnCount,
+                  boolean hasHeader) {
+        this.columnMetadata = columnMetadata;
+        this.nextToken = nextToken;
+        this.text = text;
+        this.columnCount = columnCount;
+        int capacity = Math.max(columnCount, 1) * INITIAL_ROW_CAPACITY;
+        this.starts = new int[capacity];
+        this.ends = new int[capacity];
+        this.flags = new byte[capacity];
+        parse();
+        if (hasHeader && rowCount > 0) {
+            dropFirstRow();
+        }
+    }
+
+    @Override
+    public List<ColumnMetadata> columnMetadata() {
+        return columnMetadata;
+    }
+
+    @Override
+    public int rowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public String nextToken() {
+        return nextToken;
+    }
+
+    @Override
+    public long estimatedSize() {
+        return 2L * text.length() + 9L * rowCount * columnCount;
+    }
+
+    @Override
+    public Object decode(int row, int column, ColumnDecoder decoder) {
+        int index = row * columnCount + column;
+        byte flag = flags[index];
+        if ((flag & NULL) != 0) {
+            return null;
+        }
+        if ((flag & ESCAPED) != 0) {
+            String value = text.substring(starts[index], ends[index]).replace("\"\"", "\"");
+            return decoder.fromText(value, 0, value.length());
+        }
+        return decoder.fromText(text, starts[index], ends[index]);
+    }
+
+    @Override
+    public void readColumn(int column, ColumnVector vector) {
+        for (int row = 0; row < rowCount; row++) {
+            int index = row * columnCount + column;
+            byte flag = flags[index];
+            if ((flag & NULL) != 0) {
+                vector.setNull(row);
+            } else if ((flag & ESCAPED) != 0) {
+                String value = text.substring(starts[index], ends[index]).replace("\"\"", "\"");
+                vector.fromText(row, value, 0, value.length());
+            } else {
+                vector.fromText(row, text, starts[index], ends[index]);
+            }
+        }
+    }
+
+    private static String csvText(List<QueryRecords> records) {
+        if (records.size() == 1) {
+            return Objects.requireNonNullElse(records.getFirst().csvRecords(), "");
+        }
+        StringBuilder text = new StringBuilder();
+        for (QueryRecords record : records) {
+            String csvRecords = Objects.requireNonNullElse(record.csvRecords(), "");
+            text.append(csvRecords);
+            if (!csvRecords.isEmpty() && csvRecords.charAt(csvRecords.length() - 1) != '\n') {
+                text.append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    private void parse() {
+        int length = text.length();
+        int position = 0;
+        while (position < length) {
+            char first = text.charAt(position);
+            if ((first == '\n' || first == '\r') && columnCount != 1) {
+                // A blank line; with a single column, it is a record holding a NULL value instead
+                position++;
+                continue;
+            }
+            int rowStart = rowCount * columnCount;
+            ensureCapacity(rowStart + columnCount);
+            int column = 0;
+            while (true) {
+                if (column == columnCount) {
+                    throw malformed("more than " + columnCount + " values");
+                }
+                int index = rowStart + column;
+                byte flag = 0;
+                if (position < length && text.charAt(position) == '"') {
+                    flag = QUOTED;
+                    position++;
+                    starts[index] = position;
+                    while (true) {
+                        int quote = text.indexOf('"', position);
+                        if (quote < 0) {
+                            throw malformed("an unterminated quoted value");
+                        }
+                        if (quote + 1 < length && text.charAt(quote + 1) == '"') {
+                            flag |= ESCAPED;
+                            position = quote + 2;
+                            continue;
+                        }
+                        ends[index] = quote;
+                        position = quote + 1;
+                        break;
+                    }
+                } else {
+                    starts[index] = position;
+                    while (position < length) {
+                        char c = text.charAt(position);
+                        if (c == ',' || c == '\n' || c == '\r') {
+                            break;
+                        }
+                        position++;
+                    }
+                    ends[index] = position;
+                    if (starts[index] == position) {
+                        flag = NULL;
+                    }
+                }
+                flags[index] = flag;
+                column++;
+                if (position < length && text.charAt(position) == ',') {
+                    position++;
+                    continue;
+                }
+                // The end of the record
+                if (position < length && text.charAt(position) == '\r') {
+                    position++;
+                }
+                if (position < length && text.charAt(position) == '\n') {
+                    position++;
+                }
+                break;
+            }
+            if (column != columnCount) {
+                throw malformed(column + " values where " + columnCount + " are expected");
+            }
+            rowCount++;
+        }
+    }
+
+    private void dropFirstRow() {
+        int size = rowCount * columnCount;
+        System.arraycopy(starts, columnCount, starts, 0, size - columnCount);
+        System.arraycopy(ends, columnCount, ends, 0, size - columnCount);
+        System.arraycopy(flags, columnCount, flags, 0, size - columnCount);
+        rowCount--;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > starts.length) {
+            int newCapacity = Math.max(capacity, starts.length * 2);
+            starts = Arrays.copyOf(starts, newCapacity);
+            ends = Arrays.copyOf(ends, newCapacity);
+            flags = Arrays.copyOf(flags, newCapacity);
+        }
+    }
+
+    private IllegalStateException malformed(String problem) {
+        return new IllegalStateException("Malformed CSV result: record " + (rowCount + 1) + " has " + problem);
+    }
+
+    /**
+     * Fetches the pages of a statement result in the CSV format. The column count is taken from the first page,
+     * as only that page is guaranteed to carry the column metadata.
+     */
+    static final class Reader implements ResultPage.Reader {
+        private final NativeClient nativeClient;
+        private final String statementId;
+        private volatile int columnCount = -1;
+
+        Reader(NativeClient nativeClient, String statementId) {
+            this.nativeClient = nativeClient;
+            this.statementId = statementId;
+        }
+
+        @Override
+        public CompletableFuture<ResultPage> read(String nextToken) {
+            GetStatementResultV2Request request = GetStatementResultV2Request.builder()
+                    .id(statementId).nextToken(nextToken).build();
+            return nativeClient.getStatementResultV2(request).thenApply(response -> {
+                // The first record of the first page always holds the column names
+                boolean firstPage = Objects.isNull(nextToken);
+                if (firstPage || columnCount < 0) {
+                    columnCount = response.hasColumnMetadata() ? response.columnMetadata().size() : 0;
+                }
+                return new CsvResultPage(response.columnMetadata(), csvText(response.records()),
+                        response.nextToken(), columnCount, firstPage);
+            });
+        }
+    }
+}
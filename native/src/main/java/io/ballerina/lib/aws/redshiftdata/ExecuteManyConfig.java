@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code ExecuteManyConfig} contains the java representation of the ballerina redshift data api configurations of
+ * splitting statements into batches and running the batches.
+ *
+ * @param maxBatchSize    The maximum number of statements in a batch.
+ * @param maxBatchSqlSize The maximum total size of the SQL statements in a batch, in UTF-8 bytes.
+ * @param parallelism     The maximum number of batches running at a time.
+ * @param ordered         Whether a batch is submitted only after the batches before it finished.
+ */
+public record ExecuteManyConfig(int maxBatchSize, long maxBatchSqlSize, int parallelism, boolean ordered) {
+    static final int MAX_BATCH_SIZE = 40;
+    private static final BString EXECUTE_MANY_MAX_BATCH_SIZE = StringUtils.fromString("maxBatchSize");
+    private static final BString EXECUTE_MANY_MAX_BATCH_SQL_SIZE = StringUtils.fromString("maxBatchSqlSize");
+    private static final BString EXECUTE_MANY_PARALLELISM = StringUtils.fromString("parallelism");
+    private static final BString EXECUTE_MANY_ORDERED = StringUtils.fromString("ordered");
+
+    public ExecuteManyConfig {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("The maxBatchSize should be greater than 0.");
+        }
+        if (maxBatchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(String.format(
+                    "The maxBatchSize should be less than or equal to %d.", MAX_BATCH_SIZE));
+        }
+        if (maxBatchSqlSize < 1) {
+            throw new IllegalArgumentException("The maxBatchSqlSize should be greater than 0.");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism should be greater than 0.");
+        }
+    }
+
+    public ExecuteManyConfig(BMap<BString, Object> bExecuteManyConfig) {
+        this(
+                CommonUtils.narrowToInt(bExecuteManyConfig.getIntValue(EXECUTE_MANY_MAX_BATCH_SIZE), "maxBatchSize"),
+                bExecuteManyConfig.getIntValue(EXECUTE_MANY_MAX_BATCH_SQL_SIZE),
+                CommonUtils.narrowToInt(bExecuteManyConfig.getIntValue(EXECUTE_MANY_PARALLELISM), "parallelism"),
+                bExecuteManyConfig.getBooleanValue(EXECUTE_MANY_ORDERED)
+        );
+    }
+
+    /**
+     * Returns the number of batches that run at a time, which is one when the batches are ordered.
+     */
+    int lanes() {
+        return ordered ? 1 : parallelism;
+    }
+}
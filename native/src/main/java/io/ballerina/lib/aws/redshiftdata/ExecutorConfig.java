@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code ExecutorConfig} contains the java representation of the ballerina redshift data api executor
+ * configurations.
+ *
+ * @param mode            The threads the calls run on, {@code VIRTUAL} or {@code PLATFORM}.
+ * @param maxConcurrency  The maximum number of calls that run at a time.
+ * @param maxQueueDepth   The maximum number of calls that wait for a running call to complete.
+ * @param rejectionPolicy What happens to a call made while the queue is full, {@code FAIL} or {@code BLOCK}.
+ */
+public record ExecutorConfig(String mode, int maxConcurrency, int maxQueueDepth, String rejectionPolicy) {
+    static final String PLATFORM = "PLATFORM";
+    static final String BLOCK = "BLOCK";
+    private static final String VIRTUAL = "VIRTUAL";
+    private static final String FAIL = "FAIL";
+    private static final BString EXECUTOR_MODE = StringUtils.fromString("mode");
+    private static final BString EXECUTOR_MAX_CONCURRENCY = StringUtils.fromString("maxConcurrency");
+    private static final BString EXECUTOR_MAX_QUEUE_DEPTH = StringUtils.fromString("maxQueueDepth");
+    private static final BString EXECUTOR_REJECTION_POLICY = StringUtils.fromString("rejectionPolicy");
+
+    // The executor of a blocking client that is not configured, which runs every call right away on a virtual thread
+    static final ExecutorConfig UNBOUNDED = new ExecutorConfig(VIRTUAL, Integer.MAX_VALUE, 0, FAIL);
+
+    public ExecutorConfig {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maxConcurrency should be greater than 0.");
+        }
+        if (maxQueueDepth < 0) {
+            throw new IllegalArgumentException("The maxQueueDepth should be greater than or equal to 0.");
+        }
+    }
+
+    public ExecutorConfig(BMap<BString, Object> bExecutorConfig) {
+        this(
+                bExecutorConfig.getStringValue(EXECUTOR_MODE).getValue(),
+                CommonUtils.narrowToInt(bExecutorConfig.getIntValue(EXECUTOR_MAX_CONCURRENCY), "maxConcurrency"),
+                CommonUtils.narrowToInt(bExecutorConfig.getIntValue(EXECUTOR_MAX_QUEUE_DEPTH), "maxQueueDepth"),
+                bExecutorConfig.getStringValue(EXECUTOR_REJECTION_POLICY).getValue()
+        );
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code FanOutConfig} contains the java representation of the ballerina redshift data api configurations of
+ * fetching several statement results concurrently, such as those of the sub-statements of a batch or of the
+ * partitions of a query.
+ *
+ * @param ordered        Whether the rows of the merged stream follow the order of the statements.
+ * @param maxConcurrency The maximum number of results being fetched at a time.
+ * @param bufferSize     The number of bytes of fetched pages, across all the results, after which no further page is
+ *                       requested ahead of consumption.
+ */
+public record FanOutConfig(boolean ordered, int maxConcurrency, long bufferSize) {
+    private static final BString FAN_OUT_ORDERED = StringUtils.fromString("ordered");
+    private static final BString FAN_OUT_MAX_CONCURRENCY = StringUtils.fromString("maxConcurrency");
+    private static final BString FAN_OUT_BUFFER_SIZE = StringUtils.fromString("bufferSize");
+
+    public FanOutConfig {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maxConcurrency should be greater than 0.");
+        }
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("The bufferSize should be greater than 0.");
+        }
+    }
+
+    public FanOutConfig(BMap<BString, Object> bFanOutConfig) {
+        this(
+                bFanOutConfig.getBooleanValue(FAN_OUT_ORDERED),
+                maxConcurrencyOf(bFanOutConfig.getIntValue(FAN_OUT_MAX_CONCURRENCY)),
+                bFanOutConfig.getIntValue(FAN_OUT_BUFFER_SIZE)
+        );
+    }
+
+    // The maxConcurrency is checked before it is narrowed, as a value out of the range of an int would wrap around
+    private static int maxConcurrencyOf(long maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maxConcurrency should be greater than 0.");
+        }
+        if (maxConcurrency > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format(
+                    "The maxConcurrency should be less than or equal to %d.", Integer.MAX_VALUE));
+        }
+        return (int) maxConcurrency;
+    }
+}
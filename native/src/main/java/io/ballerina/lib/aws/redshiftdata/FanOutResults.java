@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.types.RecordType;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Fetches several statement results concurrently, under a shared concurrency and memory budget.
+ * <p>
+ * Each result is a lane whose pages are chained through {@code NextToken}, so a lane has at most one request in
+ * flight. Lanes are started in order, while fewer than {@code maxConcurrency} of them are still being fetched. A
+ * started lane requests its next page only while the pages fetched across all the lanes hold fewer than
+ * {@code bufferSize} bytes. A lane the consumer is waiting on is started and fetched regardless of the budget, so
+ * that a consumer reading the lanes in any order always makes progress.
+ * </p>
+ * <p>
+ * The pages are read either as one merged sequence, in the order of the lanes or in the order the pages arrive, or
+ * as one sequence per lane.
+ * </p>
+ */
+final class FanOutResults {
+    private final RecordType recordType;
+    private final Lane[] lanes;
+    private final int maxConcurrency;
+    private final long bufferSize;
+    private final boolean interleaved;
+
+    // The lanes of the fetched pages in the order the pages arrived, when the pages are read as they arrive
+    private final Deque<Lane> arrivals = new ArrayDeque<>();
+    private long bufferedBytes = 0;
+    private int active = 0;
+    // Completes whenever a page arrives or a lane ends, to wake up a waiting consumer
+    private CompletableFuture<Void> changed = new CompletableFuture<>();
+
+    /**
+     * Starts fetching the given results.
+     *
+     * @param readers      the page readers of the results, keyed by the names of the lanes, in the order of the lanes
+     * @param recordType   the record type the rows of the results are mapped to
+     * @param fanOutConfig the concurrency and memory budget
+     */
+    FanOutResults(Map<String, ResultPage.Reader> readers, RecordType recordType, FanOutConfig fanOutConfig) {
+        this.recordType = recordType;
+        this.maxConcurrency = fanOutConfig.maxConcurrency();
+        this.bufferSize = fanOutConfig.bufferSize();
+        this.interleaved = !fanOutConfig.ordered();
+        this.lanes = readers.entrySet().stream()
+                .map(reader -> new Lane(reader.getKey(), reader.getValue()))
+                .toArray(Lane[]::new);
+        synchronized (this) {
+            schedule();
+        }
+    }
+
+    String name(int lane) {
+        return lanes[lane].name;
+    }
+
+    int size() {
+        return lanes.length;
+    }
+
+    /**
+     * Returns the pages of all the lanes as one sequence, in the order of the lanes or, if not ordered, in the order
+     * the pages arrive.
+     */
+    ResultCursor.PageSource merged() {
+        return interleaved ? new ArrivedPages() : new OrderedPages();
+    }
+
+    /**
+     * Returns the pages of a single lane.
+     */
+    ResultCursor.PageSource lane(int lane) {
+        return new LanePages(lanes[lane]);
+    }
+
+    private ResultCursor.MappedPage next(Lane lane) {
+        while (true) {
+            CompletableFuture<Void> pending;
+            synchronized (this) {
+                if (lane.closed) {
+                    return null;
+                }
+                ResultCursor.MappedPage page = lane.pages.poll();
+                if (Objects.nonNull(page)) {
+                    if (interleaved) {
+                        arrivals.removeFirstOccurrence(lane);
+                    }
+                    release(lane, page);
+                    return page;
+                }
+                lane.throwFailure();
+                if (lane.done) {
+                    return null;
+                }
+                lane.demanded = true;
+                schedule();
+                pending = changed;
+            }
+            await(pending);
+        }
+    }
+
+    private ResultCursor.MappedPage nextArrived() {
+        while (true) {
+            CompletableFuture<Void> pending;
+            synchronized (this) {
+                Lane lane = arrivals.poll();
+                if (Objects.nonNull(lane)) {
+                    ResultCursor.MappedPage page = lane.pages.poll();
+                    release(lane, page);
+                    return page;
+                }
+                boolean done = true;
+                for (Lane pendingLane : lanes) {
+                    pendingLane.throwFailure();
+                    done &= pendingLane.done;
+                }
+                if (done) {
+                    return null;
+                }
+                pending = changed;
+            }
+            await(pending);
+        }
+    }
+
+    private static void await(CompletableFuture<Void> pending) {
+        try {
+            pending.join();
+        } catch (CompletionException | CancellationException e) {
+            // The signal only completes normally
+        }
+    }
+
+    // Must be called while holding the lock
+    private void release(Lane lane, ResultCursor.MappedPage page) {
+        bufferedBytes -= page.page().estimatedSize();
+        lane.demanded = false;
+        schedule();
+    }
+
+    synchronized void close(int lane) {
+        close(lanes[lane]);
+    }
+
+    synchronized void close() {
+        for (Lane lane : lanes) {
+            close(lane);
+        }
+    }
+
+    // Must be called while holding the lock
+    private void close(Lane lane) {
+        if (lane.closed) {
+            return;
+        }
+        lane.closed = true;
+        if (Objects.nonNull(lane.inFlight)) {
+            lane.inFlight.cancel(true);
+            lane.inFlight = null;
+        }
+        for (ResultCursor.MappedPage page : lane.pages) {
+            bufferedBytes -= page.page().estimatedSize();
+        }
+        lane.pages.clear();
+        if (interleaved) {
+            arrivals.removeIf(arrived -> arrived == lane);
+        }
+        end(lane);
+        schedule();
+    }
+
+    // Must be called while holding the lock
+    private void schedule() {
+        for (Lane lane : lanes) {
+            if (lane.done || Objects.nonNull(lane.inFlight)) {
+                continue;
+            }
+            if (!lane.started) {
+                if (active < maxConcurrency || lane.demanded) {
+                    lane.started = true;
+                    active++;
+                    fetch(lane);
+                }
+            } else if (bufferedBytes < bufferSize || (lane.demanded && lane.pages.isEmpty())) {
+                fetch(lane);
+            }
+        }
+    }
+
+    // Must be called while holding the lock
+    private void fetch(Lane lane) {
+        String pageToken = lane.nextToken;
+        CompletableFuture<ResultPage> response = lane.reader.read(pageToken);
+        lane.inFlight = response;
+        response.whenComplete((page, error) -> onFetched(lane, response, page, error));
+    }
+
+    private synchronized void onFetched(Lane lane, CompletableFuture<ResultPage> response,
+                                        ResultPage page, Throwable error) {
+        if (lane.closed || lane.inFlight != response) {
+            return;
+        }
+        lane.inFlight = null;
+        Throwable failure = error;
+        if (Objects.isNull(failure) && Objects.isNull(lane.plan)) {
+            try {
+                lane.plan = RowMappingPlan.of(recordType, page.columnMetadata());
+            } catch (Exception e) {
+                failure = e;
+            }
+        }
+        if (Objects.nonNull(failure)) {
+            lane.failure = CommonUtils.unwrap(failure);
+            end(lane);
+            schedule();
+            return;
+        }
+        lane.pages.add(new ResultCursor.MappedPage(page, lane.plan));
+        bufferedBytes += page.estimatedSize();
+        if (interleaved) {
+            arrivals.add(lane);
+        }
+        lane.nextToken = page.nextToken();
+        if (Objects.isNull(lane.nextToken)) {
+            end(lane);
+        }
+        schedule();
+        signal();
+    }
+
+    // Must be called while holding the lock
+    private void end(Lane lane) {
+        if (!lane.done) {
+            lane.done = true;
+            if (lane.started) {
+                active--;
+            }
+        }
+        signal();
+    }
+
+    // Must be called while holding the lock
+    private void signal() {
+        CompletableFuture<Void> signal = changed;
+        changed = new CompletableFuture<>();
+        signal.complete(null);
+    }
+
+    private static final class Lane {
+        private final String name;
+        private final ResultPage.Reader reader;
+        private final Deque<ResultCursor.MappedPage> pages = new ArrayDeque<>();
+        private RowMappingPlan plan;
+        private String nextToken;
+        private CompletableFuture<ResultPage> inFlight;
+        private Throwable failure;
+        private boolean started = false;
+        // Whether no further page is to be fetched, as the last one is fetched, fetching failed or the lane is closed
+        private boolean done = false;
+        private boolean demanded = false;
+        private boolean closed = false;
+
+        private Lane(String name, ResultPage.Reader reader) {
+            this.name = name;
+            this.reader = reader;
+        }
+
+        private void throwFailure() {
+            if (Objects.nonNull(failure)) {
+                throw failure instanceof RuntimeException runtimeFailure ? runtimeFailure :
+                        new CompletionException(failure);
+            }
+        }
+    }
+
+    private final class OrderedPages implements ResultCursor.PageSource {
+        private int current = 0;
+
+        @Override
+        public ResultCursor.MappedPage next() {
+            while (current < lanes.length) {
+                ResultCursor.MappedPage page = FanOutResults.this.next(lanes[current]);
+                if (Objects.nonNull(page)) {
+                    return page;
+                }
+                current++;
+            }
+            return null;
+        }
+
+        @Override
+        public void close() {
+            FanOutResults.this.close();
+        }
+    }
+
+    private final class ArrivedPages implements ResultCursor.PageSource {
+
+        @Override
+        public ResultCursor.MappedPage next() {
+            return nextArrived();
+        }
+
+        @Override
+        public void close() {
+            FanOutResults.this.close();
+        }
+    }
+
+    private final class LanePages implements ResultCursor.PageSource {
+        private final Lane lane;
+
+        private LanePages(Lane lane) {
+            this.lane = lane;
+        }
+
+        @Override
+        public ResultCursor.MappedPage next() {
+            return FanOutResults.this.next(lane);
+        }
+
+        @Override
+        public void close() {
+            synchronized (FanOutResults.this) {
+                FanOutResults.this.close(lane);
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+
+/**
+ * {@code HttpClientConfig} contains the java representation of the ballerina redshift data api HTTP client
+ * configurations.
+ *
+ * @param transport                         The HTTP client the requests are sent with; {@code null} for the
+ *                                          default of the client.
+ * @param maxConnections                    The maximum number of connections the client keeps open.
+ * @param connectionTimeoutNanos            The maximum time to establish a connection.
+ * @param connectionAcquisitionTimeoutNanos The maximum time a request waits for a connection from the pool.
+ * @param socketTimeoutNanos                The maximum time to wait for data on an established connection.
+ * @param connectionMaxIdleTimeNanos        The time an idle connection is kept in the pool.
+ * @param connectionTimeToLiveNanos         The time a connection is used for; {@code 0} when not limited.
+ * @param useIdleConnectionReaper           Whether idle connections are closed in the background.
+ * @param tcpKeepAlive                      Whether TCP keep-alive probes are sent on the connections.
+ * @param tlsSessionCacheSize               The number of TLS sessions cached to resume; {@code 0} when the TLS
+ *                                          sessions are cached by the default SSL context.
+ * @param tlsSessionTimeoutNanos            The time a cached TLS session can be resumed for.
+ */
+public record HttpClientConfig(String transport, int maxConnections, long connectionTimeoutNanos,
+                               long connectionAcquisitionTimeoutNanos, long socketTimeoutNanos,
+                               long connectionMaxIdleTimeNanos, long connectionTimeToLiveNanos,
+                               boolean useIdleConnectionReaper, boolean tcpKeepAlive, int tlsSessionCacheSize,
+                               long tlsSessionTimeoutNanos) {
+    private static final String URL_CONNECTION = "URL_CONNECTION";
+    private static final BString HTTP_CLIENT_TRANSPORT = StringUtils.fromString("transport");
+    private static final BString HTTP_CLIENT_MAX_CONNECTIONS = StringUtils.fromString("maxConnections");
+    private static final BString HTTP_CLIENT_CONNECTION_TIMEOUT = StringUtils.fromString("connectionTimeout");
+    private static final BString HTTP_CLIENT_CONNECTION_ACQUISITION_TIMEOUT =
+            StringUtils.fromString("connectionAcquisitionTimeout");
+    private static final BString HTTP_CLIENT_SOCKET_TIMEOUT = StringUtils.fromString("socketTimeout");
+    private static final BString HTTP_CLIENT_CONNECTION_MAX_IDLE_TIME = StringUtils.fromString("connectionMaxIdleTime");
+    private static final BString HTTP_CLIENT_CONNECTION_TIME_TO_LIVE = StringUtils.fromString("connectionTimeToLive");
+    private static final BString HTTP_CLIENT_USE_IDLE_CONNECTION_REAPER =
+            StringUtils.fromString("useIdleConnectionReaper");
+    private static final BString HTTP_CLIENT_TCP_KEEP_ALIVE = StringUtils.fromString("tcpKeepAlive");
+    private static final BString HTTP_CLIENT_TLS_SESSION = StringUtils.fromString("tlsSession");
+    private static final BString TLS_SESSION_CACHE_SIZE = StringUtils.fromString("sessionCacheSize");
+    private static final BString TLS_SESSION_TIMEOUT = StringUtils.fromString("sessionTimeout");
+
+    public HttpClientConfig {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("The maxConnections should be greater than 0.");
+        }
+        if (tlsSessionCacheSize < 0) {
+            throw new IllegalArgumentException("The sessionCacheSize should be greater than 0.");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public HttpClientConfig(BMap<BString, Object> bHttpClientConfig) {
+        this(
+                bHttpClientConfig.containsKey(HTTP_CLIENT_TRANSPORT)
+                        ? bHttpClientConfig.getStringValue(HTTP_CLIENT_TRANSPORT).getValue() : null,
+                CommonUtils.narrowToInt(bHttpClientConfig.getIntValue(HTTP_CLIENT_MAX_CONNECTIONS), "maxConnections"),
+                CommonUtils.toNanos((BDecimal) bHttpClientConfig.get(HTTP_CLIENT_CONNECTION_TIMEOUT)),
+                CommonUtils.toNanos((BDecimal) bHttpClientConfig.get(HTTP_CLIENT_CONNECTION_ACQUISITION_TIMEOUT)),
+                CommonUtils.toNanos((BDecimal) bHttpClientConfig.get(HTTP_CLIENT_SOCKET_TIMEOUT)),
+                CommonUtils.toNanos((BDecimal) bHttpClientConfig.get(HTTP_CLIENT_CONNECTION_MAX_IDLE_TIME)),
+                bHttpClientConfig.containsKey(HTTP_CLIENT_CONNECTION_TIME_TO_LIVE)
+                        ? CommonUtils.toNanos((BDecimal) bHttpClientConfig.get(HTTP_CLIENT_CONNECTION_TIME_TO_LIVE))
+                        : 0,
+                bHttpClientConfig.getBooleanValue(HTTP_CLIENT_USE_IDLE_CONNECTION_REAPER),
+                bHttpClientConfig.getBooleanValue(HTTP_CLIENT_TCP_KEEP_ALIVE),
+                getTlsSessionCacheSize((BMap<BString, Object>) bHttpClientConfig.getMapValue(HTTP_CLIENT_TLS_SESSION)),
+                getTlsSessionTimeout((BMap<BString, Object>) bHttpClientConfig.getMapValue(HTTP_CLIENT_TLS_SESSION))
+        );
+    }
+
+    /**
+     * Returns the builder of the blocking HTTP client of the given configurations, which is the Apache HTTP client
+     * unless the {@code URL_CONNECTION} transport is configured.
+     */
+    static SdkHttpClient.Builder<?> syncHttpClientBuilder(HttpClientConfig config) {
+        if (Objects.isNull(config)) {
+            return ApacheHttpClient.builder();
+        }
+        if (URL_CONNECTION.equals(config.transport())) {
+            // The connections of `HttpURLConnection` are pooled by the JVM, so only the timeouts apply
+            return UrlConnectionHttpClient.builder()
+                    .connectionTimeout(Duration.ofNanos(config.connectionTimeoutNanos()))
+                    .socketTimeout(Duration.ofNanos(config.socketTimeoutNanos()));
+        }
+        ApacheHttpClient.Builder builder = ApacheHttpClient.builder()
+                .maxConnections(config.maxConnections())
+                .connectionTimeout(Duration.ofNanos(config.connectionTimeoutNanos()))
+                .connectionAcquisitionTimeout(Duration.ofNanos(config.connectionAcquisitionTimeoutNanos()))
+                .socketTimeout(Duration.ofNanos(config.socketTimeoutNanos()))
+                .connectionMaxIdleTime(Duration.ofNanos(config.connectionMaxIdleTimeNanos()))
+                .useIdleConnectionReaper(config.useIdleConnectionReaper())
+                .tcpKeepAlive(config.tcpKeepAlive());
+        if (config.connectionTimeToLiveNanos() > 0) {
+            builder.connectionTimeToLive(Duration.ofNanos(config.connectionTimeToLiveNanos()));
+        }
+        if (config.tlsSessionCacheSize() > 0) {
+            builder.socketFactory(new SSLConnectionSocketFactory(config.sslContext(),
+                    SSLConnectionSocketFactory.getDefaultHostnameVerifier()));
+        }
+        return builder;
+    }
+
+    /**
+     * Returns the builder of the non-blocking HTTP client of the given configurations, which is the Netty NIO HTTP
+     * client.
+     */
+    static SdkAsyncHttpClient.Builder<?> asyncHttpClientBuilder(HttpClientConfig config) {
+        NettyNioAsyncHttpClient.Builder builder = NettyNioAsyncHttpClient.builder();
+        if (Objects.isNull(config)) {
+            return builder;
+        }
+        builder.maxConcurrency(config.maxConnections())
+                .connectionTimeout(Duration.ofNanos(config.connectionTimeoutNanos()))
+                .connectionAcquisitionTimeout(Duration.ofNanos(config.connectionAcquisitionTimeoutNanos()))
+                .readTimeout(Duration.ofNanos(config.socketTimeoutNanos()))
+                .writeTimeout(Duration.ofNanos(config.socketTimeoutNanos()))
+                .connectionMaxIdleTime(Duration.ofNanos(config.connectionMaxIdleTimeNanos()))
+                .useIdleConnectionReaper(config.useIdleConnectionReaper())
+                .tcpKeepAlive(config.tcpKeepAlive());
+        if (config.connectionTimeToLiveNanos() > 0) {
+            builder.connectionTimeToLive(Duration.ofNanos(config.connectionTimeToLiveNanos()));
+        }
+        return builder;
+    }
+
+    /**
+     * Creates an SSL context of its own for the client, so that the TLS sessions it resumes are cached apart from
+     * those of the other clients in the JVM, with the configured size and timeout.
+     */
+    private SSLContext sslContext() {
+        try {
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, null, null);
+            SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+            sessionContext.setSessionCacheSize(tlsSessionCacheSize);
+            sessionContext.setSessionTimeout((int) Math.min(TimeUnit.NANOSECONDS.toSeconds(tlsSessionTimeoutNanos),
+                    Integer.MAX_VALUE));
+            return sslContext;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to create the SSL context of the HTTP client: " + e.getMessage(),
+                    e);
+        }
+    }
+
+    private static int getTlsSessionCacheSize(BMap<BString, Object> bTlsSession) {
+        return Objects.nonNull(bTlsSession)
+                ? CommonUtils.narrowToInt(bTlsSession.getIntValue(TLS_SESSION_CACHE_SIZE), "sessionCacheSize") : 0;
+    }
+
+    private static long getTlsSessionTimeout(BMap<BString, Object> bTlsSession) {
+        return Objects.nonNull(bTlsSession) ? CommonUtils.toNanos((BDecimal) bTlsSession.get(TLS_SESSION_TIMEOUT)) : 0;
+    }
+}
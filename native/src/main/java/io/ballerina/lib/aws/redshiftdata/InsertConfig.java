@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code InsertConfig} contains the java representation of the ballerina redshift data api configurations of
+ * inserting rows through multi-row {@code INSERT} statements.
+ *
+ * @param maxStatementSize The maximum size of an {@code INSERT} statement, in UTF-8 bytes.
+ * @param parallelism      The maximum number of {@code INSERT} statements running at a time.
+ */
+public record InsertConfig(long maxStatementSize, int parallelism) {
+    private static final BString INSERT_MAX_STATEMENT_SIZE = StringUtils.fromString("maxStatementSize");
+    private static final BString INSERT_PARALLELISM = StringUtils.fromString("parallelism");
+
+    public InsertConfig {
+        if (maxStatementSize < 1) {
+            throw new IllegalArgumentException("The maxStatementSize should be greater than 0.");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism should be greater than 0.");
+        }
+    }
+
+    public InsertConfig(BMap<BString, Object> bInsertConfig) {
+        this(
+                bInsertConfig.getIntValue(INSERT_MAX_STATEMENT_SIZE),
+                CommonUtils.narrowToInt(bInsertConfig.getIntValue(INSERT_PARALLELISM), "parallelism")
+        );
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.model.ColumnMetadata;
+import software.amazon.awssdk.services.redshiftdata.model.Field;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultRequest;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A page of a statement result fetched with {@code GetStatementResult}, which holds each value in a {@link Field}.
+ */
+final class JsonResultPage implements ResultPage {
+    // Approximate heap cost of a `Field` and its boxed value, on top of the string or blob it carries
+    private static final int FIELD_OVERHEAD_BYTES = 48;
+
+    private final GetStatementResultResponse response;
+    private final List<List<Field>> records;
+    private final long estimatedSize;
+
+    JsonResultPage(GetStatementResultResponse response) {
+        this.response = response;
+        this.records = response.records();
+        this.estimatedSize = estimateSize(records);
+    }
+
+    /**
+     * Returns a reader of the pages of a statement result in the JSON format.
+     */
+    static ResultPage.Reader reader(NativeClient nativeClient, String statementId) {
+        return nextToken -> nativeClient.getStatementResult(GetStatementResultRequest.builder()
+                .id(statementId).nextToken(nextToken).build()).thenApply(JsonResultPage::new);
+    }
+
+    @Override
+    public List<ColumnMetadata> columnMetadata() {
+        return response.columnMetadata();
+    }
+
+    @Override
+    public int rowCount() {
+        return records.size();
+    }
+
+    @Override
+    public String nextToken() {
+        return response.nextToken();
+    }
+
+    @Override
+    public long estimatedSize() {
+        return estimatedSize;
+    }
+
+    @Override
+    public Object decode(int row, int column, ColumnDecoder decoder) {
+        return decoder.decode(records.get(row).get(column));
+    }
+
+    @Override
+    public void readColumn(int column, ColumnVector vector) {
+        for (int row = 0; row < records.size(); row++) {
+            vector.fromField(row, records.get(row).get(column));
+        }
+    }
+
+    private static long estimateSize(List<List<Field>> records) {
+        long size = 0;
+        for (List<Field> row : records) {
+            for (Field field : row) {
+                size += FIELD_OVERHEAD_BYTES;
+                if (Objects.nonNull(field.stringValue())) {
+                    size += 2L * field.stringValue().length();
+                } else if (Objects.nonNull(field.blobValue())) {
+                    size += field.blobValue().asByteArrayUnsafe().length;
+                }
+            }
+        }
+        return size;
+    }
+}
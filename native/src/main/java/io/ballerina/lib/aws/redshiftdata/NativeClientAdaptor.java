@@ -18,47 +18,91 @@
 
 package io.ballerina.lib.aws.redshiftdata;
 
-import io.ballerina.lib.aws.EndpointConfigUtils;
-import io.ballerina.lib.aws.auth.ProviderFactory;
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
+import software.amazon.awssdk.services.redshiftdata.RedshiftDataAsyncClient;
 import software.amazon.awssdk.services.redshiftdata.RedshiftDataClient;
-import software.amazon.awssdk.services.redshiftdata.RedshiftDataClientBuilder;
 import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementRequest;
 import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementResponse;
 import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementRequest;
 import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
 import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
 import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementResponse;
-import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultRequest;
-import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ResultFormatString;
+import software.amazon.awssdk.services.redshiftdata.model.SqlParameter;
+import software.amazon.awssdk.services.redshiftdata.model.StatusString;
+import software.amazon.awssdk.services.redshiftdata.model.SubStatementData;
+import software.amazon.awssdk.services.redshiftdata.model.ValidationException;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
- * Representation of {@link RedshiftDataClient} with
+ * Representation of {@link RedshiftDataClient} and {@link RedshiftDataAsyncClient} with
  * utility methods to invoke as inter-op functions.
  */
 public class NativeClientAdaptor {
     static final String NATIVE_CLIENT = "nativeClient";
     private static final String NATIVE_DB_ACCESS_CONFIG = "nativeDbAccessConfig";
+    private static final String NATIVE_RESULT_CONFIG = "nativeResultConfig";
+    private static final String NATIVE_STATUS_TRACKER = "nativeStatusTracker";
+    private static final String NATIVE_UNLOAD_EXPORTER = "nativeUnloadExporter";
+    private static final String NATIVE_RESULT_CACHE = "nativeResultCache";
+    private static final String NATIVE_SESSION_POOL = "nativeSessionPool";
+    private static final String NATIVE_EXECUTOR = "nativeExecutor";
 
     private NativeClientAdaptor() {
     }
 
     public static Object init(BObject bClient, BMap<BString, Object> bConnectionConfig) {
-        ConnectionConfig connectionConfig = null;
+        NativeClient nativeClient = null;
         try {
-            connectionConfig = new ConnectionConfig(bConnectionConfig);
-            RedshiftDataClient nativeClient = buildRedshiftDataClient(connectionConfig);
+            ConnectionConfig connectionConfig = new ConnectionConfig(bConnectionConfig);
+            SharedNativeClient sharedClient = SharedNativeClient.acquire(connectionConfig);
+            nativeClient = sharedClient;
+            nativeClient = buildNativeClient(sharedClient, connectionConfig);
             bClient.addNativeData(NATIVE_CLIENT, nativeClient);
             bClient.addNativeData(NATIVE_DB_ACCESS_CONFIG, connectionConfig.dbAccessConfig());
+            bClient.addNativeData(NATIVE_RESULT_CONFIG, connectionConfig.resultConfig());
+            if (Objects.nonNull(sharedClient.executor())) {
+                bClient.addNativeData(NATIVE_EXECUTOR, sharedClient.executor());
+            }
+            if (Objects.nonNull(connectionConfig.statusTracker())) {
+                bClient.addNativeData(NATIVE_STATUS_TRACKER,
+                        new StatementTracker(nativeClient, connectionConfig.statusTracker()));
+            }
+            if (Objects.nonNull(connectionConfig.unloadConfig())) {
+                bClient.addNativeData(NATIVE_UNLOAD_EXPORTER, new UnloadExporter(connectionConfig,
+                        sharedClient.credentialsProvider()));
+            }
+            if (Objects.nonNull(connectionConfig.resultCache())) {
+                bClient.addNativeData(NATIVE_RESULT_CACHE, new ResultCache(connectionConfig.resultCache()));
+            }
+            if (Objects.nonNull(connectionConfig.sessionPool())) {
+                bClient.addNativeData(NATIVE_SESSION_POOL, new SessionPool(nativeClient,
+                        connectionConfig.dbAccessConfig(), connectionConfig.sessionPool()));
+            }
         } catch (Exception e) {
-            releaseProvider(connectionConfig, e);
+            Exception closeFailure = closeComponents(bClient, nativeClient);
+            if (Objects.nonNull(closeFailure)) {
+                e.addSuppressed(closeFailure);
+            }
             String errorMsg = String.format("Error occurred while initializing the Redshift client: %s",
                     Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
             return CommonUtils.createError(errorMsg, e);
@@ -66,45 +110,94 @@ public class NativeClientAdaptor {
         return null;
     }
 
-    private static RedshiftDataClient buildRedshiftDataClient(ConnectionConfig connectionConfig) {
-        RedshiftDataClientBuilder builder = RedshiftDataClient.builder()
-                .region(connectionConfig.region())
-                .credentialsProvider(connectionConfig.credentialsProvider());
-        EndpointConfigUtils.applyEndpointConfig(builder, connectionConfig.endpointConfig());
-        return builder.build();
+    private static NativeClient buildNativeClient(SharedNativeClient sharedClient, ConnectionConfig connectionConfig) {
+        NativeClient nativeClient = sharedClient;
+        RetryConfig retryConfig = connectionConfig.retryConfig();
+        if (Objects.nonNull(retryConfig) && !retryConfig.operations().isEmpty()) {
+            nativeClient = new RetryOverridingNativeClient(nativeClient, retryConfig);
+        }
+        if (Objects.nonNull(connectionConfig.rateLimit())) {
+            return new ThrottledNativeClient(nativeClient, connectionConfig.rateLimit());
+        }
+        return nativeClient;
     }
 
     /**
-     * Releases the credentials provider of a configuration whose client could not be
-     * built, recording any failure to do so on the originating exception.
+     * Closes the components of a client and then its native client, each on its own so that a failure to
+     * close one does not leak the others. Returns the first failure, with any later ones suppressed on it.
      */
-    private static void releaseProvider(ConnectionConfig connectionConfig, Exception failure) {
-        if (connectionConfig == null) {
-            return;
-        }
-        try {
-            ProviderFactory.closeProvider(connectionConfig.credentialsProvider());
-        } catch (Exception closeFailure) {
-            failure.addSuppressed(closeFailure);
+    private static Exception closeComponents(BObject bClient, NativeClient nativeClient) {
+        Exception failure = null;
+        for (Object component : Arrays.asList(bClient.getNativeData(NATIVE_SESSION_POOL),
+                bClient.getNativeData(NATIVE_STATUS_TRACKER), bClient.getNativeData(NATIVE_UNLOAD_EXPORTER),
+                nativeClient)) {
+            if (!(component instanceof AutoCloseable closeable)) {
+                continue;
+            }
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                if (Objects.isNull(failure)) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
         }
+        return failure;
     }
 
     @SuppressWarnings("unchecked")
     public static Object execute(Environment env, BObject bClient, BObject bSqlStatement,
                                  BMap<BString, Object> bExecutionConfig) {
-        RedshiftDataClient nativeClient = (RedshiftDataClient) bClient.getNativeData(NATIVE_CLIENT);
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
         Object initLevelDbAccessConfig = bClient.getNativeData(NATIVE_DB_ACCESS_CONFIG);
         return env.yieldAndRun(() -> {
             try {
                 ExecuteStatementRequest executeRequest = CommonUtils.getNativeExecuteRequest(
                         bSqlStatement, bExecutionConfig, initLevelDbAccessConfig);
                 ExecuteStatementResponse executionResponse = nativeClient
-                        .executeStatement(executeRequest);
+                        .executeStatement(executeRequest).join();
                 return CommonUtils.getExecutionResponse(executionResponse);
             } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
                 String errorMsg = String.format("Error occurred while executing the execute: %s",
-                        Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
-                return CommonUtils.createError(errorMsg, e);
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                return CommonUtils.createError(errorMsg, cause);
+            }
+        });
+    }
+
+    public static Object prepare(BObject bClient, BObject bSqlStatement, BMap<BString, Object> bExecutionConfig) {
+        Object initLevelDbAccessConfig = bClient.getNativeData(NATIVE_DB_ACCESS_CONFIG);
+        try {
+            StatementTemplate statementTemplate = new StatementTemplate(
+                    bSqlStatement, bExecutionConfig, initLevelDbAccessConfig);
+            BObject bPreparedStatement = ValueCreator.createObjectValue(ModuleUtils.getModule(), "PreparedStatement");
+            bPreparedStatement.addNativeData(StatementTemplate.NATIVE_STATEMENT_TEMPLATE, statementTemplate);
+            return bPreparedStatement;
+        } catch (Exception e) {
+            String errorMsg = String.format("Error occurred while executing the prepare: %s",
+                    Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
+            return CommonUtils.createError(errorMsg, e);
+        }
+    }
+
+    public static Object executePrepared(Environment env, BObject bClient, BObject bPreparedStatement,
+                                         BArray bValues) {
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
+        StatementTemplate statementTemplate = (StatementTemplate) bPreparedStatement
+                .getNativeData(StatementTemplate.NATIVE_STATEMENT_TEMPLATE);
+        return env.yieldAndRun(() -> {
+            try {
+                ExecuteStatementResponse executionResponse = nativeClient
+                        .executeStatement(statementTemplate.bind(bValues)).join();
+                return CommonUtils.getExecutionResponse(executionResponse);
+            } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
+                String errorMsg = String.format("Error occurred while executing the executePrepared: %s",
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                return CommonUtils.createError(errorMsg, cause);
             }
         });
     }
@@ -112,7 +205,7 @@ public class NativeClientAdaptor {
     @SuppressWarnings("unchecked")
     public static Object batchExecute(Environment env, BObject bClient, BArray bSqlStatements,
                                       BMap<BString, Object> bExecutionConfig) {
-        RedshiftDataClient nativeClient = (RedshiftDataClient) bClient.getNativeData(NATIVE_CLIENT);
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
         Object initLevelDbAccessConfig = bClient.getNativeData(NATIVE_DB_ACCESS_CONFIG);
         return env.yieldAndRun(() -> {
             try {
@@ -120,59 +213,610 @@ public class NativeClientAdaptor {
                         .getNativeBatchExecuteRequest(
                                 bSqlStatements, bExecutionConfig, initLevelDbAccessConfig);
                 BatchExecuteStatementResponse batchExecutionResponse = nativeClient
-                        .batchExecuteStatement(batchExecuteStatementRequest);
+                        .batchExecuteStatement(batchExecuteStatementRequest).join();
                 return CommonUtils.getBatchExecutionResponse(batchExecutionResponse);
             } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
                 String errorMsg = String.format("Error occurred while executing the batchExecute: %s",
-                        Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
-                return CommonUtils.createError(errorMsg, e);
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                return CommonUtils.createError(errorMsg, cause);
+            }
+        });
+    }
+
+    public static Object executeMany(Environment env, BObject bClient, BArray bSqlStatements,
+                                     BMap<BString, Object> bExecutionConfig, BMap<BString, Object> bExecuteManyConfig,
+                                     BMap<BString, Object> bWaitConfig) {
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
+        Object initLevelDbAccessConfig = bClient.getNativeData(NATIVE_DB_ACCESS_CONFIG);
+        StatementTracker statementTracker = (StatementTracker) bClient.getNativeData(NATIVE_STATUS_TRACKER);
+        return env.yieldAndRun(() -> {
+            try {
+                ExecuteManyConfig executeManyConfig = new ExecuteManyConfig(bExecuteManyConfig);
+                WaitConfig waitConfig = new WaitConfig(bWaitConfig);
+                BatchExecuteStatementRequest template = CommonUtils
+                        .getNativeBatchExecuteRequestBuilder(bExecutionConfig, initLevelDbAccessConfig).build();
+                BatchDispatcher dispatcher = new BatchDispatcher(nativeClient, template,
+                        CommonUtils.getPreparedQueries(bSqlStatements), executeManyConfig,
+                        statementId -> waitForCompletion(nativeClient, statementTracker, statementId, waitConfig));
+                DescribeStatementResponse[] descriptions = dispatcher.run(executeManyConfig.lanes()).join();
+                return CommonUtils.getExecuteManyResponse(dispatcher, descriptions);
+            } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
+                String errorMsg = String.format("Error occurred while executing the executeMany: %s",
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                return CommonUtils.createError(errorMsg, cause);
             }
         });
     }
 
+    public static Object insertAll(BObject bClient, BString bTable, BMap<BString, Object> bExecutionConfig,
+                                   BMap<BString, Object> bInsertConfig, BMap<BString, Object> bWaitConfig) {
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
+        Object initLevelDbAccessConfig = bClient.getNativeData(NATIVE_DB_ACCESS_CONFIG);
+        StatementTracker statementTracker = (StatementTracker) bClient.getNativeData(NATIVE_STATUS_TRACKER);
+        try {
+            WaitConfig waitConfig = new WaitConfig(bWaitConfig);
+            ExecuteStatementRequest template = CommonUtils
+                    .getNativeExecuteRequestBuilder(bExecutionConfig, initLevelDbAccessConfig).build();
+            RowInserter rowInserter = new RowInserter(nativeClient, template, bTable.getValue(),
+                    new InsertConfig(bInsertConfig),
+                    statementId -> waitForCompletion(nativeClient, statementTracker, statementId, waitConfig));
+            BObject bRowInserter = ValueCreator.createObjectValue(ModuleUtils.getModule(), "RowInserter");
+            bRowInserter.addNativeData(RowInserter.NATIVE_ROW_INSERTER, rowInserter);
+            return bRowInserter;
+        } catch (Exception e) {
+            String errorMsg = String.format("Error occurred while executing the insertAll: %s",
+                    Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
+            return CommonUtils.createError(errorMsg, e);
+        }
+    }
+
+    public static Object newBufferedWriter(BObject bClient, BMap<BString, Object> bExecutionConfig,
+                                           BMap<BString, Object> bBufferedWriterConfig,
+                                           BMap<BString, Object> bWaitConfig) {
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
+        Object initLevelDbAccessConfig = bClient.getNativeData(NATIVE_DB_ACCESS_CONFIG);
+        StatementTracker statementTracker = (StatementTracker) bClient.getNativeData(NATIVE_STATUS_TRACKER);
+        try {
+            WaitConfig waitConfig = new WaitConfig(bWaitConfig);
+            BatchExecuteStatementRequest template = CommonUtils
+                    .getNativeBatchExecuteRequestBuilder(bExecutionConfig, initLevelDbAccessConfig).build();
+            BufferedStatementWriter writer = new BufferedStatementWriter(nativeClient, template,
+                    new BufferedWriterConfig(bBufferedWriterConfig),
+                    statementId -> waitForCompletion(nativeClient, statementTracker, statementId, waitConfig));
+            BObject bWriter = ValueCreator.createObjectValue(ModuleUtils.getModule(), "BufferedWriter");
+            bWriter.addNativeData(BufferedStatementWriter.NATIVE_BUFFERED_WRITER, writer);
+            return bWriter;
+        } catch (Exception e) {
+            String errorMsg = String.format("Error occurred while creating the buffered writer: %s",
+                    Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
+            return CommonUtils.createError(errorMsg, e);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public static Object describe(Environment env, BObject bClient, BString bStatementId) {
-        RedshiftDataClient nativeClient = (RedshiftDataClient) bClient.getNativeData(NATIVE_CLIENT);
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
         String statementId = bStatementId.getValue();
         return env.yieldAndRun(() -> {
             try {
                 DescribeStatementResponse describeStatementResponse = nativeClient.describeStatement(
-                        DescribeStatementRequest.builder().id(statementId).build());
+                        DescribeStatementRequest.builder().id(statementId).build()).join();
                 return CommonUtils.getDescriptionResponse(describeStatementResponse);
             } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
                 String errorMsg = String.format("Error occurred while executing the describe: %s",
-                        Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
-                return CommonUtils.createError(errorMsg, e);
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                return CommonUtils.createError(errorMsg, cause);
             }
         });
     }
 
+    public static Object waitForCompletion(Environment env, BObject bClient, BString bStatementId,
+                                           BMap<BString, Object> bWaitConfig) {
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
+        StatementTracker statementTracker = (StatementTracker) bClient.getNativeData(NATIVE_STATUS_TRACKER);
+        String statementId = bStatementId.getValue();
+        return env.yieldAndRun(() -> {
+            try {
+                WaitConfig waitConfig = new WaitConfig(bWaitConfig);
+                DescribeStatementResponse describeStatementResponse = waitForCompletion(nativeClient,
+                        statementTracker, statementId, waitConfig).join();
+                return CommonUtils.getDescriptionResponse(describeStatementResponse);
+            } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
+                String errorMsg = String.format("Error occurred while executing the waitForCompletion: %s",
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                return CommonUtils.createError(errorMsg, cause);
+            }
+        });
+    }
+
+    public static Object executeAndWait(Environment env, BObject bClient, BObject bSqlStatement,
+                                        BMap<BString, Object> bExecutionConfig, BMap<BString, Object> bWaitConfig) {
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
+        Object initLevelDbAccessConfig = bClient.getNativeData(NATIVE_DB_ACCESS_CONFIG);
+        StatementTracker statementTracker = (StatementTracker) bClient.getNativeData(NATIVE_STATUS_TRACKER);
+        SessionPool sessionPool = (SessionPool) bClient.getNativeData(NATIVE_SESSION_POOL);
+        return env.yieldAndRun(() -> {
+            try {
+                WaitConfig waitConfig = new WaitConfig(bWaitConfig);
+                ExecuteStatementRequest executeRequest = CommonUtils.getNativeExecuteRequest(
+                        bSqlStatement, bExecutionConfig, initLevelDbAccessConfig);
+                DescribeStatementResponse describeStatementResponse = executeAndWait(nativeClient,
+                        statementTracker, sessionPool, executeRequest, waitConfig);
+                return CommonUtils.getDescriptionResponse(describeStatementResponse);
+            } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
+                String errorMsg = String.format("Error occurred while executing the executeAndWait: %s",
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                return CommonUtils.createError(errorMsg, cause);
+            }
+        });
+    }
+
+    /**
+     * Validates the statement and the configurations of a function bound directly to Java, which Ballerina does not
+     * validate as it does for the functions that wrap their external, and returns the wait configurations.
+     *
+     * @throws IllegalArgumentException with the message of the first constraint that does not hold
+     */
+    private static WaitConfig validateQuery(BObject bSqlStatement, BMap<BString, Object> bExecutionConfig,
+                                            BMap<BString, Object> bWaitConfig) {
+        CommonUtils.validateStatement(bSqlStatement);
+        CommonUtils.validateExecutionConfig(bExecutionConfig);
+        return new WaitConfig(bWaitConfig);
+    }
+
+    public static Object query(Environment env, BObject bClient, BObject bSqlStatement,
+                               BMap<BString, Object> bExecutionConfig, BMap<BString, Object> bWaitConfig,
+                               boolean bypassCache, BTypedesc recordType) {
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
+        Object initLevelDbAccessConfig = bClient.getNativeData(NATIVE_DB_ACCESS_CONFIG);
+        StatementTracker statementTracker = (StatementTracker) bClient.getNativeData(NATIVE_STATUS_TRACKER);
+        ResultConfig resultConfig = (ResultConfig) bClient.getNativeData(NATIVE_RESULT_CONFIG);
+        UnloadExporter unloadExporter = (UnloadExporter) bClient.getNativeData(NATIVE_UNLOAD_EXPORTER);
+        ResultCache resultCache = bypassCache ? null : (ResultCache) bClient.getNativeData(NATIVE_RESULT_CACHE);
+        SessionPool sessionPool = (SessionPool) bClient.getNativeData(NATIVE_SESSION_POOL);
+        WaitConfig waitConfig;
+        try {
+            waitConfig = validateQuery(bSqlStatement, bExecutionConfig, bWaitConfig);
+        } catch (IllegalArgumentException e) {
+            return CommonUtils.createError(e.getMessage(), e);
+        }
+        return env.yieldAndRun(() -> {
+            try {
+                ExecuteStatementRequest executeRequest = CommonUtils.getNativeExecuteRequest(
+                        bSqlStatement, bExecutionConfig, initLevelDbAccessConfig);
+                ResultCache.Key cacheKey = Objects.nonNull(resultCache) ? ResultCache.keyOf(executeRequest) : null;
+                if (Objects.nonNull(cacheKey)) {
+                    ResultPage.Reader cachedResult = resultCache.get(cacheKey);
+                    if (Objects.nonNull(cachedResult)) {
+                        return getRecordStream(cachedResult, recordType, resultConfig);
+                    }
+                }
+                DescribeStatementResponse describeStatementResponse = executeAndWait(nativeClient,
+                        statementTracker, sessionPool, executeRequest, waitConfig);
+                requireFinished(describeStatementResponse);
+                if (!Boolean.TRUE.equals(describeStatementResponse.hasResultSet())) {
+                    throw new Exception("Statement does not have a result set.");
+                }
+                if (Objects.nonNull(unloadExporter)
+                        && unloadExporter.exceedsAutoUnloadThreshold(describeStatementResponse)) {
+                    // The result is too large to page through the Data API, so the query is run again through
+                    // `UNLOAD`. The client token is dropped, as it would resolve to the statement that just ran
+                    return unload(nativeClient, statementTracker, sessionPool, unloadExporter, bSqlStatement,
+                            executeRequest.toBuilder().clientToken(null).build(), waitConfig, recordType,
+                            resultConfig);
+                }
+                ResultPage.Reader pageReader = readerOf(nativeClient, describeStatementResponse.id(),
+                        describeStatementResponse.resultFormat(), resultConfig);
+                if (Objects.nonNull(cacheKey)) {
+                    pageReader = resultCache.recording(cacheKey, pageReader);
+                }
+                return getRecordStream(pageReader, recordType, resultConfig);
+            } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
+                String errorMsg = String.format("Error occurred while executing the query: %s",
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                return CommonUtils.createError(errorMsg, cause);
+            }
+        });
+    }
+
+    public static Object queryPartitioned(Environment env, BObject bClient, BObject bSqlStatement, BString bColumn,
+                                          Object bPartitions, BMap<BString, Object> bExecutionConfig,
+                                          BMap<BString, Object> bFanOutConfig, BMap<BString, Object> bWaitConfig,
+                                          BTypedesc recordType) {
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
+        ResultConfig resultConfig = (ResultConfig) bClient.getNativeData(NATIVE_RESULT_CONFIG);
+        Object initLevelDbAccessConfig = bClient.getNativeData(NATIVE_DB_ACCESS_CONFIG);
+        StatementTracker statementTracker = (StatementTracker) bClient.getNativeData(NATIVE_STATUS_TRACKER);
+        SessionPool sessionPool = (SessionPool) bClient.getNativeData(NATIVE_SESSION_POOL);
+        WaitConfig waitConfig;
+        try {
+            waitConfig = validateQuery(bSqlStatement, bExecutionConfig, bWaitConfig);
+        } catch (IllegalArgumentException e) {
+            return CommonUtils.createError(e.getMessage(), e);
+        }
+        return env.yieldAndRun(() -> {
+            try {
+                FanOutConfig fanOutConfig = new FanOutConfig(bFanOutConfig);
+                ExecuteStatementRequest template = CommonUtils
+                        .getNativeExecuteRequestBuilder(bExecutionConfig, initLevelDbAccessConfig).build();
+                if (Objects.nonNull(template.clientToken())) {
+                    throw new Exception("The statements of queryPartitioned cannot have a clientToken, as each of "
+                            + "them is a new request.");
+                }
+                List<ExecuteStatementRequest> partitionRequests = PartitionedQuery.partitionRequests(template,
+                        bSqlStatement, bColumn.getValue(), bPartitions);
+
+                // The statement of a partition is submitted once its lane is started, so that no more than
+                // `maxConcurrency` partitions run at a time
+                Map<String, ResultPage.Reader> readers = new LinkedHashMap<>();
+                for (ExecuteStatementRequest partitionRequest : partitionRequests) {
+                    readers.put(String.valueOf(readers.size()), PartitionedQuery.onFirstRead(
+                            () -> executeAndWaitAsync(nativeClient, statementTracker, sessionPool,
+                                    partitionRequest, waitConfig).thenApply(describeStatementResponse -> {
+                                        requireResultSet(describeStatementResponse);
+                                        return readerOf(nativeClient, describeStatementResponse.id(),
+                                                describeStatementResponse.resultFormat(), resultConfig);
+                                    })));
+                }
+                RecordType streamConstraint = (RecordType) TypeUtils.getReferredType(
+                        recordType.getDescribingType());
+                FanOutResults results = new FanOutResults(readers, streamConstraint, fanOutConfig);
+                return QueryResultProcessor.getRecordStream(results.merged(), streamConstraint);
+            } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
+                String errorMsg = String.format("Error occurred while executing the queryPartitioned: %s",
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                return CommonUtils.createError(errorMsg, cause);
+            }
+        });
+    }
+
+    public static Object unloadAsStream(Environment env, BObject bClient, BObject bSqlStatement,
+                                        BMap<BString, Object> bExecutionConfig, BMap<BString, Object> bWaitConfig,
+                                        BTypedesc recordType) {
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
+        Object initLevelDbAccessConfig = bClient.getNativeData(NATIVE_DB_ACCESS_CONFIG);
+        StatementTracker statementTracker = (StatementTracker) bClient.getNativeData(NATIVE_STATUS_TRACKER);
+        ResultConfig resultConfig = (ResultConfig) bClient.getNativeData(NATIVE_RESULT_CONFIG);
+        UnloadExporter unloadExporter = (UnloadExporter) bClient.getNativeData(NATIVE_UNLOAD_EXPORTER);
+        SessionPool sessionPool = (SessionPool) bClient.getNativeData(NATIVE_SESSION_POOL);
+        WaitConfig waitConfig;
+        try {
+            waitConfig = validateQuery(bSqlStatement, bExecutionConfig, bWaitConfig);
+        } catch (IllegalArgumentException e) {
+            return CommonUtils.createError(e.getMessage(), e);
+        }
+        return env.yieldAndRun(() -> {
+            try {
+                if (Objects.isNull(unloadExporter)) {
+                    throw new Exception("The client is not configured to unload results. " +
+                            "Provide the `unloadConfig` of the client.");
+                }
+                ExecuteStatementRequest executeRequest = CommonUtils.getNativeExecuteRequest(
+                        bSqlStatement, bExecutionConfig, initLevelDbAccessConfig);
+                return unload(nativeClient, statementTracker, sessionPool, unloadExporter, bSqlStatement,
+                        executeRequest, waitConfig, recordType, resultConfig);
+            } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
+                String errorMsg = String.format("Error occurred while executing the unloadAsStream: %s",
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                return CommonUtils.createError(errorMsg, cause);
+            }
+        });
+    }
+
+    /**
+     * Unloads the result of a query to S3 and returns a stream that reads the unloaded parts.
+     *
+     * @param executeRequest the request that runs the query, whose database access and other options the
+     *                       {@code UNLOAD} statement is run with
+     */
+    private static Object unload(NativeClient nativeClient, StatementTracker statementTracker,
+                                 SessionPool sessionPool, UnloadExporter unloadExporter, BObject bSqlStatement,
+                                 ExecuteStatementRequest executeRequest, WaitConfig waitConfig, BTypedesc recordType,
+                                 ResultConfig resultConfig) throws Exception {
+        // Parameters cannot be bound inside the query of an `UNLOAD`, so their values are put in place
+        String targetPrefix = unloadExporter.newTargetPrefix();
+        String unloadStatement = unloadExporter.unloadStatement(
+                new ParameterizedQuery(bSqlStatement).getPreparedQuery(), targetPrefix);
+        ExecuteStatementRequest unloadRequest = executeRequest.toBuilder()
+                .sql(unloadStatement)
+                .parameters((Collection<SqlParameter>) null)
+                .resultFormat((String) null)
+                .build();
+        requireFinished(executeAndWait(nativeClient, statementTracker, sessionPool, unloadRequest, waitConfig));
+        return getRecordStream(unloadExporter.reader(targetPrefix), recordType, resultConfig);
+    }
+
+    private static void requireFinished(DescribeStatementResponse describeStatementResponse) throws Exception {
+        if (describeStatementResponse.status() != StatusString.FINISHED) {
+            throw new Exception(String.format("Statement did not finish successfully. Status: %s. %s",
+                    describeStatementResponse.statusAsString(),
+                    Objects.requireNonNullElse(describeStatementResponse.error(), "")).trim());
+        }
+    }
+
+    private static void requireResultSet(DescribeStatementResponse describeStatementResponse) {
+        try {
+            requireFinished(describeStatementResponse);
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+        if (!Boolean.TRUE.equals(describeStatementResponse.hasResultSet())) {
+            throw new CompletionException(new Exception("Statement does not have a result set."));
+        }
+    }
+
+    /**
+     * Runs a statement and waits for it to complete, polling its status from the moment it is submitted. The
+     * statement runs in a session of the pool of the client when it runs on the database of the pool.
+     */
+    private static DescribeStatementResponse executeAndWait(NativeClient nativeClient,
+                                                            StatementTracker statementTracker,
+                                                            SessionPool sessionPool,
+                                                            ExecuteStatementRequest executeRequest,
+                                                            WaitConfig waitConfig) {
+        return executeAndWaitAsync(nativeClient, statementTracker, sessionPool, executeRequest, waitConfig).join();
+    }
+
+    private static CompletableFuture<DescribeStatementResponse> executeAndWaitAsync(
+            NativeClient nativeClient, StatementTracker statementTracker, SessionPool sessionPool,
+            ExecuteStatementRequest executeRequest, WaitConfig waitConfig) {
+        if (Objects.nonNull(sessionPool) && sessionPool.accepts(executeRequest)) {
+            return sessionPool.executeAndWait(executeRequest, statementId -> waitForCompletion(
+                    nativeClient, statementTracker, statementId, waitConfig));
+        }
+        return nativeClient.executeStatement(executeRequest)
+                .thenCompose(executionResponse -> waitForCompletion(
+                        nativeClient, statementTracker, executionResponse.id(), waitConfig));
+    }
+
+    /**
+     * Waits for a statement to complete, through the status tracker of the client when it has one.
+     */
+    private static CompletableFuture<DescribeStatementResponse> waitForCompletion(NativeClient nativeClient,
+                                                                                  StatementTracker statementTracker,
+                                                                                  String statementId,
+                                                                                  WaitConfig waitConfig) {
+        if (Objects.nonNull(statementTracker)) {
+            return statementTracker.track(statementId, waitConfig);
+        }
+        return StatementPoller.waitForCompletion(nativeClient, statementId, waitConfig);
+    }
+
+    private static Object getRecordStream(ResultPage.Reader pageReader, BTypedesc recordType,
+                                          ResultConfig resultConfig) throws Exception {
+        ResultSource resultSource = ResultSource.open(pageReader);
+        return QueryResultProcessor.getRecordStream(resultSource.pageReader(), resultSource.firstPage(),
+                recordType, resultConfig);
+    }
+
+    /**
+     * Fetches the first page of the result of a statement whose result format is not known. The result is read as
+     * JSON, and the statement is described only if Redshift rejects that because the statement was run with the
+     * CSV result format.
+     */
+    private static ResultSource openResult(NativeClient nativeClient, String statementId,
+                                           ResultConfig resultConfig) {
+        try {
+            return ResultSource.open(readerOf(nativeClient, statementId, ResultFormatString.JSON, resultConfig));
+        } catch (CompletionException e) {
+            if (!(CommonUtils.unwrap(e) instanceof ValidationException)) {
+                throw e;
+            }
+            DescribeStatementResponse describeStatementResponse = nativeClient.describeStatement(
+                    DescribeStatementRequest.builder().id(statementId).build()).join();
+            if (describeStatementResponse.resultFormat() != ResultFormatString.CSV) {
+                throw e;
+            }
+            return ResultSource.open(readerOf(nativeClient, statementId, ResultFormatString.CSV, resultConfig));
+        }
+    }
+
+    private static ResultPage.Reader readerOf(NativeClient nativeClient, String statementId,
+                                              ResultFormatString resultFormat, ResultConfig resultConfig) {
+        if (resultFormat == ResultFormatString.CSV) {
+            return new CsvResultPage.Reader(nativeClient, statementId);
+        }
+        if (resultConfig.offHeapPages()) {
+            return PackedResultPage.reader(nativeClient, statementId);
+        }
+        return JsonResultPage.reader(nativeClient, statementId);
+    }
+
+    private record ResultSource(ResultPage.Reader pageReader, ResultPage firstPage) {
+
+        static ResultSource open(ResultPage.Reader pageReader) {
+            return new ResultSource(pageReader, pageReader.read(null).join());
+        }
+    }
+
     public static Object getResultAsStream(Environment env, BObject bClient, BString bStatementId,
                                            BTypedesc recordType) {
-        RedshiftDataClient nativeClient = (RedshiftDataClient) bClient.getNativeData(NATIVE_CLIENT);
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
+        ResultConfig resultConfig = (ResultConfig) bClient.getNativeData(NATIVE_RESULT_CONFIG);
         String statementId = bStatementId.getValue();
         return env.yieldAndRun(() -> {
             try {
-                GetStatementResultResponse nativeResultResponse = nativeClient
-                        .getStatementResult(GetStatementResultRequest.builder().id(statementId).build());
-                return QueryResultProcessor.getRecordStream(nativeClient,
-                        statementId, nativeResultResponse, recordType);
+                ResultSource resultSource = openResult(nativeClient, statementId, resultConfig);
+                return QueryResultProcessor.getRecordStream(resultSource.pageReader(), resultSource.firstPage(),
+                        recordType, resultConfig);
             } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
                 String errorMsg = String.format("Error occurred while executing the getResultAsStream: %s",
-                        Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
-                return CommonUtils.createError(errorMsg, e);
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                return CommonUtils.createError(errorMsg, cause);
+            }
+        });
+    }
+
+    public static Object getResultAsBatchStream(Environment env, BObject bClient, BString bStatementId,
+                                                long batchSize, BTypedesc recordType) {
+        if (batchSize < 0) {
+            IllegalArgumentException cause = new IllegalArgumentException("Batch size cannot be negative.");
+            return CommonUtils.createError(cause.getMessage(), cause);
+        }
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
+        ResultConfig resultConfig = (ResultConfig) bClient.getNativeData(NATIVE_RESULT_CONFIG);
+        String statementId = bStatementId.getValue();
+        return env.yieldAndRun(() -> {
+            try {
+                ResultSource resultSource = openResult(nativeClient, statementId, resultConfig);
+                return QueryResultProcessor.getBatchStream(resultSource.pageReader(), resultSource.firstPage(),
+                        recordType, (int) Math.min(batchSize, Integer.MAX_VALUE), resultConfig);
+            } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
+                String errorMsg = String.format("Error occurred while executing the getResultAsBatchStream: %s",
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                return CommonUtils.createError(errorMsg, cause);
+            }
+        });
+    }
+
+    public static Object getResultAsColumnStream(Environment env, BObject bClient, BString bStatementId) {
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
+        ResultConfig resultConfig = (ResultConfig) bClient.getNativeData(NATIVE_RESULT_CONFIG);
+        String statementId = bStatementId.getValue();
+        return env.yieldAndRun(() -> {
+            try {
+                ResultSource resultSource = openResult(nativeClient, statementId, resultConfig);
+                return QueryResultProcessor.getColumnBatchIterator(resultSource.pageReader(),
+                        resultSource.firstPage(), resultConfig);
+            } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
+                String errorMsg = String.format("Error occurred while executing the getResultAsColumnStream: %s",
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                return CommonUtils.createError(errorMsg, cause);
+            }
+        });
+    }
+
+    public static Object getResultAsReplayable(Environment env, BObject bClient, BString bStatementId,
+                                               BMap<BString, Object> bSpillConfig) {
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
+        String statementId = bStatementId.getValue();
+        return env.yieldAndRun(() -> {
+            try {
+                // The pages are spilled in the packed encoding, whichever encoding the client reads results in
+                SpilledResult result = SpilledResult.open(PackedResultPage.reader(nativeClient, statementId),
+                        new SpillConfig(bSpillConfig));
+                BObject bResult = ValueCreator.createObjectValue(ModuleUtils.getModule(), "ReplayableResult");
+                bResult.addNativeData(SpilledResult.NATIVE_SPILLED_RESULT, result);
+                return bResult;
+            } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
+                String errorMsg = String.format("Error occurred while executing the getResultAsReplayable: %s",
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                return CommonUtils.createError(errorMsg, cause);
+            }
+        });
+    }
+
+    public static Object getSubStatementResultsAsStream(Environment env, BObject bClient, BString bStatementId,
+                                                        BMap<BString, Object> bFanOutConfig, BTypedesc recordType) {
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
+        ResultConfig resultConfig = (ResultConfig) bClient.getNativeData(NATIVE_RESULT_CONFIG);
+        String statementId = bStatementId.getValue();
+        return env.yieldAndRun(() -> {
+            try {
+                RecordType streamConstraint = (RecordType) TypeUtils.getReferredType(
+                        recordType.getDescribingType());
+                FanOutResults results = openSubStatementResults(nativeClient, statementId,
+                        new FanOutConfig(bFanOutConfig), streamConstraint, resultConfig);
+                return QueryResultProcessor.getRecordStream(results.merged(), streamConstraint);
+            } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
+                String errorMsg = String.format(
+                        "Error occurred while executing the getSubStatementResultsAsStream: %s",
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                return CommonUtils.createError(errorMsg, cause);
             }
         });
     }
 
+    public static Object getSubStatementResultsAsStreams(Environment env, BObject bClient, BString bStatementId,
+                                                         BMap<BString, Object> bFanOutConfig, BTypedesc recordType) {
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
+        ResultConfig resultConfig = (ResultConfig) bClient.getNativeData(NATIVE_RESULT_CONFIG);
+        String statementId = bStatementId.getValue();
+        return env.yieldAndRun(() -> {
+            try {
+                RecordType streamConstraint = (RecordType) TypeUtils.getReferredType(
+                        recordType.getDescribingType());
+                FanOutResults results = openSubStatementResults(nativeClient, statementId,
+                        new FanOutConfig(bFanOutConfig), streamConstraint, resultConfig);
+                BMap<BString, Object> streams = ValueCreator.createMapValue(TypeCreator.createMapType(
+                        TypeCreator.createStreamType(streamConstraint, PredefinedTypes.TYPE_NULL)));
+                for (int lane = 0; lane < results.size(); lane++) {
+                    streams.put(StringUtils.fromString(results.name(lane)),
+                            QueryResultProcessor.getRecordStream(results.lane(lane), streamConstraint));
+                }
+                return streams;
+            } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
+                String errorMsg = String.format(
+                        "Error occurred while executing the getSubStatementResultsAsStreams: %s",
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                return CommonUtils.createError(errorMsg, cause);
+            }
+        });
+    }
+
+    /**
+     * Starts fetching the results of the sub-statements of a batch that have a result set.
+     */
+    private static FanOutResults openSubStatementResults(NativeClient nativeClient, String statementId,
+                                                         FanOutConfig fanOutConfig, RecordType streamConstraint,
+                                                         ResultConfig resultConfig) throws Exception {
+        DescribeStatementResponse describeStatementResponse = nativeClient.describeStatement(
+                DescribeStatementRequest.builder().id(statementId).build()).join();
+        if (!describeStatementResponse.hasSubStatements() || describeStatementResponse.subStatements().isEmpty()) {
+            throw new Exception(String.format("The statement '%s' has no sub-statements.", statementId));
+        }
+        requireFinished(describeStatementResponse);
+        Map<String, ResultPage.Reader> readers = new LinkedHashMap<>();
+        for (SubStatementData subStatement : describeStatementResponse.subStatements()) {
+            if (Boolean.TRUE.equals(subStatement.hasResultSet())) {
+                readers.put(subStatement.id(), readerOf(nativeClient, subStatement.id(),
+                        describeStatementResponse.resultFormat(), resultConfig));
+            }
+        }
+        return new FanOutResults(readers, streamConstraint, fanOutConfig);
+    }
+
+    public static Object getResultCacheStats(BObject bClient) {
+        ResultCache resultCache = (ResultCache) bClient.getNativeData(NATIVE_RESULT_CACHE);
+        return Objects.nonNull(resultCache) ? resultCache.getStats() : null;
+    }
+
+    public static Object getRateLimiterStats(BObject bClient) {
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
+        return nativeClient instanceof ThrottledNativeClient throttledClient ? throttledClient.getStats() : null;
+    }
+
+    public static Object getExecutorStats(BObject bClient) {
+        CallExecutor executor = (CallExecutor) bClient.getNativeData(NATIVE_EXECUTOR);
+        return Objects.nonNull(executor) ? executor.getStats() : null;
+    }
+
+    public static Object getSessionPoolStats(BObject bClient) {
+        SessionPool sessionPool = (SessionPool) bClient.getNativeData(NATIVE_SESSION_POOL);
+        return Objects.nonNull(sessionPool) ? sessionPool.getStats() : null;
+    }
+
     public static Object close(BObject bClient) {
-        RedshiftDataClient nativeClient = (RedshiftDataClient) bClient.getNativeData(NATIVE_CLIENT);
-        try {
-            nativeClient.close();
-        } catch (Exception e) {
+        NativeClient nativeClient = (NativeClient) bClient.getNativeData(NATIVE_CLIENT);
+        Exception failure = closeComponents(bClient, nativeClient);
+        if (Objects.nonNull(failure)) {
             String errorMsg = String.format("Error occurred while closing the Redshift client: %s",
-                    Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
-            return CommonUtils.createError(errorMsg, e);
+                    Objects.requireNonNullElse(failure.getMessage(), "Unknown error"));
+            return CommonUtils.createError(errorMsg, failure);
         }
         return null;
     }
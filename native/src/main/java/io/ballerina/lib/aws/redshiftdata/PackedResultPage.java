@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.redshiftdata.model.ColumnMetadata;
+import software.amazon.awssdk.services.redshiftdata.model.Field;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultRequest;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A page of a statement result fetched with {@code GetStatementResult}, re-encoded into a compact binary row format
+ * held off the heap, so that the {@link Field} objects of the response are released as soon as the page is fetched.
+ * <p>
+ * Each value is a tag byte followed by its payload: nothing for {@code NULL} and boolean values, eight bytes for
+ * integer and floating point values, and a four byte length followed by the bytes for text and binary values. Text
+ * is held in UTF-8, and text that is all ASCII is tagged as such, so that it is decoded through a view of the buffer
+ * without a string of its own. The start of each value is held in an array on the heap. Values are decoded only when
+ * they are read, through the same {@link ColumnDecoder}s as those of the other formats. The buffer comes from the
+ * {@link PageBufferPool} and returns to it once the page is no longer reachable. A page may also be spilled to a file,
+ * which gives a page of the same encoding that is read from a mapping of the file.
+ * </p>
+ */
+final class PackedResultPage implements ResultPage {
+    private static final byte NULL = 0;
+    private static final byte TRUE = 1;
+    private static final byte FALSE = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte ASCII_TEXT = 5;
+    private static final byte TEXT = 6;
+    private static final byte BYTES = 7;
+    private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
+
+    private final List<ColumnMetadata> columnMetadata;
+    private final String nextToken;
+    private final int rowCount;
+    private final int columnCount;
+    private final IntBuffer offsets;
+    private final int encodedSize;
+    private final ByteBuffer buffer;
+
+    private PackedResultPage(GetStatementResultResponse response) {
+        List<List<Field>> records = response.records();
+        this.columnMetadata = response.columnMetadata();
+        this.nextToken = response.nextToken();
+        this.rowCount = records.size();
+        this.columnCount = rowCount > 0 ? records.getFirst().size() : 0;
+        this.offsets = IntBuffer.allocate(rowCount * columnCount);
+        this.encodedSize = encodedSize(records);
+        this.buffer = encodedSize > 0 ? PageBufferPool.SHARED.acquire(this, encodedSize) : EMPTY_BUFFER;
+        int index = 0;
+        for (List<Field> row : records) {
+            for (Field field : row) {
+                offsets.put(index++, buffer.position());
+                encode(field);
+            }
+        }
+    }
+
+    private PackedResultPage(List<ColumnMetadata> columnMetadata, String nextToken, int rowCount, int columnCount,
+                             IntBuffer offsets, int encodedSize, ByteBuffer buffer) {
+        this.columnMetadata = columnMetadata;
+        this.nextToken = nextToken;
+        this.rowCount = rowCount;
+        this.columnCount = columnCount;
+        this.offsets = offsets;
+        this.encodedSize = encodedSize;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Returns a reader of the pages of a statement result in the JSON format, which packs each page it fetches.
+     */
+    static ResultPage.Reader reader(NativeClient nativeClient, String statementId) {
+        return nextToken -> nativeClient.getStatementResult(GetStatementResultRequest.builder()
+                .id(statementId).nextToken(nextToken).build()).thenApply(PackedResultPage::new);
+    }
+
+    @Override
+    public List<ColumnMetadata> columnMetadata() {
+        return columnMetadata;
+    }
+
+    @Override
+    public int rowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public String nextToken() {
+        return nextToken;
+    }
+
+    @Override
+    public long estimatedSize() {
+        return encodedSize + 4L * offsets.capacity();
+    }
+
+    @Override
+    public Object decode(int row, int column, ColumnDecoder decoder) {
+        try {
+            int offset = offsets.get(row * columnCount + column);
+            return switch (buffer.get(offset)) {
+                case NULL -> null;
+                case TRUE -> decoder.fromBoolean(true);
+                case FALSE -> decoder.fromBoolean(false);
+                case LONG -> decoder.fromLong(buffer.getLong(offset + 1));
+                case DOUBLE -> decoder.fromDouble(buffer.getDouble(offset + 1));
+                case ASCII_TEXT -> {
+                    int length = buffer.getInt(offset + 1);
+                    yield decoder.fromText(new AsciiText(buffer, offset + 5, length), 0, length);
+                }
+                case TEXT -> {
+                    String text = new String(bytesAt(offset), StandardCharsets.UTF_8);
+                    yield decoder.fromText(text, 0, text.length());
+                }
+                default -> decoder.fromBytes(bytesAt(offset));
+            };
+        } finally {
+            // The buffer returns to the pool once the page is unreachable, which must not happen while it is read
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    @Override
+    public void readColumn(int column, ColumnVector vector) {
+        try {
+            for (int row = 0; row < rowCount; row++) {
+                int offset = offsets.get(row * columnCount + column);
+                switch (buffer.get(offset)) {
+                    case NULL -> vector.setNull(row);
+                    case TRUE -> vector.fromBoolean(row, true);
+                    case FALSE -> vector.fromBoolean(row, false);
+                    case LONG -> vector.fromLong(row, buffer.getLong(offset + 1));
+                    case DOUBLE -> vector.fromDouble(row, buffer.getDouble(offset + 1));
+                    case ASCII_TEXT -> {
+                        int length = buffer.getInt(offset + 1);
+                        vector.fromText(row, new AsciiText(buffer, offset + 5, length), 0, length);
+                    }
+                    case TEXT -> {
+                        String text = new String(bytesAt(offset), StandardCharsets.UTF_8);
+                        vector.fromText(row, text, 0, text.length());
+                    }
+                    default -> vector.fromBytes(row, bytesAt(offset));
+                }
+            }
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+    }
+
+    /**
+     * The number of bytes the page takes up once spilled: the start of each value followed by the values.
+     */
+    long spilledSize() {
+        return 4L * offsets.capacity() + encodedSize;
+    }
+
+    /**
+     * Writes the page to a file and returns a page that reads it from a read-only mapping of the file.
+     *
+     * @param channel        the channel of the file
+     * @param position       the position in the file the page is written at
+     * @param columnMetadata the columns of the result, which the spilled page carries whether or not this page does
+     * @return the spilled page
+     */
+    PackedResultPage spill(FileChannel channel, long position, List<ColumnMetadata> columnMetadata)
+            throws IOException {
+        int offsetsSize = 4 * offsets.capacity();
+        ByteBuffer encodedOffsets = ByteBuffer.allocate(offsetsSize);
+        encodedOffsets.asIntBuffer().put(offsets.duplicate().clear());
+        writeFully(channel, encodedOffsets, position);
+        try {
+            writeFully(channel, buffer.duplicate().position(0).limit(encodedSize), position + offsetsSize);
+        } finally {
+            Reference.reachabilityFence(this);
+        }
+        if (spilledSize() == 0) {
+            return new PackedResultPage(columnMetadata, nextToken, rowCount, columnCount, IntBuffer.allocate(0), 0,
+                    EMPTY_BUFFER);
+        }
+        MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, position, spilledSize());
+        return new PackedResultPage(columnMetadata, nextToken, rowCount, columnCount,
+                mapping.slice(0, offsetsSize).asIntBuffer(), encodedSize,
+                mapping.slice(offsetsSize, encodedSize));
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer source, long position) throws IOException {
+        while (source.hasRemaining()) {
+            position += channel.write(source, position);
+        }
+    }
+
+    private byte[] bytesAt(int offset) {
+        byte[] bytes = new byte[buffer.getInt(offset + 1)];
+        buffer.get(offset + 5, bytes);
+        return bytes;
+    }
+
+    private static int encodedSize(List<List<Field>> records) {
+        long size = 0;
+        for (List<Field> row : records) {
+            for (Field field : row) {
+                size++;
+                if (Boolean.TRUE.equals(field.isNull())) {
+                    continue;
+                }
+                if (Objects.nonNull(field.stringValue())) {
+                    size += 4 + CommonUtils.utf8Length(field.stringValue());
+                } else if (Objects.nonNull(field.longValue()) || Objects.nonNull(field.doubleValue())) {
+                    size += 8;
+                } else if (Objects.isNull(field.booleanValue()) && Objects.nonNull(field.blobValue())) {
+                    size += 4 + field.blobValue().asByteArrayUnsafe().length;
+                }
+            }
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The result page is too large to be packed: " + size + " bytes");
+        }
+        return (int) size;
+    }
+
+    // Follows the order in which `ColumnDecoder.decode(Field)` reads the values of a field
+    private void encode(Field field) {
+        if (Boolean.TRUE.equals(field.isNull())) {
+            buffer.put(NULL);
+            return;
+        }
+        String stringValue = field.stringValue();
+        if (Objects.nonNull(stringValue)) {
+            byte[] bytes = stringValue.getBytes(StandardCharsets.UTF_8);
+            buffer.put(bytes.length == stringValue.length() ? ASCII_TEXT : TEXT).putInt(bytes.length).put(bytes);
+            return;
+        }
+        Long longValue = field.longValue();
+        if (Objects.nonNull(longValue)) {
+            buffer.put(LONG).putLong(longValue);
+            return;
+        }
+        Double doubleValue = field.doubleValue();
+        if (Objects.nonNull(doubleValue)) {
+            buffer.put(DOUBLE).putDouble(doubleValue);
+            return;
+        }
+        Boolean booleanValue = field.booleanValue();
+        if (Objects.nonNull(booleanValue)) {
+            buffer.put(booleanValue ? TRUE : FALSE);
+            return;
+        }
+        SdkBytes blobValue = field.blobValue();
+        if (Objects.nonNull(blobValue)) {
+            byte[] bytes = blobValue.asByteArrayUnsafe();
+            buffer.put(BYTES).putInt(bytes.length).put(bytes);
+            return;
+        }
+        buffer.put(NULL);
+    }
+
+    /**
+     * A view of ASCII text held in a buffer, read without copying it.
+     */
+    private record AsciiText(ByteBuffer buffer, int start, int length) implements CharSequence {
+
+        @Override
+        public char charAt(int index) {
+            return (char) buffer.get(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return new AsciiText(buffer, start + from, to - from);
+        }
+
+        @Override
+        public String toString() {
+            byte[] bytes = new byte[length];
+            buffer.get(start, bytes);
+            return new String(bytes, StandardCharsets.US_ASCII);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of direct {@link ByteBuffer}s that packed result pages are held in.
+ * <p>
+ * Buffers come in power of two size classes, from 64 KB to 64 MB; a larger buffer is allocated for the page alone.
+ * A page may be shared, such as through the result cache, so it is not released explicitly: its buffer returns to
+ * the pool once the page is no longer reachable, through a {@link Cleaner}. Free buffers beyond
+ * {@code maxPooledBytes} are dropped, to be freed along with their buffer objects.
+ * </p>
+ */
+final class PageBufferPool {
+    private static final int MIN_SIZE_CLASS = 16;
+    private static final int MAX_SIZE_CLASS = 26;
+    private static final long MAX_POOLED_BYTES = 256L * 1024 * 1024;
+
+    static final PageBufferPool SHARED = new PageBufferPool(MAX_POOLED_BYTES);
+
+    private final long maxPooledBytes;
+    private final ConcurrentLinkedDeque<ByteBuffer>[] freeBuffers;
+    private final AtomicLong pooledBytes = new AtomicLong();
+    private final Cleaner cleaner = Cleaner.create(new RedshiftDataThreadFactory());
+
+    @SuppressWarnings("unchecked")
+    private PageBufferPool(long maxPooledBytes) {
+        this.maxPooledBytes = maxPooledBytes;
+        this.freeBuffers = new ConcurrentLinkedDeque[MAX_SIZE_CLASS - MIN_SIZE_CLASS + 1];
+        for (int i = 0; i < freeBuffers.length; i++) {
+            freeBuffers[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    /**
+     * Returns a cleared buffer of at least the given size, which returns to the pool once the owner is no longer
+     * reachable.
+     *
+     * @param owner the object the buffer is held by, which the buffer must not refer back to
+     * @param size  the number of bytes needed
+     * @return the buffer
+     */
+    ByteBuffer acquire(Object owner, int size) {
+        int sizeClass = Math.max(MIN_SIZE_CLASS, Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(size, 1) - 1));
+        if (sizeClass > MAX_SIZE_CLASS) {
+            return ByteBuffer.allocateDirect(size);
+        }
+        ByteBuffer buffer = freeBuffers[sizeClass - MIN_SIZE_CLASS].pollFirst();
+        if (Objects.nonNull(buffer)) {
+            pooledBytes.addAndGet(-buffer.capacity());
+            buffer.clear();
+        } else {
+            buffer = ByteBuffer.allocateDirect(1 << sizeClass);
+        }
+        ByteBuffer pooledBuffer = buffer;
+        cleaner.register(owner, () -> release(pooledBuffer));
+        return buffer;
+    }
+
+    private void release(ByteBuffer buffer) {
+        int capacity = buffer.capacity();
+        if (pooledBytes.addAndGet(capacity) > maxPooledBytes) {
+            pooledBytes.addAndGet(-capacity);
+            return;
+        }
+        int sizeClass = Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1);
+        freeBuffers[sizeClass - MIN_SIZE_CLASS].addFirst(buffer);
+    }
+}
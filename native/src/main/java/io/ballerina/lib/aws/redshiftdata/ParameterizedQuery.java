@@ -114,9 +114,9 @@ public class ParameterizedQuery {
     /**
      * Constructs the prepared query string with parameter values directly inserted.
      * <p>
-     * This replaces the placeholders with the actual parameter values, resulting in
-     * a fully substituted query string. This is useful for debugging but should not
-     * be used directly for execution to avoid SQL injection risks.
+     * This replaces the placeholders with the actual parameter values, each quoted as an
+     * SQL string literal, resulting in a fully substituted query string. It is used where
+     * the Data API does not accept parameters, as with batch executions.
      * </p>
      *
      * @return the fully substituted query string
@@ -126,12 +126,31 @@ public class ParameterizedQuery {
         for (int i = 0; i < strings.length; i++) {
             query.append(strings[i]);
             if (i < insertions.length) {
-                query.append("'").append(insertions[i]).append("'");
+                appendLiteral(query, insertions[i]);
             }
         }
         return query.toString();
     }
 
+    /**
+     * Appends a value as an SQL string literal, escaping the quotes and the backslashes in it,
+     * both of which Redshift treats as escape characters within a literal.
+     *
+     * @param query the query to append the literal to
+     * @param value the value of the literal
+     */
+    static void appendLiteral(StringBuilder query, String value) {
+        query.append('\'');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\'' || c == '\\') {
+                query.append(c);
+            }
+            query.append(c);
+        }
+        query.append('\'');
+    }
+
     /**
      * Converts the parameter values into an array of SqlParameter objects.
      * <p>
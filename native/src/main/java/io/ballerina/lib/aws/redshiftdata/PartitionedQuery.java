@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.SqlParameter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Splits a query into one statement per partition of a column.
+ * <p>
+ * Each statement selects the rows of the query, wrapped as a subquery, that fall into its partition. A partition is
+ * either a range of the column, with an inclusive lower bound and an exclusive upper bound, or a hash bucket of it,
+ * computed with {@code FNV_HASH}. The {@code NULL} values of the column fall into the first hash bucket and into no
+ * range. The bounds are passed as parameters, numbered after those of the query.
+ * </p>
+ */
+final class PartitionedQuery {
+    private static final BString PARTITION_LOWER_BOUND = StringUtils.fromString("lowerBound");
+    private static final BString PARTITION_UPPER_BOUND = StringUtils.fromString("upperBound");
+
+    private PartitionedQuery() {
+    }
+
+    /**
+     * Returns the statements of the partitions of a query.
+     *
+     * @param template      the request the statements are built on, with the database access and the other
+     *                      configurations set
+     * @param bSqlStatement the query to partition
+     * @param column        the column the query is partitioned by
+     * @param bPartitions   the ranges of the column, or the number of hash buckets
+     * @return the requests of the statements, in the order of the partitions
+     */
+    @SuppressWarnings("unchecked")
+    static List<ExecuteStatementRequest> partitionRequests(ExecuteStatementRequest template, BObject bSqlStatement,
+                                                           String column, Object bPartitions) {
+        if (column.isBlank()) {
+            throw new IllegalArgumentException("The partition column cannot be empty.");
+        }
+        ParameterizedQuery query = new ParameterizedQuery(bSqlStatement);
+        String subquery = query.getQueryString().strip();
+        while (subquery.endsWith(";")) {
+            subquery = subquery.substring(0, subquery.length() - 1).stripTrailing();
+        }
+        List<SqlParameter> queryParameters = Arrays.asList(query.getParameters());
+
+        List<ExecuteStatementRequest> requests = new ArrayList<>();
+        if (bPartitions instanceof Long buckets) {
+            if (buckets < 1) {
+                throw new IllegalArgumentException("The number of partitions should be greater than 0.");
+            }
+            for (long bucket = 0; bucket < buckets; bucket++) {
+                String condition = String.format("ABS(FNV_HASH(%s) %% %d) = %d", column, buckets, bucket);
+                if (bucket == 0) {
+                    condition = String.format("(%s OR %s IS NULL)", condition, column);
+                }
+                requests.add(partitionRequest(template, subquery, condition, queryParameters));
+            }
+            return requests;
+        }
+
+        BArray bRanges = (BArray) bPartitions;
+        if (bRanges.size() == 0) {
+            throw new IllegalArgumentException("The number of partitions should be greater than 0.");
+        }
+        for (int i = 0; i < bRanges.size(); i++) {
+            BMap<BString, Object> bRange = (BMap<BString, Object>) bRanges.get(i);
+            List<SqlParameter> parameters = new ArrayList<>(queryParameters);
+            List<String> conditions = new ArrayList<>();
+            Object lowerBound = bRange.get(PARTITION_LOWER_BOUND);
+            if (Objects.nonNull(lowerBound)) {
+                conditions.add(String.format("%s >= %s", column, bind(parameters, lowerBound)));
+            }
+            Object upperBound = bRange.get(PARTITION_UPPER_BOUND);
+            if (Objects.nonNull(upperBound)) {
+                conditions.add(String.format("%s < %s", column, bind(parameters, upperBound)));
+            }
+            requests.add(partitionRequest(template, subquery, conditions.isEmpty() ? null :
+                    String.join(" AND ", conditions), parameters));
+        }
+        return requests;
+    }
+
+    private static String bind(List<SqlParameter> parameters, Object value) {
+        String name = "param" + parameters.size();
+        parameters.add(SqlParameter.builder().name(name).value(value.toString()).build());
+        return ":" + name;
+    }
+
+    private static ExecuteStatementRequest partitionRequest(ExecuteStatementRequest template, String subquery,
+                                                            String condition, List<SqlParameter> parameters) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM (").append(subquery).append(") AS partitioned");
+        if (Objects.nonNull(condition)) {
+            sql.append(" WHERE ").append(condition);
+        }
+        ExecuteStatementRequest.Builder builder = template.toBuilder().sql(sql.toString());
+        if (!parameters.isEmpty()) {
+            builder.parameters(parameters);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a page reader that runs the statement of a partition on its first read, so that the statement is
+     * submitted only once the lane of its partition is started.
+     *
+     * @param opener runs the statement and returns the reader of its result
+     */
+    static ResultPage.Reader onFirstRead(Supplier<CompletableFuture<ResultPage.Reader>> opener) {
+        return new ResultPage.Reader() {
+            private CompletableFuture<ResultPage.Reader> opened;
+
+            @Override
+            public synchronized CompletableFuture<ResultPage> read(String nextToken) {
+                if (Objects.isNull(opened)) {
+                    opened = opener.get();
+                }
+                return opened.thenCompose(reader -> reader.read(nextToken));
+            }
+        };
+    }
+}
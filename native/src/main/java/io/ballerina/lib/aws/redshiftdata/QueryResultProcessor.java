@@ -18,95 +18,48 @@
 
 package io.ballerina.lib.aws.redshiftdata;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.utils.TypeUtils;
-import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BStream;
-import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
-import software.amazon.awssdk.services.redshiftdata.RedshiftDataClient;
 import software.amazon.awssdk.services.redshiftdata.model.ColumnMetadata;
-import software.amazon.awssdk.services.redshiftdata.model.Field;
-import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultRequest;
-import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
-import static io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor.NATIVE_CLIENT;
-import static io.ballerina.runtime.api.utils.StringUtils.fromString;
-
 /**
  * Represents the utility functions for processing query results.
  */
 public class QueryResultProcessor {
     private static final String RESULT_ITERATOR_OBJECT = "ResultIterator";
-    private static final String RESULT_ITERATOR_RESULT_RESPONSE = "ResultResponse";
-    private static final String RESULT_ITERATOR_RECORD_TYPE = "RecordType";
-    private static final String RESULT_ITERATOR_CURRENT_RESULT_INDEX = "Index";
-    private static final String RESULT_ITERATOR_COLUMN_INDEX_MAP = "IndexMap"; // field name -> result column index
-    private static final String RESULT_ITERATOR_NATIVE_CLIENT = "nativeClient";
-    private static final String RESULT_ITERATOR_STATEMENT_ID = "statementId";
-    private static final String RECORD_FIELD_ANN_PREFIX = "$field$.";
-    private static final String SQL_COLUMN_ANNOTATION = "ballerina/sql:1:Column";
-    private static final BString ANN_COLUMN_NAME_FIELD = fromString("name");
+    private static final String BATCH_RESULT_ITERATOR_OBJECT = "BatchResultIterator";
+    private static final String RESULT_ITERATOR_CURSOR = "Cursor";
+    private static final String BATCH_RESULT_ITERATOR_SIZE = "BatchSize";
+    private static final String BATCH_RESULT_ITERATOR_TYPE = "BatchType";
+    private static final String COLUMN_BATCH_ITERATOR_OBJECT = "ColumnBatchIterator";
+    private static final String COLUMN_BATCH_ITERATOR_COLUMNS = "Columns";
 
     private QueryResultProcessor() {
     }
 
-    public static BStream getRecordStream(RedshiftDataClient nativeClient, String statementId,
-                                          GetStatementResultResponse nativeResultResponse, BTypedesc recordType)
-            throws Exception {
+    static BStream getRecordStream(ResultPage.Reader pageReader, ResultPage firstPage, BTypedesc recordType,
+                                   ResultConfig resultConfig) throws Exception {
         try {
-            List<ColumnMetadata> columnMetadata = nativeResultResponse.columnMetadata();
             RecordType streamConstraint = (RecordType) TypeUtils.getReferredType(
                     recordType.getDescribingType());
+            RowMappingPlan plan = RowMappingPlan.of(streamConstraint, firstPage.columnMetadata());
 
-            List<String> resultFields = columnMetadata.stream().map(ColumnMetadata::name).toList();
-            // Get the ballerina field names and the corresponding annotated column names
-            Map<String, String> ballerinaFieldMap = getAnnotationMap(streamConstraint);
-
-            // Map the field name with result column index
-            Map<String, Integer> columnIndexMap = new HashMap<>();
-            int columnIndex = -1;
-            for (String ballerinaField : ballerinaFieldMap.keySet()) {
-                String annotatedColumnName = ballerinaFieldMap.get(ballerinaField);
-                columnIndex = resultFields.indexOf(annotatedColumnName);
-                if (columnIndex == -1) {
-                    throw new Exception("Field '" + annotatedColumnName + "' not found in the result set.");
-                }
-                columnIndexMap.put(ballerinaField, columnIndex);
-            }
-            if (streamConstraint.isSealed()) {
-                // Ensure no extra fields are present in result set
-                for (String resultField : resultFields) {
-                    if (!columnIndexMap.containsKey(resultField) && !ballerinaFieldMap.containsValue(resultField)) {
-                        throw new Exception("Field '" + resultField + "' not found in the record type.");
-                    }
-                }
-            } else {
-                // Add all the fields from the result set to the record type
-                for (int i = 0; i < resultFields.size(); i++) {
-                    if (!columnIndexMap.containsKey(resultFields.get(i))) {
-                        columnIndexMap.put(resultFields.get(i), i);
-                    }
-                }
-            }
-
+            // Fetches the pages that follow, ahead of consumption when configured to
+            ResultPageFetcher pageFetcher = new ResultPageFetcher(pageReader, firstPage, resultConfig);
             BObject resultIterator = ValueCreator.createObjectValue(ModuleUtils.getModule(), RESULT_ITERATOR_OBJECT);
-            resultIterator.addNativeData(RESULT_ITERATOR_RESULT_RESPONSE, nativeResultResponse);
-            resultIterator.addNativeData(RESULT_ITERATOR_CURRENT_RESULT_INDEX, 0L);
-            resultIterator.addNativeData(RESULT_ITERATOR_COLUMN_INDEX_MAP, columnIndexMap);
-            resultIterator.addNativeData(RESULT_ITERATOR_RECORD_TYPE, streamConstraint);
-            // Add additional data for fetching the next result set
-            resultIterator.addNativeData(RESULT_ITERATOR_STATEMENT_ID, statementId);
-            resultIterator.addNativeData(NATIVE_CLIENT, nativeClient);
+            resultIterator.addNativeData(RESULT_ITERATOR_CURSOR,
+                    new ResultCursor(plan, firstPage, pageFetcher));
 
             return ValueCreator.createStreamValue(TypeCreator.createStreamType(streamConstraint,
                     PredefinedTypes.TYPE_NULL), resultIterator);
@@ -116,101 +69,124 @@ public class QueryResultProcessor {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private static Map<String, String> getAnnotationMap(RecordType streamConstraint) {
-        Map<String, String> annotatationMap = new HashMap<>();
-        String[] fields = streamConstraint.getFields().keySet().toArray(new String[0]);
-        for (String fieldName : fields) {
-            String columnName = fieldName.toLowerCase();
-            Object fieldAnnotationsObj = streamConstraint
-                    .getAnnotation(fromString(RECORD_FIELD_ANN_PREFIX + fieldName));
-            // Check if the field has the SQL Column annotation
-            if (fieldAnnotationsObj instanceof BMap) {
-                BMap<BString, Object> fieldAnnotations = (BMap<BString, Object>) fieldAnnotationsObj;
-                BMap<BString, Object> columnAnnotation = (BMap<BString, Object>) fieldAnnotations.getMapValue(
-                        fromString(SQL_COLUMN_ANNOTATION));
-                if (Objects.nonNull(columnAnnotation)) {
-                    columnName = columnAnnotation.getStringValue(ANN_COLUMN_NAME_FIELD).getValue().toLowerCase();
-                }
-            }
-            annotatationMap.put(fieldName, columnName);
-        }
-        return annotatationMap;
+    /**
+     * Creates a record stream over the given pages, each of which is mapped with the plan it comes with.
+     */
+    static BStream getRecordStream(ResultCursor.PageSource pageSource, RecordType streamConstraint) {
+        BObject resultIterator = ValueCreator.createObjectValue(ModuleUtils.getModule(), RESULT_ITERATOR_OBJECT);
+        resultIterator.addNativeData(RESULT_ITERATOR_CURSOR, new ResultCursor(pageSource));
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(streamConstraint,
+                PredefinedTypes.TYPE_NULL), resultIterator);
     }
 
-    @SuppressWarnings("unchecked")
-    public static Object nextResult(BObject bResultIterator) {
-        RecordType recordType = (RecordType) bResultIterator.getNativeData(RESULT_ITERATOR_RECORD_TYPE);
-        long index = (long) bResultIterator.getNativeData(RESULT_ITERATOR_CURRENT_RESULT_INDEX);
-        Map<String, Integer> columnIndexMap = (Map<String, Integer>) bResultIterator
-                .getNativeData(RESULT_ITERATOR_COLUMN_INDEX_MAP);
-        GetStatementResultResponse resultResponse = (GetStatementResultResponse) bResultIterator
-                .getNativeData(RESULT_ITERATOR_RESULT_RESPONSE);
-
-        List<List<Field>> rows = resultResponse.records();
+    static BStream getBatchStream(ResultPage.Reader pageReader, ResultPage firstPage, BTypedesc recordType,
+                                  int batchSize, ResultConfig resultConfig) throws Exception {
         try {
-            // Fetch the next record when the current result set is processed
-            if (index >= rows.size() && Objects.nonNull(resultResponse.nextToken())) {
-                RedshiftDataClient nativeClient = (RedshiftDataClient) bResultIterator
-                        .getNativeData(RESULT_ITERATOR_NATIVE_CLIENT);
-                String statementId = (String) bResultIterator.getNativeData(RESULT_ITERATOR_STATEMENT_ID);
-
-                resultResponse = nativeClient.getStatementResult(
-                        GetStatementResultRequest.builder()
-                                .id(statementId).nextToken(resultResponse.nextToken()).build());
-                rows = resultResponse.records();
-                index = 0;
-                bResultIterator.addNativeData(RESULT_ITERATOR_CURRENT_RESULT_INDEX, index);
-                bResultIterator.addNativeData(RESULT_ITERATOR_RESULT_RESPONSE, resultResponse);
-            }
+            RecordType streamConstraint = (RecordType) TypeUtils.getReferredType(
+                    recordType.getDescribingType());
+            RowMappingPlan plan = RowMappingPlan.of(streamConstraint, firstPage.columnMetadata());
+            ArrayType batchType = TypeCreator.createArrayType(recordType.getDescribingType());
+
+            ResultPageFetcher pageFetcher = new ResultPageFetcher(pageReader, firstPage, resultConfig);
+            BObject resultIterator = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                    BATCH_RESULT_ITERATOR_OBJECT);
+            resultIterator.addNativeData(RESULT_ITERATOR_CURSOR,
+                    new ResultCursor(plan, firstPage, pageFetcher));
+            resultIterator.addNativeData(BATCH_RESULT_ITERATOR_SIZE, batchSize);
+            resultIterator.addNativeData(BATCH_RESULT_ITERATOR_TYPE, batchType);
+
+            return ValueCreator.createStreamValue(TypeCreator.createStreamType(batchType,
+                    PredefinedTypes.TYPE_NULL), resultIterator);
+        } catch (Exception e) {
+            throw new Exception("Error occurred while creating the Batch Stream: "
+                    + Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
+        }
+    }
 
-            if (index < rows.size()) {
-                List<Field> row = rows.get((int) index);
-                BMap<BString, Object> record = ValueCreator.createRecordValue(recordType.getPackage(),
-                        recordType.getName());
+    /**
+     * Creates the iterator of a stream that returns each page of a result as a batch of column vectors.
+     */
+    static BObject getColumnBatchIterator(ResultPage.Reader pageReader, ResultPage firstPage,
+                                          ResultConfig resultConfig) {
+        ResultPageFetcher pageFetcher = new ResultPageFetcher(pageReader, firstPage, resultConfig);
+        BObject columnBatchIterator = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                COLUMN_BATCH_ITERATOR_OBJECT);
+        columnBatchIterator.addNativeData(RESULT_ITERATOR_CURSOR, new ResultCursor(null, firstPage, pageFetcher));
+        // Only the first page is guaranteed to carry the columns
+        columnBatchIterator.addNativeData(COLUMN_BATCH_ITERATOR_COLUMNS, firstPage.columnMetadata());
+        return columnBatchIterator;
+    }
 
-                for (String fieldName : columnIndexMap.keySet()) {
-                    int columnIndex = columnIndexMap.get(fieldName);
-                    Field field = row.get(columnIndex);
-                    record.put(fromString(fieldName), getFieldValue(field));
+    public static Object nextResult(Environment env, BObject bResultIterator) {
+        ResultCursor cursor = (ResultCursor) bResultIterator.getNativeData(RESULT_ITERATOR_CURSOR);
+        try {
+            // Move on to the next page when the current one is processed
+            while (cursor.isPageConsumed()) {
+                if (!env.yieldAndRun(cursor::nextPage)) {
+                    closeResult(bResultIterator);
+                    return null;
                 }
-                bResultIterator.addNativeData(RESULT_ITERATOR_CURRENT_RESULT_INDEX, index + 1);
-                return record;
             }
-            closeResult(bResultIterator);
-            return null;
+            return cursor.nextRecord();
         } catch (Exception e) {
             closeResult(bResultIterator);
+            Throwable cause = CommonUtils.unwrap(e);
             String errorMsg = String.format("Error occurred while iterating the Query result: %s",
-                    Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
-            return CommonUtils.createError(errorMsg, e);
+                    Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+            return CommonUtils.createError(errorMsg, cause);
         }
     }
 
-    private static Object getFieldValue(Field field) {
-        if (field.stringValue() != null) {
-            return fromString(field.stringValue());
-        }
-        if (field.booleanValue() != null) {
-            return field.booleanValue();
-        }
-        if (field.longValue() != null) {
-            return field.longValue();
+    public static Object nextBatch(Environment env, BObject bResultIterator) {
+        ResultCursor cursor = (ResultCursor) bResultIterator.getNativeData(RESULT_ITERATOR_CURSOR);
+        int batchSize = (int) bResultIterator.getNativeData(BATCH_RESULT_ITERATOR_SIZE);
+        ArrayType batchType = (ArrayType) bResultIterator.getNativeData(BATCH_RESULT_ITERATOR_TYPE);
+        try {
+            while (cursor.isPageConsumed()) {
+                if (!env.yieldAndRun(cursor::nextPage)) {
+                    closeResult(bResultIterator);
+                    return null;
+                }
+            }
+            return cursor.nextBatch(batchSize, batchType);
+        } catch (Exception e) {
+            closeResult(bResultIterator);
+            Throwable cause = CommonUtils.unwrap(e);
+            String errorMsg = String.format("Error occurred while iterating the Query result: %s",
+                    Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+            return CommonUtils.createError(errorMsg, cause);
         }
-        if (field.doubleValue() != null) {
-            return field.doubleValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object nextColumnBatch(Environment env, BObject bColumnBatchIterator) {
+        ResultCursor cursor = (ResultCursor) bColumnBatchIterator.getNativeData(RESULT_ITERATOR_CURSOR);
+        List<ColumnMetadata> columns = (List<ColumnMetadata>) bColumnBatchIterator.getNativeData(
+                COLUMN_BATCH_ITERATOR_COLUMNS);
+        try {
+            while (cursor.isPageConsumed()) {
+                if (!env.yieldAndRun(cursor::nextPage)) {
+                    closeResult(bColumnBatchIterator);
+                    return null;
+                }
+            }
+            return ColumnVector.toColumnBatch(columns, cursor.takePage());
+        } catch (Exception e) {
+            closeResult(bColumnBatchIterator);
+            Throwable cause = CommonUtils.unwrap(e);
+            String errorMsg = String.format("Error occurred while iterating the Query result: %s",
+                    Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+            return CommonUtils.createError(errorMsg, cause);
         }
-        return null;
     }
 
     public static void closeResult(BObject recordIterator) {
         try {
-            recordIterator.addNativeData(RESULT_ITERATOR_RESULT_RESPONSE, null);
-            recordIterator.addNativeData(RESULT_ITERATOR_RECORD_TYPE, null);
-            recordIterator.addNativeData(RESULT_ITERATOR_CURRENT_RESULT_INDEX, null);
-            recordIterator.addNativeData(RESULT_ITERATOR_COLUMN_INDEX_MAP, null);
-            recordIterator.addNativeData(RESULT_ITERATOR_NATIVE_CLIENT, null);
-            recordIterator.addNativeData(RESULT_ITERATOR_STATEMENT_ID, null);
+            ResultCursor cursor = (ResultCursor) recordIterator.getNativeData(RESULT_ITERATOR_CURSOR);
+            if (Objects.nonNull(cursor)) {
+                cursor.close();
+            }
+            recordIterator.addNativeData(RESULT_ITERATOR_CURSOR, null);
         } catch (Exception e) {
             throw new RuntimeException("Error occurred while closing the Query result: " + e.getMessage());
         }
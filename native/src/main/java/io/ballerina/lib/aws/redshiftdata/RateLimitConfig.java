@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code RateLimitConfig} contains the java representation of the ballerina redshift data api rate limit
+ * configurations.
+ *
+ * @param executeStatementRate      The number of {@code ExecuteStatement} requests sent per second.
+ * @param batchExecuteStatementRate The number of {@code BatchExecuteStatement} requests sent per second.
+ * @param describeStatementRate     The number of {@code DescribeStatement} requests sent per second.
+ * @param getStatementResultRate    The number of {@code GetStatementResult} and {@code GetStatementResultV2}
+ *                                  requests sent per second.
+ * @param listStatementsRate        The number of {@code ListStatements} requests sent per second.
+ * @param maxActiveStatements       The maximum number of statements of the client that may be active at a time.
+ * @param maxQueueTimeNanos         The time a statement may wait in the queue of the database before the active
+ *                                  statement limit is lowered.
+ * @param maxRequeues               The number of times a throttled request is queued again before it fails.
+ */
+public record RateLimitConfig(double executeStatementRate, double batchExecuteStatementRate,
+                              double describeStatementRate, double getStatementResultRate, double listStatementsRate,
+                              int maxActiveStatements, long maxQueueTimeNanos, int maxRequeues) {
+    private static final BString RATE_LIMIT_EXECUTE_STATEMENT_RATE = StringUtils.fromString("executeStatementRate");
+    private static final BString RATE_LIMIT_BATCH_EXECUTE_STATEMENT_RATE =
+            StringUtils.fromString("batchExecuteStatementRate");
+    private static final BString RATE_LIMIT_DESCRIBE_STATEMENT_RATE = StringUtils.fromString("describeStatementRate");
+    private static final BString RATE_LIMIT_GET_STATEMENT_RESULT_RATE =
+            StringUtils.fromString("getStatementResultRate");
+    private static final BString RATE_LIMIT_LIST_STATEMENTS_RATE = StringUtils.fromString("listStatementsRate");
+    private static final BString RATE_LIMIT_MAX_ACTIVE_STATEMENTS = StringUtils.fromString("maxActiveStatements");
+    private static final BString RATE_LIMIT_MAX_QUEUE_TIME = StringUtils.fromString("maxQueueTime");
+    private static final BString RATE_LIMIT_MAX_REQUEUES = StringUtils.fromString("maxRequeues");
+
+    public RateLimitConfig {
+        if (maxActiveStatements < 1) {
+            throw new IllegalArgumentException("The maxActiveStatements should be greater than 0.");
+        }
+        if (maxRequeues < 0) {
+            throw new IllegalArgumentException("The maxRequeues should be greater than or equal to 0.");
+        }
+    }
+
+    public RateLimitConfig(BMap<BString, Object> bRateLimitConfig) {
+        this(
+                ((BDecimal) bRateLimitConfig.get(RATE_LIMIT_EXECUTE_STATEMENT_RATE)).floatValue(),
+                ((BDecimal) bRateLimitConfig.get(RATE_LIMIT_BATCH_EXECUTE_STATEMENT_RATE)).floatValue(),
+                ((BDecimal) bRateLimitConfig.get(RATE_LIMIT_DESCRIBE_STATEMENT_RATE)).floatValue(),
+                ((BDecimal) bRateLimitConfig.get(RATE_LIMIT_GET_STATEMENT_RESULT_RATE)).floatValue(),
+                ((BDecimal) bRateLimitConfig.get(RATE_LIMIT_LIST_STATEMENTS_RATE)).floatValue(),
+                CommonUtils.narrowToInt(bRateLimitConfig.getIntValue(RATE_LIMIT_MAX_ACTIVE_STATEMENTS),
+                        "maxActiveStatements"),
+                CommonUtils.toNanos((BDecimal) bRateLimitConfig.get(RATE_LIMIT_MAX_QUEUE_TIME)),
+                CommonUtils.narrowToInt(bRateLimitConfig.getIntValue(RATE_LIMIT_MAX_REQUEUES), "maxRequeues")
+        );
+    }
+}
@@ -19,15 +19,28 @@
 package io.ballerina.lib.aws.redshiftdata;
 
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A {@link ThreadFactory} object that creates new threads on demand for Redshift Data API client network operations.
  */
 public class RedshiftDataThreadFactory implements ThreadFactory {
+    static final String THREAD_NAME_PREFIX = "balx-awsredshiftdata-client-network-thread-";
+    private final AtomicInteger threadCount = new AtomicInteger();
+
     @Override
     public Thread newThread(Runnable runnable) {
         Thread networkThread = new Thread(runnable);
-        networkThread.setName("balx-awsredshiftdata-client-network-thread");
+        networkThread.setName(THREAD_NAME_PREFIX + threadCount.getAndIncrement());
+        // Background work of a client must not keep the program running once its main work is done
+        networkThread.setDaemon(true);
         return networkThread;
     }
+
+    /**
+     * Whether a thread is one the clients run their calls or their background work on.
+     */
+    static boolean isClientThread(Thread thread) {
+        return thread.getName().startsWith(THREAD_NAME_PREFIX);
+    }
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.SqlParameter;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A bounded cache of the results of queries, kept as the pages they were read in.
+ * <p>
+ * A result is cached once all of its pages are read, and is served for {@code ttl} after that. The cached results
+ * are evicted in least recently used order to keep their estimated size within {@code maxSize}. As pages are
+ * cached rather than records, a cached result is mapped to whichever record type it is read into.
+ * </p>
+ */
+final class ResultCache {
+    private static final String STATS_RECORD = "ResultCacheStats";
+    private static final BString STATS_HITS = StringUtils.fromString("hits");
+    private static final BString STATS_MISSES = StringUtils.fromString("misses");
+    private static final BString STATS_EVICTIONS = StringUtils.fromString("evictions");
+    private static final BString STATS_ENTRIES = StringUtils.fromString("entries");
+    private static final BString STATS_SIZE = StringUtils.fromString("size");
+
+    private final long ttlNanos;
+    private final long maxSize;
+    // In access order, so that the least recently used result comes first
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    ResultCache(ResultCacheConfig resultCacheConfig) {
+        this.ttlNanos = resultCacheConfig.ttlNanos();
+        this.maxSize = resultCacheConfig.maxSize();
+    }
+
+    /**
+     * Returns the cache key of a statement, or {@code null} if the statement is not a query whose result may be
+     * cached.
+     */
+    static Key keyOf(ExecuteStatementRequest executeRequest) {
+        String sql = normalize(executeRequest.sql());
+        String keyword = sql.length() < 6 ? sql : sql.substring(0, 6).toUpperCase(Locale.ROOT);
+        if (!keyword.equals("SELECT") && !keyword.startsWith("WITH ")) {
+            return null;
+        }
+        return new Key(sql, executeRequest.parameters(), executeRequest.clusterIdentifier(),
+                executeRequest.workgroupName(), executeRequest.database(), executeRequest.dbUser(),
+                executeRequest.secretArn(), executeRequest.sessionId(), executeRequest.resultFormatAsString());
+    }
+
+    /**
+     * Returns a reader of the cached result of a query, or {@code null} if its result is not cached.
+     */
+    synchronized ResultPage.Reader get(Key key) {
+        Entry entry = entries.get(key);
+        if (Objects.nonNull(entry) && entry.expiresAt() - System.nanoTime() <= 0) {
+            remove(key, entry);
+            evictions++;
+            entry = null;
+        }
+        if (Objects.isNull(entry)) {
+            misses++;
+            return null;
+        }
+        hits++;
+        Map<String, ResultPage> pages = entry.pages();
+        return nextToken -> CompletableFuture.completedFuture(pages.get(nextToken));
+    }
+
+    /**
+     * Wraps the reader of the result of a query so that the result is cached once its last page is read.
+     */
+    ResultPage.Reader recording(Key key, ResultPage.Reader pageReader) {
+        Recording recording = new Recording();
+        return nextToken -> pageReader.read(nextToken).thenApply(page -> {
+            if (recording.add(nextToken, page) && Objects.isNull(page.nextToken())) {
+                recording.store(key);
+            }
+            return page;
+        });
+    }
+
+    synchronized BMap<BString, Object> getStats() {
+        BMap<BString, Object> stats = ValueCreator.createRecordValue(ModuleUtils.getModule(), STATS_RECORD);
+        stats.put(STATS_HITS, hits);
+        stats.put(STATS_MISSES, misses);
+        stats.put(STATS_EVICTIONS, evictions);
+        stats.put(STATS_ENTRIES, (long) entries.size());
+        stats.put(STATS_SIZE, size);
+        return stats;
+    }
+
+    private synchronized void put(Key key, Map<String, ResultPage> pages, long resultSize) {
+        if (resultSize > maxSize) {
+            return;
+        }
+        Entry previous = entries.get(key);
+        if (Objects.nonNull(previous)) {
+            remove(key, previous);
+        }
+        entries.put(key, new Entry(pages, resultSize, System.nanoTime() + ttlNanos));
+        size += resultSize;
+        Iterator<Map.Entry<Key, Entry>> leastRecentlyUsed = entries.entrySet().iterator();
+        while (size > maxSize && leastRecentlyUsed.hasNext()) {
+            Map.Entry<Key, Entry> evicted = leastRecentlyUsed.next();
+            size -= evicted.getValue().size();
+            leastRecentlyUsed.remove();
+            evictions++;
+        }
+    }
+
+    private void remove(Key key, Entry entry) {
+        entries.remove(key);
+        size -= entry.size();
+    }
+
+    /**
+     * Collapses the whitespace outside quoted literals and identifiers, and drops trailing semicolons, so that
+     * the same query written over different lines shares a cache key.
+     */
+    private static String normalize(String sql) {
+        StringBuilder normalized = new StringBuilder(sql.length());
+        char quote = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (quote == 0 && Character.isWhitespace(c)) {
+                pendingSpace = !normalized.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(c);
+            if (quote == 0 && (c == '\'' || c == '"')) {
+                quote = c;
+            } else if (c == quote) {
+                quote = 0;
+            }
+        }
+        int end = normalized.length();
+        while (end > 0 && (normalized.charAt(end - 1) == ';' || normalized.charAt(end - 1) == ' ')) {
+            end--;
+        }
+        return normalized.substring(0, end);
+    }
+
+    /**
+     * Identifies the result of a query by its normalized SQL, its parameters and the database it runs on.
+     */
+    record Key(String sql, List<SqlParameter> parameters, String clusterIdentifier, String workgroupName,
+               String database, String dbUser, String secretArn, String sessionId, String resultFormat) {
+    }
+
+    private record Entry(Map<String, ResultPage> pages, long size, long expiresAt) {
+    }
+
+    /**
+     * The pages of a result read so far, by the token they were read with. Once the pages outgrow the cache, they
+     * are no longer kept, as the result cannot be cached.
+     */
+    private final class Recording {
+        private final Map<String, ResultPage> pages = new HashMap<>();
+        private long size = 0;
+        private boolean overflowed = false;
+
+        /**
+         * Records a page of the result.
+         *
+         * @return {@code false} if the result has outgrown the cache
+         */
+        synchronized boolean add(String nextToken, ResultPage page) {
+            if (overflowed) {
+                return false;
+            }
+            size += page.estimatedSize();
+            if (size > maxSize) {
+                overflowed = true;
+                pages.clear();
+                return false;
+            }
+            pages.put(nextToken, page);
+            return true;
+        }
+
+        synchronized void store(Key key) {
+            // The first page is keyed by a null token, which the immutable maps do not allow
+            put(key, new HashMap<>(pages), size);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code ResultCacheConfig} contains the java representation of the ballerina redshift data api result cache
+ * configurations.
+ *
+ * @param ttlNanos The time for which a cached result is served after it is read.
+ * @param maxSize  The maximum number of bytes the cached results may hold.
+ */
+public record ResultCacheConfig(long ttlNanos, long maxSize) {
+    private static final BString RESULT_CACHE_TTL = StringUtils.fromString("ttl");
+    private static final BString RESULT_CACHE_MAX_SIZE = StringUtils.fromString("maxSize");
+
+    public ResultCacheConfig(BMap<BString, Object> bResultCacheConfig) {
+        this(
+                CommonUtils.toNanos((BDecimal) bResultCacheConfig.get(RESULT_CACHE_TTL)),
+                bResultCacheConfig.getIntValue(RESULT_CACHE_MAX_SIZE)
+        );
+    }
+}
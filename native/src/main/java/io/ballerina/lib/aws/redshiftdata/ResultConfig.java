@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code ResultConfig} contains the java representation of the ballerina redshift data api result configurations.
+ *
+ * @param readAhead           The number of upcoming result pages fetched in the background.
+ * @param readAheadBufferSize The maximum number of bytes the pages fetched ahead may hold.
+ * @param offHeapPages        Whether the pages of JSON results are packed into off-heap buffers as they are fetched.
+ */
+public record ResultConfig(int readAhead, long readAheadBufferSize, boolean offHeapPages) {
+    private static final BString RESULT_CONFIG_READ_AHEAD = StringUtils.fromString("readAhead");
+    private static final BString RESULT_CONFIG_READ_AHEAD_BUFFER_SIZE = StringUtils.fromString("readAheadBufferSize");
+    private static final BString RESULT_CONFIG_OFF_HEAP_PAGES = StringUtils.fromString("offHeapPages");
+
+    public ResultConfig {
+        if (readAhead < 0) {
+            throw new IllegalArgumentException("The readAhead should be greater than or equal to 0.");
+        }
+    }
+
+    public ResultConfig(BMap<BString, Object> bResultConfig) {
+        this(
+                CommonUtils.narrowToInt(bResultConfig.getIntValue(RESULT_CONFIG_READ_AHEAD), "readAhead"),
+                bResultConfig.getIntValue(RESULT_CONFIG_READ_AHEAD_BUFFER_SIZE),
+                bResultConfig.getBooleanValue(RESULT_CONFIG_OFF_HEAP_PAGES)
+        );
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Objects;
+
+/**
+ * The read position of a result stream: the page being consumed, the next row in it, and where the pages that
+ * follow come from. A single instance is held as the native data of a {@code ResultIterator}.
+ */
+final class ResultCursor {
+    private final PageSource pageSource;
+    private RowMappingPlan plan;
+    private ResultPage page;
+    private int index = 0;
+
+    ResultCursor(RowMappingPlan plan, ResultPage firstPage, ResultPageFetcher pageFetcher) {
+        this(new FetchedPages(plan, pageFetcher));
+        this.plan = plan;
+        this.page = firstPage;
+    }
+
+    /**
+     * Creates a cursor whose pages, each with the plan to map its rows, all come from the given source.
+     */
+    ResultCursor(PageSource pageSource) {
+        this.pageSource = pageSource;
+    }
+
+    /**
+     * Whether the current page is consumed, so that the next page has to be fetched before reading on.
+     */
+    boolean isPageConsumed() {
+        return Objects.isNull(page) || index >= page.rowCount();
+    }
+
+    /**
+     * Moves on to the next page, waiting for it if it is not fetched yet.
+     *
+     * @return {@code false} if there are no more pages
+     */
+    boolean nextPage() {
+        MappedPage nextPage = pageSource.next();
+        if (Objects.isNull(nextPage)) {
+            return false;
+        }
+        page = nextPage.page();
+        plan = nextPage.plan();
+        index = 0;
+        return true;
+    }
+
+    /**
+     * Maps the next row of the current page onto the record type of the stream.
+     */
+    BMap<BString, Object> nextRecord() {
+        return plan.map(page, index++);
+    }
+
+    /**
+     * Maps the next rows of the current page, up to {@code batchSize} of them, in a single call.
+     *
+     * @param batchSize the maximum number of rows to map, or {@code 0} for the rest of the page
+     * @param batchType the array type of the batch
+     * @return the records of the rows
+     */
+    BArray nextBatch(int batchSize, ArrayType batchType) {
+        int remaining = page.rowCount() - index;
+        int count = batchSize > 0 ? Math.min(batchSize, remaining) : remaining;
+        BArray batch = ValueCreator.createArrayValue(batchType, count);
+        for (int i = 0; i < count; i++) {
+            batch.add(i, plan.map(page, index++));
+        }
+        return batch;
+    }
+
+    /**
+     * Takes the rest of the current page as a whole, to read it by column.
+     */
+    ResultPage takePage() {
+        index = page.rowCount();
+        return page;
+    }
+
+    void close() {
+        pageSource.close();
+        page = null;
+    }
+
+    /**
+     * A page of a result along with the plan to map its rows onto the record type of the stream.
+     */
+    record MappedPage(ResultPage page, RowMappingPlan plan) {
+    }
+
+    /**
+     * The pages a cursor moves on to.
+     */
+    interface PageSource {
+
+        /**
+         * Returns the next page, waiting for it if it is not fetched yet.
+         *
+         * @return the next page, or {@code null} if there are no more pages
+         */
+        MappedPage next();
+
+        void close();
+    }
+
+    /**
+     * The pages of a single result that follow its first page, all mapped with the plan of the first page.
+     */
+    private record FetchedPages(RowMappingPlan plan, ResultPageFetcher pageFetcher) implements PageSource {
+
+        @Override
+        public MappedPage next() {
+            ResultPage nextPage = pageFetcher.next();
+            return Objects.isNull(nextPage) ? null : new MappedPage(nextPage, plan);
+        }
+
+        @Override
+        public void close() {
+            pageFetcher.close();
+        }
+    }
+}
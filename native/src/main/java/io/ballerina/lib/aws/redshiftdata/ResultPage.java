@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.model.ColumnMetadata;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A page of a statement result, in the format the result is fetched in.
+ * <p>
+ * Values are read by row and column through a {@link ColumnDecoder}, or by column into a {@link ColumnVector}, so
+ * each format decodes them from the form it holds them in without first turning them into a common representation.
+ * </p>
+ */
+interface ResultPage {
+
+    /**
+     * The columns of the result. Only the first page of a result is guaranteed to carry them.
+     */
+    List<ColumnMetadata> columnMetadata();
+
+    int rowCount();
+
+    /**
+     * The token of the page that follows, or {@code null} if this is the last page.
+     */
+    String nextToken();
+
+    /**
+     * The approximate number of bytes the page takes up in memory, on or off the heap.
+     */
+    long estimatedSize();
+
+    /**
+     * Decodes the value of a column of a row.
+     *
+     * @param row     the index of the row in the page
+     * @param column  the index of the column
+     * @param decoder the decoder of the column
+     * @return the value, or {@code null} for SQL {@code NULL}
+     */
+    Object decode(int row, int column, ColumnDecoder decoder);
+
+    /**
+     * Reads the values of a column of all the rows into a column vector.
+     *
+     * @param column the index of the column
+     * @param vector the vector of the column, with a slot for each row
+     */
+    void readColumn(int column, ColumnVector vector);
+
+    /**
+     * Fetches the pages of a statement result.
+     */
+    @FunctionalInterface
+    interface Reader {
+
+        /**
+         * Fetches a page of the result.
+         *
+         * @param nextToken the token of the page, or {@code null} for the first page
+         * @return the page
+         */
+        CompletableFuture<ResultPage> read(String nextToken);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Fetches the pages of a statement result that follow the first one.
+ * <p>
+ * With a read-ahead depth of {@code n}, up to {@code n} upcoming pages are fetched in the background while the
+ * current page is consumed. Pages are chained through {@code NextToken}, so at most one request is in flight at a
+ * time. No further page is requested while the pages already fetched hold more than the configured number of
+ * bytes, which holds fetching back when the consumer is slower than the network. With a depth of {@code 0}, a page
+ * is requested only once the consumer asks for it.
+ * </p>
+ */
+final class ResultPageFetcher {
+    private final ResultPage.Reader pageReader;
+    private final int readAhead;
+    private final long readAheadBufferSize;
+
+    private final Deque<ResultPage> fetchedPages = new ArrayDeque<>();
+    private long fetchedBytes = 0;
+    // The token of the first page that is not requested yet; null once the last page is requested
+    private String nextToken;
+    private CompletableFuture<ResultPage> inFlight;
+    // Completes once the response of the request in flight is recorded
+    private CompletableFuture<ResultPage> inFlightRecorded;
+    private Throwable failure;
+    private boolean closed = false;
+
+    ResultPageFetcher(ResultPage.Reader pageReader, ResultPage firstPage, ResultConfig resultConfig) {
+        this.pageReader = pageReader;
+        this.readAhead = resultConfig.readAhead();
+        this.readAheadBufferSize = resultConfig.readAheadBufferSize();
+        this.nextToken = firstPage.nextToken();
+        synchronized (this) {
+            fetchAhead();
+        }
+    }
+
+    /**
+     * Returns the next page of the result, waiting for it to be fetched if needed.
+     *
+     * @return the next page, or {@code null} once all pages are returned
+     * @throws RuntimeException the failure of fetching the page
+     */
+    ResultPage next() {
+        while (true) {
+            CompletableFuture<ResultPage> pending;
+            synchronized (this) {
+                if (closed) {
+                    return null;
+                }
+                ResultPage page = fetchedPages.poll();
+                if (Objects.nonNull(page)) {
+                    fetchedBytes -= page.estimatedSize();
+                    fetchAhead();
+                    return page;
+                }
+                if (Objects.nonNull(failure)) {
+                    throw failure instanceof RuntimeException runtimeFailure ? runtimeFailure :
+                            new CompletionException(failure);
+                }
+                if (Objects.isNull(inFlight)) {
+                    if (Objects.isNull(nextToken)) {
+                        return null;
+                    }
+                    fetch();
+                    if (Objects.isNull(inFlight)) {
+                        // The response was already available and is recorded
+                        continue;
+                    }
+                }
+                pending = inFlightRecorded;
+            }
+            try {
+                pending.join();
+            } catch (CompletionException | CancellationException e) {
+                // The failure is recorded when the request completes and thrown on the next iteration
+            }
+        }
+    }
+
+    /**
+     * Stops fetching ahead, cancelling the request in flight and dropping the pages fetched so far.
+     */
+    synchronized void close() {
+        closed = true;
+        if (Objects.nonNull(inFlight)) {
+            inFlight.cancel(true);
+            inFlight = null;
+            inFlightRecorded = null;
+        }
+        fetchedPages.clear();
+        fetchedBytes = 0;
+    }
+
+    // Must be called while holding the lock
+    private void fetchAhead() {
+        if (closed || Objects.nonNull(inFlight) || Objects.nonNull(failure) || Objects.isNull(nextToken)) {
+            return;
+        }
+        if (fetchedPages.size() >= readAhead || fetchedBytes >= readAheadBufferSize) {
+            return;
+        }
+        fetch();
+    }
+
+    // Must be called while holding the lock
+    private void fetch() {
+        String pageToken = nextToken;
+        nextToken = null;
+        CompletableFuture<ResultPage> response = pageReader.read(pageToken);
+        inFlight = response;
+        CompletableFuture<ResultPage> recorded = response.whenComplete(
+                (page, error) -> onFetched(response, page, error));
+        // A response that is already complete is recorded above, which may have started the next request
+        if (inFlight == response) {
+            inFlightRecorded = recorded;
+        }
+    }
+
+    private synchronized void onFetched(CompletableFuture<ResultPage> response,
+                                        ResultPage page, Throwable error) {
+        if (closed || inFlight != response) {
+            return;
+        }
+        inFlight = null;
+        inFlightRecorded = null;
+        if (Objects.nonNull(error)) {
+            failure = CommonUtils.unwrap(error);
+            return;
+        }
+        fetchedPages.add(page);
+        fetchedBytes += page.estimatedSize();
+        nextToken = page.nextToken();
+        fetchAhead();
+    }
+}
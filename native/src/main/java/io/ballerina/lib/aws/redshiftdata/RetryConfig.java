@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code RetryConfig} contains the java representation of the ballerina redshift data api retry configurations.
+ *
+ * @param mode       The retry mode, {@code STANDARD} or {@code ADAPTIVE}.
+ * @param backoff    The attempts and the backoff of the requests of all operations.
+ * @param retryQuota Whether retries draw from the retry quota of the client.
+ * @param operations The attempts and the backoff of the requests of an operation, by the name of the operation
+ *                   field of {@code OperationRetryConfigs}.
+ */
+public record RetryConfig(String mode, Backoff backoff, boolean retryQuota, Map<String, Backoff> operations) {
+    private static final String ADAPTIVE = "ADAPTIVE";
+    private static final BString RETRY_MODE = StringUtils.fromString("mode");
+    private static final BString RETRY_MAX_ATTEMPTS = StringUtils.fromString("maxAttempts");
+    private static final BString RETRY_BASE_DELAY = StringUtils.fromString("baseDelay");
+    private static final BString RETRY_THROTTLING_BASE_DELAY = StringUtils.fromString("throttlingBaseDelay");
+    private static final BString RETRY_MAX_DELAY = StringUtils.fromString("maxDelay");
+    private static final BString RETRY_QUOTA = StringUtils.fromString("retryQuota");
+    private static final BString RETRY_OPERATIONS = StringUtils.fromString("operations");
+
+    public RetryConfig(BMap<BString, Object> bRetryConfig) {
+        this(bRetryConfig, Backoff.of(bRetryConfig, null));
+    }
+
+    private RetryConfig(BMap<BString, Object> bRetryConfig, Backoff backoff) {
+        this(
+                bRetryConfig.getStringValue(RETRY_MODE).getValue(),
+                backoff,
+                bRetryConfig.getBooleanValue(RETRY_QUOTA),
+                getOperations(bRetryConfig, backoff)
+        );
+    }
+
+    /**
+     * Builds the SDK retry strategy that makes requests with the given attempts and backoff. Both backoffs grow
+     * exponentially from their base delay up to the longest delay, and wait for a random delay up to that.
+     */
+    RetryStrategy retryStrategy(Backoff backoff) {
+        BackoffStrategy backoffStrategy = BackoffStrategy.exponentialDelay(
+                Duration.ofNanos(backoff.baseDelayNanos()), Duration.ofNanos(backoff.maxDelayNanos()));
+        BackoffStrategy throttlingBackoffStrategy = BackoffStrategy.exponentialDelay(
+                Duration.ofNanos(backoff.throttlingBaseDelayNanos()), Duration.ofNanos(backoff.maxDelayNanos()));
+        if (ADAPTIVE.equals(mode)) {
+            return AwsRetryStrategy.adaptiveRetryStrategy().toBuilder()
+                    .maxAttempts(backoff.maxAttempts())
+                    .backoffStrategy(backoffStrategy)
+                    .throttlingBackoffStrategy(throttlingBackoffStrategy)
+                    .build();
+        }
+        return AwsRetryStrategy.standardRetryStrategy().toBuilder()
+                .maxAttempts(backoff.maxAttempts())
+                .backoffStrategy(backoffStrategy)
+                .throttlingBackoffStrategy(throttlingBackoffStrategy)
+                .circuitBreakerEnabled(retryQuota)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Backoff> getOperations(BMap<BString, Object> bRetryConfig, Backoff backoff) {
+        BMap<BString, Object> bOperations = (BMap<BString, Object>) bRetryConfig.getMapValue(RETRY_OPERATIONS);
+        Map<String, Backoff> operations = new HashMap<>();
+        for (BString operation : bOperations.getKeys()) {
+            operations.put(operation.getValue(), Backoff.of((BMap<BString, Object>) bOperations.get(operation),
+                    backoff));
+        }
+        return operations;
+    }
+
+    /**
+     * The attempts and the backoff of requests.
+     *
+     * @param maxAttempts              The maximum number of attempts of a request, including the first one.
+     * @param baseDelayNanos           The base delay of the backoff after a failed attempt.
+     * @param throttlingBaseDelayNanos The base delay of the backoff after a throttled attempt.
+     * @param maxDelayNanos            The longest delay of the backoff.
+     */
+    record Backoff(int maxAttempts, long baseDelayNanos, long throttlingBaseDelayNanos, long maxDelayNanos) {
+
+        Backoff {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("The maxAttempts should be greater than 0.");
+            }
+        }
+
+        /**
+         * Reads the attempts and the backoff of a configuration, taking the fields it does not have from the given
+         * defaults.
+         */
+        private static Backoff of(BMap<BString, Object> bConfig, Backoff defaults) {
+            return new Backoff(
+                    bConfig.containsKey(RETRY_MAX_ATTEMPTS)
+                            ? CommonUtils.narrowToInt(bConfig.getIntValue(RETRY_MAX_ATTEMPTS), "maxAttempts")
+                            : defaults.maxAttempts(),
+                    bConfig.containsKey(RETRY_BASE_DELAY)
+                            ? CommonUtils.toNanos((BDecimal) bConfig.get(RETRY_BASE_DELAY))
+                            : defaults.baseDelayNanos(),
+                    bConfig.containsKey(RETRY_THROTTLING_BASE_DELAY)
+                            ? CommonUtils.toNanos((BDecimal) bConfig.get(RETRY_THROTTLING_BASE_DELAY))
+                            : defaults.throttlingBaseDelayNanos(),
+                    bConfig.containsKey(RETRY_MAX_DELAY)
+                            ? CommonUtils.toNanos((BDecimal) bConfig.get(RETRY_MAX_DELAY))
+                            : defaults.maxDelayNanos()
+            );
+        }
+    }
+}
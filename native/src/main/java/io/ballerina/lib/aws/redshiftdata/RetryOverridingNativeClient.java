@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.SdkPlugin;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultRequest;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Request;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Response;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link NativeClient} that makes the requests of the operations with their own retry configurations with the
+ * retry strategy of the operation, rather than with the retry strategy of the client.
+ * <p>
+ * The retry strategy of a request is replaced through a request plugin, so the requests of an operation still go
+ * through the same SDK client, and share its connections, with the requests of the other operations.
+ * </p>
+ */
+final class RetryOverridingNativeClient implements NativeClient {
+    private static final String EXECUTE_STATEMENT = "executeStatement";
+    private static final String BATCH_EXECUTE_STATEMENT = "batchExecuteStatement";
+    private static final String DESCRIBE_STATEMENT = "describeStatement";
+    // Both versions of GetStatementResult are retried with the retries of getStatementResult
+    private static final String GET_STATEMENT_RESULT = "getStatementResult";
+    private static final String LIST_STATEMENTS = "listStatements";
+
+    private final NativeClient nativeClient;
+    private final Map<String, SdkPlugin> plugins = new HashMap<>();
+
+    RetryOverridingNativeClient(NativeClient nativeClient, RetryConfig config) {
+        this.nativeClient = nativeClient;
+        config.operations().forEach((operation, backoff) -> {
+            RetryStrategy retryStrategy = config.retryStrategy(backoff);
+            plugins.put(operation, clientConfig -> clientConfig.overrideConfiguration(
+                    clientConfig.overrideConfiguration().toBuilder().retryStrategy(retryStrategy).build()));
+        });
+    }
+
+    @Override
+    public CompletableFuture<ExecuteStatementResponse> executeStatement(ExecuteStatementRequest request) {
+        return nativeClient.executeStatement(withPlugin(EXECUTE_STATEMENT, request));
+    }
+
+    @Override
+    public CompletableFuture<BatchExecuteStatementResponse> batchExecuteStatement(
+            BatchExecuteStatementRequest request) {
+        return nativeClient.batchExecuteStatement(withPlugin(BATCH_EXECUTE_STATEMENT, request));
+    }
+
+    @Override
+    public CompletableFuture<DescribeStatementResponse> describeStatement(DescribeStatementRequest request) {
+        return nativeClient.describeStatement(withPlugin(DESCRIBE_STATEMENT, request));
+    }
+
+    @Override
+    public CompletableFuture<GetStatementResultResponse> getStatementResult(GetStatementResultRequest request) {
+        return nativeClient.getStatementResult(withPlugin(GET_STATEMENT_RESULT, request));
+    }
+
+    @Override
+    public CompletableFuture<GetStatementResultV2Response> getStatementResultV2(GetStatementResultV2Request request) {
+        return nativeClient.getStatementResultV2(withPlugin(GET_STATEMENT_RESULT, request));
+    }
+
+    @Override
+    public CompletableFuture<ListStatementsResponse> listStatements(ListStatementsRequest request) {
+        return nativeClient.listStatements(withPlugin(LIST_STATEMENTS, request));
+    }
+
+    @Override
+    public void close() {
+        nativeClient.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends AwsRequest> T withPlugin(String operation, T request) {
+        SdkPlugin plugin = plugins.get(operation);
+        if (Objects.isNull(plugin)) {
+            return request;
+        }
+        return (T) request.toBuilder()
+                .overrideConfiguration(request.overrideConfiguration()
+                        .map(overrideConfig -> overrideConfig.toBuilder().addPlugin(plugin).build())
+                        .orElseGet(() -> AwsRequestOverrideConfiguration.builder().addPlugin(plugin).build()))
+                .build();
+    }
+}
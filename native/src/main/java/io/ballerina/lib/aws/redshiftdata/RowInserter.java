@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.StatusString;
+
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Inserts rows into a table through multi-row {@code INSERT ... VALUES (...), (...)} statements.
+ * <p>
+ * The rows are rendered into a statement as they are added, with their values as escaped SQL literals, and the
+ * statement is submitted once the next row would take it over the size limit. Up to a number of statements run at a
+ * time, and adding rows blocks while that many are running. A row that does not fit in a statement of its own fails
+ * the inserter, as the Data API would reject the statement. The columns are the fields of the record type of the
+ * first row, in their order, or the fields of the first row when its type declares none. Once a statement does not
+ * finish, or the inserter fails, no more statements are submitted. The first failure, whether of a row that cannot be
+ * read or rendered or of a statement that cannot be submitted or waited for, is recorded rather than thrown, so the
+ * statements already submitted are still waited for and reported.
+ * </p>
+ */
+public final class RowInserter {
+    static final String NATIVE_ROW_INSERTER = "nativeRowInserter";
+
+    private final NativeClient nativeClient;
+    private final Function<String, CompletableFuture<DescribeStatementResponse>> completion;
+    private final ExecuteStatementRequest template;
+    private final String table;
+    private final InsertConfig config;
+    private final Semaphore permits;
+    private final List<Statement> statements = new ArrayList<>();
+    private final StringBuilder sql = new StringBuilder();
+    private final StringBuilder row = new StringBuilder();
+    private BString[] columns;
+    private String insertPrefix;
+    private long insertPrefixSize;
+    private long sqlSize = 0;
+    private int rows = 0;
+    private volatile boolean stopped = false;
+    private String failure;
+
+    RowInserter(NativeClient nativeClient, ExecuteStatementRequest template, String table, InsertConfig config,
+                Function<String, CompletableFuture<DescribeStatementResponse>> completion) {
+        this.nativeClient = nativeClient;
+        this.completion = completion;
+        this.template = template;
+        this.table = table;
+        this.config = config;
+        this.permits = new Semaphore(config.parallelism());
+    }
+
+    /**
+     * Adds rows to be inserted, submitting the statements they fill.
+     *
+     * @param bRows the rows to be inserted
+     * @return {@code false} if a statement did not finish or the inserter failed, and therefore no more rows are to
+     * be added
+     */
+    @SuppressWarnings("unchecked")
+    boolean add(BArray bRows) {
+        try {
+            for (int i = 0; i < bRows.size() && !stopped; i++) {
+                add((BMap<BString, Object>) bRows.get(i));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail("The insertion was interrupted.");
+        } catch (Exception e) {
+            fail(Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
+        }
+        return !stopped;
+    }
+
+    /**
+     * Records a failure that stops the insertion, unless one is recorded already. The rows added but not yet
+     * submitted are dropped.
+     */
+    synchronized void fail(String message) {
+        if (Objects.isNull(failure)) {
+            failure = message;
+        }
+        stopped = true;
+    }
+
+    synchronized String failure() {
+        return failure;
+    }
+
+    private void add(BMap<BString, Object> bRow) throws InterruptedException {
+        if (Objects.isNull(columns)) {
+            columns = columnsOf(bRow);
+            insertPrefix = insertPrefix(table, columns);
+            insertPrefixSize = CommonUtils.utf8Length(insertPrefix);
+        }
+        row.setLength(0);
+        row.append('(');
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                row.append(", ");
+            }
+            appendValue(row, columns[i], bRow.get(columns[i]));
+        }
+        row.append(')');
+        long rowSize = CommonUtils.utf8Length(row);
+        if (insertPrefixSize + rowSize > config.maxStatementSize()) {
+            throw new IllegalArgumentException(String.format("A row takes an INSERT statement of %d bytes, which is " +
+                    "larger than the maxStatementSize of %d bytes.", insertPrefixSize + rowSize,
+                    config.maxStatementSize()));
+        }
+        if (rows > 0 && sqlSize + 1 + rowSize > config.maxStatementSize()) {
+            submit();
+        }
+        if (rows == 0) {
+            sql.append(insertPrefix);
+            sqlSize = insertPrefixSize;
+        } else {
+            sql.append(',');
+            sqlSize++;
+        }
+        sql.append(row);
+        sqlSize += rowSize;
+        rows++;
+    }
+
+    /**
+     * Submits the rows added last unless the insertion stopped, and waits for all the submitted statements to
+     * complete.
+     *
+     * @return the submitted statements, in the order of their rows
+     */
+    List<Statement> finish() throws InterruptedException {
+        if (rows > 0 && !stopped) {
+            submit();
+        }
+        CompletableFuture.allOf(statements.stream().map(Statement::completion).toArray(CompletableFuture<?>[]::new))
+                .join();
+        return statements;
+    }
+
+    private void submit() throws InterruptedException {
+        permits.acquire();
+        ExecuteStatementRequest request = template.toBuilder().sql(sql.toString()).build();
+        Statement statement = new Statement(rows);
+        statement.completion = nativeClient.executeStatement(request)
+                .thenCompose(response -> {
+                    statement.id = response.id();
+                    return completion.apply(response.id());
+                })
+                .handle((description, failure) -> {
+                    if (failure != null) {
+                        Throwable cause = CommonUtils.unwrap(failure);
+                        fail(Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                    } else {
+                        statement.description = description;
+                        if (description.status() != StatusString.FINISHED) {
+                            stopped = true;
+                        }
+                    }
+                    permits.release();
+                    return null;
+                });
+        statements.add(statement);
+        sql.setLength(0);
+        rows = 0;
+    }
+
+    /**
+     * An {@code INSERT} statement, with its identifier once it is submitted and its description once it completes.
+     * A statement that could not be submitted or waited for has no description.
+     */
+    static final class Statement {
+        private final int rows;
+        private volatile String id;
+        private volatile DescribeStatementResponse description;
+        private CompletableFuture<Void> completion;
+
+        private Statement(int rows) {
+            this.rows = rows;
+        }
+
+        int rows() {
+            return rows;
+        }
+
+        String id() {
+            return id;
+        }
+
+        DescribeStatementResponse description() {
+            return description;
+        }
+
+        private CompletableFuture<Void> completion() {
+            return completion;
+        }
+    }
+
+    private static BString[] columnsOf(BMap<BString, Object> bRow) {
+        Type rowType = TypeUtils.getImpliedType(bRow.getType());
+        if (rowType instanceof RecordType recordType && !recordType.getFields().isEmpty()) {
+            return recordType.getFields().keySet().stream().map(StringUtils::fromString).toArray(BString[]::new);
+        }
+        return bRow.getKeys();
+    }
+
+    private static String insertPrefix(String table, BString[] columns) {
+        StringBuilder prefix = new StringBuilder("INSERT INTO ").append(table).append(" (");
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                prefix.append(", ");
+            }
+            prefix.append('"').append(columns[i].getValue().replace("\"", "\"\"")).append('"');
+        }
+        return prefix.append(") VALUES ").toString();
+    }
+
+    private static void appendValue(StringBuilder row, BString column, Object value) {
+        switch (value) {
+            case null -> row.append("NULL");
+            case Boolean booleanValue -> row.append(booleanValue ? "TRUE" : "FALSE");
+            case Long longValue -> row.append(longValue);
+            case Integer intValue -> row.append(intValue);
+            case Double doubleValue -> {
+                if (Double.isFinite(doubleValue)) {
+                    row.append(doubleValue);
+                } else {
+                    ParameterizedQuery.appendLiteral(row, doubleValue.toString());
+                }
+            }
+            case BDecimal decimalValue -> row.append(decimalValue.decimalValue().toPlainString());
+            case BString stringValue -> ParameterizedQuery.appendLiteral(row, stringValue.getValue());
+            case BArray arrayValue when arrayValue.getElementType().getTag() == TypeTags.BYTE_TAG ->
+                    row.append("FROM_HEX('").append(HexFormat.of().formatHex(arrayValue.getBytes())).append("')");
+            default -> throw new IllegalArgumentException(String.format(
+                    "The value of the column '%s' is of an unsupported type: %s.", column.getValue(),
+                    TypeUtils.getType(value)));
+        }
+    }
+
+    public static Object add(Environment env, BObject bRowInserter, BArray bRows) {
+        RowInserter rowInserter = (RowInserter) bRowInserter.getNativeData(NATIVE_ROW_INSERTER);
+        return env.yieldAndRun(() -> rowInserter.add(bRows));
+    }
+
+    public static void fail(BObject bRowInserter, BString bMessage) {
+        RowInserter rowInserter = (RowInserter) bRowInserter.getNativeData(NATIVE_ROW_INSERTER);
+        rowInserter.fail(bMessage.getValue());
+    }
+
+    public static Object finish(Environment env, BObject bRowInserter) {
+        RowInserter rowInserter = (RowInserter) bRowInserter.getNativeData(NATIVE_ROW_INSERTER);
+        return env.yieldAndRun(() -> {
+            try {
+                return CommonUtils.getInsertResponse(rowInserter, rowInserter.finish());
+            } catch (Exception e) {
+                Throwable cause = CommonUtils.unwrap(e);
+                String errorMsg = String.format("Error occurred while executing the insertAll: %s",
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                return CommonUtils.createError(errorMsg, cause);
+            }
+        });
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.redshiftdata.model.ColumnMetadata;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * A precompiled mapping of result rows onto a record type.
+ * <p>
+ * The mapping is resolved once per record type and result column layout: the record field keys, the result column
+ * each of them is read from and the {@link ColumnDecoder} of each column are held in parallel arrays, so mapping a
+ * row does no lookups or key allocation. Plans are cached, as the same record type is usually read from results of
+ * the same shape over and over.
+ * </p>
+ */
+final class RowMappingPlan {
+    private static final String RECORD_FIELD_ANN_PREFIX = "$field$.";
+    private static final String SQL_COLUMN_ANNOTATION = "ballerina/sql:1:Column";
+    private static final BString ANN_COLUMN_NAME_FIELD = fromString("name");
+    // Plans are dropped all at once past this size; only applications reading many distinct shapes get there
+    private static final int MAX_CACHED_PLANS = 256;
+    private static final Map<PlanKey, RowMappingPlan> PLAN_CACHE = new ConcurrentHashMap<>();
+
+    private final RecordType recordType;
+    private final BString[] keys;
+    private final int[] columnIndices;
+    private final ColumnDecoder[] decoders;
+
+    private RowMappingPlan(RecordType recordType, BString[] keys, int[] columnIndices, ColumnDecoder[] decoders) {
+        this.recordType = recordType;
+        this.keys = keys;
+        this.columnIndices = columnIndices;
+        this.decoders = decoders;
+    }
+
+    /**
+     * Returns the plan that maps rows of a result with the given columns onto the given record type.
+     *
+     * @param recordType     the record type rows are mapped onto
+     * @param columnMetadata the columns of the result
+     * @return the mapping plan
+     * @throws Exception if the record type does not match the result columns
+     */
+    static RowMappingPlan of(RecordType recordType, List<ColumnMetadata> columnMetadata) throws Exception {
+        PlanKey key = new PlanKey(recordType, signatureOf(columnMetadata));
+        RowMappingPlan plan = PLAN_CACHE.get(key);
+        if (Objects.nonNull(plan)) {
+            return plan;
+        }
+        plan = compile(recordType, columnMetadata);
+        if (PLAN_CACHE.size() >= MAX_CACHED_PLANS) {
+            PLAN_CACHE.clear();
+        }
+        PLAN_CACHE.put(key, plan);
+        return plan;
+    }
+
+    /**
+     * Maps a result row onto a new value of the record type.
+     *
+     * @param page the result page holding the row
+     * @param row  the index of the row in the page
+     * @return the record value
+     */
+    BMap<BString, Object> map(ResultPage page, int row) {
+        BMap<BString, Object> record = ValueCreator.createRecordValue(recordType.getPackage(), recordType.getName());
+        for (int i = 0; i < keys.length; i++) {
+            record.put(keys[i], page.decode(row, columnIndices[i], decoders[i]));
+        }
+        return record;
+    }
+
+    RecordType recordType() {
+        return recordType;
+    }
+
+    private static RowMappingPlan compile(RecordType recordType, List<ColumnMetadata> columnMetadata)
+            throws Exception {
+        List<String> resultFields = columnMetadata.stream().map(ColumnMetadata::name).toList();
+        // Get the ballerina field names and the corresponding annotated column names
+        Map<String, String> ballerinaFieldMap = getAnnotationMap(recordType);
+
+        List<String> fieldNames = new ArrayList<>();
+        List<Integer> fieldColumns = new ArrayList<>();
+        for (Map.Entry<String, String> ballerinaField : ballerinaFieldMap.entrySet()) {
+            String annotatedColumnName = ballerinaField.getValue();
+            int columnIndex = resultFields.indexOf(annotatedColumnName);
+            if (columnIndex == -1) {
+                throw new Exception("Field '" + annotatedColumnName + "' not found in the result set.");
+            }
+            fieldNames.add(ballerinaField.getKey());
+            fieldColumns.add(columnIndex);
+        }
+        if (recordType.isSealed()) {
+            // Ensure no extra fields are present in result set
+            for (String resultField : resultFields) {
+                if (!ballerinaFieldMap.containsKey(resultField) && !ballerinaFieldMap.containsValue(resultField)) {
+                    throw new Exception("Field '" + resultField + "' not found in the record type.");
+                }
+            }
+        } else {
+            // Add all the fields from the result set to the record type
+            for (int i = 0; i < resultFields.size(); i++) {
+                if (!ballerinaFieldMap.containsKey(resultFields.get(i))) {
+                    fieldNames.add(resultFields.get(i));
+                    fieldColumns.add(i);
+                }
+            }
+        }
+
+        int fieldCount = fieldNames.size();
+        BString[] keys = new BString[fieldCount];
+        int[] columnIndices = new int[fieldCount];
+        ColumnDecoder[] decoders = new ColumnDecoder[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            keys[i] = fromString(fieldNames.get(i));
+            columnIndices[i] = fieldColumns.get(i);
+            decoders[i] = ColumnDecoder.forColumn(columnMetadata.get(columnIndices[i]),
+                    getFieldType(recordType, fieldNames.get(i)));
+        }
+        return new RowMappingPlan(recordType, keys, columnIndices, decoders);
+    }
+
+    private static Type getFieldType(RecordType recordType, String fieldName) {
+        Field field = recordType.getFields().get(fieldName);
+        return Objects.nonNull(field) ? field.getFieldType() : recordType.getRestFieldType();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> getAnnotationMap(RecordType recordType) {
+        Map<String, String> annotatationMap = new HashMap<>();
+        String[] fields = recordType.getFields().keySet().toArray(new String[0]);
+        for (String fieldName : fields) {
+            String columnName = fieldName.toLowerCase();
+            Object fieldAnnotationsObj = recordType.getAnnotation(fromString(RECORD_FIELD_ANN_PREFIX + fieldName));
+            // Check if the field has the SQL Column annotation
+            if (fieldAnnotationsObj instanceof BMap) {
+                BMap<BString, Object> fieldAnnotations = (BMap<BString, Object>) fieldAnnotationsObj;
+                BMap<BString, Object> columnAnnotation = (BMap<BString, Object>) fieldAnnotations.getMapValue(
+                        fromString(SQL_COLUMN_ANNOTATION));
+                if (Objects.nonNull(columnAnnotation)) {
+                    columnName = columnAnnotation.getStringValue(ANN_COLUMN_NAME_FIELD).getValue().toLowerCase();
+                }
+            }
+            annotatationMap.put(fieldName, columnName);
+        }
+        return annotatationMap;
+    }
+
+    private static String signatureOf(List<ColumnMetadata> columnMetadata) {
+        StringBuilder signature = new StringBuilder();
+        for (ColumnMetadata column : columnMetadata) {
+            signature.append(column.name()).append(':').append(column.typeName()).append('(')
+                    .append(column.precision()).append(',').append(column.scale()).append("),");
+        }
+        return signature.toString();
+    }
+
+    private record PlanKey(RecordType recordType, String columnSignature) {
+    }
+}
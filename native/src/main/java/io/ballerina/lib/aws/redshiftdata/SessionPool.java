@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.StatusString;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * A pool of Redshift sessions that the statements of a client run in, so that a statement does not pay for starting
+ * a session of its own.
+ * <p>
+ * A session runs one statement at a time. A statement leases the most recently used idle session, or starts a new
+ * session by running with the database access configurations of the client while the pool holds fewer than
+ * {@code maxSessions}, and otherwise waits for a session to be returned. The session is returned once the statement
+ * finishes, and evicted if the statement fails or does not complete in time, as the session may be broken or still
+ * busy. Every statement of the pool asks for the session to be kept alive for {@code sessionKeepAliveSeconds} after
+ * it finishes. An idle session about to expire is kept alive by running {@code SELECT 1} in it, until it has been
+ * idle for {@code maxIdleTime}, after which it is left to expire.
+ * </p>
+ * <p>
+ * A session is not reset when it is returned. The state a statement leaves in it, such as the parameters set with
+ * {@code SET}, temporary tables or a transaction left open, carries over to the statements that lease it later.
+ * </p>
+ */
+final class SessionPool implements AutoCloseable {
+    private static final String STATS_RECORD = "SessionPoolStats";
+    private static final BString STATS_SESSIONS = StringUtils.fromString("sessions");
+    private static final BString STATS_IN_USE = StringUtils.fromString("inUse");
+    private static final BString STATS_IDLE = StringUtils.fromString("idle");
+    private static final BString STATS_WAITING = StringUtils.fromString("waiting");
+    private static final BString STATS_CREATED = StringUtils.fromString("created");
+    private static final BString STATS_EVICTIONS = StringUtils.fromString("evictions");
+    private static final BString STATS_REFRESHES = StringUtils.fromString("refreshes");
+    private static final BString STATS_LEASES = StringUtils.fromString("leases");
+    private static final BString STATS_AVERAGE_WAIT_TIME = StringUtils.fromString("averageWaitTime");
+    private static final BString STATS_MAX_WAIT_TIME = StringUtils.fromString("maxWaitTime");
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(1_000_000_000L);
+    private static final String KEEP_ALIVE_STATEMENT = "SELECT 1";
+    // Bounds how often the idle sessions are checked, however small the refresh margin is
+    private static final long MIN_MAINTENANCE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final NativeClient nativeClient;
+    private final Target target;
+    private final int maxSessions;
+    private final int sessionKeepAliveSeconds;
+    private final long refreshMarginNanos;
+    private final long maxIdleTimeNanos;
+    private final long leaseTimeoutNanos;
+    private final WaitConfig keepAliveWaitConfig;
+    private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1,
+            new RedshiftDataThreadFactory());
+    // The most recently returned session comes first, so that the sessions least in demand are left to idle out
+    private final Deque<PooledSession> idle = new ArrayDeque<>();
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private int sessions = 0;
+    private int inUse = 0;
+    private long created = 0;
+    private long evictions = 0;
+    private long refreshes = 0;
+    private long leases = 0;
+    private long totalWaitNanos = 0;
+    private long maxWaitNanos = 0;
+    private boolean closed = false;
+
+    SessionPool(NativeClient nativeClient, Object dbAccessConfig, SessionPoolConfig config) {
+        this.nativeClient = nativeClient;
+        this.target = Target.of(dbAccessConfig);
+        this.maxSessions = config.maxSessions();
+        this.sessionKeepAliveSeconds = config.sessionKeepAliveSeconds();
+        this.refreshMarginNanos = config.refreshMarginNanos();
+        this.maxIdleTimeNanos = config.maxIdleTimeNanos();
+        this.leaseTimeoutNanos = config.leaseTimeoutNanos();
+        // The timeout of a lease is cancelled once a session is handed over, and is dropped rather than left queued
+        scheduler.setRemoveOnCancelPolicy(true);
+        this.keepAliveWaitConfig = new WaitConfig(TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.SECONDS.toNanos(1),
+                2, refreshMarginNanos);
+        long maintenanceInterval = Math.max(refreshMarginNanos / 2, MIN_MAINTENANCE_INTERVAL_NANOS);
+        scheduler.scheduleWithFixedDelay(this::maintain, maintenanceInterval, maintenanceInterval,
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns whether a statement runs in the pool: those that run on the database the pool was opened for, rather
+     * than in a session of their own choice or on a database given at the statement level.
+     */
+    boolean accepts(ExecuteStatementRequest executeRequest) {
+        return Objects.isNull(executeRequest.sessionId()) && target.equals(Target.of(executeRequest));
+    }
+
+    /**
+     * Runs a statement in a session of the pool and waits for it to complete.
+     *
+     * @param executeRequest    the statement, with the database access configurations of the pool
+     * @param waitForCompletion waits for the statement of the given identifier to complete
+     * @return the description of the completed statement
+     */
+    CompletableFuture<DescribeStatementResponse> executeAndWait(
+            ExecuteStatementRequest executeRequest,
+            Function<String, CompletableFuture<DescribeStatementResponse>> waitForCompletion) {
+        return lease().thenCompose(session -> run(session, executeRequest, waitForCompletion, true));
+    }
+
+    private CompletableFuture<DescribeStatementResponse> run(
+            PooledSession session, ExecuteStatementRequest executeRequest,
+            Function<String, CompletableFuture<DescribeStatementResponse>> waitForCompletion, boolean mayRetry) {
+        return nativeClient.executeStatement(bind(executeRequest, session)).handle((executionResponse, error) -> {
+            if (Objects.nonNull(error)) {
+                evict(session);
+                if (mayRetry && Objects.nonNull(session.sessionId)) {
+                    // The session may have expired or been closed by the service. The statement did not run, so
+                    // it is run once more in another session
+                    return lease().thenCompose(next -> run(next, executeRequest, waitForCompletion, false));
+                }
+                return CompletableFuture.<DescribeStatementResponse>failedFuture(CommonUtils.unwrap(error));
+            }
+            return waitInSession(session, executionResponse, waitForCompletion);
+        }).thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<DescribeStatementResponse> waitInSession(
+            PooledSession session, ExecuteStatementResponse executionResponse,
+            Function<String, CompletableFuture<DescribeStatementResponse>> waitForCompletion) {
+        if (Objects.isNull(session.sessionId) && Objects.nonNull(executionResponse.sessionId())) {
+            session.sessionId = executionResponse.sessionId();
+            synchronized (this) {
+                created++;
+            }
+        }
+        return waitForCompletion.apply(executionResponse.id()).whenComplete((describeResponse, error) -> {
+            if (Objects.isNull(error) && describeResponse.status() == StatusString.FINISHED) {
+                long now = System.nanoTime();
+                session.lastUsedAt = now;
+                session.expiresAt = now + TimeUnit.SECONDS.toNanos(sessionKeepAliveSeconds);
+                giveBack(session);
+            } else {
+                evict(session);
+            }
+        });
+    }
+
+    /**
+     * Points a statement at the session it runs in: the session itself once it is started, or the database of the
+     * pool to start it.
+     */
+    private ExecuteStatementRequest bind(ExecuteStatementRequest executeRequest, PooledSession session) {
+        ExecuteStatementRequest.Builder builder = executeRequest.toBuilder()
+                .sessionKeepAliveSeconds(sessionKeepAliveSeconds);
+        if (Objects.nonNull(session.sessionId)) {
+            // A statement that names its session may not name a database as well
+            builder.sessionId(session.sessionId)
+                    .clusterIdentifier(null)
+                    .workgroupName(null)
+                    .database(null)
+                    .dbUser(null)
+                    .secretArn(null);
+        }
+        return builder.build();
+    }
+
+    private CompletableFuture<PooledSession> lease() {
+        long requestedAt = System.nanoTime();
+        CompletableFuture<PooledSession> lease = new CompletableFuture<>();
+        PooledSession session = null;
+        synchronized (this) {
+            if (closed) {
+                lease.completeExceptionally(new CancellationException("The client is closed."));
+                return lease;
+            }
+            session = idle.pollFirst();
+            if (Objects.isNull(session) && sessions < maxSessions) {
+                sessions++;
+                session = new PooledSession();
+            }
+            if (Objects.nonNull(session)) {
+                inUse++;
+                recordLease(requestedAt);
+            } else {
+                waiters.addLast(new Waiter(lease, requestedAt));
+            }
+        }
+        if (Objects.nonNull(session)) {
+            lease.complete(session);
+            return lease;
+        }
+        ScheduledFuture<?> timeout = scheduler.schedule(() -> {
+            if (lease.completeExceptionally(new TimeoutException(String.format(
+                    "No session of the pool became available within %s seconds.",
+                    BigDecimal.valueOf(leaseTimeoutNanos).divide(NANOS_PER_SECOND).toPlainString())))) {
+                synchronized (this) {
+                    waiters.removeIf(waiter -> waiter.lease() == lease);
+                }
+            }
+        }, leaseTimeoutNanos, TimeUnit.NANOSECONDS);
+        lease.whenComplete((leased, error) -> timeout.cancel(false));
+        return lease;
+    }
+
+    /**
+     * Hands a session over to the statement that has waited the longest for one, or keeps it as idle if none
+     * waits. A session that has not been started takes up its place in the pool only while a statement uses it.
+     */
+    private void giveBack(PooledSession session) {
+        while (true) {
+            Waiter waiter;
+            synchronized (this) {
+                waiter = waiters.pollFirst();
+                while (Objects.nonNull(waiter) && waiter.lease().isDone()) {
+                    waiter = waiters.pollFirst();
+                }
+                if (Objects.isNull(waiter)) {
+                    inUse--;
+                    if (closed || Objects.isNull(session.sessionId)) {
+                        sessions--;
+                    } else {
+                        idle.addFirst(session);
+                    }
+                    return;
+                }
+                recordLease(waiter.requestedAt());
+            }
+            // The wait may time out in between, in which case the session goes to the next statement waiting
+            if (waiter.lease().complete(session)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Drops a session from the pool. Its place goes to a new session if a statement waits for one.
+     */
+    private void evict(PooledSession session) {
+        if (Objects.nonNull(session.sessionId)) {
+            synchronized (this) {
+                evictions++;
+            }
+        }
+        giveBack(new PooledSession());
+    }
+
+    private void recordLease(long requestedAt) {
+        long waitNanos = System.nanoTime() - requestedAt;
+        leases++;
+        totalWaitNanos += waitNanos;
+        maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+    }
+
+    /**
+     * Lets the sessions that have idled for too long expire, and keeps the other idle sessions that are about to
+     * expire alive.
+     */
+    private void maintain() {
+        long now = System.nanoTime();
+        List<PooledSession> expiring = new ArrayList<>();
+        synchronized (this) {
+            Iterator<PooledSession> idleSessions = idle.iterator();
+            while (idleSessions.hasNext()) {
+                PooledSession session = idleSessions.next();
+                if (now - session.lastUsedAt >= maxIdleTimeNanos || session.expiresAt - now <= 0) {
+                    idleSessions.remove();
+                    sessions--;
+                } else if (session.expiresAt - now <= refreshMarginNanos) {
+                    idleSessions.remove();
+                    inUse++;
+                    expiring.add(session);
+                }
+            }
+        }
+        expiring.forEach(this::keepAlive);
+    }
+
+    private void keepAlive(PooledSession session) {
+        ExecuteStatementRequest keepAliveRequest = ExecuteStatementRequest.builder()
+                .sql(KEEP_ALIVE_STATEMENT)
+                .sessionId(session.sessionId)
+                .sessionKeepAliveSeconds(sessionKeepAliveSeconds)
+                .build();
+        nativeClient.executeStatement(keepAliveRequest)
+                .thenCompose(executionResponse -> StatementPoller.waitForCompletion(
+                        nativeClient, executionResponse.id(), keepAliveWaitConfig))
+                .whenComplete((describeResponse, error) -> {
+                    if (Objects.isNull(error) && describeResponse.status() == StatusString.FINISHED) {
+                        session.expiresAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(sessionKeepAliveSeconds);
+                        synchronized (this) {
+                            refreshes++;
+                        }
+                        giveBack(session);
+                    } else {
+                        evict(session);
+                    }
+                });
+    }
+
+    synchronized BMap<BString, Object> getStats() {
+        BMap<BString, Object> stats = ValueCreator.createRecordValue(ModuleUtils.getModule(), STATS_RECORD);
+        stats.put(STATS_SESSIONS, (long) sessions);
+        stats.put(STATS_IN_USE, (long) inUse);
+        stats.put(STATS_IDLE, (long) idle.size());
+        stats.put(STATS_WAITING, waiters.stream().filter(waiter -> !waiter.lease().isDone()).count());
+        stats.put(STATS_CREATED, created);
+        stats.put(STATS_EVICTIONS, evictions);
+        stats.put(STATS_REFRESHES, refreshes);
+        stats.put(STATS_LEASES, leases);
+        stats.put(STATS_AVERAGE_WAIT_TIME, ValueCreator.createDecimalValue(leases == 0 ? BigDecimal.ZERO :
+                BigDecimal.valueOf(totalWaitNanos / leases).divide(NANOS_PER_SECOND, 6, RoundingMode.HALF_UP)));
+        stats.put(STATS_MAX_WAIT_TIME, ValueCreator.createDecimalValue(
+                BigDecimal.valueOf(maxWaitNanos).divide(NANOS_PER_SECOND, 6, RoundingMode.HALF_UP)));
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        List<Waiter> pending;
+        synchronized (this) {
+            closed = true;
+            pending = new ArrayList<>(waiters);
+            waiters.clear();
+            sessions -= idle.size();
+            idle.clear();
+        }
+        scheduler.shutdownNow();
+        for (Waiter waiter : pending) {
+            waiter.lease().completeExceptionally(new CancellationException("The client is closed."));
+        }
+    }
+
+    /**
+     * The database a statement runs on, as its database access configurations name it.
+     */
+    private record Target(String clusterIdentifier, String workgroupName, String database, String dbUser,
+                          String secretArn) {
+
+        static Target of(ExecuteStatementRequest executeRequest) {
+            return new Target(executeRequest.clusterIdentifier(), executeRequest.workgroupName(),
+                    executeRequest.database(), executeRequest.dbUser(), executeRequest.secretArn());
+        }
+
+        static Target of(Object dbAccessConfig) {
+            if (dbAccessConfig instanceof Cluster cluster) {
+                // As for a statement, the database user takes precedence over the secret
+                return new Target(cluster.id(), null, cluster.database(), cluster.dbUser(),
+                        Objects.isNull(cluster.dbUser()) ? cluster.secretArn() : null);
+            }
+            WorkGroup workGroup = (WorkGroup) dbAccessConfig;
+            return new Target(null, workGroup.name(), workGroup.database(), null, workGroup.secretArn());
+        }
+    }
+
+    private record Waiter(CompletableFuture<PooledSession> lease, long requestedAt) {
+    }
+
+    private static final class PooledSession {
+        // Null until the first statement in the session starts it
+        private volatile String sessionId;
+        private volatile long lastUsedAt;
+        private volatile long expiresAt;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code SessionPoolConfig} contains the java representation of the ballerina redshift data api session pool
+ * configurations.
+ *
+ * @param maxSessions             The maximum number of sessions the pool holds.
+ * @param sessionKeepAliveSeconds The number of seconds a session is kept alive after a statement finishes in it.
+ * @param refreshMarginNanos      The time before an idle session expires at which it is kept alive.
+ * @param maxIdleTimeNanos        The time an idle session is kept alive for after its last statement.
+ * @param leaseTimeoutNanos       The maximum time a statement waits for a session.
+ */
+public record SessionPoolConfig(int maxSessions, int sessionKeepAliveSeconds, long refreshMarginNanos,
+                                long maxIdleTimeNanos, long leaseTimeoutNanos) {
+    private static final BString SESSION_POOL_MAX_SESSIONS = StringUtils.fromString("maxSessions");
+    private static final BString SESSION_POOL_SESSION_KEEP_ALIVE_SECONDS =
+            StringUtils.fromString("sessionKeepAliveSeconds");
+    private static final BString SESSION_POOL_REFRESH_MARGIN = StringUtils.fromString("refreshMargin");
+    private static final BString SESSION_POOL_MAX_IDLE_TIME = StringUtils.fromString("maxIdleTime");
+    private static final BString SESSION_POOL_LEASE_TIMEOUT = StringUtils.fromString("leaseTimeout");
+
+    public SessionPoolConfig {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("The maxSessions should be greater than 0.");
+        }
+        if (sessionKeepAliveSeconds < 1) {
+            throw new IllegalArgumentException("The sessionKeepAliveSeconds should be greater than 0.");
+        }
+    }
+
+    public SessionPoolConfig(BMap<BString, Object> bSessionPoolConfig) {
+        this(
+                CommonUtils.narrowToInt(bSessionPoolConfig.getIntValue(SESSION_POOL_MAX_SESSIONS), "maxSessions"),
+                CommonUtils.narrowToInt(bSessionPoolConfig.getIntValue(SESSION_POOL_SESSION_KEEP_ALIVE_SECONDS),
+                        "sessionKeepAliveSeconds"),
+                CommonUtils.toNanos((BDecimal) bSessionPoolConfig.get(SESSION_POOL_REFRESH_MARGIN)),
+                CommonUtils.toNanos((BDecimal) bSessionPoolConfig.get(SESSION_POOL_MAX_IDLE_TIME)),
+                CommonUtils.toNanos((BDecimal) bSessionPoolConfig.get(SESSION_POOL_LEASE_TIMEOUT))
+        );
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.lib.aws.EndpointConfigUtils;
+import io.ballerina.lib.aws.auth.ProviderFactory;
+import io.ballerina.runtime.api.values.BMap;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.redshiftdata.RedshiftDataAsyncClient;
+import software.amazon.awssdk.services.redshiftdata.RedshiftDataAsyncClientBuilder;
+import software.amazon.awssdk.services.redshiftdata.RedshiftDataClient;
+import software.amazon.awssdk.services.redshiftdata.RedshiftDataClientBuilder;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultRequest;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Request;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Response;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link NativeClient} that is a reference to an AWS SDK client shared by the clients of the same configurations.
+ * <p>
+ * The clients that are initialized with the same region, endpoint, auth, and HTTP, retry and executor configurations
+ * share one SDK client, along with its HTTP connection pool, its executor and its credentials provider, rather than
+ * each opening connections and resolving credentials of its own. The SDK client and its credentials provider are
+ * closed once every client that shares them is closed.
+ * </p>
+ */
+final class SharedNativeClient implements NativeClient {
+    // The SDK clients in use, by the configurations they are built with
+    private static final Map<Key, Entry> CLIENTS = new HashMap<>();
+
+    private final Entry entry;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private SharedNativeClient(Entry entry) {
+        this.entry = entry;
+    }
+
+    /**
+     * Returns a reference to the SDK client of the given configurations, building the client if no other client of
+     * the same configurations is open.
+     */
+    static SharedNativeClient acquire(ConnectionConfig connectionConfig) {
+        Key key = Key.of(connectionConfig);
+        synchronized (CLIENTS) {
+            Entry entry = CLIENTS.get(key);
+            if (Objects.isNull(entry)) {
+                entry = Entry.build(key, connectionConfig);
+                CLIENTS.put(key, entry);
+            }
+            entry.references++;
+            return new SharedNativeClient(entry);
+        }
+    }
+
+    AwsCredentialsProvider credentialsProvider() {
+        return entry.credentialsProvider;
+    }
+
+    /**
+     * The executor the blocking SDK calls of the shared client run on; {@code null} for a non-blocking client.
+     */
+    CallExecutor executor() {
+        return entry.nativeClient instanceof SyncNativeClient syncClient ? syncClient.executor() : null;
+    }
+
+    @Override
+    public CompletableFuture<ExecuteStatementResponse> executeStatement(ExecuteStatementRequest request) {
+        return entry.nativeClient.executeStatement(request);
+    }
+
+    @Override
+    public CompletableFuture<BatchExecuteStatementResponse> batchExecuteStatement(
+            BatchExecuteStatementRequest request) {
+        return entry.nativeClient.batchExecuteStatement(request);
+    }
+
+    @Override
+    public CompletableFuture<DescribeStatementResponse> describeStatement(DescribeStatementRequest request) {
+        return entry.nativeClient.describeStatement(request);
+    }
+
+    @Override
+    public CompletableFuture<GetStatementResultResponse> getStatementResult(GetStatementResultRequest request) {
+        return entry.nativeClient.getStatementResult(request);
+    }
+
+    @Override
+    public CompletableFuture<GetStatementResultV2Response> getStatementResultV2(GetStatementResultV2Request request) {
+        return entry.nativeClient.getStatementResultV2(request);
+    }
+
+    @Override
+    public CompletableFuture<ListStatementsResponse> listStatements(ListStatementsRequest request) {
+        return entry.nativeClient.listStatements(request);
+    }
+
+    /**
+     * Releases the reference to the SDK client, closing the SDK client once no client refers to it. Closing a
+     * reference again has no effect.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        synchronized (CLIENTS) {
+            if (--entry.references > 0) {
+                return;
+            }
+            CLIENTS.remove(entry.key);
+        }
+        try {
+            entry.nativeClient.close();
+        } finally {
+            closeProvider(entry.credentialsProvider);
+        }
+    }
+
+    private static void closeProvider(AwsCredentialsProvider credentialsProvider) {
+        try {
+            ProviderFactory.closeProvider(credentialsProvider);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The configurations the SDK client is built with. The auth and the endpoint configurations are compared by
+     * their values, so that clients initialized with equal configurations share the SDK client.
+     */
+    private record Key(Region region, Object endpointConfig, Object authConfig, boolean nonBlocking,
+                       RetryConfig retryConfig, HttpClientConfig httpClientConfig,
+                       ExecutorConfig executorConfig) {
+
+        private static Key of(ConnectionConfig connectionConfig) {
+            return new Key(connectionConfig.region(), valueOf(connectionConfig.endpointConfig()),
+                    valueOf(connectionConfig.authConfig()), connectionConfig.nonBlocking(),
+                    connectionConfig.retryConfig(), connectionConfig.httpClientConfig(),
+                    connectionConfig.executorConfig());
+        }
+
+        private static Object valueOf(Object bConfig) {
+            // Ballerina maps are compared by identity, so an equal map is told apart by its string representation
+            return bConfig instanceof BMap<?, ?> bMap ? bMap.toString() : bConfig;
+        }
+    }
+
+    private static final class Entry {
+        private final Key key;
+        private final NativeClient nativeClient;
+        private final AwsCredentialsProvider credentialsProvider;
+        // Guarded by CLIENTS
+        private int references;
+
+        private Entry(Key key, NativeClient nativeClient, AwsCredentialsProvider credentialsProvider) {
+            this.key = key;
+            this.nativeClient = nativeClient;
+            this.credentialsProvider = credentialsProvider;
+        }
+
+        private static Entry build(Key key, ConnectionConfig connectionConfig) {
+            AwsCredentialsProvider credentialsProvider = ProviderFactory.buildProvider(connectionConfig.authConfig());
+            try {
+                NativeClient nativeClient = connectionConfig.nonBlocking()
+                        ? new AsyncNativeClient(buildRedshiftDataAsyncClient(connectionConfig, credentialsProvider))
+                        : new SyncNativeClient(buildRedshiftDataClient(connectionConfig, credentialsProvider),
+                        Objects.requireNonNullElse(connectionConfig.executorConfig(), ExecutorConfig.UNBOUNDED));
+                return new Entry(key, nativeClient, credentialsProvider);
+            } catch (RuntimeException e) {
+                try {
+                    closeProvider(credentialsProvider);
+                } catch (RuntimeException closeFailure) {
+                    e.addSuppressed(closeFailure);
+                }
+                throw e;
+            }
+        }
+    }
+
+    private static RedshiftDataClient buildRedshiftDataClient(ConnectionConfig connectionConfig,
+                                                              AwsCredentialsProvider credentialsProvider) {
+        RedshiftDataClientBuilder builder = RedshiftDataClient.builder()
+                .region(connectionConfig.region())
+                .credentialsProvider(credentialsProvider)
+                .httpClientBuilder(HttpClientConfig.syncHttpClientBuilder(connectionConfig.httpClientConfig()));
+        if (Objects.nonNull(connectionConfig.retryConfig())) {
+            RetryConfig retryConfig = connectionConfig.retryConfig();
+            builder.overrideConfiguration(overrideConfig -> overrideConfig.retryStrategy(
+                    retryConfig.retryStrategy(retryConfig.backoff())));
+        }
+        EndpointConfigUtils.applyEndpointConfig(builder, connectionConfig.endpointConfig());
+        return builder.build();
+    }
+
+    private static RedshiftDataAsyncClient buildRedshiftDataAsyncClient(ConnectionConfig connectionConfig,
+                                                                        AwsCredentialsProvider credentialsProvider) {
+        RedshiftDataAsyncClientBuilder builder = RedshiftDataAsyncClient.builder()
+                .region(connectionConfig.region())
+                .credentialsProvider(credentialsProvider)
+                .httpClientBuilder(HttpClientConfig.asyncHttpClientBuilder(connectionConfig.httpClientConfig()));
+        if (Objects.nonNull(connectionConfig.retryConfig())) {
+            RetryConfig retryConfig = connectionConfig.retryConfig();
+            builder.overrideConfiguration(overrideConfig -> overrideConfig.retryStrategy(
+                    retryConfig.retryStrategy(retryConfig.backoff())));
+        }
+        EndpointConfigUtils.applyEndpointConfig(builder, connectionConfig.endpointConfig());
+        return builder.build();
+    }
+}
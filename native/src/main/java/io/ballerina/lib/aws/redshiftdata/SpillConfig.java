@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.nio.file.Path;
+
+/**
+ * {@code SpillConfig} contains the java representation of the ballerina redshift data api configurations of spilling
+ * a result to a local file to replay it.
+ *
+ * @param spillDirectory The directory the spill file is created in; {@code null} for the temporary directory.
+ * @param maxSpillSize   The maximum number of bytes the spill file may hold.
+ */
+public record SpillConfig(Path spillDirectory, long maxSpillSize) {
+    private static final BString SPILL_CONFIG_SPILL_DIRECTORY = StringUtils.fromString("spillDirectory");
+    private static final BString SPILL_CONFIG_MAX_SPILL_SIZE = StringUtils.fromString("maxSpillSize");
+
+    public SpillConfig(BMap<BString, Object> bSpillConfig) {
+        this(
+                bSpillConfig.containsKey(SPILL_CONFIG_SPILL_DIRECTORY) ?
+                        Path.of(bSpillConfig.getStringValue(SPILL_CONFIG_SPILL_DIRECTORY).getValue()) : null,
+                bSpillConfig.getIntValue(SPILL_CONFIG_MAX_SPILL_SIZE)
+        );
+    }
+}
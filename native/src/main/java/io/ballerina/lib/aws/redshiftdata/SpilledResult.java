@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BTypedesc;
+import software.amazon.awssdk.services.redshiftdata.model.ColumnMetadata;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A statement result teed into a local spill file, so that it can be read any number of times, by any number of
+ * streams at once, while its pages are fetched only once.
+ * <p>
+ * The file is append-only and holds the pages in the packed encoding of {@link PackedResultPage}, each of which is
+ * read from a read-only mapping of the file once it is written. A page is fetched when the first stream reaches it,
+ * and the streams that reach it meanwhile wait for that fetch. The file may hold up to {@code maxSpillSize} bytes;
+ * the stream that reaches a page beyond that, and every stream after it, fails. The result holds a reference to
+ * the file until it is closed and each stream holds one until it is read to the end or closed; the file is deleted
+ * once the last of them is released.
+ * </p>
+ */
+public final class SpilledResult {
+    static final String NATIVE_SPILLED_RESULT = "nativeSpilledResult";
+    private static final String SPILL_FILE_PREFIX = "redshiftdata-";
+    private static final String SPILL_FILE_SUFFIX = ".spill";
+
+    private final ResultPage.Reader pageReader;
+    private final long maxSpillSize;
+    private final FileChannel channel;
+    private final List<ColumnMetadata> columnMetadata;
+    private final List<PackedResultPage> pages = new ArrayList<>();
+    // Written only by the fetch in flight, of which there is one at a time
+    private long spilledSize = 0;
+    private String nextToken;
+    private CompletableFuture<Void> fetching;
+    private Throwable failure;
+    private int references = 1;
+    private boolean closed = false;
+
+    private SpilledResult(ResultPage.Reader pageReader, SpillConfig spillConfig, FileChannel channel,
+                          PackedResultPage firstPage) throws IOException {
+        this.pageReader = pageReader;
+        this.maxSpillSize = spillConfig.maxSpillSize();
+        this.channel = channel;
+        this.columnMetadata = firstPage.columnMetadata();
+        PackedResultPage spilledPage = append(firstPage);
+        this.pages.add(spilledPage);
+        this.nextToken = spilledPage.nextToken();
+    }
+
+    /**
+     * Fetches the first page of a result and spills it to a new file.
+     *
+     * @param pageReader  the reader of the pages of the result, in the packed encoding
+     * @param spillConfig the configurations of the spill file
+     * @return the spilled result
+     */
+    static SpilledResult open(ResultPage.Reader pageReader, SpillConfig spillConfig) throws IOException {
+        PackedResultPage firstPage = (PackedResultPage) pageReader.read(null).join();
+        Path path = Objects.nonNull(spillConfig.spillDirectory())
+                ? Files.createTempFile(spillConfig.spillDirectory(), SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX)
+                : Files.createTempFile(SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX);
+        FileChannel channel;
+        try {
+            // The file is deleted as soon as the channel is closed
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+        try {
+            return new SpilledResult(pageReader, spillConfig, channel, firstPage);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a stream that reads the result from its first row.
+     */
+    synchronized ResultCursor.PageSource replay(RecordType streamConstraint) throws Exception {
+        if (closed) {
+            throw new Exception("The replayable result is closed.");
+        }
+        RowMappingPlan plan = RowMappingPlan.of(streamConstraint, columnMetadata);
+        references++;
+        return new Replay(plan);
+    }
+
+    /**
+     * Releases the reference of the result to the spill file. The streams that are still open read on.
+     */
+    void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        release();
+    }
+
+    /**
+     * Returns a page of the result, fetching and spilling the pages up to it if no stream has reached it yet.
+     *
+     * @param index the index of the page in the result
+     * @return the page, or {@code null} if the result has fewer pages
+     */
+    PackedResultPage page(int index) {
+        while (true) {
+            CompletableFuture<Void> pending;
+            synchronized (this) {
+                if (index < pages.size()) {
+                    return pages.get(index);
+                }
+                if (Objects.nonNull(failure)) {
+                    throw new CompletionException(failure);
+                }
+                if (Objects.isNull(nextToken)) {
+                    return null;
+                }
+                if (Objects.isNull(fetching)) {
+                    pending = fetch(nextToken);
+                    // A fetch of a page the reader already holds completes within fetch, having recorded its page,
+                    // and must not be left as the fetch in flight. A fetch still in flight records its page only
+                    // once this lock is released, by which time it is published.
+                    if (!pending.isDone()) {
+                        fetching = pending;
+                    }
+                } else {
+                    pending = fetching;
+                }
+            }
+            pending.join();
+        }
+    }
+
+    private CompletableFuture<Void> fetch(String token) {
+        return pageReader.read(token).handle((page, e) -> {
+            PackedResultPage spilledPage = null;
+            Throwable error = e;
+            if (Objects.isNull(error)) {
+                try {
+                    spilledPage = append((PackedResultPage) page);
+                } catch (IOException | RuntimeException appendError) {
+                    error = appendError;
+                }
+            }
+            synchronized (this) {
+                fetching = null;
+                if (Objects.nonNull(error)) {
+                    failure = CommonUtils.unwrap(error);
+                } else {
+                    pages.add(spilledPage);
+                    nextToken = spilledPage.nextToken();
+                }
+            }
+            return null;
+        });
+    }
+
+    private PackedResultPage append(PackedResultPage page) throws IOException {
+        long position = spilledSize;
+        if (position + page.spilledSize() > maxSpillSize) {
+            throw new IOException(String.format("The result exceeds the maxSpillSize of %d bytes.", maxSpillSize));
+        }
+        PackedResultPage spilledPage = page.spill(channel, position, columnMetadata);
+        spilledSize = position + page.spilledSize();
+        return spilledPage;
+    }
+
+    private void release() throws IOException {
+        synchronized (this) {
+            if (--references > 0) {
+                return;
+            }
+        }
+        // The mappings of the pages stay readable until they are no longer reachable
+        channel.close();
+    }
+
+    /**
+     * A stream of the result, which reads the pages in order from the first one.
+     */
+    private final class Replay implements ResultCursor.PageSource {
+        private final RowMappingPlan plan;
+        private int index = 0;
+        private boolean released = false;
+
+        private Replay(RowMappingPlan plan) {
+            this.plan = plan;
+        }
+
+        @Override
+        public ResultCursor.MappedPage next() {
+            if (released) {
+                return null;
+            }
+            PackedResultPage nextPage = page(index);
+            if (Objects.isNull(nextPage)) {
+                return null;
+            }
+            index++;
+            return new ResultCursor.MappedPage(nextPage, plan);
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            try {
+                release();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public static Object replay(BObject bResult, BTypedesc recordType) {
+        SpilledResult result = (SpilledResult) bResult.getNativeData(NATIVE_SPILLED_RESULT);
+        try {
+            RecordType streamConstraint = (RecordType) TypeUtils.getReferredType(recordType.getDescribingType());
+            return QueryResultProcessor.getRecordStream(result.replay(streamConstraint), streamConstraint);
+        } catch (Exception e) {
+            return resultError("replay", e);
+        }
+    }
+
+    public static Object close(Environment env, BObject bResult) {
+        SpilledResult result = (SpilledResult) bResult.getNativeData(NATIVE_SPILLED_RESULT);
+        return env.yieldAndRun(() -> {
+            try {
+                result.close();
+                return null;
+            } catch (Exception e) {
+                return resultError("close", e);
+            }
+        });
+    }
+
+    private static Object resultError(String operation, Exception e) {
+        Throwable cause = CommonUtils.unwrap(e);
+        String errorMsg = String.format("Error occurred while executing the %s of the replayable result: %s",
+                operation, Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+        return CommonUtils.createError(errorMsg, cause);
+    }
+}
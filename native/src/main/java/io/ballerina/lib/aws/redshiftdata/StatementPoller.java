@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.StatusString;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Waits for a statement to complete by polling its status with {@code DescribeStatement}.
+ * <p>
+ * The status is checked right away, and then at intervals that start at the configured initial interval and grow
+ * by the backoff factor up to the maximum interval, so short statements are picked up within milliseconds of
+ * finishing while long ones cost few calls. No thread is held between two checks: the next check is scheduled on a
+ * delayed executor once the previous response arrives.
+ * </p>
+ */
+final class StatementPoller {
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(1_000_000_000L);
+
+    private final NativeClient nativeClient;
+    private final DescribeStatementRequest request;
+    private final WaitConfig waitConfig;
+    private final long deadline;
+    private final CompletableFuture<DescribeStatementResponse> completion = new CompletableFuture<>();
+    private long intervalNanos;
+
+    private StatementPoller(NativeClient nativeClient, String statementId, WaitConfig waitConfig) {
+        this.nativeClient = nativeClient;
+        this.request = DescribeStatementRequest.builder().id(statementId).build();
+        this.waitConfig = waitConfig;
+        this.deadline = System.nanoTime() + waitConfig.timeoutNanos();
+        this.intervalNanos = waitConfig.initialIntervalNanos();
+    }
+
+    /**
+     * Waits for a statement to reach a terminal status: {@code FINISHED}, {@code FAILED} or {@code ABORTED}.
+     *
+     * @param nativeClient the client to poll with
+     * @param statementId  the identifier of the statement
+     * @param waitConfig   the polling intervals and the timeout
+     * @return the description of the statement in its terminal status, or a future failed with a
+     * {@link TimeoutException} if the statement did not complete in time
+     */
+    static CompletableFuture<DescribeStatementResponse> waitForCompletion(NativeClient nativeClient,
+                                                                          String statementId,
+                                                                          WaitConfig waitConfig) {
+        StatementPoller poller = new StatementPoller(nativeClient, statementId, waitConfig);
+        poller.describe();
+        return poller.completion;
+    }
+
+    static boolean isTerminal(StatusString status) {
+        return status == StatusString.FINISHED || status == StatusString.FAILED || status == StatusString.ABORTED;
+    }
+
+    private void describe() {
+        if (completion.isDone()) {
+            return;
+        }
+        nativeClient.describeStatement(request).whenComplete(this::onDescribed);
+    }
+
+    private void onDescribed(DescribeStatementResponse response, Throwable error) {
+        if (Objects.nonNull(error)) {
+            completion.completeExceptionally(CommonUtils.unwrap(error));
+            return;
+        }
+        if (isTerminal(response.status())) {
+            completion.complete(response);
+            return;
+        }
+        long delay = intervalNanos;
+        if (waitConfig.hasTimeout()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                completion.completeExceptionally(new TimeoutException(String.format(
+                        "Statement did not complete within %s seconds. Last status: %s.",
+                        BigDecimal.valueOf(waitConfig.timeoutNanos()).divide(NANOS_PER_SECOND).toPlainString(),
+                        response.statusAsString())));
+                return;
+            }
+            // Check once more right at the deadline rather than giving up early
+            delay = Math.min(delay, remaining);
+        }
+        intervalNanos = (long) Math.min(intervalNanos * waitConfig.backoffFactor(),
+                waitConfig.maxIntervalNanos());
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(this::describe);
+    }
+}
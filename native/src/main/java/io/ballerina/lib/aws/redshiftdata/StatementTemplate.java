@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.SqlParameter;
+
+import java.util.Objects;
+
+/**
+ * The prepared form of a parameterized SQL statement, holding the rendered SQL, the names of its parameters and an
+ * execute request with all but the parameter values already set.
+ * <p>
+ * Each insertion of the statement is a parameter slot, bound to a new value on each execution. The template request
+ * is immutable, and therefore a prepared statement can be executed concurrently.
+ * </p>
+ */
+public final class StatementTemplate {
+    static final String NATIVE_STATEMENT_TEMPLATE = "nativeStatementTemplate";
+    private static final BString QUERY_STRINGS = StringUtils.fromString("strings");
+    private static final BString QUERY_INSERTIONS = StringUtils.fromString("insertions");
+
+    private final ExecuteStatementRequest template;
+    private final String[] parameterNames;
+
+    StatementTemplate(BObject bSqlStatement, BMap<BString, Object> bConfig, Object initLevelDbAccessConfig)
+            throws Exception {
+        String[] strings = bSqlStatement.getArrayValue(QUERY_STRINGS).getStringArray();
+        int parameterCount = bSqlStatement.getArrayValue(QUERY_INSERTIONS).size();
+        this.parameterNames = new String[parameterCount];
+        StringBuilder sql = new StringBuilder();
+        for (int i = 0; i < strings.length; i++) {
+            sql.append(strings[i]);
+            if (i < parameterCount) {
+                parameterNames[i] = "param" + i;
+                sql.append(':').append(parameterNames[i]);
+            }
+        }
+        this.template = CommonUtils.getNativeExecuteRequestBuilder(bConfig, initLevelDbAccessConfig)
+                .sql(sql.toString())
+                .build();
+    }
+
+    int parameterCount() {
+        return parameterNames.length;
+    }
+
+    /**
+     * Returns the execute request of the statement with the given values bound to its parameters.
+     *
+     * @param bValues the values of the parameters, in the order of the insertions of the statement
+     * @return the execute request
+     */
+    ExecuteStatementRequest bind(BArray bValues) {
+        if (bValues.size() != parameterNames.length) {
+            throw new IllegalArgumentException(String.format(
+                    "The prepared statement has %d parameters, but %d values were given.",
+                    parameterNames.length, bValues.size()));
+        }
+        if (parameterNames.length == 0) {
+            return template;
+        }
+        SqlParameter[] parameters = new SqlParameter[parameterNames.length];
+        for (int i = 0; i < parameterNames.length; i++) {
+            Object value = bValues.get(i);
+            if (Objects.isNull(value)) {
+                throw new IllegalArgumentException(String.format(
+                        "The value of the parameter %d is nil, which cannot be bound to a prepared statement.", i));
+            }
+            parameters[i] = SqlParameter.builder().name(parameterNames[i]).value(value.toString()).build();
+        }
+        return template.toBuilder().parameters(parameters).build();
+    }
+
+    public static long parameterCount(BObject bPreparedStatement) {
+        return ((StatementTemplate) bPreparedStatement.getNativeData(NATIVE_STATEMENT_TEMPLATE)).parameterCount();
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsResponse;
+import software.amazon.awssdk.services.redshiftdata.model.StatementData;
+import software.amazon.awssdk.services.redshiftdata.model.StatusString;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Waits for the completion of many statements of a client together.
+ * <p>
+ * Instead of describing each statement on its own, the tracker checks the status of every statement it tracks
+ * once per poll interval by listing the most recent statements with {@code ListStatements}, a page of up to 100
+ * statements per call. Listing stops once every tracked statement is seen, once it reaches statements created well
+ * before the oldest tracked one, or after the configured number of pages. A statement is described only when it
+ * reaches a terminal status, to report its details, or when the listing does not show it, such as for a
+ * sub-statement of a batch. The polling traffic of a client thus grows with the number of rounds rather than with
+ * the number of statements waited for.
+ * </p>
+ * <p>
+ * Rounds run on a single scheduler thread, and only while there are statements to track.
+ * </p>
+ */
+final class StatementTracker implements AutoCloseable {
+    // ListStatements returns at most 100 statements per call
+    private static final int LIST_PAGE_SIZE = 100;
+    // Allows for the clock of the service being behind the local clock when deciding where listing can stop
+    private static final Duration CREATED_AT_SLACK = Duration.ofMinutes(1);
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(1_000_000_000L);
+
+    private final NativeClient nativeClient;
+    private final long pollIntervalNanos;
+    private final int maxListPages;
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(new RedshiftDataThreadFactory());
+    private final Map<String, TrackedStatement> trackedStatements = new ConcurrentHashMap<>();
+    private boolean roundScheduled = false;
+    private boolean closed = false;
+
+    StatementTracker(NativeClient nativeClient, StatusTrackerConfig config) {
+        this.nativeClient = nativeClient;
+        this.pollIntervalNanos = config.pollIntervalNanos();
+        this.maxListPages = config.maxListPages();
+    }
+
+    /**
+     * Tracks a statement until it reaches a terminal status: {@code FINISHED}, {@code FAILED} or {@code ABORTED}.
+     * Only the timeout of the wait configuration applies; the tracker polls at its own interval. Callers that wait
+     * for the same statement share its status checks, while each of them waits until its own timeout.
+     *
+     * @param statementId the identifier of the statement
+     * @param waitConfig  the timeout of the wait
+     * @return the description of the statement in its terminal status, or a future failed with a
+     * {@link TimeoutException} if the statement did not complete in time
+     */
+    CompletableFuture<DescribeStatementResponse> track(String statementId, WaitConfig waitConfig) {
+        Waiter waiter = new Waiter(waitConfig,
+                waitConfig.hasTimeout() ? System.nanoTime() + waitConfig.timeoutNanos() : 0);
+        // The waiter is added under the lock of the entry, so it cannot miss a statement being removed on completion
+        TrackedStatement tracked = trackedStatements.compute(statementId, (id, existing) -> {
+            TrackedStatement entry = Objects.nonNull(existing) ? existing : new TrackedStatement(id, Instant.now());
+            entry.waiters.add(waiter);
+            return entry;
+        });
+        synchronized (this) {
+            if (closed) {
+                complete(tracked, null, new CancellationException("The client is closed."));
+            } else if (!roundScheduled) {
+                roundScheduled = true;
+                // The first round runs right away, so statements that are already complete return without delay
+                scheduler.execute(this::startRound);
+            }
+        }
+        return waiter.completion;
+    }
+
+    private void startRound() {
+        expireTimedOut();
+        if (trackedStatements.isEmpty()) {
+            synchronized (this) {
+                roundScheduled = false;
+                // A statement tracked in between would have found a round scheduled
+                if (trackedStatements.isEmpty() || closed) {
+                    return;
+                }
+                roundScheduled = true;
+            }
+        }
+        Instant oldest = Instant.MAX;
+        for (TrackedStatement tracked : trackedStatements.values()) {
+            if (tracked.registeredAt.isBefore(oldest)) {
+                oldest = tracked.registeredAt;
+            }
+        }
+        listPage(null, 0, oldest.minus(CREATED_AT_SLACK), new HashSet<>());
+    }
+
+    private void listPage(String nextToken, int pageIndex, Instant listUntil, Set<String> seen) {
+        ListStatementsRequest request = ListStatementsRequest.builder()
+                .status(StatusString.ALL)
+                .maxResults(LIST_PAGE_SIZE)
+                .nextToken(nextToken)
+                .build();
+        nativeClient.listStatements(request).whenCompleteAsync((response, error) -> {
+            if (Objects.nonNull(error)) {
+                // Listing is an optimization; describing each statement still resolves them
+                endRound(seen);
+                return;
+            }
+            boolean reachedOlder = onListed(response, listUntil, seen);
+            if (!reachedOlder && Objects.nonNull(response.nextToken()) && pageIndex + 1 < maxListPages
+                    && !seen.containsAll(trackedStatements.keySet())) {
+                listPage(response.nextToken(), pageIndex + 1, listUntil, seen);
+            } else {
+                endRound(seen);
+            }
+        }, scheduler);
+    }
+
+    /**
+     * Records the status of the tracked statements in a page of the listing.
+     *
+     * @return {@code true} if the page reaches statements created before the ones tracked
+     */
+    private boolean onListed(ListStatementsResponse response, Instant listUntil, Set<String> seen) {
+        boolean reachedOlder = false;
+        for (StatementData statement : response.statements()) {
+            TrackedStatement tracked = trackedStatements.get(statement.id());
+            if (Objects.nonNull(tracked)) {
+                seen.add(statement.id());
+                tracked.lastStatus = statement.statusAsString();
+                if (StatementPoller.isTerminal(statement.status())) {
+                    describe(tracked);
+                }
+            }
+            if (Objects.nonNull(statement.createdAt()) && statement.createdAt().isBefore(listUntil)) {
+                reachedOlder = true;
+            }
+        }
+        return reachedOlder;
+    }
+
+    private void endRound(Set<String> seen) {
+        for (TrackedStatement tracked : trackedStatements.values()) {
+            if (!seen.contains(tracked.statementId)) {
+                describe(tracked);
+            }
+        }
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            scheduler.schedule(this::startRound, pollIntervalNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void describe(TrackedStatement tracked) {
+        if (!tracked.describing.compareAndSet(false, true)) {
+            return;
+        }
+        DescribeStatementRequest request = DescribeStatementRequest.builder().id(tracked.statementId).build();
+        nativeClient.describeStatement(request).whenComplete((response, error) -> {
+            if (Objects.nonNull(error)) {
+                complete(tracked, null, CommonUtils.unwrap(error));
+            } else if (StatementPoller.isTerminal(response.status())) {
+                complete(tracked, response, null);
+            } else {
+                tracked.lastStatus = response.statusAsString();
+                tracked.describing.set(false);
+            }
+        });
+    }
+
+    private void complete(TrackedStatement tracked, DescribeStatementResponse response, Throwable error) {
+        trackedStatements.remove(tracked.statementId, tracked);
+        // Once the statement is removed, no further waiter can be added to it
+        List<Waiter> waiters = new ArrayList<>(tracked.waiters);
+        tracked.waiters.removeAll(waiters);
+        for (Waiter waiter : waiters) {
+            if (Objects.nonNull(error)) {
+                waiter.completion.completeExceptionally(error);
+            } else {
+                waiter.completion.complete(response);
+            }
+        }
+    }
+
+    private void expireTimedOut() {
+        long now = System.nanoTime();
+        for (TrackedStatement tracked : trackedStatements.values()) {
+            for (Waiter waiter : tracked.waiters) {
+                if (waiter.deadline != 0 && now - waiter.deadline >= 0) {
+                    tracked.waiters.remove(waiter);
+                    waiter.completion.completeExceptionally(new TimeoutException(String.format(
+                            "Statement did not complete within %s seconds. Last status: %s.",
+                            BigDecimal.valueOf(waiter.waitConfig.timeoutNanos()).divide(NANOS_PER_SECOND)
+                                    .toPlainString(), tracked.lastStatus)));
+                }
+            }
+            // A statement no one waits for any longer is no longer checked
+            trackedStatements.computeIfPresent(tracked.statementId,
+                    (id, entry) -> entry.waiters.isEmpty() ? null : entry);
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        scheduler.shutdownNow();
+        for (TrackedStatement tracked : trackedStatements.values()) {
+            complete(tracked, null, new CancellationException("The client is closed."));
+        }
+    }
+
+    private static final class TrackedStatement {
+        private final String statementId;
+        private final Instant registeredAt;
+        private final List<Waiter> waiters = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean describing = new AtomicBoolean(false);
+        private volatile String lastStatus = StatusString.SUBMITTED.toString();
+
+        private TrackedStatement(String statementId, Instant registeredAt) {
+            this.statementId = statementId;
+            this.registeredAt = registeredAt;
+        }
+    }
+
+    private static final class Waiter {
+        private final WaitConfig waitConfig;
+        // The System#nanoTime the wait times out at, or 0 if it does not
+        private final long deadline;
+        private final CompletableFuture<DescribeStatementResponse> completion = new CompletableFuture<>();
+
+        private Waiter(WaitConfig waitConfig, long deadline) {
+            this.waitConfig = waitConfig;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code StatusTrackerConfig} contains the java representation of the ballerina redshift data api statement status
+ * tracker configurations.
+ *
+ * @param pollIntervalNanos The time between two rounds of status checks of the tracked statements.
+ * @param maxListPages      The maximum number of {@code ListStatements} pages read in a round.
+ */
+public record StatusTrackerConfig(long pollIntervalNanos, int maxListPages) {
+    private static final BString STATUS_TRACKER_POLL_INTERVAL = StringUtils.fromString("pollInterval");
+    private static final BString STATUS_TRACKER_MAX_LIST_PAGES = StringUtils.fromString("maxListPages");
+
+    public StatusTrackerConfig {
+        if (pollIntervalNanos <= 0) {
+            throw new IllegalArgumentException("The pollInterval should be greater than 0.");
+        }
+        if (maxListPages < 1) {
+            throw new IllegalArgumentException("The maxListPages should be greater than 0.");
+        }
+    }
+
+    public StatusTrackerConfig(BMap<BString, Object> bStatusTrackerConfig) {
+        this(
+                CommonUtils.toNanos((BDecimal) bStatusTrackerConfig.get(STATUS_TRACKER_POLL_INTERVAL)),
+                CommonUtils.narrowToInt(bStatusTrackerConfig.getIntValue(STATUS_TRACKER_MAX_LIST_PAGES),
+                        "maxListPages")
+        );
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.RedshiftDataClient;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultRequest;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Request;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Response;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * A {@link NativeClient} backed by the blocking {@link RedshiftDataClient}.
+ * <p>
+ * Each call runs on the {@link CallExecutor} of the client, which runs it on its own virtual thread unless the
+ * executor is configured otherwise, so a blocked HTTP round trip parks a virtual thread rather than holding a
+ * platform thread, and the caller can chain on the returned future like it does for the non-blocking client.
+ * </p>
+ */
+final class SyncNativeClient implements NativeClient {
+    private final RedshiftDataClient client;
+    private final CallExecutor executor;
+
+    SyncNativeClient(RedshiftDataClient client, ExecutorConfig executorConfig) {
+        this.client = client;
+        this.executor = new CallExecutor(executorConfig);
+    }
+
+    CallExecutor executor() {
+        return executor;
+    }
+
+    @Override
+    public CompletableFuture<ExecuteStatementResponse> executeStatement(ExecuteStatementRequest request) {
+        return submit(() -> client.executeStatement(request));
+    }
+
+    @Override
+    public CompletableFuture<BatchExecuteStatementResponse> batchExecuteStatement(
+            BatchExecuteStatementRequest request) {
+        return submit(() -> client.batchExecuteStatement(request));
+    }
+
+    @Override
+    public CompletableFuture<DescribeStatementResponse> describeStatement(DescribeStatementRequest request) {
+        return submit(() -> client.describeStatement(request));
+    }
+
+    @Override
+    public CompletableFuture<GetStatementResultResponse> getStatementResult(GetStatementResultRequest request) {
+        return submit(() -> client.getStatementResult(request));
+    }
+
+    @Override
+    public CompletableFuture<GetStatementResultV2Response> getStatementResultV2(GetStatementResultV2Request request) {
+        return submit(() -> client.getStatementResultV2(request));
+    }
+
+    @Override
+    public CompletableFuture<ListStatementsResponse> listStatements(ListStatementsRequest request) {
+        return submit(() -> client.listStatements(request));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(call, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+        client.close();
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+/**
+ * Parsers for the text forms Redshift delivers numeric and temporal values in.
+ * <p>
+ * The parsers read straight from a range of a character sequence, so a value can be decoded out of a larger
+ * buffer without first copying it into a string of its own.
+ * </p>
+ */
+final class TextParsers {
+    private static final int NANOS_DIGITS = 9;
+
+    private TextParsers() {
+    }
+
+    /**
+     * Parses a decimal integer, with an optional leading sign.
+     */
+    static long parseLong(CharSequence text, int start, int end) {
+        if (start >= end) {
+            throw invalid("integer", text, start, end);
+        }
+        int position = start;
+        boolean negative = false;
+        char first = text.charAt(position);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            position++;
+            if (position == end) {
+                throw invalid("integer", text, start, end);
+            }
+        }
+        // Accumulate negatively, as the magnitude of Long.MIN_VALUE does not fit in a long
+        long result = 0;
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        for (; position < end; position++) {
+            int digit = text.charAt(position) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                throw invalid("integer", text, start, end);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw invalid("integer", text, start, end);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses a boolean in any of the forms Redshift accepts for a boolean literal.
+     */
+    static boolean parseBoolean(CharSequence text, int start, int end) {
+        int length = end - start;
+        if (length == 1) {
+            char c = Character.toLowerCase(text.charAt(start));
+            if (c == 't' || c == 'y' || c == '1') {
+                return true;
+            }
+            if (c == 'f' || c == 'n' || c == '0') {
+                return false;
+            }
+        } else if (regionMatches(text, start, end, "true") || regionMatches(text, start, end, "yes")) {
+            return true;
+        } else if (regionMatches(text, start, end, "false") || regionMatches(text, start, end, "no")) {
+            return false;
+        }
+        throw invalid("boolean", text, start, end);
+    }
+
+    /**
+     * Parses a date, time, or timestamp: {@code YYYY-MM-DD}, {@code HH:MI:SS[.F]} or
+     * {@code YYYY-MM-DD[ |T]HH:MI:SS[.F]}, each with an optional {@code Z} or {@code ±HH[[:]MI]} offset.
+     *
+     * @param text        the text holding the value
+     * @param start       the index the value starts at
+     * @param end         the index the value ends before
+     * @param hasDate     whether the value starts with a date
+     * @param allowTime   whether a time may follow the date
+     * @return the parsed value
+     */
+    static Temporal parseTemporal(CharSequence text, int start, int end, boolean hasDate, boolean allowTime) {
+        Cursor cursor = new Cursor(text, start, end);
+        int year = 0;
+        int month = 0;
+        int day = 0;
+        if (hasDate) {
+            year = cursor.digits(4, 6);
+            cursor.expect('-');
+            month = cursor.digits(2, 2);
+            cursor.expect('-');
+            day = cursor.digits(2, 2);
+            if (!allowTime || cursor.atEnd() || !cursor.skipAny(' ', 'T')) {
+                return cursor.finish(new Temporal(year, month, day, 0, 0, 0, 0, cursor.offset()), "date");
+            }
+        }
+        int hour = cursor.digits(2, 2);
+        cursor.expect(':');
+        int minute = cursor.digits(2, 2);
+        int second = 0;
+        int nanos = 0;
+        if (cursor.skipAny(':', ':')) {
+            second = cursor.digits(2, 2);
+            if (cursor.skipAny('.', '.')) {
+                nanos = cursor.fraction();
+            }
+        }
+        return cursor.finish(new Temporal(year, month, day, hour, minute, second, nanos, cursor.offset()),
+                "timestamp");
+    }
+
+    /**
+     * Parses hexadecimal text, the form Redshift delivers {@code VARBYTE} values in, into bytes.
+     */
+    static byte[] parseHex(CharSequence text, int start, int end) {
+        int length = end - start;
+        if (length % 2 != 0) {
+            throw invalid("hexadecimal", text, start, end);
+        }
+        byte[] bytes = new byte[length / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(text.charAt(start + 2 * i), 16);
+            int low = Character.digit(text.charAt(start + 2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw invalid("hexadecimal", text, start, end);
+            }
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return bytes;
+    }
+
+    private static boolean regionMatches(CharSequence text, int start, int end, String expected) {
+        if (end - start != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (Character.toLowerCase(text.charAt(start + i)) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static IllegalArgumentException invalid(String kind, CharSequence text, int start, int end) {
+        return new IllegalArgumentException("Invalid " + kind + " value '" + text.subSequence(start, end) + "'");
+    }
+
+    /**
+     * A parsed date, time or timestamp.
+     *
+     * @param offsetSeconds the UTC offset in seconds, or {@code null} if the value has none
+     */
+    record Temporal(int year, int month, int day, int hour, int minute, int second, int nanos,
+                    Integer offsetSeconds) {
+    }
+
+    private static final class Cursor {
+        private final CharSequence text;
+        private final int start;
+        private final int end;
+        private int position;
+
+        Cursor(CharSequence text, int start, int end) {
+            this.text = text;
+            this.start = start;
+            this.end = end;
+            this.position = start;
+        }
+
+        boolean atEnd() {
+            return position >= end;
+        }
+
+        int digits(int minDigits, int maxDigits) {
+            int value = 0;
+            int count = 0;
+            while (position < end && count < maxDigits) {
+                int digit = text.charAt(position) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                value = value * 10 + digit;
+                position++;
+                count++;
+            }
+            if (count < minDigits) {
+                throw invalid("temporal", text, start, end);
+            }
+            return value;
+        }
+
+        int fraction() {
+            int nanos = 0;
+            int count = 0;
+            while (position < end) {
+                int digit = text.charAt(position) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                // Digits past nanosecond precision are truncated
+                if (count < NANOS_DIGITS) {
+                    nanos = nanos * 10 + digit;
+                }
+                position++;
+                count++;
+            }
+            if (count == 0) {
+                throw invalid("temporal", text, start, end);
+            }
+            for (int i = count; i < NANOS_DIGITS; i++) {
+                nanos *= 10;
+            }
+            return nanos;
+        }
+
+        void expect(char expected) {
+            if (position >= end || text.charAt(position) != expected) {
+                throw invalid("temporal", text, start, end);
+            }
+            position++;
+        }
+
+        boolean skipAny(char first, char second) {
+            if (position < end && (text.charAt(position) == first || text.charAt(position) == second)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        Integer offset() {
+            if (position >= end) {
+                return null;
+            }
+            char sign = text.charAt(position);
+            if (sign == 'Z' || sign == 'z') {
+                position++;
+                return 0;
+            }
+            if (sign != '+' && sign != '-') {
+                return null;
+            }
+            position++;
+            int hours = digits(1, 2);
+            int minutes = 0;
+            if (position < end) {
+                skipAny(':', ':');
+                minutes = digits(2, 2);
+            }
+            int seconds = hours * 3600 + minutes * 60;
+            return sign == '-' ? -seconds : seconds;
+        }
+
+        Temporal finish(Temporal temporal, String kind) {
+            if (position != end) {
+                throw invalid(kind, text, start, end);
+            }
+            return temporal;
+        }
+    }
+}
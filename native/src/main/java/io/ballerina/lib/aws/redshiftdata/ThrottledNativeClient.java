@@ -0,0 +1,483 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.services.redshiftdata.model.ActiveStatementsExceededException;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultRequest;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Request;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Response;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsResponse;
+import software.amazon.awssdk.services.redshiftdata.model.StatementData;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link NativeClient} that paces the requests of a client to stay within the Data API quotas, queueing the
+ * requests of a burst rather than having the service reject them.
+ * <p>
+ * Each operation draws from a token bucket that refills at the rate of the operation and holds up to a second of
+ * requests. A statement is submitted only while the statements of the client that have not completed are fewer
+ * than the active statement limit; a statement counts as completed once a {@code DescribeStatement} or a
+ * {@code ListStatements} response shows it in a terminal status.
+ * </p>
+ * <p>
+ * The limits adapt to how the service responds, increasing additively and decreasing multiplicatively. A throttled
+ * request halves the rate of its operation, and a successful one grows it back towards the configured rate. A
+ * statement rejected as too many statements are active, or that waited in the queue of the database for longer
+ * than {@code maxQueueTime}, halves the active statement limit, and a statement that completes without waiting
+ * grows it back towards {@code maxActiveStatements}. A limit is decreased at most once for the requests in flight
+ * when it is decreased, so that a burst of rejections halves it once. A throttled request did not reach the
+ * database, and is queued again up to {@code maxRequeues} times.
+ * </p>
+ */
+final class ThrottledNativeClient implements NativeClient {
+    private static final String STATS_RECORD = "RateLimiterStats";
+    private static final String OPERATION_STATS_RECORD = "OperationRateStats";
+    private static final BString STATS_EXECUTE_STATEMENT = StringUtils.fromString("executeStatement");
+    private static final BString STATS_BATCH_EXECUTE_STATEMENT = StringUtils.fromString("batchExecuteStatement");
+    private static final BString STATS_DESCRIBE_STATEMENT = StringUtils.fromString("describeStatement");
+    private static final BString STATS_GET_STATEMENT_RESULT = StringUtils.fromString("getStatementResult");
+    private static final BString STATS_LIST_STATEMENTS = StringUtils.fromString("listStatements");
+    private static final BString STATS_ACTIVE_STATEMENT_LIMIT = StringUtils.fromString("activeStatementLimit");
+    private static final BString STATS_ACTIVE_STATEMENTS = StringUtils.fromString("activeStatements");
+    private static final BString STATS_WAITING_STATEMENTS = StringUtils.fromString("waitingStatements");
+    private static final BString OPERATION_STATS_RATE = StringUtils.fromString("rate");
+    private static final BString OPERATION_STATS_QUEUED = StringUtils.fromString("queued");
+    private static final BString OPERATION_STATS_THROTTLED = StringUtils.fromString("throttled");
+    // The lowest rate a throttled operation is slowed down to
+    private static final double MIN_RATE = 0.1;
+    // A statement the client does not check on for this long no longer counts as active, so that the statements
+    // that are run and never waited for do not hold on to the active statement limit
+    private static final long UNOBSERVED_STATEMENT_NANOS = TimeUnit.MINUTES.toNanos(15);
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final NativeClient nativeClient;
+    private final int maxRequeues;
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(new RedshiftDataThreadFactory());
+    // The requests waiting for a token or for an active statement slot, which fail once the client is closed
+    private final Set<CompletableFuture<Void>> pending = ConcurrentHashMap.newKeySet();
+    private final TokenBucket executeStatement;
+    private final TokenBucket batchExecuteStatement;
+    private final TokenBucket describeStatement;
+    private final TokenBucket getStatementResult;
+    private final TokenBucket listStatements;
+    private final ActiveStatementLimit activeStatements;
+
+    ThrottledNativeClient(NativeClient nativeClient, RateLimitConfig config) {
+        this.nativeClient = nativeClient;
+        this.maxRequeues = config.maxRequeues();
+        this.executeStatement = new TokenBucket(config.executeStatementRate());
+        this.batchExecuteStatement = new TokenBucket(config.batchExecuteStatementRate());
+        this.describeStatement = new TokenBucket(config.describeStatementRate());
+        this.getStatementResult = new TokenBucket(config.getStatementResultRate());
+        this.listStatements = new TokenBucket(config.listStatementsRate());
+        this.activeStatements = new ActiveStatementLimit(config.maxActiveStatements(), config.maxQueueTimeNanos());
+        scheduler.scheduleWithFixedDelay(activeStatements::expireUnobserved, UNOBSERVED_STATEMENT_NANOS,
+                UNOBSERVED_STATEMENT_NANOS / 15, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public CompletableFuture<ExecuteStatementResponse> executeStatement(ExecuteStatementRequest request) {
+        return submit(executeStatement, () -> nativeClient.executeStatement(request), ExecuteStatementResponse::id,
+                0);
+    }
+
+    @Override
+    public CompletableFuture<BatchExecuteStatementResponse> batchExecuteStatement(
+            BatchExecuteStatementRequest request) {
+        return submit(batchExecuteStatement, () -> nativeClient.batchExecuteStatement(request),
+                BatchExecuteStatementResponse::id, 0);
+    }
+
+    @Override
+    public CompletableFuture<DescribeStatementResponse> describeStatement(DescribeStatementRequest request) {
+        return send(describeStatement, () -> nativeClient.describeStatement(request), 0)
+                .thenApply(response -> {
+                    activeStatements.observe(response);
+                    return response;
+                });
+    }
+
+    @Override
+    public CompletableFuture<GetStatementResultResponse> getStatementResult(GetStatementResultRequest request) {
+        return send(getStatementResult, () -> nativeClient.getStatementResult(request), 0);
+    }
+
+    @Override
+    public CompletableFuture<GetStatementResultV2Response> getStatementResultV2(GetStatementResultV2Request request) {
+        return send(getStatementResult, () -> nativeClient.getStatementResultV2(request), 0);
+    }
+
+    @Override
+    public CompletableFuture<ListStatementsResponse> listStatements(ListStatementsRequest request) {
+        return send(listStatements, () -> nativeClient.listStatements(request), 0)
+                .thenApply(response -> {
+                    response.statements().forEach(activeStatements::observe);
+                    return response;
+                });
+    }
+
+    /**
+     * Sends a request once its operation has a token, queueing it again if the service throttles it.
+     */
+    private <T> CompletableFuture<T> send(TokenBucket bucket, Supplier<CompletableFuture<T>> request, int requeues) {
+        long sentAt = System.nanoTime();
+        return bucket.acquire().thenCompose(ignored -> request.get()).handle((response, error) -> {
+            if (Objects.isNull(error)) {
+                bucket.onSuccess();
+                return CompletableFuture.completedFuture(response);
+            }
+            Throwable cause = CommonUtils.unwrap(error);
+            if (isThrottling(cause)) {
+                bucket.onThrottled(sentAt);
+                if (requeues < maxRequeues) {
+                    return send(bucket, request, requeues + 1);
+                }
+            }
+            return CompletableFuture.<T>failedFuture(cause);
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * Submits a statement once the client has fewer active statements than its limit and its operation has a
+     * token, queueing it again if the service throttles or rejects it.
+     */
+    private <T> CompletableFuture<T> submit(TokenBucket bucket, Supplier<CompletableFuture<T>> request,
+                                            Function<T, String> statementId, int requeues) {
+        long sentAt = System.nanoTime();
+        return activeStatements.acquire()
+                .thenCompose(ignored -> bucket.acquire())
+                .thenCompose(ignored -> request.get())
+                .handle((response, error) -> {
+                    if (Objects.isNull(error)) {
+                        bucket.onSuccess();
+                        activeStatements.started(statementId.apply(response), sentAt);
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    activeStatements.release();
+                    Throwable cause = CommonUtils.unwrap(error);
+                    if (cause instanceof ActiveStatementsExceededException || isThrottling(cause)) {
+                        if (cause instanceof ActiveStatementsExceededException) {
+                            activeStatements.onOverloaded(sentAt);
+                        } else {
+                            bucket.onThrottled(sentAt);
+                        }
+                        if (requeues < maxRequeues) {
+                            return submit(bucket, request, statementId, requeues + 1);
+                        }
+                    }
+                    return CompletableFuture.<T>failedFuture(cause);
+                }).thenCompose(Function.identity());
+    }
+
+    private static boolean isThrottling(Throwable cause) {
+        return cause instanceof SdkServiceException serviceException && serviceException.isThrottlingException();
+    }
+
+    /**
+     * Returns a future that completes after a delay, or fails once the client is closed.
+     */
+    private CompletableFuture<Void> delay(long delayNanos, Runnable onElapsed) {
+        CompletableFuture<Void> elapsed = new CompletableFuture<>();
+        pending.add(elapsed);
+        elapsed.whenComplete((ignored, error) -> pending.remove(elapsed));
+        scheduler.schedule(() -> {
+            onElapsed.run();
+            elapsed.complete(null);
+        }, delayNanos, TimeUnit.NANOSECONDS);
+        return elapsed;
+    }
+
+    BMap<BString, Object> getStats() {
+        BMap<BString, Object> stats = ValueCreator.createRecordValue(ModuleUtils.getModule(), STATS_RECORD);
+        stats.put(STATS_EXECUTE_STATEMENT, executeStatement.getStats());
+        stats.put(STATS_BATCH_EXECUTE_STATEMENT, batchExecuteStatement.getStats());
+        stats.put(STATS_DESCRIBE_STATEMENT, describeStatement.getStats());
+        stats.put(STATS_GET_STATEMENT_RESULT, getStatementResult.getStats());
+        stats.put(STATS_LIST_STATEMENTS, listStatements.getStats());
+        activeStatements.putStats(stats);
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        List<CompletableFuture<Void>> waiting = new ArrayList<>(pending);
+        waiting.addAll(activeStatements.drainWaiters());
+        for (CompletableFuture<Void> request : waiting) {
+            request.completeExceptionally(new CancellationException("The client is closed."));
+        }
+        nativeClient.close();
+    }
+
+    /**
+     * Paces the requests of an operation. A request that finds no token reserves the next one to be refilled, so
+     * that waiting requests are sent in order at the rate of the operation.
+     */
+    private final class TokenBucket {
+        private final double maxRate;
+        private double rate;
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+        private long lastDecreaseAt = refilledAt;
+        private int queued = 0;
+        private long throttled = 0;
+
+        private TokenBucket(double maxRate) {
+            this.maxRate = maxRate;
+            this.rate = maxRate;
+            this.tokens = capacity();
+        }
+
+        CompletableFuture<Void> acquire() {
+            long delayNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                tokens = Math.min(capacity(), tokens + (now - refilledAt) * rate / NANOS_PER_SECOND);
+                refilledAt = now;
+                tokens -= 1;
+                if (tokens >= 0) {
+                    return CompletableFuture.completedFuture(null);
+                }
+                delayNanos = (long) (-tokens / rate * NANOS_PER_SECOND);
+                queued++;
+            }
+            return delay(delayNanos, () -> {
+                synchronized (this) {
+                    queued--;
+                }
+            });
+        }
+
+        synchronized void onSuccess() {
+            // Grows the rate by about one request per second for every second of successful requests
+            rate = Math.min(maxRate, rate + 1 / rate);
+        }
+
+        synchronized void onThrottled(long sentAt) {
+            throttled++;
+            if (sentAt - lastDecreaseAt > 0) {
+                rate = Math.max(MIN_RATE, rate / 2);
+                tokens = Math.min(tokens, capacity());
+                lastDecreaseAt = System.nanoTime();
+            }
+        }
+
+        private double capacity() {
+            return Math.max(1, rate);
+        }
+
+        synchronized BMap<BString, Object> getStats() {
+            BMap<BString, Object> stats = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    OPERATION_STATS_RECORD);
+            stats.put(OPERATION_STATS_RATE, ValueCreator.createDecimalValue(
+                    BigDecimal.valueOf(rate).setScale(3, RoundingMode.HALF_UP)));
+            stats.put(OPERATION_STATS_QUEUED, (long) queued);
+            stats.put(OPERATION_STATS_THROTTLED, throttled);
+            return stats;
+        }
+    }
+
+    /**
+     * Bounds the number of active statements of the client with a limit that adapts to the load of the database.
+     */
+    private static final class ActiveStatementLimit {
+        private final int maxLimit;
+        private final long maxQueueTimeNanos;
+        private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+        // The statements submitted and not yet seen to complete, with when they were submitted and last seen
+        private final Map<String, long[]> statements = new HashMap<>();
+        private double limit;
+        // Slots taken by statements, including those being submitted
+        private int active = 0;
+        private long lastDecreaseAt = System.nanoTime();
+
+        private ActiveStatementLimit(int maxLimit, long maxQueueTimeNanos) {
+            this.maxLimit = maxLimit;
+            this.maxQueueTimeNanos = maxQueueTimeNanos;
+            this.limit = maxLimit;
+        }
+
+        CompletableFuture<Void> acquire() {
+            synchronized (this) {
+                if (active < (int) limit) {
+                    active++;
+                    return CompletableFuture.completedFuture(null);
+                }
+                CompletableFuture<Void> slot = new CompletableFuture<>();
+                waiters.addLast(slot);
+                return slot;
+            }
+        }
+
+        void started(String statementId, long submittedAt) {
+            long[] statement;
+            synchronized (this) {
+                statement = statements.putIfAbsent(statementId, new long[]{submittedAt, System.nanoTime()});
+                if (Objects.nonNull(statement)) {
+                    statement[1] = System.nanoTime();
+                }
+            }
+            if (Objects.nonNull(statement)) {
+                // A statement submitted again with the same client token is the one already active, which holds a
+                // slot of its own
+                release();
+            }
+        }
+
+        void release() {
+            synchronized (this) {
+                active--;
+            }
+            admitWaiters();
+        }
+
+        void observe(DescribeStatementResponse response) {
+            if (!StatementPoller.isTerminal(response.status())) {
+                touch(response.id());
+                return;
+            }
+            long[] statement;
+            synchronized (this) {
+                statement = statements.remove(response.id());
+            }
+            if (Objects.isNull(statement)) {
+                return;
+            }
+            if (Objects.nonNull(response.createdAt()) && Objects.nonNull(response.updatedAt())
+                    && response.duration() >= 0
+                    && Duration.between(response.createdAt(), response.updatedAt()).toNanos() - response.duration()
+                    > maxQueueTimeNanos) {
+                onOverloaded(statement[0]);
+            } else {
+                synchronized (this) {
+                    limit = Math.min(maxLimit, limit + 1 / limit);
+                }
+            }
+            release();
+        }
+
+        void observe(StatementData statementData) {
+            if (!StatementPoller.isTerminal(statementData.status())) {
+                touch(statementData.id());
+                return;
+            }
+            long[] statement;
+            synchronized (this) {
+                statement = statements.remove(statementData.id());
+            }
+            if (Objects.nonNull(statement)) {
+                release();
+            }
+        }
+
+        private synchronized void touch(String statementId) {
+            long[] statement = statements.get(statementId);
+            if (Objects.nonNull(statement)) {
+                statement[1] = System.nanoTime();
+            }
+        }
+
+        synchronized void onOverloaded(long sentAt) {
+            if (sentAt - lastDecreaseAt > 0) {
+                limit = Math.max(1, limit / 2);
+                lastDecreaseAt = System.nanoTime();
+            }
+        }
+
+        void expireUnobserved() {
+            long now = System.nanoTime();
+            int expired = 0;
+            synchronized (this) {
+                Iterator<long[]> iterator = statements.values().iterator();
+                while (iterator.hasNext()) {
+                    if (now - iterator.next()[1] >= UNOBSERVED_STATEMENT_NANOS) {
+                        iterator.remove();
+                        expired++;
+                    }
+                }
+                active -= expired;
+            }
+            admitWaiters();
+        }
+
+        private void admitWaiters() {
+            while (true) {
+                CompletableFuture<Void> slot;
+                synchronized (this) {
+                    if (waiters.isEmpty() || active >= (int) limit) {
+                        return;
+                    }
+                    slot = waiters.pollFirst();
+                    active++;
+                }
+                if (!slot.complete(null)) {
+                    synchronized (this) {
+                        active--;
+                    }
+                }
+            }
+        }
+
+        synchronized List<CompletableFuture<Void>> drainWaiters() {
+            List<CompletableFuture<Void>> drained = new ArrayList<>(waiters);
+            waiters.clear();
+            return drained;
+        }
+
+        synchronized void putStats(BMap<BString, Object> stats) {
+            stats.put(STATS_ACTIVE_STATEMENT_LIMIT, (long) limit);
+            stats.put(STATS_ACTIVE_STATEMENTS, (long) active);
+            stats.put(STATS_WAITING_STATEMENTS, (long) waiters.size());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.net.URI;
+
+/**
+ * {@code UnloadConfig} contains the java representation of the ballerina redshift data api configurations of
+ * exporting query results through {@code UNLOAD}.
+ *
+ * @param bucket                 The S3 bucket results are unloaded to.
+ * @param prefix                 The key prefix under which results are unloaded; empty for the root of the bucket.
+ * @param iamRole                The ARN of the IAM role used to write to S3; {@code null} for the default role.
+ * @param maxConcurrentDownloads The maximum number of parts downloaded at the same time.
+ * @param maxPartSize            The maximum size in MB of an unloaded part. A part is downloaded whole, so this
+ *                               bounds the memory a part takes up.
+ * @param s3Endpoint             The endpoint that overrides the regional S3 endpoint; {@code null} if not set.
+ * @param autoUnloadThreshold    The result size in bytes above which {@code query} unloads the result; {@code -1}
+ *                               if results are never unloaded automatically.
+ */
+public record UnloadConfig(String bucket, String prefix, String iamRole, int maxConcurrentDownloads,
+                           int maxPartSize, URI s3Endpoint, long autoUnloadThreshold) {
+    private static final String S3_SCHEME = "s3://";
+    private static final BString UNLOAD_CONFIG_S3_LOCATION = StringUtils.fromString("s3Location");
+    private static final BString UNLOAD_CONFIG_IAM_ROLE = StringUtils.fromString("iamRole");
+    private static final BString UNLOAD_CONFIG_MAX_CONCURRENT_DOWNLOADS =
+            StringUtils.fromString("maxConcurrentDownloads");
+    private static final BString UNLOAD_CONFIG_MAX_PART_SIZE = StringUtils.fromString("maxPartSize");
+    private static final BString UNLOAD_CONFIG_S3_ENDPOINT = StringUtils.fromString("s3Endpoint");
+    private static final BString UNLOAD_CONFIG_AUTO_UNLOAD_THRESHOLD = StringUtils.fromString("autoUnloadThreshold");
+    // A part is held whole as the bytes it is downloaded as and then as text, which neither may exceed 2 GB
+    private static final int MIN_PART_SIZE = 5;
+    private static final int MAX_PART_SIZE = 1024;
+
+    public UnloadConfig {
+        if (maxConcurrentDownloads < 1) {
+            throw new IllegalArgumentException("The maxConcurrentDownloads should be greater than 0.");
+        }
+        if (maxPartSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException(String.format("The maxPartSize should be at least %d MB.",
+                    MIN_PART_SIZE));
+        }
+        if (maxPartSize > MAX_PART_SIZE) {
+            throw new IllegalArgumentException(String.format("The maxPartSize should be at most %d MB.",
+                    MAX_PART_SIZE));
+        }
+    }
+
+    public UnloadConfig(BMap<BString, Object> bUnloadConfig) {
+        this(
+                getBucket(bUnloadConfig),
+                getPrefix(bUnloadConfig),
+                bUnloadConfig.containsKey(UNLOAD_CONFIG_IAM_ROLE) ?
+                        bUnloadConfig.getStringValue(UNLOAD_CONFIG_IAM_ROLE).getValue() : null,
+                CommonUtils.narrowToInt(bUnloadConfig.getIntValue(UNLOAD_CONFIG_MAX_CONCURRENT_DOWNLOADS),
+                        "maxConcurrentDownloads"),
+                CommonUtils.narrowToInt(bUnloadConfig.getIntValue(UNLOAD_CONFIG_MAX_PART_SIZE), "maxPartSize"),
+                bUnloadConfig.containsKey(UNLOAD_CONFIG_S3_ENDPOINT) ?
+                        URI.create(bUnloadConfig.getStringValue(UNLOAD_CONFIG_S3_ENDPOINT).getValue()) : null,
+                bUnloadConfig.containsKey(UNLOAD_CONFIG_AUTO_UNLOAD_THRESHOLD) ?
+                        bUnloadConfig.getIntValue(UNLOAD_CONFIG_AUTO_UNLOAD_THRESHOLD) : -1
+        );
+    }
+
+    private static String getBucket(BMap<BString, Object> bUnloadConfig) {
+        String location = getLocation(bUnloadConfig);
+        int slash = location.indexOf('/');
+        return slash < 0 ? location : location.substring(0, slash);
+    }
+
+    private static String getPrefix(BMap<BString, Object> bUnloadConfig) {
+        String location = getLocation(bUnloadConfig);
+        int slash = location.indexOf('/');
+        if (slash < 0) {
+            return "";
+        }
+        String prefix = location.substring(slash + 1);
+        while (prefix.endsWith("/")) {
+            prefix = prefix.substring(0, prefix.length() - 1);
+        }
+        return prefix;
+    }
+
+    // The location without its scheme, as `bucket/prefix`
+    private static String getLocation(BMap<BString, Object> bUnloadConfig) {
+        String location = bUnloadConfig.getStringValue(UNLOAD_CONFIG_S3_LOCATION).getValue();
+        return location.startsWith(S3_SCHEME) ? location.substring(S3_SCHEME.length()) : location;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.services.redshiftdata.model.ColumnMetadata;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Exports query results through {@code UNLOAD}. The query is unloaded to S3 in parallel as CSV parts, along with a
+ * manifest that lists the parts and describes the columns, and the parts are then downloaded concurrently and read
+ * as the pages of a single result.
+ */
+final class UnloadExporter implements AutoCloseable {
+    private static final String S3_SCHEME = "s3://";
+    private static final String MANIFEST = "manifest";
+
+    private final S3AsyncClient s3Client;
+    private final UnloadConfig unloadConfig;
+
+    UnloadExporter(ConnectionConfig connectionConfig, AwsCredentialsProvider credentialsProvider) {
+        this.unloadConfig = connectionConfig.unloadConfig();
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
+                .region(connectionConfig.region())
+                .credentialsProvider(credentialsProvider)
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder());
+        if (Objects.nonNull(unloadConfig.s3Endpoint())) {
+            // S3-compatible stores behind a custom endpoint rarely resolve virtual-hosted bucket names
+            builder.endpointOverride(unloadConfig.s3Endpoint()).forcePathStyle(true);
+        }
+        this.s3Client = builder.build();
+    }
+
+    /**
+     * Whether the result of a finished statement is large enough to be read through {@code UNLOAD} instead.
+     */
+    boolean exceedsAutoUnloadThreshold(DescribeStatementResponse describeStatementResponse) {
+        long threshold = unloadConfig.autoUnloadThreshold();
+        Long resultSize = describeStatementResponse.resultSize();
+        return threshold >= 0 && Objects.nonNull(resultSize) && resultSize > threshold;
+    }
+
+    /**
+     * Returns a key prefix, unique to an export, under which its parts and manifest are unloaded.
+     */
+    String newTargetPrefix() {
+        String prefix = unloadConfig.prefix();
+        return (prefix.isEmpty() ? "" : prefix + "/") + UUID.randomUUID() + "/";
+    }
+
+    /**
+     * Wraps a query in an {@code UNLOAD} statement that writes its result under the given key prefix.
+     *
+     * @param query        the query, with its parameter values in place
+     * @param targetPrefix the key prefix returned by {@link #newTargetPrefix()}
+     * @return the {@code UNLOAD} statement
+     */
+    String unloadStatement(String query, String targetPrefix) {
+        String select = query.strip();
+        while (select.endsWith(";")) {
+            select = select.substring(0, select.length() - 1).strip();
+        }
+        String iamRole = Objects.isNull(unloadConfig.iamRole()) ? "default" : quote(unloadConfig.iamRole());
+        String target = S3_SCHEME + unloadConfig.bucket() + "/" + targetPrefix;
+        return String.format("UNLOAD (%s) TO %s IAM_ROLE %s FORMAT AS CSV MANIFEST VERBOSE PARALLEL ON " +
+                "MAXFILESIZE %d MB", quote(select), quote(target), iamRole, unloadConfig.maxPartSize());
+    }
+
+    /**
+     * Returns a reader of the parts of a result unloaded under the given key prefix.
+     */
+    ResultPage.Reader reader(String targetPrefix) {
+        return new Reader(s3Client, unloadConfig.bucket(), targetPrefix, unloadConfig.maxConcurrentDownloads());
+    }
+
+    @Override
+    public void close() {
+        s3Client.close();
+    }
+
+    private static String quote(String value) {
+        // The select already holds literals of its own, which escape backslashes the statement unescapes once
+        StringBuilder literal = new StringBuilder(value.length() + 2);
+        ParameterizedQuery.appendLiteral(literal, value);
+        return literal.toString();
+    }
+
+    /**
+     * Reads the parts of an unloaded result as its pages. The first read fetches the manifest; every read then
+     * starts the downloads of the parts that follow, so that up to {@code maxConcurrentDownloads} parts are on
+     * their way while the current one is consumed. The token of a page is the index of its part. A part is held
+     * whole in memory, which the {@code maxPartSize} of the configurations bounds.
+     */
+    static final class Reader implements ResultPage.Reader {
+        private final S3AsyncClient s3Client;
+        private final String bucket;
+        private final String targetPrefix;
+        private final int maxConcurrentDownloads;
+        private final Map<Integer, CompletableFuture<String>> downloads = new HashMap<>();
+        private List<ColumnMetadata> columnMetadata;
+        private List<String> partUrls;
+        private int nextDownload = 0;
+
+        Reader(S3AsyncClient s3Client, String bucket, String targetPrefix, int maxConcurrentDownloads) {
+            this.s3Client = s3Client;
+            this.bucket = bucket;
+            this.targetPrefix = targetPrefix;
+            this.maxConcurrentDownloads = Math.max(maxConcurrentDownloads, 1);
+        }
+
+        @Override
+        public CompletableFuture<ResultPage> read(String nextToken) {
+            if (Objects.isNull(nextToken)) {
+                return download(bucket, targetPrefix + MANIFEST).thenCompose(manifest -> {
+                    readManifest(manifest);
+                    return readPart(0);
+                });
+            }
+            return readPart(Integer.parseInt(nextToken));
+        }
+
+        private synchronized CompletableFuture<ResultPage> readPart(int index) {
+            List<ColumnMetadata> columns = columnMetadata;
+            if (index >= partUrls.size()) {
+                // A query that returns no rows may be unloaded without any part
+                return CompletableFuture.completedFuture(new CsvResultPage(columns, "", null, columns.size(), false));
+            }
+            while (nextDownload < partUrls.size() && nextDownload < index + maxConcurrentDownloads) {
+                downloads.put(nextDownload, download(partUrls.get(nextDownload)));
+                nextDownload++;
+            }
+            CompletableFuture<String> part = downloads.remove(index);
+            if (Objects.isNull(part)) {
+                part = download(partUrls.get(index));
+            }
+            String partToken = index + 1 < partUrls.size() ? String.valueOf(index + 1) : null;
+            return part.thenApply(text -> new CsvResultPage(columns, text, partToken, columns.size(), false));
+        }
+
+        private synchronized void readManifest(String manifest) {
+            Map<String, JsonNode> root = JsonNode.parser().parse(manifest).asObject();
+            List<String> urls = new ArrayList<>();
+            for (JsonNode entry : root.get("entries").asArray()) {
+                urls.add(entry.asObject().get("url").asString());
+            }
+            List<ColumnMetadata> columns = new ArrayList<>();
+            for (JsonNode element : root.get("schema").asObject().get("elements").asArray()) {
+                Map<String, JsonNode> column = element.asObject();
+                Map<String, JsonNode> type = column.get("type").asObject();
+                String name = column.get("name").asString();
+                ColumnMetadata.Builder builder = ColumnMetadata.builder().name(name).label(name)
+                        .typeName(typeName(type.get("base").asString()));
+                if (type.containsKey("precision")) {
+                    builder.precision(Integer.parseInt(type.get("precision").asNumber()));
+                }
+                if (type.containsKey("scale")) {
+                    builder.scale(Integer.parseInt(type.get("scale").asNumber()));
+                }
+                columns.add(builder.build());
+            }
+            this.partUrls = urls;
+            this.columnMetadata = columns;
+        }
+
+        private CompletableFuture<String> download(String url) {
+            String location = url.startsWith(S3_SCHEME) ? url.substring(S3_SCHEME.length()) : url;
+            int slash = location.indexOf('/');
+            return download(location.substring(0, slash), location.substring(slash + 1));
+        }
+
+        private CompletableFuture<String> download(String objectBucket, String key) {
+            GetObjectRequest request = GetObjectRequest.builder().bucket(objectBucket).key(key).build();
+            return s3Client.getObject(request, AsyncResponseTransformer.<GetObjectResponse>toBytes())
+                    .thenApply(ResponseBytes::asUtf8String);
+        }
+
+        /**
+         * Maps the name of a type in the manifest to the name the Data API reports the type by.
+         */
+        private static String typeName(String manifestType) {
+            return switch (manifestType.toLowerCase(Locale.ROOT)) {
+                case "smallint" -> "int2";
+                case "integer" -> "int4";
+                case "bigint" -> "int8";
+                case "real" -> "float4";
+                case "double precision" -> "float8";
+                case "boolean" -> "bool";
+                case "character varying" -> "varchar";
+                case "character" -> "bpchar";
+                case "timestamp without time zone" -> "timestamp";
+                case "timestamp with time zone" -> "timestamptz";
+                case "time without time zone" -> "time";
+                case "time with time zone" -> "timetz";
+                case "binary varying" -> "varbyte";
+                default -> manifestType;
+            };
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code WaitConfig} contains the java representation of the ballerina redshift data api wait configurations.
+ *
+ * @param initialIntervalNanos The time to wait before the first status check that follows the initial one.
+ * @param maxIntervalNanos     The longest time to wait between two status checks.
+ * @param backoffFactor        The factor by which the time between two status checks grows.
+ * @param timeoutNanos         The maximum time to wait for the statement to complete, or {@code 0} for no limit. A
+ *                             timeout that is given is at least a nanosecond.
+ */
+public record WaitConfig(long initialIntervalNanos, long maxIntervalNanos, double backoffFactor, long timeoutNanos) {
+    private static final BString WAIT_CONFIG_INITIAL_INTERVAL = StringUtils.fromString("initialInterval");
+    private static final BString WAIT_CONFIG_MAX_INTERVAL = StringUtils.fromString("maxInterval");
+    private static final BString WAIT_CONFIG_BACKOFF_FACTOR = StringUtils.fromString("backoffFactor");
+    private static final BString WAIT_CONFIG_TIMEOUT = StringUtils.fromString("timeout");
+
+    public WaitConfig {
+        if (initialIntervalNanos <= 0) {
+            throw new IllegalArgumentException("The initialInterval should be greater than 0.");
+        }
+        if (maxIntervalNanos < initialIntervalNanos) {
+            throw new IllegalArgumentException("The maxInterval should not be less than the initialInterval.");
+        }
+        if (backoffFactor < 1) {
+            throw new IllegalArgumentException("The backoffFactor should be greater than or equal to 1.");
+        }
+        if (timeoutNanos < 0) {
+            throw new IllegalArgumentException("The timeout should be greater than or equal to 0.");
+        }
+    }
+
+    public WaitConfig(BMap<BString, Object> bWaitConfig) {
+        this(
+                CommonUtils.toNanos((BDecimal) bWaitConfig.get(WAIT_CONFIG_INITIAL_INTERVAL)),
+                CommonUtils.toNanos((BDecimal) bWaitConfig.get(WAIT_CONFIG_MAX_INTERVAL)),
+                ((BDecimal) bWaitConfig.get(WAIT_CONFIG_BACKOFF_FACTOR)).floatValue(),
+                bWaitConfig.containsKey(WAIT_CONFIG_TIMEOUT)
+                        ? toTimeoutNanos((BDecimal) bWaitConfig.get(WAIT_CONFIG_TIMEOUT)) : 0
+        );
+    }
+
+    boolean hasTimeout() {
+        return timeoutNanos > 0;
+    }
+
+    // A timeout given as `0` would otherwise be taken as no timeout
+    private static long toTimeoutNanos(BDecimal seconds) {
+        if (seconds.decimalValue().signum() <= 0) {
+            throw new IllegalArgumentException("The timeout should be greater than 0.");
+        }
+        return CommonUtils.toNanos(seconds);
+    }
+}
@@ -19,10 +19,19 @@
 module io.ballerina.stdlib.java.aws.redshiftdata {
     requires io.ballerina.lib.aws.auth;
     requires software.amazon.awssdk.services.redshiftdata;
+    requires software.amazon.awssdk.services.s3;
+    requires software.amazon.awssdk.core;
+    requires software.amazon.awssdk.protocols.jsoncore;
     requires software.amazon.awssdk.auth;
     requires software.amazon.awssdk.http;
+    requires software.amazon.awssdk.http.apache;
+    requires software.amazon.awssdk.http.nio.netty;
+    requires software.amazon.awssdk.http.urlconnection;
+    requires org.apache.httpcomponents.httpclient;
     requires software.amazon.awssdk.regions;
     requires software.amazon.awssdk.awscore;
+    requires software.amazon.awssdk.retries;
+    requires software.amazon.awssdk.retries.api;
     requires io.ballerina.stdlib.time;
     requires io.ballerina.runtime;
 
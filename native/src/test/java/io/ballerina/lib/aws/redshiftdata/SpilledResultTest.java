@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ColumnMetadata;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.Field;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultRequest;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Request;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Response;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Tests the spilling of the pages of a result by {@link SpilledResult}.
+ */
+public class SpilledResultTest {
+    private static final int PAGES = 3;
+
+    @Test(timeOut = 10000)
+    public void testPagesReadAlready() throws Exception {
+        // Every page is returned as a completed future, as a reader that holds the pages already does
+        SpilledResult result = SpilledResult.open(PackedResultPage.reader(new PagesReadAlready(), "statement"),
+                new SpillConfig(null, 1 << 20));
+        try {
+            for (int index = 0; index < PAGES; index++) {
+                PackedResultPage page = result.page(index);
+                Assert.assertNotNull(page);
+                Assert.assertEquals(page.rowCount(), 1);
+            }
+            Assert.assertNull(result.page(PAGES));
+        } finally {
+            result.close();
+        }
+    }
+
+    /**
+     * A {@link NativeClient} that serves a result of {@code PAGES} pages of a row each, completing each request
+     * before it returns.
+     */
+    private static final class PagesReadAlready implements NativeClient {
+
+        @Override
+        public CompletableFuture<GetStatementResultResponse> getStatementResult(GetStatementResultRequest request) {
+            int page = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+            return CompletableFuture.completedFuture(GetStatementResultResponse.builder()
+                    .columnMetadata(ColumnMetadata.builder().name("num").typeName("int8").build())
+                    .records(List.of(List.of(Field.builder().longValue((long) page).build())))
+                    .nextToken(page + 1 < PAGES ? String.valueOf(page + 1) : null)
+                    .build());
+        }
+
+        @Override
+        public CompletableFuture<ExecuteStatementResponse> executeStatement(ExecuteStatementRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<BatchExecuteStatementResponse> batchExecuteStatement(
+                BatchExecuteStatementRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<DescribeStatementResponse> describeStatement(DescribeStatementRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<GetStatementResultV2Response> getStatementResultV2(
+                GetStatementResultV2Request request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<ListStatementsResponse> listStatements(ListStatementsRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}